@@ -47,11 +47,13 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 
+import org.apache.commons.lang3.BooleanUtils;
 import org.optaplanner.benchmark.api.PlannerBenchmark;
 import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
 import org.optaplanner.benchmark.config.blueprint.SolverBenchmarkBluePrintConfig;
 import org.optaplanner.benchmark.config.report.BenchmarkReportConfig;
 import org.optaplanner.benchmark.impl.DefaultPlannerBenchmark;
+import org.optaplanner.benchmark.impl.ForkedSubSingleBenchmarkRunner;
 import org.optaplanner.benchmark.impl.io.PlannerBenchmarkConfigIO;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
@@ -82,6 +84,10 @@ import freemarker.template.TemplateException;
         "warmUpMinutesSpentLimit",
         "warmUpHoursSpentLimit",
         "warmUpDaysSpentLimit",
+        "forkedJvmEnabled",
+        "forkedJvmArgumentList",
+        "racingEnabled",
+        "racingSignificanceLevel",
         "benchmarkReportConfig",
         "inheritedSolverBenchmarkConfig",
         "solverBenchmarkBluePrintConfigList",
@@ -519,6 +525,13 @@ public class PlannerBenchmarkConfig {
     private Long warmUpHoursSpentLimit = null;
     private Long warmUpDaysSpentLimit = null;
 
+    private Boolean forkedJvmEnabled = null;
+    @XmlElement(name = "forkedJvmArgument")
+    private List<String> forkedJvmArgumentList = null;
+
+    private Boolean racingEnabled = null;
+    private Double racingSignificanceLevel = null;
+
     @XmlElement(name = "benchmarkReport")
     private BenchmarkReportConfig benchmarkReportConfig = null;
 
@@ -635,6 +648,63 @@ public class PlannerBenchmarkConfig {
         this.warmUpDaysSpentLimit = warmUpDaysSpentLimit;
     }
 
+    public Boolean getForkedJvmEnabled() {
+        return forkedJvmEnabled;
+    }
+
+    /**
+     * Every child JVM uses the java executable and the {@code java.class.path} of this JVM,
+     * so this JVM must load OptaPlanner from the plain classpath:
+     * a custom {@link ClassLoader} (including {@link #getClassLoader()}), the module path,
+     * a fat jar with nested jars or {@code mvn exec:java} is rejected.
+     * <p>
+     * The warm up does not run once in this JVM: every child JVM warms up on its own sub single benchmark,
+     * so the total warm up time is multiplied by the number of sub single benchmarks.
+     *
+     * @param forkedJvmEnabled sometimes null, if true every sub single benchmark runs in a fresh child JVM,
+     *        so the JIT profile and heap state of earlier sub single benchmarks don't affect it
+     */
+    public void setForkedJvmEnabled(Boolean forkedJvmEnabled) {
+        this.forkedJvmEnabled = forkedJvmEnabled;
+    }
+
+    public List<String> getForkedJvmArgumentList() {
+        return forkedJvmArgumentList;
+    }
+
+    /**
+     * @param forkedJvmArgumentList sometimes null, the JVM arguments (such as {@code -Xmx2g}) of every child JVM,
+     *        ignored unless {@link #getForkedJvmEnabled()} is true
+     */
+    public void setForkedJvmArgumentList(List<String> forkedJvmArgumentList) {
+        this.forkedJvmArgumentList = forkedJvmArgumentList;
+    }
+
+    public Boolean getRacingEnabled() {
+        return racingEnabled;
+    }
+
+    /**
+     * @param racingEnabled sometimes null, if true the sub single benchmarks run in rounds
+     *        and statistically inferior solver benchmarks are eliminated after every round
+     */
+    public void setRacingEnabled(Boolean racingEnabled) {
+        this.racingEnabled = racingEnabled;
+    }
+
+    public Double getRacingSignificanceLevel() {
+        return racingSignificanceLevel;
+    }
+
+    /**
+     * @param racingSignificanceLevel sometimes null, defaults to {@code 0.05},
+     *        the chance of eliminating a solver benchmark that isn't worse,
+     *        ignored unless {@link #getRacingEnabled()} is true
+     */
+    public void setRacingSignificanceLevel(Double racingSignificanceLevel) {
+        this.racingSignificanceLevel = racingSignificanceLevel;
+    }
+
     public BenchmarkReportConfig getBenchmarkReportConfig() {
         return benchmarkReportConfig;
     }
@@ -693,6 +763,67 @@ public class PlannerBenchmarkConfig {
      * @return never null
      */
     public <Solution_> PlannerBenchmark buildPlannerBenchmark(Solution_[] extraProblems) {
+        String forkedPlannerBenchmarkConfigXml = null;
+        if (BooleanUtils.isTrue(forkedJvmEnabled)) {
+            if (extraProblems.length > 0) {
+                throw new IllegalArgumentException("The forkedJvmEnabled (" + forkedJvmEnabled
+                        + ") cannot be combined with extraProblems (" + extraProblems.length
+                        + ") because a child JVM can only read a problem from an inputSolutionFile.");
+            }
+            validateForkedJvmClassLoaders();
+            ForkedSubSingleBenchmarkRunner.validateChildJvmClassPath();
+            // Before building the benchmark, because that changes this config as a side effect
+            forkedPlannerBenchmarkConfigXml = writeToXml();
+        }
+        PlannerBenchmarkResult plannerBenchmarkResult = buildPlannerBenchmarkResult(extraProblems);
+        int parallelBenchmarkCount = plannerBenchmarkResult.getParallelBenchmarkCount();
+
+        BenchmarkReportConfig benchmarkReportConfig_ = benchmarkReportConfig == null ? new BenchmarkReportConfig()
+                : benchmarkReportConfig;
+        BenchmarkReport benchmarkReport = benchmarkReportConfig_.buildBenchmarkReport(plannerBenchmarkResult);
+        return new DefaultPlannerBenchmark(
+                plannerBenchmarkResult, benchmarkDirectory,
+                buildExecutorService(parallelBenchmarkCount), buildExecutorService(parallelBenchmarkCount),
+                benchmarkReport, forkedPlannerBenchmarkConfigXml,
+                forkedJvmArgumentList == null ? Collections.emptyList() : forkedJvmArgumentList);
+    }
+
+    /**
+     * A child JVM reads this config from XML, so it can only load classes from the classpath of its java command.
+     */
+    private void validateForkedJvmClassLoaders() {
+        if (classLoader != null) {
+            throw new IllegalArgumentException("The forkedJvmEnabled (" + forkedJvmEnabled
+                    + ") cannot be combined with a classLoader (" + classLoader
+                    + ") because a child JVM only has the classpath of this JVM.\n"
+                    + "Maybe create the benchmark config without a classLoader.");
+        }
+        List<SolverBenchmarkConfig> configList = new ArrayList<>();
+        if (inheritedSolverBenchmarkConfig != null) {
+            configList.add(inheritedSolverBenchmarkConfig);
+        }
+        if (solverBenchmarkConfigList != null) {
+            configList.addAll(solverBenchmarkConfigList);
+        }
+        for (SolverBenchmarkConfig solverBenchmarkConfig : configList) {
+            SolverConfig solverConfig = solverBenchmarkConfig.getSolverConfig();
+            if (solverConfig != null && solverConfig.getClassLoader() != null) {
+                throw new IllegalArgumentException("The forkedJvmEnabled (" + forkedJvmEnabled
+                        + ") cannot be combined with the solverBenchmarkConfig (" + solverBenchmarkConfig.getName()
+                        + ")'s solverConfig classLoader (" + solverConfig.getClassLoader()
+                        + ") because a child JVM only has the classpath of this JVM.");
+            }
+        }
+    }
+
+    /**
+     * Do not use this method, it is an internal method.
+     * Builds the results without running anything, for example to run 1 sub single benchmark in a child JVM.
+     *
+     * @param extraProblems never null
+     * @return never null
+     */
+    public <Solution_> PlannerBenchmarkResult buildPlannerBenchmarkResult(Solution_[] extraProblems) {
         validate();
         generateSolverBenchmarkConfigNames();
         List<SolverBenchmarkConfig> effectiveSolverBenchmarkConfigList = buildEffectiveSolverBenchmarkConfigList();
@@ -703,20 +834,24 @@ public class PlannerBenchmarkConfig {
         int parallelBenchmarkCount = resolveParallelBenchmarkCount();
         plannerBenchmarkResult.setParallelBenchmarkCount(parallelBenchmarkCount);
         plannerBenchmarkResult.setWarmUpTimeMillisSpentLimit(defaultIfNull(calculateWarmUpTimeMillisSpentLimit(), 30L));
+        plannerBenchmarkResult.setRacingSignificanceLevel(BooleanUtils.isTrue(racingEnabled)
+                ? defaultIfNull(racingSignificanceLevel, 0.05) : null);
         plannerBenchmarkResult.setUnifiedProblemBenchmarkResultList(new ArrayList<>());
         plannerBenchmarkResult.setSolverBenchmarkResultList(new ArrayList<>(
                 effectiveSolverBenchmarkConfigList.size()));
         for (SolverBenchmarkConfig solverBenchmarkConfig : effectiveSolverBenchmarkConfigList) {
             solverBenchmarkConfig.buildSolverBenchmark(classLoader, plannerBenchmarkResult, extraProblems);
         }
+        return plannerBenchmarkResult;
+    }
 
-        BenchmarkReportConfig benchmarkReportConfig_ = benchmarkReportConfig == null ? new BenchmarkReportConfig()
-                : benchmarkReportConfig;
-        BenchmarkReport benchmarkReport = benchmarkReportConfig_.buildBenchmarkReport(plannerBenchmarkResult);
-        return new DefaultPlannerBenchmark(
-                plannerBenchmarkResult, benchmarkDirectory,
-                buildExecutorService(parallelBenchmarkCount), buildExecutorService(parallelBenchmarkCount),
-                benchmarkReport);
+    private String writeToXml() {
+        try (StringWriter writer = new StringWriter()) {
+            new PlannerBenchmarkConfigIO().write(this, writer);
+            return writer.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed writing the plannerBenchmarkConfig to XML.", e);
+        }
     }
 
     private ExecutorService buildExecutorService(int parallelBenchmarkCount) {
@@ -748,6 +883,10 @@ public class PlannerBenchmarkConfig {
                     "Configure at least 1 <solverBenchmark> (or 1 <solverBenchmarkBluePrint>)"
                             + " in the <plannerBenchmark> configuration.");
         }
+        if (racingSignificanceLevel != null && (racingSignificanceLevel <= 0.0 || racingSignificanceLevel >= 1.0)) {
+            throw new IllegalArgumentException("The racingSignificanceLevel (" + racingSignificanceLevel
+                    + ") must be higher than 0.0 and lower than 1.0.");
+        }
     }
 
     protected void generateSolverBenchmarkConfigNames() {
@@ -22,8 +22,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticType;
+import org.optaplanner.benchmark.impl.statistic.allocationrate.AllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.compilationtime.CompilationTimeProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.cputime.CpuTimeProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.garbagecollection.GarbageCollectionProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.scorecalculationspeed.ScoreCalculationSpeedProblemStatistic;
@@ -36,7 +40,11 @@ public enum ProblemStatisticType implements StatisticType {
     SCORE_CALCULATION_SPEED,
     BEST_SOLUTION_MUTATION,
     MOVE_COUNT_PER_STEP,
-    MEMORY_USE;
+    MEMORY_USE,
+    ALLOCATION_RATE,
+    CPU_TIME,
+    GARBAGE_COLLECTION,
+    COMPILATION_TIME;
 
     @Override
     public String getLabel() {
@@ -58,6 +66,14 @@ public enum ProblemStatisticType implements StatisticType {
                 return new MoveCountPerStepProblemStatistic(problemBenchmarkResult);
             case MEMORY_USE:
                 return new MemoryUseProblemStatistic(problemBenchmarkResult);
+            case ALLOCATION_RATE:
+                return new AllocationRateProblemStatistic(problemBenchmarkResult);
+            case CPU_TIME:
+                return new CpuTimeProblemStatistic(problemBenchmarkResult);
+            case GARBAGE_COLLECTION:
+                return new GarbageCollectionProblemStatistic(problemBenchmarkResult);
+            case COMPILATION_TIME:
+                return new CompilationTimeProblemStatistic(problemBenchmarkResult);
             default:
                 throw new IllegalStateException("The problemStatisticType (" + this + ") is not implemented.");
         }
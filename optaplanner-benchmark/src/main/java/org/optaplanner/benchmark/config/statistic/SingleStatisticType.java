@@ -25,6 +25,7 @@ import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticType;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofiling.ConstraintProfilingSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
 
@@ -32,6 +33,7 @@ import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscor
 public enum SingleStatisticType implements StatisticType {
     CONSTRAINT_MATCH_TOTAL_BEST_SCORE,
     CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
+    CONSTRAINT_PROFILING,
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF,
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF;
 
@@ -47,6 +49,8 @@ public enum SingleStatisticType implements StatisticType {
                 return new ConstraintMatchTotalBestScoreSubSingleStatistic(subSingleBenchmarkResult);
             case CONSTRAINT_MATCH_TOTAL_STEP_SCORE:
                 return new ConstraintMatchTotalStepScoreSubSingleStatistic(subSingleBenchmarkResult);
+            case CONSTRAINT_PROFILING:
+                return new ConstraintProfilingSubSingleStatistic(subSingleBenchmarkResult);
             case PICKED_MOVE_TYPE_BEST_SCORE_DIFF:
                 return new PickedMoveTypeBestScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
             case PICKED_MOVE_TYPE_STEP_SCORE_DIFF:
@@ -19,9 +19,15 @@ package org.optaplanner.benchmark.impl;
 import java.awt.Desktop;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,6 +39,7 @@ import java.util.concurrent.Future;
 
 import org.optaplanner.benchmark.api.PlannerBenchmark;
 import org.optaplanner.benchmark.api.PlannerBenchmarkException;
+import org.optaplanner.benchmark.impl.ranking.RacingSolverBenchmarkEliminator;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
 import org.optaplanner.benchmark.impl.result.BenchmarkResultIO;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
@@ -61,18 +68,41 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
     private final ExecutorService executorService;
     private final BenchmarkResultIO benchmarkResultIO;
     private final BenchmarkReport benchmarkReport;
+    private final String forkedPlannerBenchmarkConfigXml;
+    private final List<String> forkedJvmArgumentList;
 
+    private File forkedPlannerBenchmarkConfigFile = null;
     private long startingSystemTimeMillis = -1L;
     private SubSingleBenchmarkRunner firstFailureSubSingleBenchmarkRunner = null;
 
     public DefaultPlannerBenchmark(PlannerBenchmarkResult plannerBenchmarkResult, File benchmarkDirectory,
             ExecutorService warmUpExecutorService, ExecutorService executorService, BenchmarkReport benchmarkReport) {
+        this(plannerBenchmarkResult, benchmarkDirectory, warmUpExecutorService, executorService, benchmarkReport,
+                null, Collections.emptyList());
+    }
+
+    /**
+     * @param plannerBenchmarkResult never null
+     * @param benchmarkDirectory never null
+     * @param warmUpExecutorService never null
+     * @param executorService never null
+     * @param benchmarkReport never null
+     * @param forkedPlannerBenchmarkConfigXml null if every sub single benchmark runs in this JVM,
+     *        otherwise the XML of the config that built the plannerBenchmarkResult,
+     *        so every sub single benchmark runs in a fresh child JVM
+     * @param forkedJvmArgumentList never null, the JVM arguments of every child JVM
+     */
+    public DefaultPlannerBenchmark(PlannerBenchmarkResult plannerBenchmarkResult, File benchmarkDirectory,
+            ExecutorService warmUpExecutorService, ExecutorService executorService, BenchmarkReport benchmarkReport,
+            String forkedPlannerBenchmarkConfigXml, List<String> forkedJvmArgumentList) {
         this.plannerBenchmarkResult = plannerBenchmarkResult;
         this.benchmarkDirectory = benchmarkDirectory;
         this.warmUpExecutorService = warmUpExecutorService;
         warmUpExecutorCompletionService = new ExecutorCompletionService<>(warmUpExecutorService);
         this.executorService = executorService;
         this.benchmarkReport = benchmarkReport;
+        this.forkedPlannerBenchmarkConfigXml = forkedPlannerBenchmarkConfigXml;
+        this.forkedJvmArgumentList = forkedJvmArgumentList;
         benchmarkResultIO = new BenchmarkResultIO();
     }
 
@@ -88,6 +118,10 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
         return benchmarkReport;
     }
 
+    public boolean isForkedJvmEnabled() {
+        return forkedPlannerBenchmarkConfigXml != null;
+    }
+
     // ************************************************************************
     // Benchmark methods
     // ************************************************************************
@@ -95,7 +129,9 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
     @Override
     public void benchmark() {
         benchmarkingStarted();
-        warmUp();
+        if (!isForkedJvmEnabled()) {
+            warmUp();
+        } // Otherwise every child JVM warms up itself
         runSingleBenchmarks();
         benchmarkingEnded();
     }
@@ -113,12 +149,16 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
         }
         initBenchmarkDirectoryAndSubdirectories();
         plannerBenchmarkResult.initSystemProperties();
+        if (isForkedJvmEnabled()) {
+            initForkedPlannerBenchmarkConfigFile();
+        }
         logger.info("Benchmarking started: parallelBenchmarkCount ({})"
-                + " for problemCount ({}), solverCount ({}), totalSubSingleCount ({}).",
+                + " for problemCount ({}), solverCount ({}), totalSubSingleCount ({}), forkedJvmEnabled ({}).",
                 plannerBenchmarkResult.getParallelBenchmarkCount(),
                 plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList().size(),
                 solverBenchmarkResultList.size(),
-                plannerBenchmarkResult.getTotalSubSingleCount());
+                plannerBenchmarkResult.getTotalSubSingleCount(),
+                isForkedJvmEnabled());
     }
 
     private void initBenchmarkDirectoryAndSubdirectories() {
@@ -130,6 +170,19 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
         plannerBenchmarkResult.initBenchmarkReportDirectory(benchmarkDirectory);
     }
 
+    private void initForkedPlannerBenchmarkConfigFile() {
+        // The child JVMs rebuild the plannerBenchmarkResult from this file
+        forkedPlannerBenchmarkConfigFile = new File(plannerBenchmarkResult.getBenchmarkReportDirectory(),
+                "forkedPlannerBenchmarkConfig.xml");
+        try {
+            Files.write(forkedPlannerBenchmarkConfigFile.toPath(),
+                    forkedPlannerBenchmarkConfigXml.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed writing the forkedPlannerBenchmarkConfigFile ("
+                    + forkedPlannerBenchmarkConfigFile + ").", e);
+        }
+    }
+
     private void warmUp() {
         if (plannerBenchmarkResult.getWarmUpTimeMillisSpentLimit() <= 0L) {
             return;
@@ -253,48 +306,191 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
     }
 
     protected void runSingleBenchmarks() {
+        if (plannerBenchmarkResult.getRacingSignificanceLevel() != null) {
+            runRacingSingleBenchmarks();
+            return;
+        }
         Map<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureMap = new HashMap<>();
         for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult
                 .getUnifiedProblemBenchmarkResultList()) {
             for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
                 for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
                         .getSubSingleBenchmarkResultList()) {
-                    SubSingleBenchmarkRunner subSingleBenchmarkRunner = new SubSingleBenchmarkRunner(
-                            subSingleBenchmarkResult, false);
-                    Future<SubSingleBenchmarkRunner> future = executorService.submit(subSingleBenchmarkRunner);
-                    futureMap.put(subSingleBenchmarkRunner, future);
+                    submitSubSingleBenchmark(subSingleBenchmarkResult, futureMap);
                 }
             }
         }
-        // Wait for the benchmarks to complete
-        for (Map.Entry<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureEntry : futureMap.entrySet()) {
-            SubSingleBenchmarkRunner subSingleBenchmarkRunner = futureEntry.getKey();
-            Future<SubSingleBenchmarkRunner> future = futureEntry.getValue();
-            Throwable failureThrowable = null;
+        waitForSubSingleBenchmarks(futureMap);
+    }
+
+    /**
+     * Runs the sub single benchmarks in rounds, where a round is 1 problem with 1 sub single index,
+     * so racing works with a subSingleCount of 1 too, as long as there are enough problems.
+     * The rounds are ordered by sub single index first, so every problem gets a run before any problem gets a second.
+     * The executor threads don't wait for a round to end: as soon as a sub single benchmark ends,
+     * the next one of a {@link SolverBenchmarkResult} that is still racing starts.
+     * Whenever a round ends, the statistically inferior {@link SolverBenchmarkResult}s are eliminated,
+     * so their sub single benchmarks that haven't started yet are skipped
+     * and the executor threads run the remaining ones instead.
+     */
+    protected void runRacingSingleBenchmarks() {
+        List<SolverBenchmarkResult> racingSolverBenchmarkResultList = new ArrayList<>(
+                plannerBenchmarkResult.getSolverBenchmarkResultList());
+        RacingSolverBenchmarkEliminator racingSolverBenchmarkEliminator = new RacingSolverBenchmarkEliminator(
+                plannerBenchmarkResult.getRacingSignificanceLevel(), racingSolverBenchmarkResultList.size());
+        int maximumSubSingleCount = 0;
+        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult
+                .getUnifiedProblemBenchmarkResultList()) {
+            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+                maximumSubSingleCount = Math.max(maximumSubSingleCount, singleBenchmarkResult.getSubSingleCount());
+            }
+        }
+        Deque<SubSingleBenchmarkResult> pendingSubSingleBenchmarkResultDeque = new ArrayDeque<>();
+        Map<SubSingleBenchmarkResult, Integer> roundIndexMap = new HashMap<>();
+        List<Integer> roundUnfinishedCountList = new ArrayList<>();
+        for (int subSingleIndex = 0; subSingleIndex < maximumSubSingleCount; subSingleIndex++) {
+            for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult
+                    .getUnifiedProblemBenchmarkResultList()) {
+                int roundIndex = roundUnfinishedCountList.size();
+                int roundUnfinishedCount = 0;
+                for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult
+                        .getSingleBenchmarkResultList()) {
+                    if (subSingleIndex < singleBenchmarkResult.getSubSingleCount()) {
+                        SubSingleBenchmarkResult subSingleBenchmarkResult =
+                                singleBenchmarkResult.getSubSingleBenchmarkResultList().get(subSingleIndex);
+                        pendingSubSingleBenchmarkResultDeque.add(subSingleBenchmarkResult);
+                        roundIndexMap.put(subSingleBenchmarkResult, roundIndex);
+                        roundUnfinishedCount++;
+                    }
+                }
+                if (roundUnfinishedCount > 0) {
+                    roundUnfinishedCountList.add(roundUnfinishedCount);
+                }
+            }
+        }
+        ExecutorCompletionService<SubSingleBenchmarkRunner> executorCompletionService =
+                new ExecutorCompletionService<>(executorService);
+        Map<Future<SubSingleBenchmarkRunner>, SubSingleBenchmarkRunner> runningFutureMap = new HashMap<>();
+        int parallelBenchmarkCount = plannerBenchmarkResult.getParallelBenchmarkCount();
+        int completedRoundCount = 0;
+        while (true) {
+            // Only submit as many as there are executor threads, so the eliminated ones never start
+            while (runningFutureMap.size() < parallelBenchmarkCount && !pendingSubSingleBenchmarkResultDeque.isEmpty()) {
+                SubSingleBenchmarkRunner subSingleBenchmarkRunner = buildSubSingleBenchmarkRunner(
+                        pendingSubSingleBenchmarkResultDeque.poll());
+                runningFutureMap.put(executorCompletionService.submit(subSingleBenchmarkRunner), subSingleBenchmarkRunner);
+            }
+            if (runningFutureMap.isEmpty()) {
+                break;
+            }
+            Future<SubSingleBenchmarkRunner> future;
             try {
-                // Explicitly returning it in the Callable guarantees memory visibility
-                subSingleBenchmarkRunner = future.get();
+                future = executorCompletionService.take();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                singleBenchmarkRunnerExceptionLogger.error(
-                        "The subSingleBenchmarkRunner ({}) with random seed ({}) was interrupted.",
-                        subSingleBenchmarkRunner, subSingleBenchmarkRunner.getRandomSeed(), e);
-                failureThrowable = e;
-            } catch (ExecutionException e) {
-                Throwable cause = e.getCause();
-                singleBenchmarkRunnerExceptionLogger.warn("The subSingleBenchmarkRunner ({}) with random seed ({}) failed.",
-                        subSingleBenchmarkRunner, subSingleBenchmarkRunner.getRandomSeed(), cause);
-                failureThrowable = cause;
+                throw new IllegalStateException("The racing benchmark was interrupted.", e);
             }
-            if (failureThrowable == null) {
-                subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(true);
-            } else {
-                subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(false);
-                subSingleBenchmarkRunner.setFailureThrowable(failureThrowable);
-                if (firstFailureSubSingleBenchmarkRunner == null) {
-                    firstFailureSubSingleBenchmarkRunner = subSingleBenchmarkRunner;
+            SubSingleBenchmarkRunner subSingleBenchmarkRunner = runningFutureMap.remove(future);
+            waitForSubSingleBenchmark(subSingleBenchmarkRunner, future);
+            int roundIndex = roundIndexMap.get(subSingleBenchmarkRunner.getSubSingleBenchmarkResult());
+            int roundUnfinishedCount = roundUnfinishedCountList.get(roundIndex) - 1;
+            roundUnfinishedCountList.set(roundIndex, roundUnfinishedCount);
+            if (roundUnfinishedCount > 0) {
+                continue;
+            }
+            completedRoundCount++;
+            List<SolverBenchmarkResult> eliminatedSolverBenchmarkResultList = racingSolverBenchmarkEliminator
+                    .eliminate(racingSolverBenchmarkResultList, completedRoundCount);
+            if (eliminatedSolverBenchmarkResultList.isEmpty()) {
+                continue;
+            }
+            for (SolverBenchmarkResult solverBenchmarkResult : eliminatedSolverBenchmarkResultList) {
+                racingSolverBenchmarkResultList.remove(solverBenchmarkResult);
+                solverBenchmarkResult.setRacingEliminationRoundCount(completedRoundCount);
+            }
+            for (Iterator<SubSingleBenchmarkResult> it = pendingSubSingleBenchmarkResultDeque.iterator(); it.hasNext();) {
+                SubSingleBenchmarkResult subSingleBenchmarkResult = it.next();
+                if (eliminatedSolverBenchmarkResultList.contains(subSingleBenchmarkResult.getSingleBenchmarkResult()
+                        .getSolverBenchmarkResult())) {
+                    it.remove();
+                    int skippedRoundIndex = roundIndexMap.get(subSingleBenchmarkResult);
+                    int skippedRoundUnfinishedCount = roundUnfinishedCountList.get(skippedRoundIndex) - 1;
+                    roundUnfinishedCountList.set(skippedRoundIndex, skippedRoundUnfinishedCount);
+                    if (skippedRoundUnfinishedCount == 0) {
+                        // The next look happens after a later round ends
+                        completedRoundCount++;
+                    }
                 }
             }
+            logger.info("Racing round ({}) ended: eliminated solverBenchmarkResults ({}), racing ({}).",
+                    completedRoundCount, eliminatedSolverBenchmarkResultList, racingSolverBenchmarkResultList);
+        }
+        for (SolverBenchmarkResult solverBenchmarkResult : plannerBenchmarkResult.getSolverBenchmarkResultList()) {
+            if (solverBenchmarkResult.getRacingEliminationRoundCount() == null) {
+                continue;
+            }
+            for (SingleBenchmarkResult singleBenchmarkResult : solverBenchmarkResult.getSingleBenchmarkResultList()) {
+                // The report only accumulates the sub single benchmarks that ran,
+                // including those that were already running when it was eliminated
+                for (Iterator<SubSingleBenchmarkResult> it = singleBenchmarkResult.getSubSingleBenchmarkResultList()
+                        .iterator(); it.hasNext();) {
+                    SubSingleBenchmarkResult subSingleBenchmarkResult = it.next();
+                    if (subSingleBenchmarkResult.getSucceeded() == null) {
+                        // Only deletes the directory if it is still empty
+                        subSingleBenchmarkResult.getResultDirectory().delete();
+                        it.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    private SubSingleBenchmarkRunner buildSubSingleBenchmarkRunner(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        return isForkedJvmEnabled()
+                ? new ForkedSubSingleBenchmarkRunner(subSingleBenchmarkResult,
+                        forkedPlannerBenchmarkConfigFile, forkedJvmArgumentList)
+                : new SubSingleBenchmarkRunner(subSingleBenchmarkResult, false);
+    }
+
+    private void submitSubSingleBenchmark(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            Map<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureMap) {
+        SubSingleBenchmarkRunner subSingleBenchmarkRunner = buildSubSingleBenchmarkRunner(subSingleBenchmarkResult);
+        Future<SubSingleBenchmarkRunner> future = executorService.submit(subSingleBenchmarkRunner);
+        futureMap.put(subSingleBenchmarkRunner, future);
+    }
+
+    private void waitForSubSingleBenchmarks(Map<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureMap) {
+        for (Map.Entry<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureEntry : futureMap.entrySet()) {
+            waitForSubSingleBenchmark(futureEntry.getKey(), futureEntry.getValue());
+        }
+    }
+
+    private void waitForSubSingleBenchmark(SubSingleBenchmarkRunner subSingleBenchmarkRunner,
+            Future<SubSingleBenchmarkRunner> future) {
+        Throwable failureThrowable = null;
+        try {
+            // Explicitly returning it in the Callable guarantees memory visibility
+            subSingleBenchmarkRunner = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            singleBenchmarkRunnerExceptionLogger.error(
+                    "The subSingleBenchmarkRunner ({}) with random seed ({}) was interrupted.",
+                    subSingleBenchmarkRunner, subSingleBenchmarkRunner.getRandomSeed(), e);
+            failureThrowable = e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            singleBenchmarkRunnerExceptionLogger.warn("The subSingleBenchmarkRunner ({}) with random seed ({}) failed.",
+                    subSingleBenchmarkRunner, subSingleBenchmarkRunner.getRandomSeed(), cause);
+            failureThrowable = cause;
+        }
+        if (failureThrowable == null) {
+            subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(true);
+        } else {
+            subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(false);
+            subSingleBenchmarkRunner.setFailureThrowable(failureThrowable);
+            if (firstFailureSubSingleBenchmarkRunner == null) {
+                firstFailureSubSingleBenchmarkRunner = subSingleBenchmarkRunner;
+            }
         }
     }
 
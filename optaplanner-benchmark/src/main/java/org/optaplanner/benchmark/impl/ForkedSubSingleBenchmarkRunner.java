@@ -0,0 +1,312 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.optaplanner.benchmark.config.PlannerBenchmarkConfig;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+/**
+ * Runs 1 {@link SubSingleBenchmarkResult} in a fresh child JVM,
+ * so the JIT profile and heap state of earlier sub single benchmarks don't skew it.
+ * <p>
+ * The child JVM rebuilds the {@link PlannerBenchmarkResult} from the same {@link PlannerBenchmarkConfig},
+ * runs the matching sub single benchmark with a normal {@link SubSingleBenchmarkRunner}
+ * and writes its statistic CSV files and output solution in the same benchmark report directory.
+ * The other results stream back to this JVM over the standard output pipe of the child process,
+ * as {@link Properties} lines prefixed with {@link #RESULT_LINE_PREFIX}.
+ * Every other line on that pipe (such as JVM diagnostics) is logged by this JVM.
+ */
+public class ForkedSubSingleBenchmarkRunner<Solution_> extends SubSingleBenchmarkRunner<Solution_> {
+
+    protected static final String RESULT_LINE_PREFIX = "#optaPlannerForkedResult#";
+
+    private static final String SUCCEEDED_KEY = "succeeded";
+    private static final String FAILURE_KEY = "failure";
+    private static final String RANDOM_SEED_KEY = "randomSeed";
+    private static final String SCORE_KEY = "score";
+    private static final String TIME_MILLIS_SPENT_KEY = "timeMillisSpent";
+    private static final String SCORE_CALCULATION_COUNT_KEY = "scoreCalculationCount";
+    private static final String USED_MEMORY_AFTER_INPUT_SOLUTION_KEY = "usedMemoryAfterInputSolution";
+    private static final String ENTITY_COUNT_KEY = "entityCount";
+    private static final String VARIABLE_COUNT_KEY = "variableCount";
+    private static final String MAXIMUM_VALUE_COUNT_KEY = "maximumValueCount";
+    private static final String PROBLEM_SCALE_KEY = "problemScale";
+
+    private final File plannerBenchmarkConfigFile;
+    private final List<String> jvmArgumentList;
+
+    /**
+     * @param subSingleBenchmarkResult never null
+     * @param plannerBenchmarkConfigFile never null, the config that built the {@link PlannerBenchmarkResult}
+     * @param jvmArgumentList never null, the JVM arguments of the child JVM
+     */
+    public ForkedSubSingleBenchmarkRunner(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            File plannerBenchmarkConfigFile, List<String> jvmArgumentList) {
+        super(subSingleBenchmarkResult, false);
+        this.plannerBenchmarkConfigFile = plannerBenchmarkConfigFile;
+        this.jvmArgumentList = jvmArgumentList;
+    }
+
+    // ************************************************************************
+    // Parent JVM methods
+    // ************************************************************************
+
+    /**
+     * The child JVM gets the {@code java.class.path} of this JVM,
+     * so it only finds the same classes if this JVM loaded them from that classpath.
+     * That excludes the module path, fat jars with nested jars, {@code mvn exec:java}
+     * and any other custom {@link ClassLoader}.
+     *
+     * @throws IllegalArgumentException if a child JVM cannot load the same classes
+     */
+    public static void validateChildJvmClassPath() {
+        String classPath = System.getProperty("java.class.path");
+        if (classPath == null || classPath.isEmpty()) {
+            throw new IllegalArgumentException("The forkedJvmEnabled cannot be used because this JVM's java.class.path ("
+                    + classPath + ") is empty.");
+        }
+        if (ForkedSubSingleBenchmarkRunner.class.getModule().isNamed()) {
+            throw new IllegalArgumentException("The forkedJvmEnabled cannot be used because OptaPlanner is loaded"
+                    + " from the module path (" + ForkedSubSingleBenchmarkRunner.class.getModule()
+                    + ") instead of the java.class.path.");
+        }
+        ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+        ClassLoader classLoader = ForkedSubSingleBenchmarkRunner.class.getClassLoader();
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader != systemClassLoader || (contextClassLoader != null && contextClassLoader != systemClassLoader)) {
+            throw new IllegalArgumentException("The forkedJvmEnabled cannot be used because OptaPlanner's classLoader ("
+                    + classLoader + ") or the context classLoader (" + contextClassLoader
+                    + ") is not the system classLoader (" + systemClassLoader
+                    + "), so the java.class.path (" + classPath + ") might miss classes.\n"
+                    + "Maybe run the benchmark with a plain java -cp command instead of a fat jar or mvn exec:java.");
+        }
+    }
+
+    @Override
+    public SubSingleBenchmarkRunner<Solution_> call() {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = getSubSingleBenchmarkResult();
+        SingleBenchmarkResult singleBenchmarkResult = subSingleBenchmarkResult.getSingleBenchmarkResult();
+        ProblemBenchmarkResult<Solution_> problemBenchmarkResult = singleBenchmarkResult.getProblemBenchmarkResult();
+        PlannerBenchmarkResult plannerBenchmarkResult = problemBenchmarkResult.getPlannerBenchmarkResult();
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgumentList);
+        // Validated by validateChildJvmClassPath()
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ForkedSubSingleBenchmarkRunner.class.getName());
+        command.add(plannerBenchmarkConfigFile.getAbsolutePath());
+        command.add(plannerBenchmarkResult.getBenchmarkReportDirectory().getAbsolutePath());
+        command.add(singleBenchmarkResult.getSolverBenchmarkResult().getName());
+        command.add(problemBenchmarkResult.getName());
+        command.add(Integer.toString(subSingleBenchmarkResult.getSubSingleBenchmarkIndex()));
+        command.add(Long.toString(plannerBenchmarkResult.getWarmUpTimeMillisSpentLimit()));
+        logger.debug("Forking a child JVM for subSingleBenchmarkResult ({}) with command: {}",
+                subSingleBenchmarkResult, command);
+        Properties resultProperties = new Properties();
+        int exitValue;
+        try {
+            // The child's logging goes to its standard error, which this JVM shares
+            Process process = new ProcessBuilder(command)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            StringBuilder resultBuilder = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(RESULT_LINE_PREFIX)) {
+                        resultBuilder.append(line, RESULT_LINE_PREFIX.length(), line.length()).append('\n');
+                    } else {
+                        logger.info("Child JVM of subSingleBenchmarkResult ({}): {}", subSingleBenchmarkResult, line);
+                    }
+                }
+            }
+            exitValue = process.waitFor();
+            resultProperties.load(new StringReader(resultBuilder.toString()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Forking a child JVM for subSingleBenchmarkResult ("
+                    + subSingleBenchmarkResult + ") failed.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for the child JVM of subSingleBenchmarkResult ("
+                    + subSingleBenchmarkResult + ") was interrupted.", e);
+        }
+        String randomSeedString = resultProperties.getProperty(RANDOM_SEED_KEY);
+        setRandomSeed(randomSeedString == null ? null : Long.valueOf(randomSeedString));
+        if (!Boolean.parseBoolean(resultProperties.getProperty(SUCCEEDED_KEY))) {
+            String failure = resultProperties.getProperty(FAILURE_KEY);
+            throw new IllegalStateException("The child JVM of subSingleBenchmarkResult (" + subSingleBenchmarkResult
+                    + ") failed with exitValue (" + exitValue + ")"
+                    + (failure == null ? " without a result." : ":\n" + failure));
+        }
+        SolverBenchmarkResult solverBenchmarkResult = singleBenchmarkResult.getSolverBenchmarkResult();
+        subSingleBenchmarkResult.setScore(
+                solverBenchmarkResult.getScoreDefinition().parseScore(resultProperties.getProperty(SCORE_KEY)));
+        subSingleBenchmarkResult.setTimeMillisSpent(
+                Long.parseLong(resultProperties.getProperty(TIME_MILLIS_SPENT_KEY)));
+        subSingleBenchmarkResult.setScoreCalculationCount(
+                Long.parseLong(resultProperties.getProperty(SCORE_CALCULATION_COUNT_KEY)));
+        String usedMemoryString = resultProperties.getProperty(USED_MEMORY_AFTER_INPUT_SOLUTION_KEY);
+        if (usedMemoryString != null) {
+            subSingleBenchmarkResult.setUsedMemoryAfterInputSolution(Long.valueOf(usedMemoryString));
+        }
+        problemBenchmarkResult.registerScale(
+                Long.parseLong(resultProperties.getProperty(ENTITY_COUNT_KEY)),
+                Long.parseLong(resultProperties.getProperty(VARIABLE_COUNT_KEY)),
+                Long.parseLong(resultProperties.getProperty(MAXIMUM_VALUE_COUNT_KEY)),
+                Long.parseLong(resultProperties.getProperty(PROBLEM_SCALE_KEY)));
+        return this;
+    }
+
+    // ************************************************************************
+    // Child JVM methods
+    // ************************************************************************
+
+    /**
+     * The entry point of the child JVM.
+     *
+     * @param args never null, see {@link #call()}
+     */
+    public static void main(String[] args) {
+        // Reserve the standard output pipe for the result, even if a logger is configured to log to System.out
+        PrintStream resultOut = System.out;
+        System.setOut(System.err);
+        Properties resultProperties = new Properties();
+        int exitStatus = 0;
+        try {
+            runChild(args, resultProperties);
+            resultProperties.setProperty(SUCCEEDED_KEY, Boolean.TRUE.toString());
+        } catch (Throwable e) {
+            resultProperties.setProperty(SUCCEEDED_KEY, Boolean.FALSE.toString());
+            resultProperties.setProperty(FAILURE_KEY, ExceptionUtils.getStackTrace(e));
+            exitStatus = 1;
+        }
+        try (StringWriter writer = new StringWriter()) {
+            resultProperties.store(writer, null);
+            try (BufferedReader reader = new BufferedReader(new StringReader(writer.toString()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    resultOut.println(RESULT_LINE_PREFIX + line);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed writing the resultProperties (" + resultProperties + ").", e);
+        }
+        resultOut.flush();
+        // Don't wait for non-daemon threads that the solver or the problem IO might have left behind
+        System.exit(exitStatus);
+    }
+
+    private static <Solution_> void runChild(String[] args, Properties resultProperties) {
+        if (args.length != 6) {
+            throw new IllegalArgumentException("The args length (" + args.length + ") is not 6.");
+        }
+        File plannerBenchmarkConfigFile = new File(args[0]);
+        File benchmarkReportDirectory = new File(args[1]);
+        String solverBenchmarkName = args[2];
+        String problemBenchmarkName = args[3];
+        int subSingleBenchmarkIndex = Integer.parseInt(args[4]);
+        long warmUpTimeMillisSpentLimit = Long.parseLong(args[5]);
+
+        PlannerBenchmarkConfig plannerBenchmarkConfig = PlannerBenchmarkConfig.createFromXmlFile(
+                plannerBenchmarkConfigFile);
+        PlannerBenchmarkResult plannerBenchmarkResult = plannerBenchmarkConfig.buildPlannerBenchmarkResult(new Object[0]);
+        // Reuse the directories of the parent JVM, so it finds the statistic CSV files
+        plannerBenchmarkResult.setBenchmarkReportDirectory(benchmarkReportDirectory);
+        SubSingleBenchmarkResult subSingleBenchmarkResult = findSubSingleBenchmarkResult(plannerBenchmarkResult,
+                solverBenchmarkName, problemBenchmarkName, subSingleBenchmarkIndex);
+        SolverConfig solverConfig = subSingleBenchmarkResult.getSingleBenchmarkResult().getSolverBenchmarkResult()
+                .getSolverConfig();
+        if (warmUpTimeMillisSpentLimit > 0L) {
+            // This JVM is fresh, so it warms up on the same sub single benchmark
+            TerminationConfig originalTerminationConfig = solverConfig.getTerminationConfig();
+            TerminationConfig warmUpTerminationConfig = new TerminationConfig();
+            if (originalTerminationConfig != null) {
+                warmUpTerminationConfig.inherit(originalTerminationConfig);
+            }
+            warmUpTerminationConfig.shortenTimeMillisSpentLimit(warmUpTimeMillisSpentLimit);
+            solverConfig.setTerminationConfig(warmUpTerminationConfig);
+            try {
+                new SubSingleBenchmarkRunner<Solution_>(subSingleBenchmarkResult, true).call();
+            } finally {
+                solverConfig.setTerminationConfig(originalTerminationConfig);
+            }
+        }
+        SubSingleBenchmarkRunner<Solution_> subSingleBenchmarkRunner =
+                new SubSingleBenchmarkRunner<>(subSingleBenchmarkResult, false);
+        try {
+            subSingleBenchmarkRunner.call();
+        } finally {
+            if (subSingleBenchmarkRunner.getRandomSeed() != null) {
+                resultProperties.setProperty(RANDOM_SEED_KEY, subSingleBenchmarkRunner.getRandomSeed().toString());
+            }
+        }
+        resultProperties.setProperty(SCORE_KEY, subSingleBenchmarkResult.getScore().toString());
+        resultProperties.setProperty(TIME_MILLIS_SPENT_KEY, Long.toString(subSingleBenchmarkResult.getTimeMillisSpent()));
+        resultProperties.setProperty(SCORE_CALCULATION_COUNT_KEY,
+                Long.toString(subSingleBenchmarkResult.getScoreCalculationCount()));
+        if (subSingleBenchmarkResult.getUsedMemoryAfterInputSolution() != null) {
+            resultProperties.setProperty(USED_MEMORY_AFTER_INPUT_SOLUTION_KEY,
+                    subSingleBenchmarkResult.getUsedMemoryAfterInputSolution().toString());
+        }
+        ProblemBenchmarkResult<Object> problemBenchmarkResult = subSingleBenchmarkResult.getSingleBenchmarkResult()
+                .getProblemBenchmarkResult();
+        resultProperties.setProperty(ENTITY_COUNT_KEY, problemBenchmarkResult.getEntityCount().toString());
+        resultProperties.setProperty(VARIABLE_COUNT_KEY, problemBenchmarkResult.getVariableCount().toString());
+        resultProperties.setProperty(MAXIMUM_VALUE_COUNT_KEY, problemBenchmarkResult.getMaximumValueCount().toString());
+        resultProperties.setProperty(PROBLEM_SCALE_KEY, problemBenchmarkResult.getProblemScale().toString());
+    }
+
+    private static SubSingleBenchmarkResult findSubSingleBenchmarkResult(PlannerBenchmarkResult plannerBenchmarkResult,
+            String solverBenchmarkName, String problemBenchmarkName, int subSingleBenchmarkIndex) {
+        for (SolverBenchmarkResult solverBenchmarkResult : plannerBenchmarkResult.getSolverBenchmarkResultList()) {
+            if (!solverBenchmarkResult.getName().equals(solverBenchmarkName)) {
+                continue;
+            }
+            for (SingleBenchmarkResult singleBenchmarkResult : solverBenchmarkResult.getSingleBenchmarkResultList()) {
+                if (singleBenchmarkResult.getProblemBenchmarkResult().getName().equals(problemBenchmarkName)) {
+                    return singleBenchmarkResult.getSubSingleBenchmarkResultList().get(subSingleBenchmarkIndex);
+                }
+            }
+        }
+        throw new IllegalStateException("The child JVM cannot find the solverBenchmarkName (" + solverBenchmarkName
+                + ") with the problemBenchmarkName (" + problemBenchmarkName + ").\n"
+                + "Maybe the plannerBenchmarkConfig builds a different benchmark in every JVM.");
+    }
+
+}
@@ -58,6 +58,10 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         return randomSeed;
     }
 
+    protected void setRandomSeed(Long randomSeed) {
+        this.randomSeed = randomSeed;
+    }
+
     public Throwable getFailureThrowable() {
         return failureThrowable;
     }
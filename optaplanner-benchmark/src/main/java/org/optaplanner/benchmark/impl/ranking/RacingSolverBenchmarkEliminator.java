@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+
+/**
+ * Decides which {@link SolverBenchmarkResult}s are statistically inferior during racing,
+ * so they don't need to run their remaining {@link SubSingleBenchmarkResult}s.
+ * <p>
+ * Every pair of racing {@link SolverBenchmarkResult}s is compared on the {@link SubSingleBenchmarkResult}s
+ * that both have already run, with the same problem and the same sub single index,
+ * by a {@link ScoreSubSingleBenchmarkRankingComparator}.
+ * A {@link SolverBenchmarkResult} is eliminated if another one beats it significantly more often than it loses,
+ * according to an exact one-sided sign test.
+ * Ties are ignored, so the score magnitude doesn't matter: only which one is better.
+ * <p>
+ * Because the same data is tested again after more rounds, repeating the test at the full significance level
+ * would eliminate a {@link SolverBenchmarkResult} that isn't worse far more often than the significance level.
+ * So the test only runs at looks with a doubling number of completed rounds,
+ * starting from the first round count that could eliminate anything,
+ * and every look spends half of the significance level that is left:
+ * the first look tests at half the significance level, the second look at a quarter, and so on.
+ * Over all looks together, that never exceeds the significance level (alpha spending with a Bonferroni bound).
+ * Within a look, the significance level is divided by the number of opponents (Bonferroni correction),
+ * because every {@link SolverBenchmarkResult} is tested against all the others.
+ */
+public class RacingSolverBenchmarkEliminator {
+
+    private final Comparator<SubSingleBenchmarkResult> subSingleBenchmarkRankingComparator =
+            new ScoreSubSingleBenchmarkRankingComparator();
+
+    private int nextLookRoundCount;
+    private double lookSignificanceLevel;
+
+    /**
+     * @param significanceLevel {@code 0.0 < significanceLevel < 1.0},
+     *        the chance of eliminating a {@link SolverBenchmarkResult} that isn't worse
+     * @param solverBenchmarkCount {@code >= 1}, the number of {@link SolverBenchmarkResult}s that start racing
+     */
+    public RacingSolverBenchmarkEliminator(double significanceLevel, int solverBenchmarkCount) {
+        if (significanceLevel <= 0.0 || significanceLevel >= 1.0) {
+            throw new IllegalArgumentException("The significanceLevel (" + significanceLevel
+                    + ") must be higher than 0.0 and lower than 1.0.");
+        }
+        if (solverBenchmarkCount < 1) {
+            throw new IllegalArgumentException("The solverBenchmarkCount (" + solverBenchmarkCount
+                    + ") must be at least 1.");
+        }
+        lookSignificanceLevel = significanceLevel / 2.0;
+        // Looking earlier can't eliminate anything, so it would only waste significance level
+        double firstLookSignificanceLevel = lookSignificanceLevel / Math.max(solverBenchmarkCount - 1, 1);
+        nextLookRoundCount = 1;
+        while (calculateSignTestPValue(nextLookRoundCount, nextLookRoundCount) >= firstLookSignificanceLevel) {
+            nextLookRoundCount++;
+        }
+    }
+
+    /**
+     * @return {@code >= 1}, the completed round count at which the next look tests
+     */
+    public int getNextLookRoundCount() {
+        return nextLookRoundCount;
+    }
+
+    /**
+     * Call this after every change of the completed round count.
+     * Unless the completed round count reached the next look, it eliminates nothing.
+     *
+     * @param racingSolverBenchmarkResultList never null, the {@link SolverBenchmarkResult}s that are still racing
+     * @param completedRoundCount {@code >= 0}, the number of rounds that ended,
+     *        where a round is 1 problem with 1 sub single index
+     * @return never null, the statistically inferior {@link SolverBenchmarkResult}s, never all of them
+     */
+    public List<SolverBenchmarkResult> eliminate(List<SolverBenchmarkResult> racingSolverBenchmarkResultList,
+            int completedRoundCount) {
+        List<SolverBenchmarkResult> eliminatedSolverBenchmarkResultList = new ArrayList<>();
+        if (completedRoundCount < nextLookRoundCount) {
+            return eliminatedSolverBenchmarkResultList;
+        }
+        double currentLookSignificanceLevel = lookSignificanceLevel;
+        lookSignificanceLevel /= 2.0;
+        while (nextLookRoundCount <= completedRoundCount) {
+            nextLookRoundCount *= 2;
+        }
+        int racingCount = racingSolverBenchmarkResultList.size();
+        if (racingCount <= 1) {
+            return eliminatedSolverBenchmarkResultList;
+        }
+        double correctedSignificanceLevel = currentLookSignificanceLevel / (racingCount - 1);
+        for (SolverBenchmarkResult solverBenchmarkResult : racingSolverBenchmarkResultList) {
+            for (SolverBenchmarkResult otherSolverBenchmarkResult : racingSolverBenchmarkResultList) {
+                if (solverBenchmarkResult != otherSolverBenchmarkResult
+                        && isSignificantlyBeaten(solverBenchmarkResult, otherSolverBenchmarkResult,
+                                correctedSignificanceLevel)) {
+                    eliminatedSolverBenchmarkResultList.add(solverBenchmarkResult);
+                    break;
+                }
+            }
+        }
+        if (eliminatedSolverBenchmarkResultList.size() == racingCount) {
+            // Possible with non-transitive results (A beats B beats C beats A): keep them all racing
+            eliminatedSolverBenchmarkResultList.clear();
+        }
+        return eliminatedSolverBenchmarkResultList;
+    }
+
+    private boolean isSignificantlyBeaten(SolverBenchmarkResult solverBenchmarkResult,
+            SolverBenchmarkResult otherSolverBenchmarkResult, double correctedSignificanceLevel) {
+        int winCount = 0;
+        int lossCount = 0;
+        for (SingleBenchmarkResult singleBenchmarkResult : solverBenchmarkResult.getSingleBenchmarkResultList()) {
+            SingleBenchmarkResult otherSingleBenchmarkResult = otherSolverBenchmarkResult.findSingleBenchmark(
+                    singleBenchmarkResult.getProblemBenchmarkResult());
+            if (otherSingleBenchmarkResult == null) {
+                continue;
+            }
+            List<SubSingleBenchmarkResult> subSingleBenchmarkResultList =
+                    singleBenchmarkResult.getSubSingleBenchmarkResultList();
+            List<SubSingleBenchmarkResult> otherSubSingleBenchmarkResultList =
+                    otherSingleBenchmarkResult.getSubSingleBenchmarkResultList();
+            int commonSubSingleCount = Math.min(subSingleBenchmarkResultList.size(),
+                    otherSubSingleBenchmarkResultList.size());
+            for (int i = 0; i < commonSubSingleCount; i++) {
+                SubSingleBenchmarkResult subSingleBenchmarkResult = subSingleBenchmarkResultList.get(i);
+                SubSingleBenchmarkResult otherSubSingleBenchmarkResult = otherSubSingleBenchmarkResultList.get(i);
+                // Skip the sub single benchmarks that haven't run yet
+                if (subSingleBenchmarkResult.getSucceeded() == null
+                        || otherSubSingleBenchmarkResult.getSucceeded() == null) {
+                    continue;
+                }
+                int comparison = subSingleBenchmarkRankingComparator.compare(
+                        subSingleBenchmarkResult, otherSubSingleBenchmarkResult);
+                if (comparison > 0) {
+                    winCount++;
+                } else if (comparison < 0) {
+                    lossCount++;
+                }
+            }
+        }
+        return calculateSignTestPValue(lossCount, winCount + lossCount) < correctedSignificanceLevel;
+    }
+
+    /**
+     * @param lossCount {@code 0 <= lossCount <= comparisonCount}
+     * @param comparisonCount {@code >= 0}, the number of comparisons that aren't ties
+     * @return the chance of losing at least lossCount times if losing and winning were equally likely
+     */
+    protected static double calculateSignTestPValue(int lossCount, int comparisonCount) {
+        // Sum the binomial probabilities in log space, to avoid overflow and underflow for high comparisonCounts
+        double logHalfPower = comparisonCount * Math.log(0.5);
+        double logBinomialCoefficient = 0.0;
+        double pValue = 0.0;
+        for (int i = 0; i <= comparisonCount; i++) {
+            if (i > 0) {
+                logBinomialCoefficient += Math.log(comparisonCount - i + 1) - Math.log(i);
+            }
+            if (i >= lossCount) {
+                pValue += Math.exp(logBinomialCoefficient + logHalfPower);
+            }
+        }
+        return Math.min(pValue, 1.0);
+    }
+
+}
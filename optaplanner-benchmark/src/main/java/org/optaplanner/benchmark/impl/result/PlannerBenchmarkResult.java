@@ -69,6 +69,8 @@ public class PlannerBenchmarkResult {
 
     private Integer parallelBenchmarkCount = null;
     private Long warmUpTimeMillisSpentLimit = null;
+    // Null if racing is disabled
+    private Double racingSignificanceLevel = null;
     private EnvironmentMode environmentMode = null;
 
     @XmlElement(name = "solverBenchmarkResult")
@@ -165,6 +167,14 @@ public class PlannerBenchmarkResult {
         this.warmUpTimeMillisSpentLimit = warmUpTimeMillisSpentLimit;
     }
 
+    public Double getRacingSignificanceLevel() {
+        return racingSignificanceLevel;
+    }
+
+    public void setRacingSignificanceLevel(Double racingSignificanceLevel) {
+        this.racingSignificanceLevel = racingSignificanceLevel;
+    }
+
     public EnvironmentMode getEnvironmentMode() {
         return environmentMode;
     }
@@ -478,6 +488,7 @@ public class PlannerBenchmarkResult {
 
                     newResult.parallelBenchmarkCount = oldResult.parallelBenchmarkCount;
                     newResult.warmUpTimeMillisSpentLimit = oldResult.warmUpTimeMillisSpentLimit;
+                    newResult.racingSignificanceLevel = oldResult.racingSignificanceLevel;
                     newResult.environmentMode = oldResult.environmentMode;
                     newResult.solverBenchmarkResultList = new ArrayList<>();
                     newResult.unifiedProblemBenchmarkResultList = new ArrayList<>();
@@ -505,6 +516,8 @@ public class PlannerBenchmarkResult {
                             newResult.parallelBenchmarkCount, oldResult.parallelBenchmarkCount);
                     newResult.warmUpTimeMillisSpentLimit = ConfigUtils.mergeProperty(
                             newResult.warmUpTimeMillisSpentLimit, oldResult.warmUpTimeMillisSpentLimit);
+                    newResult.racingSignificanceLevel = ConfigUtils.mergeProperty(
+                            newResult.racingSignificanceLevel, oldResult.racingSignificanceLevel);
                     newResult.environmentMode = ConfigUtils.mergeProperty(
                             newResult.environmentMode, oldResult.environmentMode);
                 }
@@ -48,7 +48,11 @@ import org.optaplanner.benchmark.impl.report.ReportHelper;
 import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.allocationrate.AllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.compilationtime.CompilationTimeProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.cputime.CpuTimeProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.garbagecollection.GarbageCollectionProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.scorecalculationspeed.ScoreCalculationSpeedProblemStatistic;
@@ -86,6 +90,10 @@ public class ProblemBenchmarkResult<Solution_> {
             @XmlElement(name = "bestSolutionMutationProblemStatistic", type = BestSolutionMutationProblemStatistic.class),
             @XmlElement(name = "moveCountPerStepProblemStatistic", type = MoveCountPerStepProblemStatistic.class),
             @XmlElement(name = "memoryUseProblemStatistic", type = MemoryUseProblemStatistic.class),
+            @XmlElement(name = "allocationRateProblemStatistic", type = AllocationRateProblemStatistic.class),
+            @XmlElement(name = "cpuTimeProblemStatistic", type = CpuTimeProblemStatistic.class),
+            @XmlElement(name = "garbageCollectionProblemStatistic", type = GarbageCollectionProblemStatistic.class),
+            @XmlElement(name = "compilationTimeProblemStatistic", type = CompilationTimeProblemStatistic.class),
     })
     private List<ProblemStatistic> problemStatisticList = null;
 
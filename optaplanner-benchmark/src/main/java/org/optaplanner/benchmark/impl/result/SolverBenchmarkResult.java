@@ -48,6 +48,8 @@ public class SolverBenchmarkResult {
     private String name = null;
 
     private Integer subSingleCount = null;
+    // Null if racing never eliminated it
+    private Integer racingEliminationRoundCount = null;
 
     @XmlElement(namespace = SolverConfig.XML_NAMESPACE)
     private SolverConfig solverConfig = null;
@@ -119,6 +121,18 @@ public class SolverBenchmarkResult {
         this.subSingleCount = subSingleCount;
     }
 
+    /**
+     * @return null if racing never eliminated it,
+     *         otherwise the number of rounds it ran before racing eliminated it
+     */
+    public Integer getRacingEliminationRoundCount() {
+        return racingEliminationRoundCount;
+    }
+
+    public void setRacingEliminationRoundCount(Integer racingEliminationRoundCount) {
+        this.racingEliminationRoundCount = racingEliminationRoundCount;
+    }
+
     public SolverConfig getSolverConfig() {
         return solverConfig;
     }
@@ -366,6 +380,7 @@ public class SolverBenchmarkResult {
                 }
                 nameCountMap.put(oldResult.name, nameCount);
                 newResult.subSingleCount = oldResult.subSingleCount;
+                newResult.racingEliminationRoundCount = oldResult.racingEliminationRoundCount;
                 newResult.solverConfig = oldResult.solverConfig;
                 newResult.scoreDefinition = oldResult.scoreDefinition;
                 newResult.singleBenchmarkResultList = new ArrayList<>(
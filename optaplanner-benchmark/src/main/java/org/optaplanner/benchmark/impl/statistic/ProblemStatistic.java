@@ -33,7 +33,11 @@ import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.allocationrate.AllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.compilationtime.CompilationTimeProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.cputime.CpuTimeProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.garbagecollection.GarbageCollectionProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.common.GraphSupport;
 import org.optaplanner.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
@@ -52,7 +56,11 @@ import org.slf4j.LoggerFactory;
         ScoreCalculationSpeedProblemStatistic.class,
         BestSolutionMutationProblemStatistic.class,
         MoveCountPerStepProblemStatistic.class,
-        MemoryUseProblemStatistic.class
+        MemoryUseProblemStatistic.class,
+        AllocationRateProblemStatistic.class,
+        CpuTimeProblemStatistic.class,
+        GarbageCollectionProblemStatistic.class,
+        CompilationTimeProblemStatistic.class
 })
 public abstract class ProblemStatistic {
 
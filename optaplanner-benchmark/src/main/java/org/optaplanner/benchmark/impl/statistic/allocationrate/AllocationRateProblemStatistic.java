@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import java.awt.BasicStroke;
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+
+/**
+ * Charts the bytes allocated per second by the solver thread and move threads of every solver,
+ * and the bytes allocated per score calculation, to put the score calculation speed statistic in perspective.
+ * Unlike the memory use statistic, it is not affected by other benchmarks that run in parallel.
+ */
+public class AllocationRateProblemStatistic extends ProblemStatistic {
+
+    protected List<File> graphFileList = null;
+
+    public AllocationRateProblemStatistic(ProblemBenchmarkResult problemBenchmarkResult) {
+        super(problemBenchmarkResult, ProblemStatisticType.ALLOCATION_RATE);
+    }
+
+    @Override
+    public SubSingleStatistic createSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        return new AllocationRateSubSingleStatistic(subSingleBenchmarkResult);
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Locale locale = benchmarkReport.getLocale();
+        XYPlot allocationRatePlot = createPlot(locale, "Allocation rate (bytes per second)");
+        XYPlot allocatedBytesPerScoreCalculationPlot = createPlot(locale, "Allocated bytes per score calculation");
+        int seriesIndex = 0;
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            String seriesName = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
+            XYSeries allocationRateSeries = new XYSeries(seriesName);
+            XYSeries allocatedBytesPerScoreCalculationSeries = new XYSeries(seriesName);
+            XYItemRenderer renderer = new XYLineAndShapeRenderer();
+            if (singleBenchmarkResult.hasAllSuccess()) {
+                AllocationRateSubSingleStatistic subSingleStatistic =
+                        (AllocationRateSubSingleStatistic) singleBenchmarkResult
+                                .getSubSingleStatistic(problemStatisticType);
+                List<AllocationRateStatisticPoint> points = subSingleStatistic.getPointList();
+                for (AllocationRateStatisticPoint point : points) {
+                    allocationRateSeries.add(point.getTimeMillisSpent(), point.getAllocationRate());
+                    long allocatedBytesPerScoreCalculation = point.getAllocatedBytesPerScoreCalculation();
+                    if (allocatedBytesPerScoreCalculation != AllocationRateStatisticPoint.NOT_AVAILABLE) {
+                        allocatedBytesPerScoreCalculationSeries.add(point.getTimeMillisSpent(),
+                                allocatedBytesPerScoreCalculation);
+                    }
+                }
+            }
+            allocationRatePlot.setDataset(seriesIndex, new XYSeriesCollection(allocationRateSeries));
+            allocatedBytesPerScoreCalculationPlot.setDataset(seriesIndex,
+                    new XYSeriesCollection(allocatedBytesPerScoreCalculationSeries));
+
+            if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
+                // Make the favorite more obvious
+                renderer.setSeriesStroke(0, new BasicStroke(2.0f));
+            }
+            allocationRatePlot.setRenderer(seriesIndex, renderer);
+            allocatedBytesPerScoreCalculationPlot.setRenderer(seriesIndex, renderer);
+            seriesIndex++;
+        }
+        graphFileList = new ArrayList<>(2);
+        JFreeChart allocationRateChart = new JFreeChart(
+                problemBenchmarkResult.getName() + " allocation rate statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, allocationRatePlot, true);
+        graphFileList.add(writeChartToImageFile(allocationRateChart,
+                problemBenchmarkResult.getName() + "AllocationRateStatistic"));
+        JFreeChart allocatedBytesPerScoreCalculationChart = new JFreeChart(
+                problemBenchmarkResult.getName() + " allocated bytes per score calculation statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, allocatedBytesPerScoreCalculationPlot, true);
+        graphFileList.add(writeChartToImageFile(allocatedBytesPerScoreCalculationChart,
+                problemBenchmarkResult.getName() + "AllocatedBytesPerScoreCalculationStatistic"));
+    }
+
+    private XYPlot createPlot(Locale locale, String yAxisLabel) {
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis(yAxisLabel);
+        yAxis.setNumberFormatOverride(NumberFormat.getInstance(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        return plot;
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class AllocationRateStatisticPoint extends StatisticPoint {
+
+    /**
+     * The allocated bytes per score calculation are not available if move threads calculate the scores.
+     */
+    public static final long NOT_AVAILABLE = -1L;
+    public static final String NOT_AVAILABLE_CSV_VALUE = "N/A";
+
+    private final long timeMillisSpent;
+    private final long allocationRate;
+    private final long allocatedBytesPerScoreCalculation;
+
+    public AllocationRateStatisticPoint(long timeMillisSpent, long allocationRate, long allocatedBytesPerScoreCalculation) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.allocationRate = allocationRate;
+        this.allocatedBytesPerScoreCalculation = allocatedBytesPerScoreCalculation;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public long getAllocationRate() {
+        return allocationRate;
+    }
+
+    /**
+     * @return {@code >= 0} or {@link #NOT_AVAILABLE}
+     */
+    public long getAllocatedBytesPerScoreCalculation() {
+        return allocatedBytesPerScoreCalculation;
+    }
+
+    @Override
+    public String toCsvLine() {
+        if (allocatedBytesPerScoreCalculation == NOT_AVAILABLE) {
+            return buildCsvLineWithLongs(timeMillisSpent, allocationRate) + "," + NOT_AVAILABLE_CSV_VALUE;
+        }
+        return buildCsvLineWithLongs(timeMillisSpent, allocationRate, allocatedBytesPerScoreCalculation);
+    }
+
+}
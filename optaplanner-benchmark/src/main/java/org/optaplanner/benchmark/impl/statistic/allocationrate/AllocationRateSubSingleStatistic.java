@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
+import org.optaplanner.core.impl.partitionedsearch.scope.PartitionedSearchStepScope;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Measures the heap allocations of the solver thread and its move threads,
+ * so (unlike the memory use statistic) other solvers running in parallel in the same JVM don't pollute it.
+ * Allocations by partition threads are not included,
+ * so during partitioned search the allocated bytes per score calculation are not available.
+ */
+public class AllocationRateSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, AllocationRateStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    private final AllocationRateSubSingleStatisticListener listener;
+
+    public AllocationRateSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public AllocationRateSubSingleStatistic(SubSingleBenchmarkResult benchmarkResult, long timeMillisThresholdInterval) {
+        super(benchmarkResult, ProblemStatisticType.ALLOCATION_RATE);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+        listener = new AllocationRateSubSingleStatisticListener();
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            logger.warn("The subSingleStatistic ({}) is ignored because this JVM does not support"
+                    + " measuring the allocated memory of a thread.", getStatisticType());
+            return;
+        }
+        listener.threadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+    }
+
+    private class AllocationRateSubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private com.sun.management.ThreadMXBean threadMXBean;
+        /**
+         * The last known allocated bytes per move thread id, also of the move threads of ended phases.
+         */
+        private final Map<Long, Long> moveThreadAllocatedBytesMap = new HashMap<>();
+
+        private long nextTimeMillisThreshold = timeMillisThresholdInterval;
+        private long lastTimeMillisSpent = 0L;
+        private long lastAllocatedBytes = 0L;
+        private long lastCalculationCount = 0L;
+
+        @Override
+        public void solvingStarted(SolverScope<Solution_> solverScope) {
+            lastAllocatedBytes = calculateAllocatedBytes(solverScope);
+        }
+
+        @Override
+        public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+            // The move threads are still alive, so this is their last chance to be measured
+            updateMoveThreadAllocatedBytes(phaseScope.getSolverScope());
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                SolverScope<Solution_> solverScope = stepScope.getPhaseScope().getSolverScope();
+                long allocatedBytes = calculateAllocatedBytes(solverScope);
+                long calculationCount = calculateCalculationCount(solverScope);
+                long allocatedBytesInterval = allocatedBytes - lastAllocatedBytes;
+                long calculationCountInterval = calculationCount - lastCalculationCount;
+                long timeMillisSpentInterval = timeMillisSpent - lastTimeMillisSpent;
+                if (timeMillisSpentInterval == 0L) {
+                    // Avoid divide by zero exception on a fast CPU
+                    timeMillisSpentInterval = 1L;
+                }
+                long allocationRate = allocatedBytesInterval * 1000L / timeMillisSpentInterval;
+                long allocatedBytesPerScoreCalculation;
+                if (stepScope instanceof PartitionedSearchStepScope || calculationCountInterval == 0L) {
+                    // The partition threads calculate the scores, but their allocations aren't measured
+                    allocatedBytesPerScoreCalculation = AllocationRateStatisticPoint.NOT_AVAILABLE;
+                } else {
+                    allocatedBytesPerScoreCalculation = allocatedBytesInterval / calculationCountInterval;
+                }
+                pointList.add(new AllocationRateStatisticPoint(timeMillisSpent,
+                        allocationRate, allocatedBytesPerScoreCalculation));
+                lastAllocatedBytes = allocatedBytes;
+                lastCalculationCount = calculationCount;
+
+                lastTimeMillisSpent = timeMillisSpent;
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+        /**
+         * Must be called on the solver thread.
+         *
+         * @param solverScope never null
+         * @return {@code >= 0}
+         */
+        private long calculateAllocatedBytes(SolverScope<Solution_> solverScope) {
+            updateMoveThreadAllocatedBytes(solverScope);
+            long allocatedBytes = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            for (long moveThreadAllocatedBytes : moveThreadAllocatedBytesMap.values()) {
+                allocatedBytes += moveThreadAllocatedBytes;
+            }
+            return allocatedBytes;
+        }
+
+        private void updateMoveThreadAllocatedBytes(SolverScope<Solution_> solverScope) {
+            List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList = solverScope.getMoveThreadRunnerList();
+            if (moveThreadRunnerList.isEmpty()) {
+                return;
+            }
+            long[] threadIds = moveThreadRunnerList.stream()
+                    .mapToLong(MoveThreadRunner::getThreadId)
+                    .filter(threadId -> threadId >= 0L)
+                    .toArray();
+            long[] allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadIds);
+            for (int i = 0; i < threadIds.length; i++) {
+                // A thread that already died returns -1, so keep its last known value
+                if (allocatedBytes[i] >= 0L) {
+                    moveThreadAllocatedBytesMap.put(threadIds[i], allocatedBytes[i]);
+                }
+            }
+        }
+
+        /**
+         * Unlike {@link SolverScope#getScoreCalculationCount()},
+         * includes the score calculations of the move threads of the current phase.
+         *
+         * @param solverScope never null
+         * @return {@code >= 0}
+         */
+        private long calculateCalculationCount(SolverScope<Solution_> solverScope) {
+            long calculationCount = solverScope.getScoreCalculationCount();
+            for (MoveThreadRunner<Solution_, ?> moveThreadRunner : solverScope.getMoveThreadRunnerList()) {
+                calculationCount += moveThreadRunner.getLastStepCalculationCount();
+            }
+            return calculationCount;
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return AllocationRateStatisticPoint.buildCsvLine("timeMillisSpent", "allocationRate",
+                "allocatedBytesPerScoreCalculation");
+    }
+
+    @Override
+    protected AllocationRateStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        String allocatedBytesPerScoreCalculation = csvLine.get(2);
+        return new AllocationRateStatisticPoint(Long.parseLong(csvLine.get(0)), Long.parseLong(csvLine.get(1)),
+                allocatedBytesPerScoreCalculation.equals(AllocationRateStatisticPoint.NOT_AVAILABLE_CSV_VALUE)
+                        ? AllocationRateStatisticPoint.NOT_AVAILABLE
+                        : Long.parseLong(allocatedBytesPerScoreCalculation));
+    }
+
+}
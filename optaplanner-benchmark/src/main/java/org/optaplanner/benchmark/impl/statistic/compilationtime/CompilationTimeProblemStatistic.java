@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.compilationtime;
+
+import java.awt.BasicStroke;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+
+/**
+ * Charts the time spent on JIT compilation by the JVM since the solver started.
+ */
+public class CompilationTimeProblemStatistic extends ProblemStatistic {
+
+    protected File graphFile = null;
+
+    public CompilationTimeProblemStatistic(ProblemBenchmarkResult problemBenchmarkResult) {
+        super(problemBenchmarkResult, ProblemStatisticType.COMPILATION_TIME);
+    }
+
+    @Override
+    public SubSingleStatistic createSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        return new CompilationTimeSubSingleStatistic(subSingleBenchmarkResult);
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return Collections.singletonList(graphFile);
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("JIT compilation time spent");
+        yAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        int seriesIndex = 0;
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            XYSeries series = new XYSeries(singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix());
+            XYItemRenderer renderer = new XYLineAndShapeRenderer();
+            if (singleBenchmarkResult.hasAllSuccess()) {
+                CompilationTimeSubSingleStatistic subSingleStatistic =
+                        (CompilationTimeSubSingleStatistic) singleBenchmarkResult
+                                .getSubSingleStatistic(problemStatisticType);
+                List<CompilationTimeStatisticPoint> points = subSingleStatistic.getPointList();
+                for (CompilationTimeStatisticPoint point : points) {
+                    series.add(point.getTimeMillisSpent(), point.getCompilationTimeMillisSpent());
+                }
+            }
+            plot.setDataset(seriesIndex, new XYSeriesCollection(series));
+
+            if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
+                // Make the favorite more obvious
+                renderer.setSeriesStroke(0, new BasicStroke(2.0f));
+            }
+            plot.setRenderer(seriesIndex, renderer);
+            seriesIndex++;
+        }
+        JFreeChart chart = new JFreeChart(problemBenchmarkResult.getName() + " compilation time statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFile = writeChartToImageFile(chart, problemBenchmarkResult.getName() + "CompilationTimeStatistic");
+    }
+
+    @Override
+    protected void fillWarningList() {
+        if (problemBenchmarkResult.getPlannerBenchmarkResult().hasMultipleParallelBenchmarks()) {
+            warningList.add("This compilation time statistic shows the JIT compilation of the entire JVM,"
+                    + " so it includes all benchmarks that ran in parallel, due to parallelBenchmarkCount ("
+                    + problemBenchmarkResult.getPlannerBenchmarkResult().getParallelBenchmarkCount() + ").");
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.compilationtime;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+public class CompilationTimeSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, CompilationTimeStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    private final CompilationTimeSubSingleStatisticListener listener;
+
+    public CompilationTimeSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public CompilationTimeSubSingleStatistic(SubSingleBenchmarkResult benchmarkResult,
+            long timeMillisThresholdInterval) {
+        super(benchmarkResult, ProblemStatisticType.COMPILATION_TIME);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+        listener = new CompilationTimeSubSingleStatisticListener();
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        CompilationMXBean compilationMXBean = ManagementFactory.getCompilationMXBean();
+        if (compilationMXBean == null || !compilationMXBean.isCompilationTimeMonitoringSupported()) {
+            logger.warn("The subSingleStatistic ({}) is ignored because this JVM does not support"
+                    + " measuring the JIT compilation time.", getStatisticType());
+            return;
+        }
+        listener.compilationMXBean = compilationMXBean;
+        ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+    }
+
+    private class CompilationTimeSubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private CompilationMXBean compilationMXBean;
+
+        private long nextTimeMillisThreshold = timeMillisThresholdInterval;
+        private long startingCompilationTimeMillis = 0L;
+
+        @Override
+        public void solvingStarted(SolverScope<Solution_> solverScope) {
+            startingCompilationTimeMillis = compilationMXBean.getTotalCompilationTime();
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                long compilationTimeMillisSpent = compilationMXBean.getTotalCompilationTime()
+                        - startingCompilationTimeMillis;
+                pointList.add(new CompilationTimeStatisticPoint(timeMillisSpent, compilationTimeMillisSpent));
+
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return CompilationTimeStatisticPoint.buildCsvLine("timeMillisSpent", "compilationTimeMillisSpent");
+    }
+
+    @Override
+    protected CompilationTimeStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new CompilationTimeStatisticPoint(Long.parseLong(csvLine.get(0)),
+                Long.parseLong(csvLine.get(1)));
+    }
+
+}
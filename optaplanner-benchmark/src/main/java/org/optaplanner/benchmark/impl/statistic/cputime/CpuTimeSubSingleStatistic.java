@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.cputime;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Measures the CPU time of the solver thread only.
+ * CPU time spent by move threads is not included.
+ */
+public class CpuTimeSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, CpuTimeStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    private final CpuTimeSubSingleStatisticListener listener;
+
+    public CpuTimeSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public CpuTimeSubSingleStatistic(SubSingleBenchmarkResult benchmarkResult, long timeMillisThresholdInterval) {
+        super(benchmarkResult, ProblemStatisticType.CPU_TIME);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+        listener = new CpuTimeSubSingleStatisticListener();
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            logger.warn("The subSingleStatistic ({}) is ignored because this JVM does not support"
+                    + " measuring the CPU time of a thread.", getStatisticType());
+            return;
+        }
+        listener.threadMXBean = threadMXBean;
+        ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+    }
+
+    private class CpuTimeSubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private ThreadMXBean threadMXBean;
+
+        private long nextTimeMillisThreshold = timeMillisThresholdInterval;
+        private long startingCpuTimeNanos = 0L;
+
+        @Override
+        public void solvingStarted(SolverScope<Solution_> solverScope) {
+            startingCpuTimeNanos = threadMXBean.getCurrentThreadCpuTime();
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                long cpuTimeMillisSpent = (threadMXBean.getCurrentThreadCpuTime() - startingCpuTimeNanos) / 1_000_000L;
+                pointList.add(new CpuTimeStatisticPoint(timeMillisSpent, cpuTimeMillisSpent));
+
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return CpuTimeStatisticPoint.buildCsvLine("timeMillisSpent", "cpuTimeMillisSpent");
+    }
+
+    @Override
+    protected CpuTimeStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new CpuTimeStatisticPoint(Long.parseLong(csvLine.get(0)),
+                Long.parseLong(csvLine.get(1)));
+    }
+
+}
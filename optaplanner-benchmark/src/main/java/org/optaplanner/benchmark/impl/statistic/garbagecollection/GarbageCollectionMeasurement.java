@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.garbagecollection;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+public class GarbageCollectionMeasurement {
+
+    /**
+     * @return never null, the sum over all garbage collectors of the entire JVM since it started
+     */
+    public static GarbageCollectionMeasurement create() {
+        long count = 0L;
+        long timeMillis = 0L;
+        for (GarbageCollectorMXBean garbageCollectorMXBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // A garbage collector returns -1 if it doesn't support that measurement
+            count += Math.max(garbageCollectorMXBean.getCollectionCount(), 0L);
+            timeMillis += Math.max(garbageCollectorMXBean.getCollectionTime(), 0L);
+        }
+        return new GarbageCollectionMeasurement(count, timeMillis);
+    }
+
+    private final long count;
+    private final long timeMillis;
+
+    public GarbageCollectionMeasurement(long count, long timeMillis) {
+        this.count = count;
+        this.timeMillis = timeMillis;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofiling;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.labels.StandardCategoryItemLabelGenerator;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.stream.ConstraintProfile;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Measures the incremental calculation cost (time and tuple or match churn) of every constraint
+ * of a {@link ConstraintStreamScoreDirector}.
+ * Every point holds the cumulative cost of 1 constraint since solving started.
+ */
+public class ConstraintProfilingSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ConstraintProfilingStatisticPoint> {
+
+    /**
+     * Sampling more often bloats the CSV file, because every sample holds a point per constraint.
+     */
+    private static final long TIME_MILLIS_THRESHOLD_INTERVAL = 1000L;
+
+    @XmlTransient
+    private ConstraintProfilingSubSingleStatisticListener listener;
+
+    @XmlTransient
+    protected List<File> graphFileList = null;
+
+    public ConstraintProfilingSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.CONSTRAINT_PROFILING);
+        listener = new ConstraintProfilingSubSingleStatisticListener();
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        InnerScoreDirector<Solution_, ?> scoreDirector = defaultSolver.getSolverScope().getScoreDirector();
+        if (scoreDirector instanceof ConstraintStreamScoreDirector) {
+            ((ConstraintStreamScoreDirector<Solution_, ?>) scoreDirector).setConstraintProfilingEnabled(true);
+        } else {
+            logger.warn("The subSingleStatistic ({}) cannot function properly"
+                    + " because the ScoreDirector ({}) does not use constraint streams.",
+                    singleStatisticType, scoreDirector.getClass().getSimpleName());
+        }
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+    }
+
+    private class ConstraintProfilingSubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private long nextTimeMillisThreshold = TIME_MILLIS_THRESHOLD_INTERVAL;
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                addPoints(stepScope.getScoreDirector(), timeMillisSpent);
+
+                nextTimeMillisThreshold += TIME_MILLIS_THRESHOLD_INTERVAL;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+        @Override
+        public void solvingEnded(SolverScope<Solution_> solverScope) {
+            addPoints(solverScope.getScoreDirector(), solverScope.calculateTimeMillisSpentUpToNow());
+        }
+
+        private void addPoints(InnerScoreDirector<Solution_, ?> scoreDirector, long timeMillisSpent) {
+            if (!(scoreDirector instanceof ConstraintStreamScoreDirector)) {
+                return;
+            }
+            for (ConstraintProfile constraintProfile : ((ConstraintStreamScoreDirector<Solution_, ?>) scoreDirector)
+                    .getConstraintProfileMap().values()) {
+                pointList.add(new ConstraintProfilingStatisticPoint(
+                        timeMillisSpent,
+                        constraintProfile.getConstraintPackage(),
+                        constraintProfile.getConstraintName(),
+                        constraintProfile.getTimeNanosSpent(),
+                        constraintProfile.getChurnCount()));
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return ConstraintProfilingStatisticPoint.buildCsvLine(
+                "timeMillisSpent", "constraintPackage", "constraintName",
+                "constraintTimeNanosSpent", "constraintChurnCount");
+    }
+
+    @Override
+    protected ConstraintProfilingStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintProfilingStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), csvLine.get(2),
+                Long.parseLong(csvLine.get(3)), Long.parseLong(csvLine.get(4)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        // The points are cumulative, so the last point of each constraint holds its total cost
+        Map<String, ConstraintProfilingStatisticPoint> constraintIdToLastPointMap = new LinkedHashMap<>();
+        for (ConstraintProfilingStatisticPoint point : getPointList()) {
+            constraintIdToLastPointMap.put(point.getConstraintId(), point);
+        }
+        if (constraintIdToLastPointMap.isEmpty()) {
+            graphFileList = Collections.emptyList();
+            return;
+        }
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        // The most expensive constraint first
+        constraintIdToLastPointMap.values().stream()
+                .sorted(Comparator.comparingLong(ConstraintProfilingStatisticPoint::getConstraintTimeNanosSpent)
+                        .reversed())
+                .forEach(point -> dataset.addValue(point.getConstraintTimeNanosSpent() / 1_000_000.0,
+                        "Time spent", point.getConstraintName()));
+        CategoryPlot plot = createPlot(benchmarkReport, dataset);
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " constraint profiling statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFileList = Collections.singletonList(writeChartToImageFile(chart, "ConstraintProfilingStatistic"));
+    }
+
+    private CategoryPlot createPlot(BenchmarkReport benchmarkReport, DefaultCategoryDataset dataset) {
+        Locale locale = benchmarkReport.getLocale();
+        CategoryAxis xAxis = new CategoryAxis("Constraint");
+        NumberAxis yAxis = new NumberAxis("Time spent (ms)");
+        NumberFormat numberFormat = NumberFormat.getInstance(locale);
+        yAxis.setNumberFormatOverride(numberFormat);
+        BarRenderer renderer = new BarRenderer();
+        renderer.setDefaultItemLabelGenerator(new StandardCategoryItemLabelGenerator(
+                StandardCategoryItemLabelGenerator.DEFAULT_LABEL_FORMAT_STRING, numberFormat));
+        renderer.setDefaultItemLabelsVisible(true);
+        CategoryPlot plot = new CategoryPlot(dataset, xAxis, yAxis, renderer);
+        // Horizontal bars, so long constraint names remain readable
+        plot.setOrientation(PlotOrientation.HORIZONTAL);
+        return plot;
+    }
+
+}
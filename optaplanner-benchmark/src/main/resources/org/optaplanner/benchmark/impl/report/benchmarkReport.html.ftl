@@ -29,6 +29,9 @@
     <#elseif solverBenchmarkResult.hasAnyInfeasibleScore()>
         <span class="badge badge-warning" data-toggle="tooltip" title="Has an infeasible score">!</span>
     </#if>
+    <#if solverBenchmarkResult.racingEliminationRoundCount??>
+        <span class="badge badge-info" data-toggle="tooltip" title="Eliminated by racing after ${solverBenchmarkResult.racingEliminationRoundCount} rounds">E</span>
+    </#if>
 </#macro>
 <#macro addProlblemBenchmarkBadges problemBenchmarkResult>
     <#if problemBenchmarkResult.hasAnyFailure()>
@@ -614,9 +617,11 @@
                                                     </div>
                                                 </div>
                                             <#else>
-                                                <div class="benchmark-chart">
-                                                    <img src="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(problemStatistic.graphFile)}"/>
-                                                </div>
+                                                <#list problemStatistic.graphFileList as graphFile>
+                                                    <div class="benchmark-chart">
+                                                        <img src="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(graphFile)}"/>
+                                                    </div>
+                                                </#list>
                                             </#if>
                                         <#else>
                                             <p>Graph unavailable (statistic unavailable for this solver configuration or benchmark failed).</p>
@@ -744,6 +749,12 @@
                             <td>Differs</td>
                         </#if>
                     </tr>
+                    <#if benchmarkReport.plannerBenchmarkResult.racingSignificanceLevel??>
+                    <tr>
+                        <th>Racing significance level</th>
+                        <td>${benchmarkReport.plannerBenchmarkResult.racingSignificanceLevel}</td>
+                    </tr>
+                    </#if>
                     <tr>
                         <th>Benchmark time spent</th>
                         <#if benchmarkReport.plannerBenchmarkResult.benchmarkTimeMillisSpent??>
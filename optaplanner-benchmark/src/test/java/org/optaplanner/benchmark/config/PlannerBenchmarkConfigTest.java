@@ -27,6 +27,8 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
@@ -164,6 +166,31 @@ class PlannerBenchmarkConfigTest {
         assertThat(config.calculateWarmUpTimeMillisSpentLimit()).isEqualTo(3_725_753L);
     }
 
+    @Test
+    void invalidRacingSignificanceLevel() {
+        PlannerBenchmarkConfig config = new PlannerBenchmarkConfig();
+        config.setSolverBenchmarkConfigList(Collections.singletonList(new SolverBenchmarkConfig()));
+        config.setRacingSignificanceLevel(1.5);
+        assertThatIllegalArgumentException().isThrownBy(config::validate);
+    }
+
+    @Test
+    void forkedJvmWithExtraProblems() {
+        PlannerBenchmarkConfig config = new PlannerBenchmarkConfig();
+        config.setForkedJvmEnabled(true);
+        TestdataSolution[] extraProblems = { new TestdataSolution("s1") };
+        assertThatIllegalArgumentException().isThrownBy(() -> config.buildPlannerBenchmark(extraProblems))
+                .withMessageContaining("forkedJvmEnabled");
+    }
+
+    @Test
+    void forkedJvmWithClassLoader() {
+        PlannerBenchmarkConfig config = new PlannerBenchmarkConfig(new URLClassLoader(new URL[0]));
+        config.setForkedJvmEnabled(true);
+        assertThatIllegalArgumentException().isThrownBy(() -> config.buildPlannerBenchmark(new TestdataSolution[0]))
+                .withMessageContaining("classLoader");
+    }
+
     @ParameterizedTest
     @ValueSource(strings = { TEST_PLANNER_BENCHMARK_CONFIG_WITHOUT_NAMESPACE, TEST_PLANNER_BENCHMARK_CONFIG_WITH_NAMESPACE })
     void xmlConfigFileRemainsSameAfterReadWrite(String xmlBenchmarkConfigResource) throws IOException {
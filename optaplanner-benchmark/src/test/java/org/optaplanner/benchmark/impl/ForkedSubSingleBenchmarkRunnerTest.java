@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
+import org.optaplanner.benchmark.config.PlannerBenchmarkConfig;
+import org.optaplanner.benchmark.config.SolverBenchmarkConfig;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+public class ForkedSubSingleBenchmarkRunnerTest {
+
+    @BeforeAll
+    static void setup() throws IOException {
+        File benchmarkTestDir = new File("target/test/benchmarkTest/");
+        benchmarkTestDir.mkdirs();
+        new File(benchmarkTestDir, "input.xml").createNewFile();
+    }
+
+    @Test
+    void childJvmClassPathWithCustomContextClassLoader() {
+        Thread thread = Thread.currentThread();
+        ClassLoader originalContextClassLoader = thread.getContextClassLoader();
+        // For example mvn exec:java or a fat jar launcher, which load classes that aren't on the java.class.path
+        thread.setContextClassLoader(new URLClassLoader(new URL[0], originalContextClassLoader));
+        try {
+            assertThatIllegalArgumentException().isThrownBy(ForkedSubSingleBenchmarkRunner::validateChildJvmClassPath)
+                    .withMessageContaining("classLoader");
+        } finally {
+            thread.setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
+    @Test
+    void benchmarkInChildJvms() {
+        PlannerBenchmarkConfig benchmarkConfig = PlannerBenchmarkConfig.createFromXmlResource(
+                "org/optaplanner/benchmark/api/testdataBenchmarkConfig.xml");
+        benchmarkConfig.setForkedJvmEnabled(true);
+        SolverBenchmarkConfig solverBenchmarkConfig = benchmarkConfig.getSolverBenchmarkConfigList().get(0);
+        solverBenchmarkConfig.setSubSingleCount(2);
+        SolverConfig solverConfig = solverBenchmarkConfig.getSolverConfig();
+        solverConfig.setTerminationConfig(null);
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        solverConfig.setPhaseConfigList(Arrays.asList(new ConstructionHeuristicPhaseConfig(), localSearchPhaseConfig));
+        DefaultPlannerBenchmark plannerBenchmark = (DefaultPlannerBenchmark) PlannerBenchmarkFactory
+                .create(benchmarkConfig).buildPlannerBenchmark();
+        assertThat(plannerBenchmark.isForkedJvmEnabled()).isTrue();
+        plannerBenchmark.benchmark();
+
+        List<ProblemBenchmarkResult> problemBenchmarkResultList = plannerBenchmark.getPlannerBenchmarkResult()
+                .getUnifiedProblemBenchmarkResultList();
+        assertThat(problemBenchmarkResultList).hasSize(1);
+        ProblemBenchmarkResult<?> problemBenchmarkResult = problemBenchmarkResultList.get(0);
+        // The child JVMs report the problem scale back
+        assertThat(problemBenchmarkResult.getEntityCount()).isPositive();
+        assertThat(problemBenchmarkResult.getProblemScale()).isPositive();
+        SingleBenchmarkResult singleBenchmarkResult = problemBenchmarkResult.getSingleBenchmarkResultList().get(0);
+        assertThat(singleBenchmarkResult.hasAllSuccess()).isTrue();
+        List<SubSingleBenchmarkResult> subSingleBenchmarkResultList =
+                singleBenchmarkResult.getSubSingleBenchmarkResultList();
+        assertThat(subSingleBenchmarkResultList).hasSize(2);
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+            assertThat(subSingleBenchmarkResult.getSucceeded()).isTrue();
+            assertThat(subSingleBenchmarkResult.getScore()).isNotNull();
+            assertThat(subSingleBenchmarkResult.getScore().isSolutionInitialized()).isTrue();
+            assertThat(subSingleBenchmarkResult.getTimeMillisSpent()).isNotNegative();
+            assertThat(subSingleBenchmarkResult.getScoreCalculationCount()).isPositive();
+        }
+    }
+
+}
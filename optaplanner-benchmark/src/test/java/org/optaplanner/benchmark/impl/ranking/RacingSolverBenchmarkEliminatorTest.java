@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+
+public class RacingSolverBenchmarkEliminatorTest {
+
+    private final ProblemBenchmarkResult problemBenchmarkResult = mock(ProblemBenchmarkResult.class);
+
+    @Test
+    public void eliminateDominated() {
+        SolverBenchmarkResult a = buildSolverBenchmarkResult(-10, -10, -10, -10, -10, -10, -10, -10);
+        SolverBenchmarkResult b = buildSolverBenchmarkResult(-20, -20, -20, -20, -20, -20, -20, -20);
+        SolverBenchmarkResult c = buildSolverBenchmarkResult(-5, -15, -5, -15, -5, -15, -5, -15);
+        RacingSolverBenchmarkEliminator eliminator = new RacingSolverBenchmarkEliminator(0.05, 3);
+        assertThat(eliminator.getNextLookRoundCount()).isEqualTo(7);
+        assertThat(eliminator.eliminate(Arrays.asList(a, b, c), 6)).isEmpty();
+        assertThat(eliminator.eliminate(Arrays.asList(a, b, c), 7)).containsExactly(b);
+    }
+
+    @Test
+    public void looksAtDoublingRoundCounts() {
+        RacingSolverBenchmarkEliminator eliminator = new RacingSolverBenchmarkEliminator(0.05, 2);
+        // 0.05 / 2 needs 6 losses in a row
+        assertThat(eliminator.getNextLookRoundCount()).isEqualTo(6);
+        SolverBenchmarkResult a = buildSolverBenchmarkResult(-10, -10, -10, -10, -10, -10, -10, -10);
+        SolverBenchmarkResult b = buildSolverBenchmarkResult(-20, -20, -20, -20, -20, -20, -20, -20);
+        assertThat(eliminator.eliminate(Arrays.asList(a, b), 5)).isEmpty();
+        assertThat(eliminator.eliminate(Arrays.asList(a, b), 6)).containsExactly(b);
+        assertThat(eliminator.getNextLookRoundCount()).isEqualTo(12);
+        // A round count that jumps over a look still looks once
+        assertThat(eliminator.eliminate(Arrays.asList(a, b), 30)).containsExactly(b);
+        assertThat(eliminator.getNextLookRoundCount()).isEqualTo(48);
+    }
+
+    @Test
+    public void laterLooksSpendLessSignificanceLevel() {
+        // 6 losses out of 6 has a p-value of 0.015625
+        SolverBenchmarkResult a = buildSolverBenchmarkResult(-10, -10, -10, -10, -10, -10);
+        SolverBenchmarkResult b = buildSolverBenchmarkResult(-20, -20, -20, -20, -20, -20);
+        RacingSolverBenchmarkEliminator eliminator = new RacingSolverBenchmarkEliminator(0.05, 2);
+        // The first look tests at 0.025
+        assertThat(eliminator.eliminate(Arrays.asList(a, b), 6)).containsExactly(b);
+        // The second look tests at 0.0125
+        assertThat(eliminator.eliminate(Arrays.asList(a, b), 12)).isEmpty();
+    }
+
+    @Test
+    public void eliminateNothingWithoutEnoughRuns() {
+        SolverBenchmarkResult a = buildSolverBenchmarkResult(-10, -10, -10, -10);
+        SolverBenchmarkResult b = buildSolverBenchmarkResult(-20, -20, -20, -20);
+        RacingSolverBenchmarkEliminator eliminator = new RacingSolverBenchmarkEliminator(0.05, 2);
+        assertThat(eliminator.eliminate(Arrays.asList(a, b), 6)).isEmpty();
+        assertThat(eliminator.eliminate(Collections.singletonList(a), 12)).isEmpty();
+    }
+
+    @Test
+    public void eliminateIgnoresSubSingleBenchmarksThatHaveNotRun() {
+        SolverBenchmarkResult a = buildSolverBenchmarkResult(-10, -10, -10, -10, -10, -10, -10, -10);
+        SolverBenchmarkResult b = buildSolverBenchmarkResult(-20, -20, -20, -20, -20, -20, -20, -20);
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : b.getSingleBenchmarkResultList().get(0)
+                .getSubSingleBenchmarkResultList().subList(4, 8)) {
+            subSingleBenchmarkResult.setSucceeded(null);
+        }
+        RacingSolverBenchmarkEliminator eliminator = new RacingSolverBenchmarkEliminator(0.05, 2);
+        assertThat(eliminator.eliminate(Arrays.asList(a, b), 6)).isEmpty();
+    }
+
+    @Test
+    public void invalidSignificanceLevel() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RacingSolverBenchmarkEliminator(0.0, 2));
+        assertThatIllegalArgumentException().isThrownBy(() -> new RacingSolverBenchmarkEliminator(1.0, 2));
+        assertThatIllegalArgumentException().isThrownBy(() -> new RacingSolverBenchmarkEliminator(0.05, 0));
+    }
+
+    @Test
+    public void calculateSignTestPValue() {
+        assertThat(RacingSolverBenchmarkEliminator.calculateSignTestPValue(0, 0)).isEqualTo(1.0, offset(1e-9));
+        assertThat(RacingSolverBenchmarkEliminator.calculateSignTestPValue(0, 5)).isEqualTo(1.0, offset(1e-9));
+        assertThat(RacingSolverBenchmarkEliminator.calculateSignTestPValue(3, 3)).isEqualTo(0.125, offset(1e-9));
+        assertThat(RacingSolverBenchmarkEliminator.calculateSignTestPValue(4, 5)).isEqualTo(0.1875, offset(1e-9));
+        assertThat(RacingSolverBenchmarkEliminator.calculateSignTestPValue(2000, 2000)).isEqualTo(0.0, offset(1e-9));
+    }
+
+    private SolverBenchmarkResult buildSolverBenchmarkResult(int... scores) {
+        SolverBenchmarkResult solverBenchmarkResult = new SolverBenchmarkResult(mock(PlannerBenchmarkResult.class));
+        solverBenchmarkResult.setScoreDefinition(new SimpleScoreDefinition());
+        SingleBenchmarkResult singleBenchmarkResult = new SingleBenchmarkResult(solverBenchmarkResult,
+                problemBenchmarkResult);
+        List<SubSingleBenchmarkResult> subSingleBenchmarkResultList = new ArrayList<>(scores.length);
+        for (int i = 0; i < scores.length; i++) {
+            SubSingleBenchmarkResult subSingleBenchmarkResult = new SubSingleBenchmarkResult(singleBenchmarkResult, i);
+            subSingleBenchmarkResult.setSucceeded(true);
+            subSingleBenchmarkResult.setScore(SimpleScore.of(scores[i]));
+            subSingleBenchmarkResultList.add(subSingleBenchmarkResult);
+        }
+        singleBenchmarkResult.setSubSingleBenchmarkResultList(subSingleBenchmarkResultList);
+        solverBenchmarkResult.setSingleBenchmarkResultList(Collections.singletonList(singleBenchmarkResult));
+        return solverBenchmarkResult;
+    }
+
+}
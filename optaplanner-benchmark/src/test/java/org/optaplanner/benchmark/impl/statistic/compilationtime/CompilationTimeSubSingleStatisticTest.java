@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.compilationtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+
+public class CompilationTimeSubSingleStatisticTest {
+
+    @Test
+    public void hibernateAndUnhibernatePointList(@TempDir File resultDirectory) {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = mock(SubSingleBenchmarkResult.class, RETURNS_DEEP_STUBS);
+        when(subSingleBenchmarkResult.getResultDirectory()).thenReturn(resultDirectory);
+        CompilationTimeSubSingleStatistic<Object> statistic =
+                new CompilationTimeSubSingleStatistic<>(subSingleBenchmarkResult);
+        statistic.setPointList(Arrays.asList(
+                new CompilationTimeStatisticPoint(1000L, 300L),
+                new CompilationTimeStatisticPoint(2000L, 340L)));
+        statistic.hibernatePointList();
+        assertThat(statistic.getPointList()).isNull();
+        assertThat(statistic.getCsvFile()).exists();
+
+        statistic.unhibernatePointList();
+        List<CompilationTimeStatisticPoint> pointList = statistic.getPointList();
+        assertThat(pointList).hasSize(2);
+        assertThat(pointList.get(0).getTimeMillisSpent()).isEqualTo(1000L);
+        assertThat(pointList.get(0).getCompilationTimeMillisSpent()).isEqualTo(300L);
+        assertThat(pointList.get(1).getTimeMillisSpent()).isEqualTo(2000L);
+        assertThat(pointList.get(1).getCompilationTimeMillisSpent()).isEqualTo(340L);
+    }
+
+}
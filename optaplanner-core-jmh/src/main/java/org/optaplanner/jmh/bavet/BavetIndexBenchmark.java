@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.jmh.bavet;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetComparisonIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetDoubleEqualsIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetEqualsAndComparisonIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetEqualsIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetSingleEqualsIndex;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Measures the {@link BavetIndex} operations that a Bavet join does for every changed fact:
+ * moving a tuple to other index properties and looking up the matching tuples of the other side.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BavetIndexBenchmark {
+
+    private static final int LOOKUP_COUNT = 1024;
+
+    @Param({ "SINGLE_EQUALS", "DOUBLE_EQUALS", "EQUALS", "COMPARISON", "EQUALS_AND_COMPARISON" })
+    public String indexType;
+
+    @Param({ "1000", "10000" })
+    public int tupleCount;
+
+    @Param({ "100" })
+    public int indexPropertyValueCount;
+
+    private BavetIndex<TestTuple> index;
+    private int indexPropertiesLength;
+    private TestTuple[] tuples;
+    private Object[] lookupIndexKeys;
+    private Random random;
+    private int tupleIndex;
+    private int lookupIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (indexType) {
+            case "SINGLE_EQUALS":
+                index = new BavetSingleEqualsIndex<>();
+                indexPropertiesLength = 1;
+                break;
+            case "DOUBLE_EQUALS":
+                index = new BavetDoubleEqualsIndex<>();
+                indexPropertiesLength = 2;
+                break;
+            case "EQUALS":
+                index = new BavetEqualsIndex<>();
+                indexPropertiesLength = 3;
+                break;
+            case "COMPARISON":
+                index = new BavetComparisonIndex<>(JoinerType.LESS_THAN);
+                indexPropertiesLength = 1;
+                break;
+            case "EQUALS_AND_COMPARISON":
+                index = new BavetEqualsAndComparisonIndex<>(JoinerType.LESS_THAN);
+                indexPropertiesLength = 2;
+                break;
+            default:
+                throw new IllegalStateException("The indexType (" + indexType + ") is not implemented.");
+        }
+        random = new Random(37);
+        tuples = new TestTuple[tupleCount];
+        for (int i = 0; i < tupleCount; i++) {
+            tuples[i] = new TestTuple(i);
+            index.put(buildIndexKey(), tuples[i]);
+        }
+        lookupIndexKeys = new Object[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            lookupIndexKeys[i] = buildIndexKey();
+        }
+        tupleIndex = 0;
+        lookupIndex = 0;
+    }
+
+    private Object buildIndexKey() {
+        if (indexPropertiesLength == 1) {
+            // The index key of a single joiner is the index property itself
+            return random.nextInt(indexPropertyValueCount);
+        }
+        Object[] indexProperties = new Object[indexPropertiesLength];
+        for (int i = 0; i < indexPropertiesLength; i++) {
+            indexProperties[i] = random.nextInt(indexPropertyValueCount);
+        }
+        return indexProperties;
+    }
+
+    @Benchmark
+    public void removeAndPut() {
+        TestTuple tuple = tuples[tupleIndex];
+        tupleIndex = (tupleIndex + 1) % tupleCount;
+        index.remove(tuple);
+        // Reuse the index properties of a lookup, so the benchmark measures the index and not the random generator
+        index.put(lookupIndexKeys[tupleIndex % LOOKUP_COUNT], tuple);
+    }
+
+    @Benchmark
+    public void getAndIterate(Blackhole blackhole) {
+        Set<TestTuple> tupleSet = index.get(lookupIndexKeys[lookupIndex]);
+        lookupIndex = (lookupIndex + 1) % LOOKUP_COUNT;
+        for (TestTuple tuple : tupleSet) {
+            blackhole.consume(tuple);
+        }
+    }
+
+    private static final class TestTuple implements BavetJoinBridgeTuple {
+
+        private final Object[] facts;
+        private Object indexKey;
+
+        private TestTuple(int id) {
+            facts = new Object[] { id };
+        }
+
+        @Override
+        public BavetNode getNode() {
+            return null;
+        }
+
+        @Override
+        public Object[] getFacts() {
+            return facts;
+        }
+
+        @Override
+        public Object getIndexKey() {
+            return indexKey;
+        }
+
+        @Override
+        public void setIndexKey(Object indexKey) {
+            this.indexKey = indexKey;
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.jmh.cloner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+import org.optaplanner.core.impl.domain.solution.cloner.GeneratedSolutionCloner;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.jmh.common.CloudBalancingFixture;
+
+/**
+ * Measures planning cloning, which happens for every new best solution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolutionClonerBenchmark {
+
+    @Param({ "REFLECTION", "GENERATED" })
+    public String clonerType;
+
+    @Param({ "100-300", "800-2400" })
+    public String scale;
+
+    private SolutionCloner<CloudBalance> solutionCloner;
+    private CloudBalance solution;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] sizes = scale.split("-");
+        solution = CloudBalancingFixture.buildInitializedSolution(Integer.parseInt(sizes[0]), Integer.parseInt(sizes[1]));
+        SolutionDescriptor<CloudBalance> solutionDescriptor =
+                SolutionDescriptor.buildSolutionDescriptor(CloudBalance.class, CloudProcess.class);
+        switch (clonerType) {
+            case "REFLECTION":
+                solutionCloner = new FieldAccessingSolutionCloner<>(solutionDescriptor);
+                break;
+            case "GENERATED":
+                solutionCloner = new GeneratedSolutionCloner<>(solutionDescriptor);
+                break;
+            default:
+                throw new IllegalStateException("The clonerType (" + clonerType + ") is not implemented.");
+        }
+    }
+
+    @Benchmark
+    public CloudBalance cloneSolution() {
+        return solutionCloner.cloneSolution(solution);
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.jmh.common;
+
+import java.util.List;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.DefaultSolverFactory;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.examples.cloudbalancing.domain.CloudComputer;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.examples.cloudbalancing.optional.score.CloudBalancingConstraintProvider;
+import org.optaplanner.examples.cloudbalancing.optional.score.CloudBalancingEasyScoreCalculator;
+import org.optaplanner.examples.cloudbalancing.optional.score.CloudBalancingIncrementalScoreCalculator;
+import org.optaplanner.examples.cloudbalancing.persistence.CloudBalancingGenerator;
+
+/**
+ * Builds the cloud balancing example as a fixture for the microbenchmarks.
+ */
+public final class CloudBalancingFixture {
+
+    public static final String SCORE_DRL = "org/optaplanner/examples/cloudbalancing/solver/cloudBalancingConstraints.drl";
+
+    /**
+     * The generated dataset is always the same for the same sizes, so the results of different runs are comparable.
+     * Every process is assigned to a computer round-robin, so the solution is initialized but not feasible.
+     *
+     * @param computerListSize {@code > 0}
+     * @param processListSize {@code >= 0}
+     * @return never null
+     */
+    public static CloudBalance buildInitializedSolution(int computerListSize, int processListSize) {
+        CloudBalance solution = new CloudBalancingGenerator(true).createCloudBalance(computerListSize, processListSize);
+        List<CloudComputer> computerList = solution.getComputerList();
+        List<CloudProcess> processList = solution.getProcessList();
+        for (int i = 0; i < processList.size(); i++) {
+            processList.get(i).setComputer(computerList.get(i % computerList.size()));
+        }
+        return solution;
+    }
+
+    public static SolverConfig buildSolverConfig(ScoreDirectorType scoreDirectorType) {
+        ScoreDirectorFactoryConfig scoreDirectorFactoryConfig = new ScoreDirectorFactoryConfig();
+        switch (scoreDirectorType) {
+            case EASY:
+                scoreDirectorFactoryConfig.setEasyScoreCalculatorClass(CloudBalancingEasyScoreCalculator.class);
+                break;
+            case INCREMENTAL:
+                scoreDirectorFactoryConfig.setIncrementalScoreCalculatorClass(CloudBalancingIncrementalScoreCalculator.class);
+                break;
+            case DROOLS:
+                scoreDirectorFactoryConfig.setScoreDrlList(List.of(SCORE_DRL));
+                break;
+            case BAVET:
+                scoreDirectorFactoryConfig.setConstraintProviderClass(CloudBalancingConstraintProvider.class);
+                scoreDirectorFactoryConfig.setConstraintStreamImplType(ConstraintStreamImplType.BAVET);
+                break;
+            case DROOLS_CONSTRAINT_STREAMS:
+                scoreDirectorFactoryConfig.setConstraintProviderClass(CloudBalancingConstraintProvider.class);
+                scoreDirectorFactoryConfig.setConstraintStreamImplType(ConstraintStreamImplType.DROOLS);
+                break;
+            default:
+                throw new IllegalStateException("The scoreDirectorType (" + scoreDirectorType + ") is not implemented.");
+        }
+        return new SolverConfig()
+                .withSolutionClass(CloudBalance.class)
+                .withEntityClasses(CloudProcess.class)
+                .withScoreDirectorFactory(scoreDirectorFactoryConfig);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static InnerScoreDirectorFactory<CloudBalance, HardSoftScore> buildScoreDirectorFactory(
+            ScoreDirectorType scoreDirectorType) {
+        DefaultSolverFactory<CloudBalance> solverFactory =
+                (DefaultSolverFactory<CloudBalance>) SolverFactory.<CloudBalance> create(buildSolverConfig(scoreDirectorType));
+        return (InnerScoreDirectorFactory<CloudBalance, HardSoftScore>) solverFactory.getScoreDirectorFactory();
+    }
+
+    /**
+     * @param scoreDirectorType never null
+     * @param solution never null
+     * @return never null, with its working solution set and its score calculated
+     */
+    public static InnerScoreDirector<CloudBalance, HardSoftScore> buildScoreDirector(ScoreDirectorType scoreDirectorType,
+            CloudBalance solution) {
+        InnerScoreDirector<CloudBalance, HardSoftScore> scoreDirector =
+                buildScoreDirectorFactory(scoreDirectorType).buildScoreDirector(true, false);
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+        return scoreDirector;
+    }
+
+    private CloudBalancingFixture() {
+    }
+
+}
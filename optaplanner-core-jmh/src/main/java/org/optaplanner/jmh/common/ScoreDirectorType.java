@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,12 +13,15 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+package org.optaplanner.jmh.common;
 
-package org.optaplanner.core.impl.score.inliner;
-
-@FunctionalInterface
-public interface UndoScoreImpacter {
-
-    void undoScoreImpact();
-
+/**
+ * The score director implementations that the microbenchmarks compare on the same example.
+ */
+public enum ScoreDirectorType {
+    EASY,
+    INCREMENTAL,
+    DROOLS,
+    BAVET,
+    DROOLS_CONSTRAINT_STREAMS
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.jmh.common;
+
+import java.util.List;
+
+import org.optaplanner.examples.taskassigning.domain.Employee;
+import org.optaplanner.examples.taskassigning.domain.Task;
+import org.optaplanner.examples.taskassigning.domain.TaskAssigningSolution;
+import org.optaplanner.examples.taskassigning.domain.TaskOrEmployee;
+import org.optaplanner.examples.taskassigning.persistence.TaskAssigningGenerator;
+
+/**
+ * Builds the task assigning example, which has a chained planning variable with shadow variables,
+ * as a fixture for the microbenchmarks.
+ */
+public final class TaskAssigningFixture {
+
+    /**
+     * The generated dataset is always the same for the same sizes, so the results of different runs are comparable.
+     * Every task is appended round-robin to the chain of an employee, with its inverse and anchor shadow variables.
+     *
+     * @param taskListSize {@code >= 0}
+     * @param employeeListSize {@code > 0}
+     * @return never null
+     */
+    public static TaskAssigningSolution buildInitializedSolution(int taskListSize, int employeeListSize) {
+        // Same ratios as the TaskAssigningGenerator uses for its datasets
+        int skillListSize = 4 + (int) Math.log(employeeListSize);
+        int taskTypeListSize = Math.max(taskListSize / 5, 1);
+        int customerListSize = Math.min(taskTypeListSize, employeeListSize * 3);
+        TaskAssigningSolution solution = new TaskAssigningGenerator(true).createTaskAssigningSolution(
+                taskListSize + "tasks-" + employeeListSize + "employees",
+                taskListSize, skillListSize, employeeListSize, taskTypeListSize, customerListSize);
+        List<Employee> employeeList = solution.getEmployeeList();
+        TaskOrEmployee[] lastTaskOrEmployees = employeeList.toArray(new TaskOrEmployee[0]);
+        List<Task> taskList = solution.getTaskList();
+        for (int i = 0; i < taskList.size(); i++) {
+            int employeeIndex = i % employeeList.size();
+            Task task = taskList.get(i);
+            TaskOrEmployee previousTaskOrEmployee = lastTaskOrEmployees[employeeIndex];
+            task.setPreviousTaskOrEmployee(previousTaskOrEmployee);
+            previousTaskOrEmployee.setNextTask(task);
+            task.setEmployee(employeeList.get(employeeIndex));
+            lastTaskOrEmployees[employeeIndex] = task;
+        }
+        return solution;
+    }
+
+    private TaskAssigningFixture() {
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.jmh.nearby;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
+import org.optaplanner.examples.tsp.domain.Domicile;
+import org.optaplanner.examples.tsp.domain.Visit;
+import org.optaplanner.examples.tsp.domain.location.AirLocation;
+import org.optaplanner.examples.tsp.domain.solver.nearby.VisitNearbyDistanceMeter;
+
+/**
+ * Measures building a {@link NearbyDistanceMatrix} for the traveling salesman example,
+ * eagerly for every origin and lazily for a single origin.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearbyDistanceMatrixBenchmark {
+
+    @Param({ "200", "1000" })
+    public int visitListSize;
+
+    private final VisitNearbyDistanceMeter nearbyDistanceMeter = new VisitNearbyDistanceMeter();
+    private List<Visit> visitList;
+    private List<Object> destinationList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(37);
+        Domicile domicile = new Domicile();
+        domicile.setId(0L);
+        domicile.setLocation(new AirLocation(0L, random.nextDouble() * 90.0, random.nextDouble() * 180.0));
+        visitList = new ArrayList<>(visitListSize);
+        destinationList = new ArrayList<>(visitListSize + 1);
+        destinationList.add(domicile);
+        for (int i = 1; i <= visitListSize; i++) {
+            Visit visit = new Visit();
+            visit.setId((long) i);
+            visit.setLocation(new AirLocation(i, random.nextDouble() * 90.0, random.nextDouble() * 180.0));
+            visitList.add(visit);
+            destinationList.add(visit);
+        }
+    }
+
+    @Benchmark
+    public NearbyDistanceMatrix buildEagerly() {
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, visitListSize);
+        for (Visit origin : visitList) {
+            nearbyDistanceMatrix.addAllDestinations(origin, destinationList.iterator(), destinationList.size());
+        }
+        return nearbyDistanceMatrix;
+    }
+
+    @Benchmark
+    public Object buildLazilyForOneOrigin() {
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, visitListSize,
+                origin -> destinationList.iterator(), origin -> destinationList.size());
+        return nearbyDistanceMatrix.getDestination(visitList.get(0), 0);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.jmh.score;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
+import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+
+/**
+ * Measures the {@link org.optaplanner.core.api.score.Score} arithmetic that the score calculation
+ * and the acceptors do for every move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreArithmeticBenchmark {
+
+    // Not static final, so the JIT compiler can't constant fold the arithmetic
+    private HardSoftScore hardSoftScoreA = HardSoftScore.of(-20, -3000);
+    private HardSoftScore hardSoftScoreB = HardSoftScore.of(-1, 250);
+    private HardSoftLongScore hardSoftLongScoreA = HardSoftLongScore.of(-20L, -3000L);
+    private HardSoftLongScore hardSoftLongScoreB = HardSoftLongScore.of(-1L, 250L);
+    private HardMediumSoftScore hardMediumSoftScoreA = HardMediumSoftScore.of(-20, -7, -3000);
+    private HardMediumSoftScore hardMediumSoftScoreB = HardMediumSoftScore.of(-1, 2, 250);
+    private HardSoftBigDecimalScore hardSoftBigDecimalScoreA =
+            HardSoftBigDecimalScore.of(new BigDecimal("-20.5"), new BigDecimal("-3000.25"));
+    private HardSoftBigDecimalScore hardSoftBigDecimalScoreB =
+            HardSoftBigDecimalScore.of(new BigDecimal("-1.5"), new BigDecimal("250.75"));
+    private BendableScore bendableScoreA = BendableScore.of(new int[] { -20, -3 }, new int[] { -3000, -7, 0 });
+    private BendableScore bendableScoreB = BendableScore.of(new int[] { -1, 0 }, new int[] { 250, -2, 4 });
+
+    @Benchmark
+    public HardSoftScore hardSoftScoreAdd() {
+        return hardSoftScoreA.add(hardSoftScoreB);
+    }
+
+    @Benchmark
+    public HardSoftScore hardSoftScoreSubtract() {
+        return hardSoftScoreA.subtract(hardSoftScoreB);
+    }
+
+    @Benchmark
+    public int hardSoftScoreCompareTo() {
+        return hardSoftScoreA.compareTo(hardSoftScoreB);
+    }
+
+    @Benchmark
+    public HardSoftLongScore hardSoftLongScoreAdd() {
+        return hardSoftLongScoreA.add(hardSoftLongScoreB);
+    }
+
+    @Benchmark
+    public int hardSoftLongScoreCompareTo() {
+        return hardSoftLongScoreA.compareTo(hardSoftLongScoreB);
+    }
+
+    @Benchmark
+    public HardMediumSoftScore hardMediumSoftScoreAdd() {
+        return hardMediumSoftScoreA.add(hardMediumSoftScoreB);
+    }
+
+    @Benchmark
+    public int hardMediumSoftScoreCompareTo() {
+        return hardMediumSoftScoreA.compareTo(hardMediumSoftScoreB);
+    }
+
+    @Benchmark
+    public HardSoftBigDecimalScore hardSoftBigDecimalScoreAdd() {
+        return hardSoftBigDecimalScoreA.add(hardSoftBigDecimalScoreB);
+    }
+
+    @Benchmark
+    public int hardSoftBigDecimalScoreCompareTo() {
+        return hardSoftBigDecimalScoreA.compareTo(hardSoftBigDecimalScoreB);
+    }
+
+    @Benchmark
+    public BendableScore bendableScoreAdd() {
+        return bendableScoreA.add(bendableScoreB);
+    }
+
+    @Benchmark
+    public int bendableScoreCompareTo() {
+        return bendableScoreA.compareTo(bendableScoreB);
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.jmh.score;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.examples.cloudbalancing.domain.CloudComputer;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.jmh.common.CloudBalancingFixture;
+import org.optaplanner.jmh.common.ScoreDirectorType;
+
+/**
+ * Measures {@link InnerScoreDirector#doAndProcessMove(Move, boolean)} per score director type,
+ * which is the hot path of every local search step: do the move, calculate the score and undo the move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreDirectorBenchmark {
+
+    private static final int MOVE_COUNT = 1024;
+
+    @Param({ "EASY", "INCREMENTAL", "DROOLS", "BAVET", "DROOLS_CONSTRAINT_STREAMS" })
+    public ScoreDirectorType scoreDirectorType;
+
+    @Param({ "100-300", "800-2400" })
+    public String scale;
+
+    private InnerScoreDirector<CloudBalance, HardSoftScore> scoreDirector;
+    private Move<CloudBalance>[] moves;
+    private int moveIndex;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        String[] sizes = scale.split("-");
+        CloudBalance solution = CloudBalancingFixture.buildInitializedSolution(
+                Integer.parseInt(sizes[0]), Integer.parseInt(sizes[1]));
+        scoreDirector = CloudBalancingFixture.buildScoreDirector(scoreDirectorType, solution);
+        GenuineVariableDescriptor<CloudBalance> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(CloudProcess.class).getGenuineVariableDescriptor("computer");
+        List<CloudComputer> computerList = solution.getComputerList();
+        List<CloudProcess> processList = solution.getProcessList();
+        Random random = new Random(37);
+        moves = new Move[MOVE_COUNT];
+        for (int i = 0; i < MOVE_COUNT; i++) {
+            moves[i] = new ChangeMove<>(processList.get(random.nextInt(processList.size())), variableDescriptor,
+                    computerList.get(random.nextInt(computerList.size())));
+        }
+        moveIndex = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoreDirector.close();
+    }
+
+    @Benchmark
+    public HardSoftScore doAndProcessMove() {
+        Move<CloudBalance> move = moves[moveIndex];
+        moveIndex = (moveIndex + 1) % MOVE_COUNT;
+        return scoreDirector.doAndProcessMove(move, false);
+    }
+
+}
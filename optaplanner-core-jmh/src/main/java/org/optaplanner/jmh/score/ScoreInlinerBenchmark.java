@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh.score;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import org.optaplanner.core.impl.score.buildin.bendable.BendableScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.bendable.BendableScoreInliner;
+import org.optaplanner.core.impl.score.buildin.hardsoft.HardSoftScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.hardsoft.HardSoftScoreInliner;
+import org.optaplanner.core.impl.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScoreInliner;
+import org.optaplanner.core.impl.score.buildin.hardsoftlong.HardSoftLongScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.hardsoftlong.HardSoftLongScoreInliner;
+import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
+
+/**
+ * Measures how a constraint stream impacts and later undoes the score of a single match
+ * through the {@link org.optaplanner.core.impl.score.inliner.ScoreInliner}s.
+ * <p>
+ * Run it with {@code -prof gc}, which {@link org.optaplanner.jmh.OptaPlannerJmhApp} adds by default:
+ * the {@code gc.alloc.rate.norm} of the int and long weighted benchmarks must be 0 B/op.
+ * The BigDecimal weighted benchmark is the reference that does allocate, for the arithmetic itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreInlinerBenchmark {
+
+    private static final int MATCH_WEIGHT_COUNT = 1024;
+
+    private HardSoftScoreInliner hardSoftScoreInliner;
+    private IntWeightedScoreImpacter hardSoftScoreImpacter;
+    private HardSoftLongScoreInliner hardSoftLongScoreInliner;
+    private LongWeightedScoreImpacter hardSoftLongScoreImpacter;
+    private BendableScoreInliner bendableScoreInliner;
+    private IntWeightedScoreImpacter bendableScoreImpacter;
+    private HardSoftBigDecimalScoreInliner hardSoftBigDecimalScoreInliner;
+    private BigDecimalWeightedScoreImpacter hardSoftBigDecimalScoreImpacter;
+
+    // Varying match weights, so the JIT compiler can't constant fold the arithmetic
+    private int[] intMatchWeights;
+    private long[] longMatchWeights;
+    private BigDecimal[] bigDecimalMatchWeights;
+    private int matchWeightIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Both a hard and a soft constraint weight, so every impact touches every score level
+        hardSoftScoreInliner = new HardSoftScoreDefinition().buildScoreInliner(false);
+        hardSoftScoreImpacter = hardSoftScoreInliner.buildWeightedScoreImpacter(HardSoftScore.of(-2, -5));
+        hardSoftLongScoreInliner = new HardSoftLongScoreDefinition().buildScoreInliner(false);
+        hardSoftLongScoreImpacter = hardSoftLongScoreInliner.buildWeightedScoreImpacter(HardSoftLongScore.of(-2L, -5L));
+        bendableScoreInliner = new BendableScoreDefinition(2, 3).buildScoreInliner(false);
+        bendableScoreImpacter = bendableScoreInliner.buildWeightedScoreImpacter(
+                BendableScore.of(new int[] { -2, -1 }, new int[] { -5, 0, 3 }));
+        hardSoftBigDecimalScoreInliner = new HardSoftBigDecimalScoreDefinition().buildScoreInliner(false);
+        hardSoftBigDecimalScoreImpacter = hardSoftBigDecimalScoreInliner.buildWeightedScoreImpacter(
+                HardSoftBigDecimalScore.of(new BigDecimal("-2.5"), new BigDecimal("-5.25")));
+        intMatchWeights = new int[MATCH_WEIGHT_COUNT];
+        longMatchWeights = new long[MATCH_WEIGHT_COUNT];
+        bigDecimalMatchWeights = new BigDecimal[MATCH_WEIGHT_COUNT];
+        for (int i = 0; i < MATCH_WEIGHT_COUNT; i++) {
+            intMatchWeights[i] = 1 + i % 17;
+            longMatchWeights[i] = 1L + i % 17;
+            bigDecimalMatchWeights[i] = BigDecimal.valueOf(1 + i % 17);
+        }
+        matchWeightIndex = 0;
+    }
+
+    private int nextMatchWeightIndex() {
+        int index = matchWeightIndex;
+        matchWeightIndex = (index + 1) % MATCH_WEIGHT_COUNT;
+        return index;
+    }
+
+    @Benchmark
+    public HardSoftScoreInliner hardSoftImpactAndUndo() {
+        int matchWeight = intMatchWeights[nextMatchWeightIndex()];
+        hardSoftScoreImpacter.impactScore(matchWeight);
+        hardSoftScoreImpacter.undoScoreImpact(matchWeight);
+        return hardSoftScoreInliner;
+    }
+
+    @Benchmark
+    public HardSoftLongScoreInliner hardSoftLongImpactAndUndo() {
+        long matchWeight = longMatchWeights[nextMatchWeightIndex()];
+        hardSoftLongScoreImpacter.impactScore(matchWeight);
+        hardSoftLongScoreImpacter.undoScoreImpact(matchWeight);
+        return hardSoftLongScoreInliner;
+    }
+
+    @Benchmark
+    public BendableScoreInliner bendableImpactAndUndo() {
+        int matchWeight = intMatchWeights[nextMatchWeightIndex()];
+        bendableScoreImpacter.impactScore(matchWeight);
+        bendableScoreImpacter.undoScoreImpact(matchWeight);
+        return bendableScoreInliner;
+    }
+
+    @Benchmark
+    public HardSoftBigDecimalScoreInliner hardSoftBigDecimalImpactAndUndo() {
+        BigDecimal matchWeight = bigDecimalMatchWeights[nextMatchWeightIndex()];
+        hardSoftBigDecimalScoreImpacter.impactScore(matchWeight);
+        hardSoftBigDecimalScoreImpacter.undoScoreImpact(matchWeight);
+        return hardSoftBigDecimalScoreInliner;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.jmh.selector;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.jmh.common.CloudBalancingFixture;
+import org.optaplanner.jmh.common.ScoreDirectorType;
+
+/**
+ * Measures iterating the default move selector (a union of a change and a swap move selector)
+ * of a local search step, without evaluating the moves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveSelectorBenchmark {
+
+    private static final int MOVE_LIMIT = 1000;
+
+    @Param({ "ORIGINAL", "RANDOM" })
+    public SelectionOrder selectionOrder;
+
+    @Param({ "100-300", "800-2400" })
+    public String scale;
+
+    private InnerScoreDirector<CloudBalance, HardSoftScore> scoreDirector;
+    private MoveSelector<CloudBalance> moveSelector;
+    private SolverScope<CloudBalance> solverScope;
+    private LocalSearchPhaseScope<CloudBalance> phaseScope;
+    private LocalSearchStepScope<CloudBalance> stepScope;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] sizes = scale.split("-");
+        CloudBalance solution = CloudBalancingFixture.buildInitializedSolution(
+                Integer.parseInt(sizes[0]), Integer.parseInt(sizes[1]));
+        InnerScoreDirectorFactory<CloudBalance, HardSoftScore> scoreDirectorFactory =
+                CloudBalancingFixture.buildScoreDirectorFactory(ScoreDirectorType.EASY);
+        HeuristicConfigPolicy<CloudBalance> configPolicy = new HeuristicConfigPolicy<>(EnvironmentMode.REPRODUCIBLE,
+                null, null, null, null, scoreDirectorFactory);
+        UnionMoveSelectorConfig moveSelectorConfig = new UnionMoveSelectorConfig(Arrays.asList(
+                new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig()));
+        moveSelector = MoveSelectorFactory.<CloudBalance> create(moveSelectorConfig)
+                .buildMoveSelector(configPolicy, SelectionCacheType.JUST_IN_TIME, selectionOrder);
+        scoreDirector = scoreDirectorFactory.buildScoreDirector(true, false);
+        scoreDirector.setWorkingSolution(solution);
+        solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setWorkingRandom(new Random(37));
+        phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        stepScope = new LocalSearchStepScope<>(phaseScope);
+        moveSelector.solvingStarted(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+        moveSelector.stepStarted(stepScope);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        moveSelector.stepEnded(stepScope);
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+        scoreDirector.close();
+    }
+
+    @Benchmark
+    public void iterateMoves(Blackhole blackhole) {
+        Iterator<Move<CloudBalance>> moveIterator = moveSelector.iterator();
+        for (int i = 0; i < MOVE_LIMIT && moveIterator.hasNext(); i++) {
+            blackhole.consume(moveIterator.next());
+        }
+    }
+
+}
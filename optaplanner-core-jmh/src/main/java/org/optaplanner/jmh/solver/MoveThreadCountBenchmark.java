@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh.solver;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchType;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.jmh.common.CloudBalancingFixture;
+import org.optaplanner.jmh.common.ScoreDirectorType;
+
+/**
+ * Measures how multithreaded solving scales with the moveThreadCount.
+ * Every invocation solves the same initialized dataset with a fixed number of tabu search steps,
+ * so every step evaluates the same number of moves, regardless of the moveThreadCount.
+ * The {@link ScoreCalculationCounter#scoreCalculationCount} secondary result is the score calculation speed.
+ * Compare it to the {@link SolverConfig#MOVE_THREAD_COUNT_NONE} result, on a machine with enough idle cores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MoveThreadCountBenchmark {
+
+    private static final int STEP_COUNT_LIMIT = 20;
+
+    @Param({ SolverConfig.MOVE_THREAD_COUNT_NONE, "1", "2", "4", "8" })
+    public String moveThreadCount;
+
+    @Param({ "INCREMENTAL", "BAVET", "DROOLS" })
+    public ScoreDirectorType scoreDirectorType;
+
+    @Param({ "100-300", "800-2400" })
+    public String scale;
+
+    private SolverFactory<CloudBalance> solverFactory;
+    private int computerListSize;
+    private int processListSize;
+
+    private Solver<CloudBalance> solver;
+    private CloudBalance solution;
+
+    /**
+     * Reported by JMH as a secondary result, normalized per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ScoreCalculationCounter {
+
+        public long scoreCalculationCount;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            scoreCalculationCount = 0L;
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] sizes = scale.split("-");
+        computerListSize = Integer.parseInt(sizes[0]);
+        processListSize = Integer.parseInt(sizes[1]);
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.TABU_SEARCH);
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(STEP_COUNT_LIMIT));
+        SolverConfig solverConfig = CloudBalancingFixture.buildSolverConfig(scoreDirectorType)
+                .withMoveThreadCount(moveThreadCount)
+                .withPhases(localSearchPhaseConfig);
+        solverFactory = SolverFactory.create(solverConfig);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        // Solving changes the solution, so every invocation starts from a fresh copy of the same dataset
+        solution = CloudBalancingFixture.buildInitializedSolution(computerListSize, processListSize);
+        solver = solverFactory.buildSolver();
+    }
+
+    @Benchmark
+    public CloudBalance solve(ScoreCalculationCounter counter) {
+        CloudBalance bestSolution = solver.solve(solution);
+        counter.scoreCalculationCount += ((DefaultSolver<CloudBalance>) solver).getSolverScope()
+                .getScoreCalculationCount();
+        return bestSolution;
+    }
+
+}
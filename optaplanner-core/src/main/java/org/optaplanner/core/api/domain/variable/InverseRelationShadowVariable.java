@@ -30,6 +30,9 @@ import org.optaplanner.core.api.solver.Solver;
  * Specifies that a bean property (or a field) is the inverse of a {@link PlanningVariable}, which implies it's a shadow
  * variable.
  * <p>
+ * The inverse of a {@link PlanningListVariable} is always a singleton:
+ * it is the planning entity whose list contains this planning value.
+ * <p>
  * It is specified on a getter of a java bean property (or a field) of a {@link PlanningEntity} class.
  */
 @Target({ METHOD, FIELD })
@@ -38,7 +41,8 @@ public @interface InverseRelationShadowVariable {
 
     /**
      * In a bidirectional relationship, the shadow side (= the slave side) uses this property
-     * (and nothing else) to declare for which {@link PlanningVariable} (= the master side) it is a shadow.
+     * (and nothing else) to declare for which {@link PlanningVariable} or {@link PlanningListVariable}
+     * (= the master side) it is a shadow.
      * <p>
      * Both sides of a bidirectional relationship should be consistent: if A points to B, then B must point to A.
      * <p>
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.api.domain.variable;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+
+/**
+ * Specifies that a bean property (or a field) is an ordered {@link List} of planning values
+ * that should be optimized by the optimization algorithms.
+ * Each planning value is assigned to at most 1 planning entity, at a specific index in its list.
+ * <p>
+ * This is a faster alternative to a {@link PlanningVariableGraphType#CHAINED chained} {@link PlanningVariable},
+ * for example for Vehicle Routing (where each vehicle has a list of customers)
+ * or task assigning (where each employee has a list of tasks).
+ * The planning values don't have to be planning entities,
+ * unless they have shadow variables, such as an {@link InverseRelationShadowVariable}, an {@link IndexShadowVariable},
+ * a {@link PreviousElementShadowVariable} or a {@link NextElementShadowVariable}.
+ * <p>
+ * It is specified on a getter of a java bean property (or directly on a field) of a {@link PlanningEntity} class.
+ * The type of that property must be {@link List} and it must never be null.
+ * A {@link PlanningSolution} supports at most 1 planning list variable
+ * and a planning entity class with a planning list variable cannot have any other genuine planning variables.
+ */
+@Target({ METHOD, FIELD })
+@Retention(RUNTIME)
+public @interface PlanningListVariable {
+
+    /**
+     * Any {@link ValueRangeProvider} annotation on a {@link PlanningSolution}
+     * will automatically be registered with its {@link ValueRangeProvider#id()}.
+     * <p>
+     * There should be at least 1 element in this array.
+     * A {@link ValueRangeProvider} on a {@link PlanningEntity} is not supported for a planning list variable.
+     *
+     * @return 1 (or more) registered {@link ValueRangeProvider#id()}
+     */
+    String[] valueRangeProviderRefs() default {};
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.api.domain.variable;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.solver.Solver;
+
+/**
+ * Specifies that a bean property (or a field) is the planning value that precedes this planning value
+ * in the list of a {@link PlanningListVariable}, which implies it's a shadow variable.
+ * <p>
+ * It is specified on a getter of a java bean property (or a field) of a {@link PlanningEntity} class,
+ * which is the element class of the {@link PlanningListVariable}.
+ * It is null for the first element of a list and while the planning value is not assigned to any list.
+ */
+@Target({ METHOD, FIELD })
+@Retention(RUNTIME)
+public @interface PreviousElementShadowVariable {
+
+    /**
+     * The source variable is a {@link PlanningListVariable} on another planning entity class
+     * that holds the instances of this class.
+     * <p>
+     * Both the genuine variable and the shadow variable should be consistent:
+     * if B follows A in the list of vehicle X, then the previous element of B must be A.
+     * <p>
+     * When the {@link Solver} changes a genuine variable, it adjusts the shadow variable accordingly.
+     * In practice, the {@link Solver} ignores shadow variables (except for consistency housekeeping).
+     *
+     * @return the variable property name on the planning entity class that holds the list
+     */
+    String sourceVariableName();
+
+}
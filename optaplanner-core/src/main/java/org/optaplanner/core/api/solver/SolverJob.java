@@ -47,11 +47,36 @@ public interface SolverJob<Solution_, ProblemId_> {
      */
     SolverStatus getSolverStatus();
 
-    // TODO Future features
-    //    void reloadProblem(Function<? super ProblemId_, Solution_> problemFinder);
+    /**
+     * Replaces the planning problem with a newly loaded one and solves that instead.
+     * <p>
+     * If the solver job is scheduled, it will solve the reloaded problem when it starts.
+     * If the solver is solving, it terminates and then restarts with the reloaded problem,
+     * without consuming the best solution of the replaced problem as the final best solution.
+     * <p>
+     * Every {@link ProblemFactChange} added before this call that hasn't started processing yet is discarded,
+     * because it applies to the replaced problem.
+     * A {@link ProblemFactChange} added after this call is processed on the reloaded problem.
+     * <p>
+     * Does nothing if the solver already terminated.
+     *
+     * @param problemFinder never null, a function that returns a {@link PlanningSolution},
+     *        usually with uninitialized planning variables
+     */
+    void reloadProblem(Function<? super ProblemId_, ? extends Solution_> problemFinder);
 
-    // TODO Future features
-    //    void addProblemFactChange(ProblemFactChange<Solution_> problemFactChange);
+    /**
+     * Schedules a {@link ProblemFactChange} to be processed.
+     * <p>
+     * If the solver job is scheduled, the change is processed as soon as it starts.
+     * If the solver is solving, it restarts after processing the change,
+     * as defined by {@link Solver#addProblemFactChange(ProblemFactChange)}.
+     * <p>
+     * Does nothing if the solver already terminated.
+     *
+     * @param problemFactChange never null
+     */
+    void addProblemFactChange(ProblemFactChange<Solution_> problemFactChange);
 
     /**
      * Terminates the solver or cancels the solver job if it hasn't (re)started yet.
@@ -17,6 +17,8 @@
 package org.optaplanner.core.api.solver;
 
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -33,7 +35,8 @@ import org.optaplanner.core.impl.solver.DefaultSolverManager;
  * A SolverManager solves multiple planning problems of the same domain,
  * asynchronously without blocking the calling thread.
  * <p>
- * To create a SolverManager, use {@link #create(SolverFactory, SolverManagerConfig)}.
+ * To create a SolverManager, use {@link #create(SolverFactory, SolverManagerConfig)}
+ * or {@link #create(SolverFactory, ExecutorService)} to run the solver jobs on an executor service of the caller.
  * To solve a planning problem, call {@link #solve(Object, Function, Consumer)}
  * or {@link #solveAndListen(Object, Function, Consumer)}.
  * <p>
@@ -41,12 +44,20 @@ import org.optaplanner.core.impl.solver.DefaultSolverManager;
  * <p>
  * Internally a SolverManager manages a thread pool of solver threads (which call {@link Solver#solve(Object)})
  * and consumer threads (to handle the {@link BestSolutionChangedEvent}s).
+ * While all solver threads are busy, a submitted planning problem waits in a queue, ordered by its priority.
+ * If that queue is bounded by {@link SolverManagerConfig#getSolverJobQueueCapacity()} and full,
+ * submitting another planning problem fails fast with a {@link RejectedExecutionException}.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  * @param <ProblemId_> the ID type of a submitted problem, such as {@link Long} or {@link UUID}.
  */
 public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
 
+    /**
+     * The priority of a planning problem submitted without an explicit priority.
+     */
+    int DEFAULT_PRIORITY = 0;
+
     // ************************************************************************
     // Static creation methods: SolverConfig and SolverFactory
     // ************************************************************************
@@ -82,6 +93,50 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
         return new DefaultSolverManager<>(solverFactory, solverManagerConfig);
     }
 
+    /**
+     * Use a {@link SolverFactory} and an {@link ExecutorService} of the caller to build a {@link SolverManager}.
+     * <p>
+     * The solver jobs run on that executor service, so it decides how many problems solve in parallel.
+     * A submitted priority is only honored if it orders its queue, such as a {@link java.util.concurrent.ThreadPoolExecutor}
+     * with a {@link java.util.concurrent.PriorityBlockingQueue}.
+     * The SolverManager never shuts it down: {@link #close()} only terminates the solver jobs of this SolverManager.
+     *
+     * @param solverFactory never null
+     * @param solverExecutorService never null, runs the solver jobs
+     * @return never null
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @param <ProblemId_> the ID type of a submitted problem, such as {@link Long} or {@link UUID}.
+     */
+    static <Solution_, ProblemId_> SolverManager<Solution_, ProblemId_> create(
+            SolverFactory<Solution_> solverFactory, ExecutorService solverExecutorService) {
+        return create(solverFactory, new SolverManagerConfig(), solverExecutorService);
+    }
+
+    /**
+     * As defined by {@link #create(SolverFactory, ExecutorService)}.
+     * <p>
+     * The {@link SolverManagerConfig} cannot have a {@link SolverManagerConfig#getParallelSolverCount() parallelSolverCount}
+     * nor a {@link SolverManagerConfig#getSolverJobQueueCapacity() solverJobQueueCapacity},
+     * because the executor service controls those.
+     * Its {@link SolverManagerConfig#getThreadFactoryClass() threadFactoryClass} only creates the consumer threads.
+     *
+     * @param solverFactory never null
+     * @param solverManagerConfig never null
+     * @param solverExecutorService never null, runs the solver jobs
+     * @return never null
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @param <ProblemId_> the ID type of a submitted problem, such as {@link Long} or {@link UUID}.
+     */
+    static <Solution_, ProblemId_> SolverManager<Solution_, ProblemId_> create(
+            SolverFactory<Solution_> solverFactory, SolverManagerConfig solverManagerConfig,
+            ExecutorService solverExecutorService) {
+        if (solverExecutorService == null) {
+            throw new IllegalArgumentException("The solverExecutorService (" + solverExecutorService
+                    + ") cannot be null.");
+        }
+        return new DefaultSolverManager<>(solverFactory, solverManagerConfig, solverExecutorService);
+    }
+
     // ************************************************************************
     // Interface methods
     // ************************************************************************
@@ -185,6 +240,31 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler);
 
+    /**
+     * As defined by {@link #solve(Object, Function, Consumer, BiConsumer)}.
+     * <p>
+     * While all solver threads are busy, a solver job with a higher priority starts
+     * before every scheduled solver job with a lower priority, regardless of the submission order.
+     * Solver jobs with the same priority start in submission order.
+     * A solver job that is already solving is never interrupted for a solver job with a higher priority.
+     *
+     * @param problemId never null, a ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @param priority a higher priority starts sooner, defaults to {@link #DEFAULT_PRIORITY}
+     * @return never null
+     */
+    SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            int priority);
+
     /**
      * Submits a planning problem to solve and returns immediately.
      * The planning problem is solved on a solver {@link Thread}, as soon as one is available.
@@ -258,6 +338,30 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler);
 
+    /**
+     * As defined by {@link #solveAndListen(Object, Function, Consumer, Consumer, BiConsumer)},
+     * scheduled with a priority as defined by {@link #solve(Object, Function, Consumer, BiConsumer, int)}.
+     *
+     * @param problemId never null, an ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param bestSolutionConsumer never null, called multiple times, on a consumer thread
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread.
+     *        That final best solution is already consumed by the bestSolutionConsumer earlier.
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @param priority a higher priority starts sooner, defaults to {@link #DEFAULT_PRIORITY}
+     * @return never null
+     */
+    SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            int priority);
+
     /**
      * Returns if the {@link Solver} is scheduled to solve, actively solving or not.
      * <p>
@@ -271,11 +375,34 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
      */
     SolverStatus getSolverStatus(ProblemId_ problemId);
 
-    // TODO Future features
-    //    void reloadProblem(ProblemId_ problemId, Function<? super ProblemId_, Solution_> problemFinder);
+    /**
+     * Replaces the planning problem of a solver job with a newly loaded one and solves that instead,
+     * as defined by {@link SolverJob#reloadProblem(Function)}.
+     * <p>
+     * Does nothing if the solver already terminated or the problemId was never added.
+     * To distinguish between both cases, use {@link SolverJob#reloadProblem(Function)} instead.
+     * Here, that distinction is not supported because it would cause a memory leak.
+     *
+     * @param problemId never null, a value given to {@link #solve(Object, Function, Consumer)}
+     *        or {@link #solveAndListen(Object, Function, Consumer)}
+     * @param problemFinder never null, a function that returns a {@link PlanningSolution},
+     *        usually with uninitialized planning variables
+     */
+    void reloadProblem(ProblemId_ problemId, Function<? super ProblemId_, ? extends Solution_> problemFinder);
 
-    // TODO Future features
-    //    void addProblemFactChange(ProblemId_ problemId, ProblemFactChange<Solution_> problemFactChange);
+    /**
+     * Schedules a {@link ProblemFactChange} to be processed by a solver job,
+     * as defined by {@link SolverJob#addProblemFactChange(ProblemFactChange)}.
+     * <p>
+     * Does nothing if the solver already terminated or the problemId was never added.
+     * To distinguish between both cases, use {@link SolverJob#addProblemFactChange(ProblemFactChange)} instead.
+     * Here, that distinction is not supported because it would cause a memory leak.
+     *
+     * @param problemId never null, a value given to {@link #solve(Object, Function, Consumer)}
+     *        or {@link #solveAndListen(Object, Function, Consumer)}
+     * @param problemFactChange never null
+     */
+    void addProblemFactChange(ProblemId_ problemId, ProblemFactChange<Solution_> problemFactChange);
 
     /**
      * Terminates the solver or cancels the solver job if it hasn't (re)started yet.
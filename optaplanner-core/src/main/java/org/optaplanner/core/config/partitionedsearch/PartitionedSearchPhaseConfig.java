@@ -40,6 +40,7 @@ import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartition
         "solutionPartitionerClass",
         "solutionPartitionerCustomProperties",
         "runnablePartThreadLimit",
+        "repartitionCount",
         "phaseConfigList"
 })
 public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchPhaseConfig> {
@@ -56,6 +57,7 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
     protected Map<String, String> solutionPartitionerCustomProperties = null;
 
     protected String runnablePartThreadLimit = null;
+    protected Integer repartitionCount = null;
 
     @XmlElements({
             @XmlElement(name = ConstructionHeuristicPhaseConfig.XML_ELEMENT_NAME,
@@ -117,6 +119,27 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         this.runnablePartThreadLimit = runnablePartThreadLimit;
     }
 
+    /**
+     * The number of times the working solution is partitioned again,
+     * after the partitions of the previous round have been solved and merged,
+     * so changes across the boundaries of a previous round become possible.
+     * Every round ends when all partition solvers of that round have terminated,
+     * so if this is higher than 0, every local search phase of the {@link #getPhaseConfigList() phases}
+     * must have a termination, otherwise the first round would take all the time.
+     * <p/>
+     * Defaults to 0, which partitions only once.
+     *
+     * @return sometimes null
+     * @see SolutionPartitioner#splitWorkingSolution(ScoreDirector, Integer, int)
+     */
+    public Integer getRepartitionCount() {
+        return repartitionCount;
+    }
+
+    public void setRepartitionCount(Integer repartitionCount) {
+        this.repartitionCount = repartitionCount;
+    }
+
     public List<PhaseConfig> getPhaseConfigList() {
         return phaseConfigList;
     }
@@ -134,6 +157,8 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
                 solutionPartitionerCustomProperties, inheritedConfig.getSolutionPartitionerCustomProperties());
         runnablePartThreadLimit = ConfigUtils.inheritOverwritableProperty(runnablePartThreadLimit,
                 inheritedConfig.getRunnablePartThreadLimit());
+        repartitionCount = ConfigUtils.inheritOverwritableProperty(repartitionCount,
+                inheritedConfig.getRepartitionCount());
         phaseConfigList = ConfigUtils.inheritMergeableListConfig(
                 phaseConfigList, inheritedConfig.getPhaseConfigList());
         return this;
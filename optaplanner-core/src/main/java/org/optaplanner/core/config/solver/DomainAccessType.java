@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.solver;
+
+import javax.xml.bind.annotation.XmlEnum;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.cloner.DeepPlanningClone;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+
+/**
+ * Determines how OptaPlanner accesses the members of the domain classes
+ * and how it plans clones of a {@link PlanningSolution}.
+ */
+@XmlEnum
+public enum DomainAccessType {
+    /**
+     * Access public getters and setters with {@link java.lang.invoke.LambdaMetafactory}
+     * and everything else with reflection.
+     * Plan clones by reflecting over the fields of every {@link PlanningSolution},
+     * {@link PlanningEntity} and {@link DeepPlanningClone} instance.
+     * <p>
+     * This is the default.
+     */
+    REFLECTION,
+    /**
+     * Generate a direct accessor class at bootstrap for every getter and setter
+     * (even if it isn't public or if the domain class is loaded by another {@link ClassLoader}),
+     * with {@link java.lang.invoke.LambdaMetafactory}.
+     * Generate a type-specialised cloning plan for every {@link PlanningSolution}, {@link PlanningEntity}
+     * and {@link DeepPlanningClone} class, with a generated no-arg constructor call
+     * and the deep clone decision of every field decided once per class, instead of once per instance.
+     * <p>
+     * Annotated fields are still accessed with reflection.
+     * Doesn't apply to a custom {@link SolutionCloner}.
+     * Bootstrap is slightly slower.
+     * Whether solving is faster than with {@link #REFLECTION} depends on the domain model:
+     * compare both with the {@code SolutionClonerBenchmark} and {@code ChainedSolutionClonerBenchmark}
+     * of the optaplanner-core-jmh module, which is why this isn't the default.
+     */
+    GENERATED
+}
@@ -16,17 +16,22 @@
 
 package org.optaplanner.core.config.solver;
 
+import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
 
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
+        "solverJobQueueCapacity",
+        "throttlingDelay",
         "threadFactoryClass"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
@@ -36,10 +41,12 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
     private static final Logger logger = LoggerFactory.getLogger(SolverManagerConfig.class);
 
     protected String parallelSolverCount = null;
+    protected Integer solverJobQueueCapacity = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration throttlingDelay = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
 
     // Future features:
-    // throttlingDelay
     // congestionStrategy
 
     // ************************************************************************
@@ -57,6 +64,37 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.parallelSolverCount = parallelSolverCount;
     }
 
+    /**
+     * @return sometimes null, the maximum number of solver jobs that wait for a free solver thread,
+     *         null if that is unbounded
+     */
+    public Integer getSolverJobQueueCapacity() {
+        return solverJobQueueCapacity;
+    }
+
+    public void setSolverJobQueueCapacity(Integer solverJobQueueCapacity) {
+        this.solverJobQueueCapacity = solverJobQueueCapacity;
+    }
+
+    /**
+     * @return sometimes null, the minimum time between 2 calls of the best solution consumer of a solver job,
+     *         null if there is no minimum.
+     *         Best solutions that improve within that time are skipped, except the last one.
+     */
+    public Duration getThrottlingDelay() {
+        return throttlingDelay;
+    }
+
+    public void setThrottlingDelay(Duration throttlingDelay) {
+        this.throttlingDelay = throttlingDelay;
+    }
+
+    /**
+     * @return sometimes null, the {@link ThreadFactory} that creates the solver threads,
+     *         which are limited by the {@link #getParallelSolverCount() parallelSolverCount},
+     *         and the consumer threads, which call the best solution consumers.
+     *         The move threads and part threads of each solver use {@link SolverConfig#getThreadFactoryClass()} instead.
+     */
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -74,6 +112,16 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withSolverJobQueueCapacity(Integer solverJobQueueCapacity) {
+        this.solverJobQueueCapacity = solverJobQueueCapacity;
+        return this;
+    }
+
+    public SolverManagerConfig withThrottlingDelay(Duration throttlingDelay) {
+        this.throttlingDelay = throttlingDelay;
+        return this;
+    }
+
     public SolverManagerConfig withThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
         this.threadFactoryClass = threadFactoryClass;
         return this;
@@ -123,6 +171,10 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
     public SolverManagerConfig inherit(SolverManagerConfig inheritedConfig) {
         parallelSolverCount = ConfigUtils.inheritOverwritableProperty(parallelSolverCount,
                 inheritedConfig.getParallelSolverCount());
+        solverJobQueueCapacity = ConfigUtils.inheritOverwritableProperty(solverJobQueueCapacity,
+                inheritedConfig.getSolverJobQueueCapacity());
+        throttlingDelay = ConfigUtils.inheritOverwritableProperty(throttlingDelay,
+                inheritedConfig.getThrottlingDelay());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
         return this;
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.constructionheuristic.placer;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListAssignMove;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+
+/**
+ * Places every unassigned value of a {@link PlanningListVariable} in turn,
+ * at every index of every entity's list.
+ * <p>
+ * A value is unassigned if it isn't in any entity's list, which is tracked by the inverse of the list variable,
+ * so finding the next unassigned value doesn't scan all lists.
+ */
+public class QueuedListValuePlacer<Solution_> extends AbstractEntityPlacer<Solution_> implements EntityPlacer<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> listVariableDescriptor;
+    protected final EntitySelector<Solution_> entitySelector;
+
+    protected SingletonInverseVariableSupply inverseVariableSupply = null;
+    protected List<Object> valueList = null;
+
+    public QueuedListValuePlacer(ListVariableDescriptor<Solution_> listVariableDescriptor,
+            EntitySelector<Solution_> entitySelector) {
+        this.listVariableDescriptor = listVariableDescriptor;
+        this.entitySelector = entitySelector;
+        phaseLifecycleSupport.addEventListener(entitySelector);
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        inverseVariableSupply = phaseScope.getScoreDirector().getSupplyManager()
+                .demand(new SingletonInverseVariableDemand<>(listVariableDescriptor));
+        valueList = listVariableDescriptor.extractAllValues(phaseScope.getWorkingSolution());
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        inverseVariableSupply = null;
+        valueList = null;
+    }
+
+    @Override
+    public Iterator<Placement<Solution_>> iterator() {
+        return new QueuedListValuePlacingIterator();
+    }
+
+    private class QueuedListValuePlacingIterator extends UpcomingSelectionIterator<Placement<Solution_>> {
+
+        private int valueIndex = 0;
+
+        @Override
+        protected Placement<Solution_> createUpcomingSelection() {
+            // Values placed by earlier steps are skipped, as well as values that were assigned from the start
+            while (valueIndex < valueList.size()
+                    && inverseVariableSupply.getInverseSingleton(valueList.get(valueIndex)) != null) {
+                valueIndex++;
+            }
+            if (valueIndex >= valueList.size()) {
+                return noUpcomingSelection();
+            }
+            Object value = valueList.get(valueIndex);
+            valueIndex++;
+            return new Placement<>(new ListAssignMoveIterator(value));
+        }
+
+    }
+
+    private class ListAssignMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Object value;
+        private Iterator<Object> entityIterator = null;
+        private Object entity = null;
+        private int listSize = 0;
+        private int destinationIndex = 0;
+
+        private ListAssignMoveIterator(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            if (entityIterator == null) {
+                // Not in the constructor (to avoid upcoming selections breaking mimic recording)
+                entityIterator = entitySelector.endingIterator();
+                destinationIndex = Integer.MAX_VALUE;
+            }
+            // Every list has 1 more insertion position than it has elements
+            if (destinationIndex > listSize) {
+                if (!entityIterator.hasNext()) {
+                    return noUpcomingSelection();
+                }
+                entity = entityIterator.next();
+                listSize = listVariableDescriptor.getListSize(entity);
+                destinationIndex = 0;
+            }
+            Move<Solution_> move = new ListAssignMove<>(listVariableDescriptor, value, entity, destinationIndex);
+            destinationIndex++;
+            return move;
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + listVariableDescriptor + ", " + entitySelector + ")";
+    }
+
+}
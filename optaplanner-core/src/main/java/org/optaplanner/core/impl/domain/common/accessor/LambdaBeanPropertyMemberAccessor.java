@@ -46,6 +46,16 @@ public final class LambdaBeanPropertyMemberAccessor implements MemberAccessor {
     }
 
     public LambdaBeanPropertyMemberAccessor(Method getterMethod, boolean getterOnly) {
+        this(getterMethod, getterOnly, false);
+    }
+
+    /**
+     * @param getterMethod never null
+     * @param getterOnly true if the setter isn't needed
+     * @param privateLookup true to also support non-public methods and classes from another classloader,
+     *        by looking up the methods from inside their declaring class
+     */
+    public LambdaBeanPropertyMemberAccessor(Method getterMethod, boolean getterOnly, boolean privateLookup) {
         this.getterMethod = getterMethod;
         Class<?> declaringClass = getterMethod.getDeclaringClass();
         if (!ReflectionHelper.isGetterMethod(getterMethod)) {
@@ -53,16 +63,27 @@ public final class LambdaBeanPropertyMemberAccessor implements MemberAccessor {
         }
         propertyType = getterMethod.getReturnType();
         propertyName = ReflectionHelper.getGetterPropertyName(getterMethod);
-        // TODO In JDK 9 switch to (and remove workaround from MemberAccessorFactory)
-        // MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
-        MethodHandles.Lookup lookup = MethodHandles.lookup();
-        getterFunction = createGetterFunction(lookup);
+        getterFunction = createGetterFunction(createLookup(getterMethod, privateLookup));
         if (getterOnly) {
             setterMethod = null;
             setterFunction = null;
         } else {
             setterMethod = ReflectionHelper.getSetterMethod(declaringClass, getterMethod.getReturnType(), propertyName);
-            setterFunction = createSetterFunction(lookup);
+            setterFunction = setterMethod == null ? null
+                    : createSetterFunction(createLookup(setterMethod, privateLookup));
+        }
+    }
+
+    private static MethodHandles.Lookup createLookup(Method method, boolean privateLookup) {
+        if (!privateLookup) {
+            return MethodHandles.lookup();
+        }
+        try {
+            return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Lambda creation failed for method (" + method
+                    + ") because its declaringClass (" + method.getDeclaringClass() + ") is not open for deep reflection.\n"
+                    + MemberAccessorFactory.CLASSLOADER_NUDGE_MESSAGE, e);
         }
     }
 
@@ -90,9 +111,6 @@ public final class LambdaBeanPropertyMemberAccessor implements MemberAccessor {
     }
 
     private BiConsumer createSetterFunction(MethodHandles.Lookup lookup) {
-        if (setterMethod == null) {
-            return null;
-        }
         Class<?> declaringClass = setterMethod.getDeclaringClass();
         CallSite setterSite;
         try {
@@ -23,6 +23,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.DomainAccessType;
 import org.optaplanner.core.impl.domain.common.ReflectionHelper;
 
 public class MemberAccessorFactory {
@@ -33,6 +34,19 @@ public class MemberAccessorFactory {
 
     public static MemberAccessor buildMemberAccessor(Member member, MemberAccessorType memberAccessorType,
             Class<? extends Annotation> annotationClass) {
+        return buildMemberAccessor(member, memberAccessorType, annotationClass, DomainAccessType.REFLECTION);
+    }
+
+    /**
+     * @param member never null, a {@link Field} or a {@link Method}
+     * @param memberAccessorType never null
+     * @param annotationClass never null
+     * @param domainAccessType never null, {@link DomainAccessType#GENERATED} generates a lambda for every getter,
+     *        even non-public ones and those on classes from another classloader
+     * @return never null
+     */
+    public static MemberAccessor buildMemberAccessor(Member member, MemberAccessorType memberAccessorType,
+            Class<? extends Annotation> annotationClass, DomainAccessType domainAccessType) {
         if (member instanceof Field) {
             Field field = (Field) member;
             return new ReflectionFieldMemberAccessor(field);
@@ -51,7 +65,9 @@ public class MemberAccessorFactory {
                 case FIELD_OR_GETTER_METHOD_WITH_SETTER:
                     boolean getterOnly = memberAccessorType != MemberAccessorType.FIELD_OR_GETTER_METHOD_WITH_SETTER;
                     ReflectionHelper.assertGetterMethod(method, annotationClass);
-                    if (Modifier.isPublic(method.getModifiers())
+                    if (domainAccessType == DomainAccessType.GENERATED) {
+                        memberAccessor = new LambdaBeanPropertyMemberAccessor(method, getterOnly, true);
+                    } else if (Modifier.isPublic(method.getModifiers())
                             // HACK The lambda approach doesn't support classes from another classloader (such as loaded by KieContainer) in JDK 8
                             // TODO In JDK 9 use MethodHandles.privateLookupIn(Class, MethodHandles.lookup())
                             && method.getDeclaringClass().getClassLoader().equals(MemberAccessor.class.getClassLoader())) {
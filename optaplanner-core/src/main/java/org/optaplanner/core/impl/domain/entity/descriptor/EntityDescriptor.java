@@ -38,8 +38,12 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
 import org.optaplanner.core.api.domain.variable.AnchorShadowVariable;
 import org.optaplanner.core.api.domain.variable.CustomShadowVariable;
+import org.optaplanner.core.api.domain.variable.IndexShadowVariable;
 import org.optaplanner.core.api.domain.variable.InverseRelationShadowVariable;
+import org.optaplanner.core.api.domain.variable.NextElementShadowVariable;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.api.domain.variable.PreviousElementShadowVariable;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.decorator.SelectionSorterOrder;
 import org.optaplanner.core.config.util.ConfigUtils;
@@ -51,9 +55,13 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.custom.CustomShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.index.IndexShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.InverseRelationShadowVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.nextprev.NextElementShadowVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.nextprev.PreviousElementShadowVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.ComparatorSelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.CompositeSelectionFilter;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
@@ -70,8 +78,9 @@ import org.slf4j.LoggerFactory;
 public class EntityDescriptor<Solution_> {
 
     private static final Class[] VARIABLE_ANNOTATION_CLASSES = {
-            PlanningVariable.class,
+            PlanningVariable.class, PlanningListVariable.class,
             InverseRelationShadowVariable.class, AnchorShadowVariable.class,
+            IndexShadowVariable.class, PreviousElementShadowVariable.class, NextElementShadowVariable.class,
             CustomShadowVariable.class };
 
     protected final transient Logger logger = LoggerFactory.getLogger(getClass());
@@ -87,6 +96,7 @@ public class EntityDescriptor<Solution_> {
     // Only declared variable descriptors, excludes inherited variable descriptors
     private Map<String, GenuineVariableDescriptor<Solution_>> declaredGenuineVariableDescriptorMap;
     private Map<String, ShadowVariableDescriptor<Solution_>> declaredShadowVariableDescriptorMap;
+    private ListVariableDescriptor<Solution_> declaredListVariableDescriptor;
 
     private List<SelectionFilter<Solution_, Object>> declaredPinEntityFilterList;
 
@@ -99,6 +109,7 @@ public class EntityDescriptor<Solution_> {
     private Map<String, GenuineVariableDescriptor<Solution_>> effectiveGenuineVariableDescriptorMap;
     private Map<String, ShadowVariableDescriptor<Solution_>> effectiveShadowVariableDescriptorMap;
     private Map<String, VariableDescriptor<Solution_>> effectiveVariableDescriptorMap;
+    private ListVariableDescriptor<Solution_> effectiveListVariableDescriptor;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -131,6 +142,7 @@ public class EntityDescriptor<Solution_> {
         processEntityAnnotations(descriptorPolicy);
         declaredGenuineVariableDescriptorMap = new LinkedHashMap<>();
         declaredShadowVariableDescriptorMap = new LinkedHashMap<>();
+        declaredListVariableDescriptor = null;
         declaredPinEntityFilterList = new ArrayList<>(2);
         // Only iterate declared fields and methods, not inherited members, to avoid registering the same one twice
         List<Member> memberList = ConfigUtils.getDeclaredMembers(entityClass);
@@ -139,10 +151,20 @@ public class EntityDescriptor<Solution_> {
             processPlanningVariableAnnotation(descriptorPolicy, member);
             processPlanningPinAnnotation(descriptorPolicy, member);
         }
-        if (declaredGenuineVariableDescriptorMap.isEmpty() && declaredShadowVariableDescriptorMap.isEmpty()) {
+        if (declaredGenuineVariableDescriptorMap.isEmpty() && declaredShadowVariableDescriptorMap.isEmpty()
+                && declaredListVariableDescriptor == null) {
             throw new IllegalStateException("The entityClass (" + entityClass
                     + ") should have at least 1 getter method or 1 field with a "
-                    + PlanningVariable.class.getSimpleName() + " annotation or a shadow variable annotation.");
+                    + PlanningVariable.class.getSimpleName() + " annotation, a "
+                    + PlanningListVariable.class.getSimpleName() + " annotation or a shadow variable annotation.");
+        }
+        if (declaredListVariableDescriptor != null && !declaredGenuineVariableDescriptorMap.isEmpty()) {
+            throw new IllegalStateException("The entityClass (" + entityClass
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " annotated member (" + declaredListVariableDescriptor.getVariableName()
+                    + ") and " + PlanningVariable.class.getSimpleName()
+                    + " annotated members (" + declaredGenuineVariableDescriptorMap.keySet() + ").\n"
+                    + "Maybe move those planning variables to another planning entity class.");
         }
         processVariableAnnotations(descriptorPolicy);
     }
@@ -208,7 +230,7 @@ public class EntityDescriptor<Solution_> {
     private void processValueRangeProviderAnnotation(DescriptorPolicy descriptorPolicy, Member member) {
         if (((AnnotatedElement) member).isAnnotationPresent(ValueRangeProvider.class)) {
             MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
-                    member, FIELD_OR_READ_METHOD, ValueRangeProvider.class);
+                    member, FIELD_OR_READ_METHOD, ValueRangeProvider.class, descriptorPolicy.getDomainAccessType());
             descriptorPolicy.addFromEntityValueRangeProvider(
                     memberAccessor);
         }
@@ -225,7 +247,7 @@ public class EntityDescriptor<Solution_> {
                 memberAccessorType = FIELD_OR_GETTER_METHOD_WITH_SETTER;
             }
             MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
-                    member, memberAccessorType, variableAnnotationClass);
+                    member, memberAccessorType, variableAnnotationClass, descriptorPolicy.getDomainAccessType());
             registerVariableAccessor(descriptorPolicy, variableAnnotationClass, memberAccessor);
         }
     }
@@ -234,11 +256,16 @@ public class EntityDescriptor<Solution_> {
             Class<? extends Annotation> variableAnnotationClass, MemberAccessor memberAccessor) {
         String memberName = memberAccessor.getName();
         if (declaredGenuineVariableDescriptorMap.containsKey(memberName)
-                || declaredShadowVariableDescriptorMap.containsKey(memberName)) {
+                || declaredShadowVariableDescriptorMap.containsKey(memberName)
+                || (declaredListVariableDescriptor != null
+                        && declaredListVariableDescriptor.getVariableName().equals(memberName))) {
             VariableDescriptor<Solution_> duplicate = declaredGenuineVariableDescriptorMap.get(memberName);
             if (duplicate == null) {
                 duplicate = declaredShadowVariableDescriptorMap.get(memberName);
             }
+            if (duplicate == null) {
+                duplicate = declaredListVariableDescriptor;
+            }
             throw new IllegalStateException("The entityClass (" + entityClass
                     + ") has a " + variableAnnotationClass.getSimpleName()
                     + " annotated member (" + memberAccessor
@@ -249,6 +276,15 @@ public class EntityDescriptor<Solution_> {
             GenuineVariableDescriptor<Solution_> variableDescriptor = new GenuineVariableDescriptor<>(this,
                     memberAccessor);
             declaredGenuineVariableDescriptorMap.put(memberName, variableDescriptor);
+        } else if (variableAnnotationClass.equals(PlanningListVariable.class)) {
+            if (declaredListVariableDescriptor != null) {
+                throw new IllegalStateException("The entityClass (" + entityClass
+                        + ") has a " + PlanningListVariable.class.getSimpleName()
+                        + " annotated member (" + memberAccessor
+                        + ") but it already has another one (" + declaredListVariableDescriptor + ").\n"
+                        + "An entity class supports at most 1 planning list variable.");
+            }
+            declaredListVariableDescriptor = new ListVariableDescriptor<>(this, memberAccessor);
         } else if (variableAnnotationClass.equals(InverseRelationShadowVariable.class)) {
             ShadowVariableDescriptor<Solution_> variableDescriptor = new InverseRelationShadowVariableDescriptor<>(
                     this, memberAccessor);
@@ -257,6 +293,18 @@ public class EntityDescriptor<Solution_> {
             ShadowVariableDescriptor<Solution_> variableDescriptor = new AnchorShadowVariableDescriptor<>(
                     this, memberAccessor);
             declaredShadowVariableDescriptorMap.put(memberName, variableDescriptor);
+        } else if (variableAnnotationClass.equals(IndexShadowVariable.class)) {
+            ShadowVariableDescriptor<Solution_> variableDescriptor = new IndexShadowVariableDescriptor<>(
+                    this, memberAccessor);
+            declaredShadowVariableDescriptorMap.put(memberName, variableDescriptor);
+        } else if (variableAnnotationClass.equals(PreviousElementShadowVariable.class)) {
+            ShadowVariableDescriptor<Solution_> variableDescriptor = new PreviousElementShadowVariableDescriptor<>(
+                    this, memberAccessor);
+            declaredShadowVariableDescriptorMap.put(memberName, variableDescriptor);
+        } else if (variableAnnotationClass.equals(NextElementShadowVariable.class)) {
+            ShadowVariableDescriptor<Solution_> variableDescriptor = new NextElementShadowVariableDescriptor<>(
+                    this, memberAccessor);
+            declaredShadowVariableDescriptorMap.put(memberName, variableDescriptor);
         } else if (variableAnnotationClass.equals(CustomShadowVariable.class)) {
             ShadowVariableDescriptor<Solution_> variableDescriptor = new CustomShadowVariableDescriptor<>(
                     this, memberAccessor);
@@ -270,7 +318,7 @@ public class EntityDescriptor<Solution_> {
     private void processPlanningPinAnnotation(DescriptorPolicy descriptorPolicy, Member member) {
         if (((AnnotatedElement) member).isAnnotationPresent(PlanningPin.class)) {
             MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
-                    member, FIELD_OR_READ_METHOD, PlanningPin.class);
+                    member, FIELD_OR_READ_METHOD, PlanningPin.class, descriptorPolicy.getDomainAccessType());
             Class<?> type = memberAccessor.getType();
             if (!Boolean.TYPE.isAssignableFrom(type) && !Boolean.class.isAssignableFrom(type)) {
                 throw new IllegalStateException("The entityClass (" + entityClass
@@ -286,6 +334,9 @@ public class EntityDescriptor<Solution_> {
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : declaredGenuineVariableDescriptorMap.values()) {
             variableDescriptor.processAnnotations(descriptorPolicy);
         }
+        if (declaredListVariableDescriptor != null) {
+            declaredListVariableDescriptor.processAnnotations(descriptorPolicy);
+        }
         for (ShadowVariableDescriptor<Solution_> variableDescriptor : declaredShadowVariableDescriptorMap.values()) {
             variableDescriptor.processAnnotations(descriptorPolicy);
         }
@@ -322,20 +373,32 @@ public class EntityDescriptor<Solution_> {
     private void createEffectiveVariableDescriptorMaps() {
         effectiveGenuineVariableDescriptorMap = new LinkedHashMap<>(declaredGenuineVariableDescriptorMap.size());
         effectiveShadowVariableDescriptorMap = new LinkedHashMap<>(declaredShadowVariableDescriptorMap.size());
+        effectiveListVariableDescriptor = null;
         for (EntityDescriptor<Solution_> inheritedEntityDescriptor : inheritedEntityDescriptorList) {
             effectiveGenuineVariableDescriptorMap.putAll(inheritedEntityDescriptor.getGenuineVariableDescriptorMap());
             effectiveShadowVariableDescriptorMap.putAll(inheritedEntityDescriptor.getShadowVariableDescriptorMap());
+            if (inheritedEntityDescriptor.hasListVariable()) {
+                effectiveListVariableDescriptor = inheritedEntityDescriptor.getListVariableDescriptor();
+            }
         }
         effectiveGenuineVariableDescriptorMap.putAll(declaredGenuineVariableDescriptorMap);
         effectiveShadowVariableDescriptorMap.putAll(declaredShadowVariableDescriptorMap);
+        if (declaredListVariableDescriptor != null) {
+            effectiveListVariableDescriptor = declaredListVariableDescriptor;
+        }
         effectiveVariableDescriptorMap = new LinkedHashMap<>(
-                effectiveGenuineVariableDescriptorMap.size() + effectiveShadowVariableDescriptorMap.size());
+                effectiveGenuineVariableDescriptorMap.size() + effectiveShadowVariableDescriptorMap.size() + 1);
         effectiveVariableDescriptorMap.putAll(effectiveGenuineVariableDescriptorMap);
+        if (effectiveListVariableDescriptor != null) {
+            effectiveVariableDescriptorMap.put(effectiveListVariableDescriptor.getVariableName(),
+                    effectiveListVariableDescriptor);
+        }
         effectiveVariableDescriptorMap.putAll(effectiveShadowVariableDescriptorMap);
     }
 
     private void createEffectiveMovableEntitySelectionFilter() {
-        if (declaredMovableEntitySelectionFilter != null && !hasAnyDeclaredGenuineVariableDescriptor()) {
+        if (declaredMovableEntitySelectionFilter != null && !hasAnyDeclaredGenuineVariableDescriptor()
+                && declaredListVariableDescriptor == null) {
             throw new IllegalStateException("The entityClass (" + entityClass
                     + ") has a movableEntitySelectionFilterClass (" + declaredMovableEntitySelectionFilter.getClass()
                     + "), but it has no declared genuine variables, only shadow variables.");
@@ -365,6 +428,9 @@ public class EntityDescriptor<Solution_> {
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : declaredGenuineVariableDescriptorMap.values()) {
             variableDescriptor.linkVariableDescriptors(descriptorPolicy);
         }
+        if (declaredListVariableDescriptor != null) {
+            declaredListVariableDescriptor.linkVariableDescriptors(descriptorPolicy);
+        }
         for (ShadowVariableDescriptor<Solution_> shadowVariableDescriptor : declaredShadowVariableDescriptorMap.values()) {
             shadowVariableDescriptor.linkVariableDescriptors(descriptorPolicy);
         }
@@ -402,6 +468,17 @@ public class EntityDescriptor<Solution_> {
         return !declaredGenuineVariableDescriptorMap.isEmpty();
     }
 
+    public boolean hasListVariable() {
+        return effectiveListVariableDescriptor != null;
+    }
+
+    /**
+     * @return null if this entity class has no {@link PlanningListVariable}
+     */
+    public ListVariableDescriptor<Solution_> getListVariableDescriptor() {
+        return effectiveListVariableDescriptor;
+    }
+
     public Collection<String> getGenuineVariableNameSet() {
         return effectiveGenuineVariableDescriptorMap.keySet();
     }
@@ -469,8 +546,11 @@ public class EntityDescriptor<Solution_> {
 
     public Collection<VariableDescriptor<Solution_>> getDeclaredVariableDescriptors() {
         Collection<VariableDescriptor<Solution_>> variableDescriptors = new ArrayList<>(
-                declaredGenuineVariableDescriptorMap.size() + declaredShadowVariableDescriptorMap.size());
+                declaredGenuineVariableDescriptorMap.size() + declaredShadowVariableDescriptorMap.size() + 1);
         variableDescriptors.addAll(declaredGenuineVariableDescriptorMap.values());
+        if (declaredListVariableDescriptor != null) {
+            variableDescriptors.add(declaredListVariableDescriptor);
+        }
         variableDescriptors.addAll(declaredShadowVariableDescriptorMap.values());
         return variableDescriptors;
     }
@@ -500,6 +580,7 @@ public class EntityDescriptor<Solution_> {
                         ? "Maybe the variableName (" + variableName + ") should start with a lowercase.\n"
                         : "")
                 + "Maybe your planning entity's getter or field lacks a " + PlanningVariable.class.getSimpleName()
+                + " annotation, a " + PlanningListVariable.class.getSimpleName()
                 + " annotation or a shadow variable annotation.";
     }
 
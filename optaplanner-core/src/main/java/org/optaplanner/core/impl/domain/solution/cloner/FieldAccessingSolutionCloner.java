@@ -51,7 +51,9 @@ import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
 import org.optaplanner.core.impl.domain.common.ConcurrentMemoization;
 import org.optaplanner.core.impl.domain.common.ReflectionHelper;
 import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -130,10 +132,20 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
      * @return never null
      */
     protected boolean retrieveDeepCloneDecision(Field field, Class<?> fieldInstanceClass, Class<?> actualValueClass) {
+        return retrieveFieldDeepCloneDecision(field, fieldInstanceClass)
+                || retrieveDeepCloneDecisionForActualValueClass(actualValueClass);
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @param field never null
+     * @param fieldInstanceClass never null
+     * @return true if the field is deep cloned regardless of its actual value class
+     */
+    protected boolean retrieveFieldDeepCloneDecision(Field field, Class<?> fieldInstanceClass) {
         Pair<Field, Class<?>> pair = Pair.of(field, fieldInstanceClass);
-        Boolean deepCloneDecision = fieldDeepClonedMemoization.computeIfAbsent(pair,
-                key -> isFieldDeepCloned(field, fieldInstanceClass));
-        return deepCloneDecision || retrieveDeepCloneDecisionForActualValueClass(actualValueClass);
+        return fieldDeepClonedMemoization.computeIfAbsent(pair, key -> isFieldDeepCloned(field, fieldInstanceClass));
     }
 
     private boolean isFieldDeepCloned(Field field, Class<?> fieldInstanceClass) {
@@ -142,6 +154,7 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         }
         return isFieldAnEntityPropertyOnSolution(field, fieldInstanceClass)
                 || isFieldAnEntityOrSolution(field, fieldInstanceClass)
+                || isFieldAPlanningListVariable(field, fieldInstanceClass)
                 || isFieldADeepCloneProperty(field, fieldInstanceClass);
     }
 
@@ -180,6 +193,18 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         return false;
     }
 
+    protected boolean isFieldAPlanningListVariable(Field field, Class<?> fieldInstanceClass) {
+        // The list moves change a list variable in place, so the clone needs its own list,
+        // even if the elements are not entities and are therefore shared
+        EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptor(fieldInstanceClass);
+        if (entityDescriptor == null || !entityDescriptor.hasListVariable()) {
+            return false;
+        }
+        // This assumes we're dealing with a simple getter/setter.
+        // If that assumption is false, validateCloneSolution(...) fails-fast.
+        return entityDescriptor.getListVariableDescriptor().getVariableName().equals(field.getName());
+    }
+
     private boolean isTypeArgumentDeepCloned(Type genericType) {
         // Check the generic type arguments of the field.
         // Yes, it is possible for fields and methods, but not instances!
@@ -299,17 +324,20 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         }
 
         protected void process(Unprocessed unprocessed) {
-            Object cloneValue;
-            if (unprocessed.originalValue instanceof Collection) {
-                cloneValue = cloneCollection(unprocessed.field.getType(), (Collection<?>) unprocessed.originalValue);
-            } else if (unprocessed.originalValue instanceof Map) {
-                cloneValue = cloneMap(unprocessed.field.getType(), (Map<?, ?>) unprocessed.originalValue);
-            } else if (unprocessed.originalValue.getClass().isArray()) {
-                cloneValue = cloneArray(unprocessed.field.getType(), unprocessed.originalValue);
+            Object cloneValue = cloneFieldValue(unprocessed.field.getType(), unprocessed.originalValue);
+            setFieldValue(unprocessed.bean, unprocessed.field, cloneValue);
+        }
+
+        protected Object cloneFieldValue(Class<?> expectedType, Object originalValue) {
+            if (originalValue instanceof Collection) {
+                return cloneCollection(expectedType, (Collection<?>) originalValue);
+            } else if (originalValue instanceof Map) {
+                return cloneMap(expectedType, (Map<?, ?>) originalValue);
+            } else if (originalValue.getClass().isArray()) {
+                return cloneArray(expectedType, originalValue);
             } else {
-                cloneValue = clone(unprocessed.originalValue);
+                return clone(originalValue);
             }
-            setFieldValue(unprocessed.bean, unprocessed.field, cloneValue);
         }
 
         protected Object cloneArray(Class<?> expectedType, Object originalArray) {
@@ -422,7 +450,8 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         }
 
         /**
-         * Fails fast if {@link #isFieldAnEntityPropertyOnSolution} assumptions were wrong.
+         * Fails fast if {@link #isFieldAnEntityPropertyOnSolution}
+         * or {@link #isFieldAPlanningListVariable} assumptions were wrong.
          *
          * @param originalSolution never null
          * @param cloneSolution never null
@@ -452,6 +481,22 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
                     }
                 }
             }
+            if (solutionDescriptor.hasListVariable()) {
+                ListVariableDescriptor<Solution_> listVariableDescriptor = solutionDescriptor.getListVariableDescriptor();
+                for (Map.Entry<Object, Object> entry : originalToCloneMap.entrySet()) {
+                    Object original = entry.getKey();
+                    if (listVariableDescriptor.getEntityDescriptor().matchesEntity(original)) {
+                        Object originalList = listVariableDescriptor.getValue(original);
+                        if (originalList != null && originalList == listVariableDescriptor.getValue(entry.getValue())) {
+                            throw new IllegalStateException("The planning list variable ("
+                                    + listVariableDescriptor.getSimpleEntityAndVariableName()
+                                    + ") was not cloned as expected."
+                                    + " The " + FieldAccessingSolutionCloner.class.getSimpleName() + " failed to recognize"
+                                    + " that variable's field, probably because its field name is different.");
+                        }
+                    }
+                }
+            }
         }
 
         protected Object getFieldValue(Object bean, Field field) {
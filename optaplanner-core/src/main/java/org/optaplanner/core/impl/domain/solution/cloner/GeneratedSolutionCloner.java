@@ -0,0 +1,288 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.solver.DomainAccessType;
+import org.optaplanner.core.impl.domain.common.ConcurrentMemoization;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * A {@link FieldAccessingSolutionCloner} that builds a type-specialised clone plan once per class,
+ * used for {@link DomainAccessType#GENERATED}.
+ * <p>
+ * A clone plan creates the clone with a generated no-arg constructor call (instead of reflection)
+ * and decides for every field once if it is deep cloned, shallow copied or only decided by its actual value class.
+ * Every field is read and written through {@link MethodHandle}s from a private lookup in its declaring class
+ * (instead of {@link Field#get(Object)} and {@link Field#set(Object, Object)}),
+ * so primitive fields are copied without boxing.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class GeneratedSolutionCloner<Solution_> extends FieldAccessingSolutionCloner<Solution_> {
+
+    protected final ConcurrentMap<Class<?>, ClonePlan<?>> clonePlanMemoization = new ConcurrentMemoization<>();
+
+    public GeneratedSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor) {
+        super(solutionDescriptor);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public Solution_ cloneSolution(Solution_ originalSolution) {
+        return new GeneratedSolutionClonerRun().cloneSolution(originalSolution);
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @param instanceClass never null, the actual class of the instance to clone
+     * @param <C> type
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    protected <C> ClonePlan<C> retrieveClonePlan(Class<C> instanceClass) {
+        return (ClonePlan<C>) clonePlanMemoization.computeIfAbsent(instanceClass,
+                key -> new ClonePlan<>(buildConstructorSupplier(instanceClass), buildFieldCopiers(instanceClass)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <C> Supplier<C> buildConstructorSupplier(Class<C> instanceClass) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(instanceClass, MethodHandles.lookup());
+            MethodHandle constructorHandle = lookup.findConstructor(instanceClass, MethodType.methodType(void.class));
+            CallSite constructorSite = LambdaMetafactory.metafactory(lookup,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    constructorHandle,
+                    MethodType.methodType(instanceClass));
+            return (Supplier<C>) constructorSite.getTarget().invokeExact();
+        } catch (Throwable e) {
+            // For example the module of the instanceClass isn't open for deep reflection: fall back to reflection
+            Constructor<C> constructor = retrieveCachedConstructor(instanceClass);
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                } catch (ReflectiveOperationException e2) {
+                    throw new IllegalStateException("The class (" + instanceClass
+                            + ") should have a no-arg constructor to create a planning clone.", e2);
+                }
+            };
+        }
+    }
+
+    private FieldCopier[] buildFieldCopiers(Class<?> instanceClass) {
+        List<FieldCopier> fieldCopierList = new ArrayList<>();
+        for (Class<?> clazz = instanceClass; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Field field : retrieveCachedFields(clazz)) {
+                fieldCopierList.add(buildFieldCopier(field, instanceClass));
+            }
+        }
+        return fieldCopierList.toArray(new FieldCopier[0]);
+    }
+
+    private FieldCopier buildFieldCopier(Field field, Class<?> instanceClass) {
+        Class<?> type = field.getType();
+        MethodHandle getter;
+        MethodHandle setter;
+        try {
+            // The field is already accessible, so the private lookup also works for final fields
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            getter = lookup.unreflectGetter(field);
+            setter = lookup.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("The class (" + instanceClass + ") has a field (" + field
+                    + ") which cannot be accessed to create a planning clone.", e);
+        }
+        if (type.isPrimitive()) {
+            return buildPrimitiveFieldCopier(field,
+                    getter.asType(MethodType.methodType(type, Object.class)),
+                    setter.asType(MethodType.methodType(void.class, Object.class, type)));
+        }
+        MethodHandle objectGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+        MethodHandle objectSetter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        if (retrieveFieldDeepCloneDecision(field, instanceClass)) {
+            return (original, clone, unprocessedQueue) -> {
+                Object originalValue = objectGetter.invokeExact(original);
+                if (originalValue != null) {
+                    // Postpone filling in the field
+                    unprocessedQueue.add(new GeneratedUnprocessed(clone, field, originalValue, objectSetter));
+                } else {
+                    objectSetter.invokeExact(clone, (Object) null);
+                }
+            };
+        }
+        if (Modifier.isFinal(type.getModifiers()) && !retrieveDeepCloneDecisionForActualValueClass(type)) {
+            // The actual value class is always the field type, so it's never deep cloned
+            return (original, clone, unprocessedQueue) -> {
+                Object originalValue = objectGetter.invokeExact(original);
+                objectSetter.invokeExact(clone, originalValue);
+            };
+        }
+        return (original, clone, unprocessedQueue) -> {
+            Object originalValue = objectGetter.invokeExact(original);
+            if (originalValue != null && retrieveDeepCloneDecisionForActualValueClass(originalValue.getClass())) {
+                // Postpone filling in the field
+                unprocessedQueue.add(new GeneratedUnprocessed(clone, field, originalValue, objectSetter));
+            } else {
+                objectSetter.invokeExact(clone, originalValue);
+            }
+        };
+    }
+
+    private static FieldCopier buildPrimitiveFieldCopier(Field field, MethodHandle getter, MethodHandle setter) {
+        Class<?> type = field.getType();
+        if (type == int.class) {
+            return (original, clone, unprocessedQueue) -> {
+                int value = (int) getter.invokeExact(original);
+                setter.invokeExact(clone, value);
+            };
+        } else if (type == long.class) {
+            return (original, clone, unprocessedQueue) -> {
+                long value = (long) getter.invokeExact(original);
+                setter.invokeExact(clone, value);
+            };
+        } else if (type == boolean.class) {
+            return (original, clone, unprocessedQueue) -> {
+                boolean value = (boolean) getter.invokeExact(original);
+                setter.invokeExact(clone, value);
+            };
+        } else if (type == double.class) {
+            return (original, clone, unprocessedQueue) -> {
+                double value = (double) getter.invokeExact(original);
+                setter.invokeExact(clone, value);
+            };
+        } else if (type == float.class) {
+            return (original, clone, unprocessedQueue) -> {
+                float value = (float) getter.invokeExact(original);
+                setter.invokeExact(clone, value);
+            };
+        } else if (type == short.class) {
+            return (original, clone, unprocessedQueue) -> {
+                short value = (short) getter.invokeExact(original);
+                setter.invokeExact(clone, value);
+            };
+        } else if (type == byte.class) {
+            return (original, clone, unprocessedQueue) -> {
+                byte value = (byte) getter.invokeExact(original);
+                setter.invokeExact(clone, value);
+            };
+        } else if (type == char.class) {
+            return (original, clone, unprocessedQueue) -> {
+                char value = (char) getter.invokeExact(original);
+                setter.invokeExact(clone, value);
+            };
+        } else {
+            throw new IllegalStateException("Impossible state: the field (" + field
+                    + ")'s type (" + type + ") is not a known primitive type.");
+        }
+    }
+
+    protected class GeneratedSolutionClonerRun extends FieldAccessingSolutionClonerRun {
+
+        @Override
+        protected <C> C constructClone(Class<C> clazz) {
+            return retrieveClonePlan(clazz).constructorSupplier.get();
+        }
+
+        @Override
+        protected <C> void copyFields(Class<C> clazz, Class<? extends C> instanceClass, C original, C clone) {
+            // The clone plan of the instanceClass covers the fields of all its superclasses too
+            for (FieldCopier fieldCopier : retrieveClonePlan(instanceClass).fieldCopiers) {
+                try {
+                    fieldCopier.copy(original, clone, unprocessedQueue);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException("The class (" + instanceClass
+                            + ") has a field which cannot be accessed to create a planning clone.", e);
+                }
+            }
+        }
+
+        @Override
+        protected void process(Unprocessed unprocessed) {
+            if (!(unprocessed instanceof GeneratedUnprocessed)) {
+                super.process(unprocessed);
+                return;
+            }
+            Object cloneValue = cloneFieldValue(unprocessed.field.getType(), unprocessed.originalValue);
+            try {
+                ((GeneratedUnprocessed) unprocessed).setter.invokeExact(unprocessed.bean, cloneValue);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("The class (" + unprocessed.bean.getClass() + ") has a field ("
+                        + unprocessed.field + ") which cannot be written with the value (" + cloneValue
+                        + ") to create a planning clone.", e);
+            }
+        }
+
+    }
+
+    protected static final class ClonePlan<C> {
+
+        private final Supplier<C> constructorSupplier;
+        private final FieldCopier[] fieldCopiers;
+
+        private ClonePlan(Supplier<C> constructorSupplier, FieldCopier[] fieldCopiers) {
+            this.constructorSupplier = constructorSupplier;
+            this.fieldCopiers = fieldCopiers;
+        }
+
+    }
+
+    /**
+     * Sets the deep cloned value through the setter of the field, instead of through reflection.
+     */
+    protected static final class GeneratedUnprocessed extends Unprocessed {
+
+        private final MethodHandle setter;
+
+        private GeneratedUnprocessed(Object bean, Field field, Object originalValue, MethodHandle setter) {
+            super(bean, field, originalValue);
+            this.setter = setter;
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface FieldCopier {
+
+        void copy(Object original, Object clone, Queue<Unprocessed> unprocessedQueue) throws Throwable;
+
+    }
+
+}
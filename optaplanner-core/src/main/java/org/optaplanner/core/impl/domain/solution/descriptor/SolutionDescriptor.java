@@ -56,6 +56,7 @@ import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
 import org.optaplanner.core.api.domain.solution.ProblemFactProperty;
 import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
 import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.api.score.AbstractBendableScore;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
@@ -71,6 +72,7 @@ import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
 import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.config.solver.DomainAccessType;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.domain.common.ConcurrentMemoization;
 import org.optaplanner.core.impl.domain.common.ReflectionHelper;
@@ -82,7 +84,9 @@ import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.lookup.LookUpStrategyResolver;
 import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
 import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+import org.optaplanner.core.impl.domain.solution.cloner.GeneratedSolutionCloner;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.buildin.bendable.BendableScoreDefinition;
@@ -114,7 +118,13 @@ public class SolutionDescriptor<Solution_> {
 
     public static <Solution_> SolutionDescriptor<Solution_> buildSolutionDescriptor(Class<Solution_> solutionClass,
             List<Class<?>> entityClassList) {
+        return buildSolutionDescriptor(DomainAccessType.REFLECTION, solutionClass, entityClassList);
+    }
+
+    public static <Solution_> SolutionDescriptor<Solution_> buildSolutionDescriptor(DomainAccessType domainAccessType,
+            Class<Solution_> solutionClass, List<Class<?>> entityClassList) {
         DescriptorPolicy descriptorPolicy = new DescriptorPolicy();
+        descriptorPolicy.setDomainAccessType(domainAccessType);
         SolutionDescriptor<Solution_> solutionDescriptor = new SolutionDescriptor<>(solutionClass);
         solutionDescriptor.processAnnotations(descriptorPolicy, entityClassList);
         for (Class<?> entityClass : sortEntityClassList(entityClassList)) {
@@ -167,6 +177,7 @@ public class SolutionDescriptor<Solution_> {
     private ConstraintConfigurationDescriptor<Solution_> constraintConfigurationDescriptor;
     private final Map<Class<?>, EntityDescriptor<Solution_>> entityDescriptorMap;
     private final List<Class<?>> reversedEntityClassList;
+    private ListVariableDescriptor<Solution_> listVariableDescriptor;
 
     private final ConcurrentMap<Class<?>, EntityDescriptor<Solution_>> lowestEntityDescriptorMemoization =
             new ConcurrentMemoization<>();
@@ -276,14 +287,16 @@ public class SolutionDescriptor<Solution_> {
         if (solutionClonerClass != null) {
             solutionCloner = ConfigUtils.newInstance(this, "solutionClonerClass", solutionClonerClass);
         } else {
-            solutionCloner = new FieldAccessingSolutionCloner<>(this);
+            solutionCloner = descriptorPolicy.getDomainAccessType() == DomainAccessType.GENERATED
+                    ? new GeneratedSolutionCloner<>(this)
+                    : new FieldAccessingSolutionCloner<>(this);
         }
     }
 
     private void processValueRangeProviderAnnotation(DescriptorPolicy descriptorPolicy, Member member) {
         if (((AnnotatedElement) member).isAnnotationPresent(ValueRangeProvider.class)) {
             MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
-                    member, FIELD_OR_READ_METHOD, ValueRangeProvider.class);
+                    member, FIELD_OR_READ_METHOD, ValueRangeProvider.class, descriptorPolicy.getDomainAccessType());
             descriptorPolicy.addFromSolutionValueRangeProvider(memberAccessor);
         }
     }
@@ -385,7 +398,7 @@ public class SolutionDescriptor<Solution_> {
     private void processConstraintConfigurationProviderAnnotation(DescriptorPolicy descriptorPolicy, Member member,
             Class<? extends Annotation> annotationClass) {
         MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
-                member, FIELD_OR_READ_METHOD, annotationClass);
+                member, FIELD_OR_READ_METHOD, annotationClass, descriptorPolicy.getDomainAccessType());
         if (constraintConfigurationMemberAccessor != null) {
             if (!constraintConfigurationMemberAccessor.getName().equals(memberAccessor.getName())
                     || !constraintConfigurationMemberAccessor.getClass().equals(memberAccessor.getClass())) {
@@ -417,7 +430,7 @@ public class SolutionDescriptor<Solution_> {
     private void processProblemFactPropertyAnnotation(DescriptorPolicy descriptorPolicy, Member member,
             Class<? extends Annotation> annotationClass) {
         MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
-                member, FIELD_OR_READ_METHOD, annotationClass);
+                member, FIELD_OR_READ_METHOD, annotationClass, descriptorPolicy.getDomainAccessType());
         assertNoFieldAndGetterDuplicationOrConflict(memberAccessor, annotationClass);
         if (annotationClass == ProblemFactProperty.class) {
             problemFactMemberAccessorMap.put(memberAccessor.getName(), memberAccessor);
@@ -438,7 +451,7 @@ public class SolutionDescriptor<Solution_> {
     private void processPlanningEntityPropertyAnnotation(DescriptorPolicy descriptorPolicy, Member member,
             Class<? extends Annotation> annotationClass) {
         MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
-                member, FIELD_OR_GETTER_METHOD, annotationClass);
+                member, FIELD_OR_GETTER_METHOD, annotationClass, descriptorPolicy.getDomainAccessType());
         assertNoFieldAndGetterDuplicationOrConflict(memberAccessor, annotationClass);
         if (annotationClass == PlanningEntityProperty.class) {
             entityMemberAccessorMap.put(memberAccessor.getName(), memberAccessor);
@@ -493,7 +506,7 @@ public class SolutionDescriptor<Solution_> {
     private void processScoreAnnotation(DescriptorPolicy descriptorPolicy, Member member,
             Class<? extends Annotation> annotationClass) {
         MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
-                member, FIELD_OR_GETTER_METHOD_WITH_SETTER, PlanningScore.class);
+                member, FIELD_OR_GETTER_METHOD_WITH_SETTER, PlanningScore.class, descriptorPolicy.getDomainAccessType());
         if (!Score.class.isAssignableFrom(memberAccessor.getType())) {
             throw new IllegalStateException("The solutionClass (" + solutionClass
                     + ") has a " + PlanningScore.class.getSimpleName()
@@ -625,6 +638,7 @@ public class SolutionDescriptor<Solution_> {
         for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
             entityDescriptor.linkEntityDescriptors(descriptorPolicy);
         }
+        processListVariable();
         for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
             entityDescriptor.linkVariableDescriptors(descriptorPolicy);
         }
@@ -666,6 +680,22 @@ public class SolutionDescriptor<Solution_> {
         }
     }
 
+    private void processListVariable() {
+        for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
+            ListVariableDescriptor<Solution_> entityListVariableDescriptor = entityDescriptor.getListVariableDescriptor();
+            if (entityListVariableDescriptor == null || entityListVariableDescriptor == listVariableDescriptor) {
+                continue;
+            }
+            if (listVariableDescriptor != null) {
+                throw new IllegalStateException("The solutionClass (" + solutionClass
+                        + ") has multiple planning list variables (" + listVariableDescriptor
+                        + ", " + entityListVariableDescriptor + ").\n"
+                        + "A solution class supports at most 1 " + PlanningListVariable.class.getSimpleName() + ".");
+            }
+            listVariableDescriptor = entityListVariableDescriptor;
+        }
+    }
+
     private void determineGlobalShadowOrder() {
         // Topological sorting with Kahn's algorithm
         List<Pair<ShadowVariableDescriptor<Solution_>, Integer>> pairList = new ArrayList<>();
@@ -686,6 +716,15 @@ public class SolutionDescriptor<Solution_> {
                     sinkPair.setValue(sinkPair.getValue() - 1);
                 }
             }
+            if (entityDescriptor.hasListVariable()
+                    && entityDescriptor.getListVariableDescriptor().getEntityDescriptor() == entityDescriptor) {
+                // The list variable is genuine too, but it isn't a GenuineVariableDescriptor
+                for (ShadowVariableDescriptor<Solution_> sink : entityDescriptor.getListVariableDescriptor()
+                        .getSinkVariableDescriptorList()) {
+                    Pair<ShadowVariableDescriptor<Solution_>, Integer> sinkPair = shadowToPairMap.get(sink);
+                    sinkPair.setValue(sinkPair.getValue() - 1);
+                }
+            }
         }
         int globalShadowOrder = 0;
         while (!pairList.isEmpty()) {
@@ -790,6 +829,17 @@ public class SolutionDescriptor<Solution_> {
         return entityDescriptorMap.values();
     }
 
+    /**
+     * @return null if no entity class has a {@link PlanningListVariable}
+     */
+    public ListVariableDescriptor<Solution_> getListVariableDescriptor() {
+        return listVariableDescriptor;
+    }
+
+    public boolean hasListVariable() {
+        return listVariableDescriptor != null;
+    }
+
     public Collection<EntityDescriptor<Solution_>> getGenuineEntityDescriptors() {
         List<EntityDescriptor<Solution_>> genuineEntityDescriptorList = new ArrayList<>(entityDescriptorMap.size());
         for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
@@ -1077,6 +1127,10 @@ public class SolutionDescriptor<Solution_> {
         long count = extractAllEntitiesStream(solution)
                 .mapToLong(entity -> findEntityDescriptorOrFail(entity.getClass()).countUninitializedVariables(entity))
                 .sum();
+        if (listVariableDescriptor != null) {
+            // Each planning value that isn't in any list is uninitialized
+            count += listVariableDescriptor.countUnassignedValues(solution);
+        }
         // Score.initScore is an int
         return Math.toIntExact(count);
     }
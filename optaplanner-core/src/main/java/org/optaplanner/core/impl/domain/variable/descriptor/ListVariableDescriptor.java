@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.descriptor;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
+
+/**
+ * Describes a {@link PlanningListVariable}: each planning value is assigned to at most 1 entity, at a specific index.
+ * <p>
+ * Unlike a {@link GenuineVariableDescriptor}, a planning value is uninitialized (unassigned)
+ * instead of a planning entity.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListVariableDescriptor<Solution_> extends VariableDescriptor<Solution_> {
+
+    private Class<?> elementType;
+    private List<MemberAccessor> valueRangeMemberAccessorList;
+
+    // ************************************************************************
+    // Constructors and simple getters/setters
+    // ************************************************************************
+
+    public ListVariableDescriptor(EntityDescriptor<Solution_> entityDescriptor, MemberAccessor variableMemberAccessor) {
+        super(entityDescriptor, variableMemberAccessor);
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    public void processAnnotations(DescriptorPolicy descriptorPolicy) {
+        PlanningListVariable planningListVariableAnnotation = variableMemberAccessor
+                .getAnnotation(PlanningListVariable.class);
+        processElementType(descriptorPolicy);
+        processValueRangeRefs(descriptorPolicy, planningListVariableAnnotation);
+    }
+
+    private void processElementType(DescriptorPolicy descriptorPolicy) {
+        Class<?> variablePropertyType = variableMemberAccessor.getType();
+        if (!List.class.isAssignableFrom(variablePropertyType)) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") with a propertyType (" + variableMemberAccessor.getType()
+                    + ") which is not a " + List.class.getSimpleName() + ".");
+        }
+        elementType = ConfigUtils.extractCollectionGenericTypeParameter(
+                "entityClass", entityDescriptor.getEntityClass(),
+                variablePropertyType, variableMemberAccessor.getGenericType(),
+                PlanningListVariable.class, variableMemberAccessor.getName());
+    }
+
+    private void processValueRangeRefs(DescriptorPolicy descriptorPolicy,
+            PlanningListVariable planningListVariableAnnotation) {
+        String[] valueRangeProviderRefs = planningListVariableAnnotation.valueRangeProviderRefs();
+        if (ArrayUtils.isEmpty(valueRangeProviderRefs)) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") that has no valueRangeProviderRefs (" + Arrays.toString(valueRangeProviderRefs) + ").");
+        }
+        valueRangeMemberAccessorList = new ArrayList<>(valueRangeProviderRefs.length);
+        for (String valueRangeProviderRef : valueRangeProviderRefs) {
+            if (!descriptorPolicy.hasFromSolutionValueRangeProvider(valueRangeProviderRef)) {
+                throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                        + ") has a @" + PlanningListVariable.class.getSimpleName()
+                        + " property (" + variableMemberAccessor.getName()
+                        + ") with a valueRangeProviderRef (" + valueRangeProviderRef
+                        + ") that does not exist in a @" + ValueRangeProvider.class.getSimpleName()
+                        + " on the solution class ("
+                        + entityDescriptor.getSolutionDescriptor().getSolutionClass().getSimpleName() + ").\n"
+                        + "The valueRangeProviderRef (" + valueRangeProviderRef
+                        + ") does not appear in the valueRangeProvideIds ("
+                        + descriptorPolicy.getValueRangeProviderIds() + ").\n"
+                        + "A @" + ValueRangeProvider.class.getSimpleName()
+                        + " on a planning entity is not supported for a planning list variable.");
+            }
+            valueRangeMemberAccessorList.add(descriptorPolicy.getFromSolutionValueRangeProvider(valueRangeProviderRef));
+        }
+    }
+
+    @Override
+    public void linkVariableDescriptors(DescriptorPolicy descriptorPolicy) {
+        // Do nothing
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return never null, the class of the planning values in the list
+     */
+    public Class<?> getElementType() {
+        return elementType;
+    }
+
+    @Override
+    public boolean isValuePotentialAnchor(Object value) {
+        return false;
+    }
+
+    // ************************************************************************
+    // Extraction methods
+    // ************************************************************************
+
+    /**
+     * @param entity never null
+     * @return never null, the live list, so changing it must be surrounded by
+     *         {@code beforeListVariableChanged()} and {@code afterListVariableChanged()}
+     */
+    public List<Object> getListVariable(Object entity) {
+        List<Object> list = (List<Object>) getValue(entity);
+        if (list == null) {
+            throw new IllegalStateException("The entity (" + entity
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " (" + getSimpleEntityAndVariableName() + ") which is null.\n"
+                    + "Maybe initialize that list as an empty list instead.");
+        }
+        return list;
+    }
+
+    public int getListSize(Object entity) {
+        return getListVariable(entity).size();
+    }
+
+    public Object getElement(Object entity, int index) {
+        return getListVariable(entity).get(index);
+    }
+
+    /**
+     * @param solution never null
+     * @return never null, all planning values of all value ranges, whether they are assigned or not
+     */
+    public List<Object> extractAllValues(Solution_ solution) {
+        List<Object> valueList = new ArrayList<>();
+        for (MemberAccessor memberAccessor : valueRangeMemberAccessorList) {
+            Object valueRangeObject = memberAccessor.executeGetter(solution);
+            if (valueRangeObject == null) {
+                throw new IllegalStateException("The @" + ValueRangeProvider.class.getSimpleName()
+                        + " annotated member (" + memberAccessor
+                        + ") called on planning solution (" + solution + ") must not return a null valueRangeObject.");
+            } else if (valueRangeObject instanceof Collection) {
+                valueList.addAll((Collection<?>) valueRangeObject);
+            } else if (valueRangeObject.getClass().isArray()) {
+                int length = Array.getLength(valueRangeObject);
+                for (int i = 0; i < length; i++) {
+                    valueList.add(Array.get(valueRangeObject, i));
+                }
+            } else if (valueRangeObject instanceof CountableValueRange) {
+                Iterator<?> valueIterator = ((CountableValueRange<?>) valueRangeObject).createOriginalIterator();
+                while (valueIterator.hasNext()) {
+                    valueList.add(valueIterator.next());
+                }
+            } else {
+                throw new IllegalStateException("The @" + ValueRangeProvider.class.getSimpleName()
+                        + " annotated member (" + memberAccessor
+                        + ") of the " + PlanningListVariable.class.getSimpleName()
+                        + " (" + getSimpleEntityAndVariableName()
+                        + ") must return a " + Collection.class.getSimpleName()
+                        + ", an array or a " + CountableValueRange.class.getSimpleName() + ".");
+            }
+        }
+        return valueList;
+    }
+
+    /**
+     * @param solution never null
+     * @return {@code >= 0}, the number of planning values that aren't in the list of any entity
+     */
+    public int countUnassignedValues(Solution_ solution) {
+        int assignedCount = 0;
+        for (Object entity : entityDescriptor.extractEntities(solution)) {
+            assignedCount += getListSize(entity);
+        }
+        return extractAllValues(solution).size() - assignedCount;
+    }
+
+    /**
+     * The planning values of a list variable are never null: an unassigned value is uninitialized instead.
+     *
+     * @param entity never null
+     * @return always false
+     * @see #countUnassignedValues(Object)
+     */
+    @Override
+    public boolean isGenuineAndUninitialized(Object entity) {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getSimpleEntityAndVariableName() + " list variable";
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.index;
+
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.variable.IndexShadowVariable;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class IndexVariableDemand<Solution_> implements Demand<Solution_, IndexVariableSupply> {
+
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public IndexVariableDemand(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    public ListVariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public IndexVariableSupply createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        throw new UnsupportedOperationException("The " + getClass().getSimpleName()
+                + " for the list variable (" + sourceVariableDescriptor.getSimpleEntityAndVariableName()
+                + ") cannot be externalized yet.\n"
+                + "Maybe add an @" + IndexShadowVariable.class.getSimpleName()
+                + " on the element class of that list variable.");
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IndexVariableDemand)) {
+            return false;
+        }
+        IndexVariableDemand<Solution_> other = (IndexVariableDemand<Solution_>) o;
+        return sourceVariableDescriptor.equals(other.sourceVariableDescriptor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(IndexVariableDemand.class.getName(), sourceVariableDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.index;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class IndexVariableListener<Solution_> implements ListVariableListener<Solution_, Object>, IndexVariableSupply {
+
+    protected final IndexShadowVariableDescriptor<Solution_> shadowVariableDescriptor;
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public IndexVariableListener(IndexShadowVariableDescriptor<Solution_> shadowVariableDescriptor,
+            ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.shadowVariableDescriptor = shadowVariableDescriptor;
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        updateIndexes((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        for (Object element : sourceVariableDescriptor.getListVariable(entity)) {
+            changeIndex(innerScoreDirector, element, null);
+        }
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity,
+            int fromIndex, int toIndex) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity,
+            int fromIndex, int toIndex) {
+        updateIndexes((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public void afterListVariableElementUnassigned(ScoreDirector<Solution_> scoreDirector, Object element) {
+        changeIndex((InnerScoreDirector<Solution_, ?>) scoreDirector, element, null);
+    }
+
+    private void updateIndexes(InnerScoreDirector<Solution_, ?> scoreDirector, Object entity,
+            int fromIndex, int toIndex) {
+        List<Object> list = sourceVariableDescriptor.getListVariable(entity);
+        int end = Math.min(toIndex, list.size());
+        for (int index = fromIndex; index < end; index++) {
+            changeIndex(scoreDirector, list.get(index), index);
+        }
+    }
+
+    private void changeIndex(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, Integer index) {
+        // Only touch the shadow variable if it actually changes, to avoid needless score recalculation
+        if (!Objects.equals(shadowVariableDescriptor.getValue(element), index)) {
+            scoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+            shadowVariableDescriptor.setValue(element, index);
+            scoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
+        }
+    }
+
+    @Override
+    public Integer getIndex(Object planningValue) {
+        return (Integer) shadowVariableDescriptor.getValue(planningValue);
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.inverserelation;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+
+/**
+ * Alternative to {@link SingletonListInverseVariableListener}.
+ */
+public class ExternalizedSingletonListInverseVariableSupply<Solution_>
+        implements SourcedVariableListener<Solution_, Object>, ListVariableListener<Solution_, Object>,
+        SingletonInverseVariableSupply {
+
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    protected Map<Object, Object> inverseEntityMap = null;
+
+    public ExternalizedSingletonListInverseVariableSupply(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public ListVariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        List<Object> entityList = sourceVariableDescriptor.getEntityDescriptor()
+                .extractEntities(scoreDirector.getWorkingSolution());
+        inverseEntityMap = new IdentityHashMap<>();
+        for (Object entity : entityList) {
+            insert(entity, 0, Integer.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public void close() {
+        inverseEntityMap = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        for (Object element : sourceVariableDescriptor.getListVariable(entity)) {
+            Object oldInverseEntity = inverseEntityMap.remove(element);
+            if (oldInverseEntity != entity) {
+                throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                        + " because the entity (" + entity
+                        + ") for sourceVariable (" + sourceVariableDescriptor.getVariableName()
+                        + ") cannot be retracted: the entity was never inserted for that element (" + element + ").");
+            }
+        }
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity,
+            int fromIndex, int toIndex) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity,
+            int fromIndex, int toIndex) {
+        insert(entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public void afterListVariableElementUnassigned(ScoreDirector<Solution_> scoreDirector, Object element) {
+        inverseEntityMap.remove(element);
+    }
+
+    protected void insert(Object entity, int fromIndex, int toIndex) {
+        List<Object> list = sourceVariableDescriptor.getListVariable(entity);
+        int end = Math.min(toIndex, list.size());
+        for (int index = fromIndex; index < end; index++) {
+            // An element that moved from another list overwrites its old inverse entity
+            inverseEntityMap.put(list.get(index), entity);
+        }
+    }
+
+    @Override
+    public Object getInverseSingleton(Object value) {
+        return inverseEntityMap.get(value);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+}
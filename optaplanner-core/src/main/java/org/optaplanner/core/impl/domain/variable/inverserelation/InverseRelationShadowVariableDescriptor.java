@@ -23,12 +23,14 @@ import java.util.List;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.variable.InverseRelationShadowVariable;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.api.domain.variable.VariableListener;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
@@ -95,14 +97,26 @@ public class InverseRelationShadowVariableDescriptor<Solution_> extends ShadowVa
         }
         boolean chained = (sourceVariableDescriptor instanceof GenuineVariableDescriptor) &&
                 ((GenuineVariableDescriptor<Solution_>) sourceVariableDescriptor).isChained();
-        if (singleton) {
+        boolean list = sourceVariableDescriptor instanceof ListVariableDescriptor;
+        if (list) {
+            if (!singleton) {
+                throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                        + ") has a " + InverseRelationShadowVariable.class.getSimpleName()
+                        + " annotated property (" + variableMemberAccessor.getName()
+                        + ") which does returns a " + Collection.class.getSimpleName()
+                        + " with sourceVariableName (" + sourceVariableName
+                        + ") which is a " + PlanningListVariable.class.getSimpleName()
+                        + ". A planning list variable supports only a singleton inverse.");
+            }
+        } else if (singleton) {
             if (!chained) {
                 throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
                         + ") has a " + InverseRelationShadowVariable.class.getSimpleName()
                         + " annotated property (" + variableMemberAccessor.getName()
                         + ") which does not return a " + Collection.class.getSimpleName()
                         + " with sourceVariableName (" + sourceVariableName
-                        + ") which is not chained. Only a chained variable supports a singleton inverse.");
+                        + ") which is not chained. Only a chained variable or a "
+                        + PlanningListVariable.class.getSimpleName() + " supports a singleton inverse.");
             }
         } else {
             if (chained) {
@@ -124,7 +138,9 @@ public class InverseRelationShadowVariableDescriptor<Solution_> extends ShadowVa
 
     @Override
     public Class<? extends VariableListener> getVariableListenerClass() {
-        if (singleton) {
+        if (sourceVariableDescriptor instanceof ListVariableDescriptor) {
+            return SingletonListInverseVariableListener.class;
+        } else if (singleton) {
             return SingletonInverseVariableListener.class;
         } else {
             return CollectionInverseVariableListener.class;
@@ -146,7 +162,10 @@ public class InverseRelationShadowVariableDescriptor<Solution_> extends ShadowVa
 
     @Override
     public VariableListener<Solution_, ?> buildVariableListener(InnerScoreDirector<Solution_, ?> scoreDirector) {
-        if (singleton) {
+        if (sourceVariableDescriptor instanceof ListVariableDescriptor) {
+            return new SingletonListInverseVariableListener<>(this,
+                    (ListVariableDescriptor<Solution_>) sourceVariableDescriptor);
+        } else if (singleton) {
             return new SingletonInverseVariableListener<>(this, sourceVariableDescriptor);
         } else {
             return new CollectionInverseVariableListener<>(this, sourceVariableDescriptor);
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.inverserelation;
+
+import java.util.List;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Like {@link SingletonInverseVariableListener}, but for a planning list variable:
+ * the inverse of a planning value is the entity whose list contains it.
+ */
+public class SingletonListInverseVariableListener<Solution_>
+        implements ListVariableListener<Solution_, Object>, SingletonInverseVariableSupply {
+
+    protected final InverseRelationShadowVariableDescriptor<Solution_> shadowVariableDescriptor;
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public SingletonListInverseVariableListener(
+            InverseRelationShadowVariableDescriptor<Solution_> shadowVariableDescriptor,
+            ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.shadowVariableDescriptor = shadowVariableDescriptor;
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        for (Object element : sourceVariableDescriptor.getListVariable(entity)) {
+            setInverse(innerScoreDirector, element, entity);
+        }
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        for (Object element : sourceVariableDescriptor.getListVariable(entity)) {
+            setInverse(innerScoreDirector, element, null);
+        }
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity,
+            int fromIndex, int toIndex) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity,
+            int fromIndex, int toIndex) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        List<Object> list = sourceVariableDescriptor.getListVariable(entity);
+        int end = Math.min(toIndex, list.size());
+        for (int index = fromIndex; index < end; index++) {
+            setInverse(innerScoreDirector, list.get(index), entity);
+        }
+    }
+
+    @Override
+    public void afterListVariableElementUnassigned(ScoreDirector<Solution_> scoreDirector, Object element) {
+        setInverse((InnerScoreDirector<Solution_, ?>) scoreDirector, element, null);
+    }
+
+    private void setInverse(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, Object inverseEntity) {
+        // Only touch the shadow variable if it actually changes, to avoid needless score recalculation
+        if (shadowVariableDescriptor.getValue(element) != inverseEntity) {
+            scoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+            shadowVariableDescriptor.setValue(element, inverseEntity);
+            scoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
+        }
+    }
+
+    @Override
+    public Object getInverseSingleton(Object planningValue) {
+        return shadowVariableDescriptor.getValue(planningValue);
+    }
+
+}
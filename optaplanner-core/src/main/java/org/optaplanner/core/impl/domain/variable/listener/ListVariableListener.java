@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.listener;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+
+/**
+ * A {@link VariableListener} sourced on a {@link PlanningListVariable}
+ * that is notified of the index range that changed, instead of just the entity,
+ * so it only needs to update the shadow variables of the planning values in that range.
+ * <p>
+ * Its {@link #beforeVariableChanged(ScoreDirector, Object)} and {@link #afterVariableChanged(ScoreDirector, Object)}
+ * are never called.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Entity_> the planning entity type that has the {@link PlanningListVariable}
+ */
+public interface ListVariableListener<Solution_, Entity_> extends VariableListener<Solution_, Entity_> {
+
+    /**
+     * @param scoreDirector never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, the first index that will change
+     * @param toIndex {@code >= fromIndex}, the index after the last index that will change,
+     *        might be larger than the list size
+     */
+    void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity, int fromIndex, int toIndex);
+
+    /**
+     * The planning values at an index in the range {@code [fromIndex, toIndex)} changed,
+     * the planning values before fromIndex did not change
+     * and the planning values after toIndex only moved if the list size changed.
+     *
+     * @param scoreDirector never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, the first index that changed
+     * @param toIndex {@code >= fromIndex}, the index after the last index that changed,
+     *        might be larger than the list size
+     */
+    void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity, int fromIndex, int toIndex);
+
+    /**
+     * The planning value was removed from a list and not added to another list.
+     *
+     * @param scoreDirector never null
+     * @param element never null, the planning value that is no longer in any list
+     */
+    void afterListVariableElementUnassigned(ScoreDirector<Solution_> scoreDirector, Object element);
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.listener.support;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+
+/**
+ * A {@link VariableListenerNotification} for a {@link ListVariableListener},
+ * which also holds the index range that changed.
+ */
+public class ListVariableListenerNotification extends VariableListenerNotification {
+
+    private final int fromIndex;
+    private final int toIndex;
+
+    public ListVariableListenerNotification(Object entity, int fromIndex, int toIndex) {
+        super(entity, VariableListenerNotificationType.LIST_VARIABLE_CHANGED);
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    public int getToIndex() {
+        return toIndex;
+    }
+
+    /**
+     * @param o sometimes null
+     * @return true if same entity instance and the same index range
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof ListVariableListenerNotification) {
+            ListVariableListenerNotification other = (ListVariableListenerNotification) o;
+            return getEntity() == other.getEntity() && fromIndex == other.fromIndex && toIndex == other.toIndex;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(getEntity()), fromIndex, toIndex);
+    }
+
+}
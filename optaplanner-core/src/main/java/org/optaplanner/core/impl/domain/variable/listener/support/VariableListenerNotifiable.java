@@ -17,10 +17,24 @@
 package org.optaplanner.core.impl.domain.variable.listener.support;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 
+/**
+ * A node of the variable listener graph: a {@link VariableListener} with its place in the topological order
+ * of all shadow variables and its notifications that haven't been triggered yet.
+ * <p>
+ * If the {@link VariableListener#requiresUniqueEntityEvents() variable listener requires unique entity events},
+ * the notifications are unique per entity instance and notification type between 2 triggers,
+ * so a shadow variable that is affected several times in the same move is only recalculated once.
+ */
 public class VariableListenerNotifiable implements Comparable<VariableListenerNotifiable> {
 
     protected final VariableListener variableListener;
@@ -28,6 +42,21 @@ public class VariableListenerNotifiable implements Comparable<VariableListenerNo
 
     protected final Collection<VariableListenerNotification> notificationQueue;
 
+    // Not null if the variable changes must be triggered upstream entities first
+    protected AnchorVariableSupply anchorVariableSupply = null;
+    protected SingletonInverseVariableSupply inverseVariableSupply = null;
+    // Reused by every trigger, so ordering the notifications doesn't allocate once they're big enough
+    private List<VariableListenerNotification> orderedNotificationList = null;
+    private List<Object> chainFirstEntityList = null;
+    private Map<Object, Integer> chainKeyToEntityCountMap = null;
+    private Map<Object, VariableListenerNotification> entityToNotificationMap = null;
+    private Map<Object, Integer> entityToDuplicateCountMap = null;
+
+    /**
+     * @param variableListener never null
+     * @param globalOrder {@code >= 0} for a shadow variable, {@code -1} for a supply of a genuine variable,
+     *        which is triggered before all shadow variables
+     */
     public VariableListenerNotifiable(VariableListener variableListener, int globalOrder) {
         this.variableListener = variableListener;
         this.globalOrder = globalOrder;
@@ -50,6 +79,127 @@ public class VariableListenerNotifiable implements Comparable<VariableListenerNo
         return notificationQueue;
     }
 
+    /**
+     * Triggers the variable changes upstream entities first, see {@link #getTriggerOrderedNotificationQueue()}.
+     *
+     * @param anchorVariableSupply never null, of the chained source variable,
+     *        triggered before this variable listener
+     * @param inverseVariableSupply never null, of the chained source variable,
+     *        triggered before this variable listener
+     */
+    public void linkChainSupplies(AnchorVariableSupply anchorVariableSupply,
+            SingletonInverseVariableSupply inverseVariableSupply) {
+        this.anchorVariableSupply = anchorVariableSupply;
+        this.inverseVariableSupply = inverseVariableSupply;
+        int capacity = SmallScalingOrderedSet.LIST_SIZE_THRESHOLD;
+        orderedNotificationList = new ArrayList<>(capacity);
+        chainFirstEntityList = new ArrayList<>(capacity);
+        createOrderingMaps();
+    }
+
+    private void createOrderingMaps() {
+        int capacity = SmallScalingOrderedSet.LIST_SIZE_THRESHOLD;
+        chainKeyToEntityCountMap = new IdentityHashMap<>(capacity);
+        entityToNotificationMap = new IdentityHashMap<>(capacity);
+        entityToDuplicateCountMap = new IdentityHashMap<>();
+    }
+
+    /**
+     * If the chain supplies are linked, the variable changes are grouped per chain,
+     * in the order in which each chain was first affected,
+     * and within a chain an entity is triggered before the entities that trail it,
+     * so a listener that updates the trailing entities too (for example an arrival time)
+     * doesn't recalculate them with a stale value of the entity first.
+     * Otherwise the notifications are triggered in the order in which they were affected.
+     * <p>
+     * The ordering is linear in the number of notifications and the walked chain lengths,
+     * so it's done at every queue size (including when all variable listeners are triggered).
+     *
+     * @return never null, the {@link #getNotificationQueue()} or an ordered view of it,
+     *         which is only valid until the next call
+     */
+    public Collection<VariableListenerNotification> getTriggerOrderedNotificationQueue() {
+        if (anchorVariableSupply == null || notificationQueue.size() <= 1) {
+            return notificationQueue;
+        }
+        chainFirstEntityList.clear();
+        if (entityToNotificationMap.size() > SmallScalingOrderedSet.LIST_SIZE_THRESHOLD) {
+            // Clearing a map costs its capacity, so don't keep the big maps of a trigger of all variable listeners
+            createOrderingMaps();
+        } else {
+            chainKeyToEntityCountMap.clear();
+            entityToNotificationMap.clear();
+            entityToDuplicateCountMap.clear();
+        }
+        for (VariableListenerNotification notification : notificationQueue) {
+            if (notification.getType() != VariableListenerNotificationType.VARIABLE_CHANGED) {
+                return notificationQueue;
+            }
+            Object entity = notification.getEntity();
+            if (entityToNotificationMap.putIfAbsent(entity, notification) != null) {
+                // Only if the variable listener doesn't require unique entity events
+                entityToDuplicateCountMap.merge(entity, 1, Integer::sum);
+                continue;
+            }
+            Object chainKey = extractChainKey(entity);
+            Integer entityCount = chainKeyToEntityCountMap.get(chainKey);
+            if (entityCount == null) {
+                chainFirstEntityList.add(entity);
+                chainKeyToEntityCountMap.put(chainKey, 1);
+            } else {
+                chainKeyToEntityCountMap.put(chainKey, entityCount + 1);
+            }
+        }
+        if (chainFirstEntityList.size() == entityToNotificationMap.size()) {
+            // Every entity is in another chain
+            return notificationQueue;
+        }
+        orderedNotificationList.clear();
+        for (Object firstEntity : chainFirstEntityList) {
+            Object chainKey = extractChainKey(firstEntity);
+            int remainingCount = chainKeyToEntityCountMap.get(chainKey);
+            if (remainingCount == 1) {
+                addNotifications(firstEntity);
+                continue;
+            }
+            // Walk the chain once, from its anchor until its last notified entity
+            Object entity = inverseVariableSupply.getInverseSingleton(chainKey);
+            while (entity != null) {
+                if (entityToNotificationMap.containsKey(entity)) {
+                    addNotifications(entity);
+                    remainingCount--;
+                    if (remainingCount == 0) {
+                        break;
+                    }
+                }
+                entity = inverseVariableSupply.getInverseSingleton(entity);
+            }
+            if (remainingCount != 0) {
+                // The supplies are not consistent with the notified entities, so don't lose any notification
+                return notificationQueue;
+            }
+        }
+        return orderedNotificationList;
+    }
+
+    private void addNotifications(Object entity) {
+        VariableListenerNotification notification = entityToNotificationMap.get(entity);
+        orderedNotificationList.add(notification);
+        Integer duplicateCount = entityToDuplicateCountMap.get(entity);
+        if (duplicateCount != null) {
+            // The duplicates of the same entity and type are equal
+            for (int i = 0; i < duplicateCount; i++) {
+                orderedNotificationList.add(notification);
+            }
+        }
+    }
+
+    private Object extractChainKey(Object entity) {
+        Object anchor = anchorVariableSupply.getAnchor(entity);
+        // An entity without an anchor (such as an uninitialized entity) is a chain on its own
+        return anchor == null ? entity : anchor;
+    }
+
     @Override
     public int compareTo(VariableListenerNotifiable other) {
         if (globalOrder < other.globalOrder) {
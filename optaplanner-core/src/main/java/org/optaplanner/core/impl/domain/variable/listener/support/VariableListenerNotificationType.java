@@ -19,5 +19,7 @@ package org.optaplanner.core.impl.domain.variable.listener.support;
 public enum VariableListenerNotificationType {
     ENTITY_ADDED,
     VARIABLE_CHANGED,
-    ENTITY_REMOVED;
+    ENTITY_REMOVED,
+    LIST_VARIABLE_CHANGED,
+    ELEMENT_UNASSIGNED;
 }
@@ -28,9 +28,15 @@ import org.optaplanner.core.api.domain.variable.VariableListener;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
+import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
 import org.optaplanner.core.impl.domain.variable.supply.Supply;
@@ -49,6 +55,9 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
     protected final Map<EntityDescriptor<Solution_>, List<VariableListenerNotifiable>> sourceEntityToNotifiableMap;
     protected final Map<Demand<Solution_, ?>, Supply> supplyMap;
     protected int nextGlobalOrder = 0;
+    // The supplies at the start of the notifiableList, triggered before all shadow variables
+    protected int leadingSupplyCount = 0;
+    protected boolean demandedSupplyDependsOnShadowVariable = false;
 
     protected boolean notificationQueuesAreEmpty;
 
@@ -62,6 +71,7 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
 
     public void linkVariableListeners() {
         notificationQueuesAreEmpty = true;
+        Map<VariableListenerNotifiable, GenuineVariableDescriptor<Solution_>> chainedNotifiableMap = new LinkedHashMap<>();
         for (EntityDescriptor<Solution_> entityDescriptor : scoreDirector.getSolutionDescriptor().getEntityDescriptors()) {
             for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getDeclaredVariableDescriptors()) {
                 sourceVariableToNotifiableMap.put(variableDescriptor, new ArrayList<>());
@@ -83,6 +93,14 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                         nextGlobalOrder = globalOrder + 1;
                     }
                     VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, globalOrder);
+                    // Built-in listeners (which are supplies) don't read the shadow variable of the previous entity
+                    if (!(variableListener instanceof Supply)) {
+                        GenuineVariableDescriptor<Solution_> chainedVariableDescriptor =
+                                findChainedSourceVariableDescriptor(shadowVariableDescriptor);
+                        if (chainedVariableDescriptor != null) {
+                            chainedNotifiableMap.put(notifiable, chainedVariableDescriptor);
+                        }
+                    }
                     for (VariableDescriptor<Solution_> source : shadowVariableDescriptor.getSourceVariableDescriptorList()) {
                         List<VariableListenerNotifiable> variableNotifiableList = sourceVariableToNotifiableMap.get(source);
                         variableNotifiableList.add(notifiable);
@@ -96,14 +114,79 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                 }
             }
         }
+        // The global order is the topological order of the shadow variables, determined once by the SolutionDescriptor
         Collections.sort(notifiableList);
+        linkChainSupplies(chainedNotifiableMap);
+    }
+
+    /**
+     * Lets a variable listener of a chained variable trigger upstream entities first,
+     * see {@link VariableListenerNotifiable#getTriggerOrderedNotificationQueue()}.
+     *
+     * @param chainedNotifiableMap never null, the chained source variable per variable listener
+     */
+    private void linkChainSupplies(
+            Map<VariableListenerNotifiable, GenuineVariableDescriptor<Solution_>> chainedNotifiableMap) {
+        // Demand all supplies first, because demanding an externalized supply can insert it in the notifiableList
+        Map<VariableListenerNotifiable, AnchorVariableSupply> anchorSupplyMap = new LinkedHashMap<>();
+        Map<VariableListenerNotifiable, SingletonInverseVariableSupply> inverseSupplyMap = new LinkedHashMap<>();
+        chainedNotifiableMap.forEach((notifiable, chainedVariableDescriptor) -> {
+            anchorSupplyMap.put(notifiable, demand(new AnchorVariableDemand<>(chainedVariableDescriptor)));
+            inverseSupplyMap.put(notifiable, demand(new SingletonInverseVariableDemand<>(chainedVariableDescriptor)));
+        });
+        for (VariableListenerNotifiable notifiable : chainedNotifiableMap.keySet()) {
+            AnchorVariableSupply anchorVariableSupply = anchorSupplyMap.get(notifiable);
+            SingletonInverseVariableSupply inverseVariableSupply = inverseSupplyMap.get(notifiable);
+            int index = notifiableList.indexOf(notifiable);
+            // A supply triggered after the variable listener is stale, so then the trigger order is left as is
+            if (indexOfSupply(anchorVariableSupply) < index && indexOfSupply(inverseVariableSupply) < index) {
+                notifiable.linkChainSupplies(anchorVariableSupply, inverseVariableSupply);
+            }
+        }
+    }
+
+    private int indexOfSupply(Supply supply) {
+        for (int i = 0; i < notifiableList.size(); i++) {
+            if (notifiableList.get(i).getVariableListener() == supply) {
+                return i;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * @param shadowVariableDescriptor never null
+     * @return null if the shadow variable has no chained source variable
+     *         or if it also has a source variable on another entity class
+     */
+    private GenuineVariableDescriptor<Solution_> findChainedSourceVariableDescriptor(
+            ShadowVariableDescriptor<Solution_> shadowVariableDescriptor) {
+        GenuineVariableDescriptor<Solution_> chainedVariableDescriptor = null;
+        EntityDescriptor<Solution_> sourceEntityDescriptor = null;
+        for (VariableDescriptor<Solution_> source : shadowVariableDescriptor.getSourceVariableDescriptorList()) {
+            if (sourceEntityDescriptor == null) {
+                sourceEntityDescriptor = source.getEntityDescriptor();
+            } else if (sourceEntityDescriptor != source.getEntityDescriptor()) {
+                return null;
+            }
+            if (chainedVariableDescriptor == null && source instanceof GenuineVariableDescriptor
+                    && ((GenuineVariableDescriptor<Solution_>) source).isChained()) {
+                chainedVariableDescriptor = (GenuineVariableDescriptor<Solution_>) source;
+            }
+        }
+        return chainedVariableDescriptor;
     }
 
     @Override
     public <Supply_ extends Supply> Supply_ demand(Demand<Solution_, Supply_> demand) {
         Supply_ supply = (Supply_) supplyMap.get(demand);
         if (supply == null) {
+            // Tracks if the externalized supply demands a supply that is triggered after a shadow variable
+            boolean outerDependsOnShadowVariable = demandedSupplyDependsOnShadowVariable;
+            demandedSupplyDependsOnShadowVariable = false;
             supply = demand.createExternalizedSupply(scoreDirector);
+            boolean dependsOnShadowVariable = demandedSupplyDependsOnShadowVariable;
+            demandedSupplyDependsOnShadowVariable = outerDependsOnShadowVariable;
             if (supply instanceof SourcedVariableListener) {
                 SourcedVariableListener<Solution_, ?> variableListener =
                         (SourcedVariableListener<Solution_, ?>) supply;
@@ -112,8 +195,18 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                     variableListener.resetWorkingSolution(scoreDirector);
                 }
                 VariableDescriptor<Solution_> source = variableListener.getSourceVariableDescriptor();
-                VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, nextGlobalOrder);
-                nextGlobalOrder++;
+                VariableListenerNotifiable notifiable;
+                if (source instanceof GenuineVariableDescriptor && !dependsOnShadowVariable) {
+                    // Triggered before all shadow variables, so their variable listeners can read it
+                    notifiable = new VariableListenerNotifiable(variableListener, -1);
+                    notifiableList.add(leadingSupplyCount, notifiable);
+                    leadingSupplyCount++;
+                } else {
+                    notifiable = new VariableListenerNotifiable(variableListener, nextGlobalOrder);
+                    nextGlobalOrder++;
+                    // No need to sort notifiableList again because notifiable's globalOrder is highest
+                    notifiableList.add(notifiable);
+                }
                 List<VariableListenerNotifiable> variableNotifiableList = sourceVariableToNotifiableMap.get(source);
                 variableNotifiableList.add(notifiable);
                 List<VariableListenerNotifiable> entityNotifiableList = sourceEntityToNotifiableMap
@@ -121,11 +214,12 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                 if (!entityNotifiableList.contains(notifiable)) {
                     entityNotifiableList.add(notifiable);
                 }
-                notifiableList.add(notifiable);
-                // No need to sort notifiableList again because notifiable's globalOrder is highest
             }
             supplyMap.put(demand, supply);
         }
+        if (indexOfSupply(supply) >= leadingSupplyCount) {
+            demandedSupplyDependsOnShadowVariable = true;
+        }
         return supply;
     }
 
@@ -182,6 +276,63 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
         // beforeVariableChanged() has already added it to the notificationQueue
     }
 
+    /**
+     * A {@link ListVariableListener} is notified of the changed index range,
+     * any other {@link VariableListener} is notified as if the entity's variable changed.
+     *
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}
+     * @param toIndex {@code >= fromIndex}
+     */
+    public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        List<VariableListenerNotifiable> notifiableList = sourceVariableToNotifiableMap.get(variableDescriptor);
+        for (VariableListenerNotifiable notifiable : notifiableList) {
+            Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
+            VariableListener<Solution_, Object> variableListener = notifiable.getVariableListener();
+            if (variableListener instanceof ListVariableListener) {
+                boolean added = notificationQueue.add(
+                        new ListVariableListenerNotification(entity, fromIndex, toIndex));
+                if (added) {
+                    ((ListVariableListener<Solution_, Object>) variableListener)
+                            .beforeListVariableChanged(scoreDirector, entity, fromIndex, toIndex);
+                }
+            } else {
+                boolean added = notificationQueue.add(
+                        new VariableListenerNotification(entity, VariableListenerNotificationType.VARIABLE_CHANGED));
+                if (added) {
+                    variableListener.beforeVariableChanged(scoreDirector, entity);
+                }
+            }
+        }
+        notificationQueuesAreEmpty = false;
+    }
+
+    public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        // beforeListVariableChanged() has already added it to the notificationQueue
+    }
+
+    /**
+     * Only a {@link ListVariableListener} is notified,
+     * any other {@link VariableListener} already got notified by the list variable change that removed the element.
+     *
+     * @param variableDescriptor never null
+     * @param element never null
+     */
+    public void afterListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object element) {
+        List<VariableListenerNotifiable> notifiableList = sourceVariableToNotifiableMap.get(variableDescriptor);
+        for (VariableListenerNotifiable notifiable : notifiableList) {
+            if (notifiable.getVariableListener() instanceof ListVariableListener) {
+                notifiable.getNotificationQueue().add(
+                        new VariableListenerNotification(element, VariableListenerNotificationType.ELEMENT_UNASSIGNED));
+            }
+        }
+        notificationQueuesAreEmpty = false;
+    }
+
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         List<VariableListenerNotifiable> notifiableList = sourceEntityToNotifiableMap.get(entityDescriptor);
         for (VariableListenerNotifiable notifiable : notifiableList) {
@@ -202,9 +353,12 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
     public void triggerVariableListenersInNotificationQueues() {
         for (VariableListenerNotifiable notifiable : notifiableList) {
             Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
+            if (notificationQueue.isEmpty()) {
+                continue;
+            }
             int notifiedCount = 0;
             VariableListener<Solution_, Object> variableListener = notifiable.getVariableListener();
-            for (VariableListenerNotification notification : notificationQueue) {
+            for (VariableListenerNotification notification : notifiable.getTriggerOrderedNotificationQueue()) {
                 Object entity = notification.getEntity();
                 switch (notification.getType()) {
                     case ENTITY_ADDED:
@@ -216,6 +370,15 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                     case ENTITY_REMOVED:
                         variableListener.afterEntityRemoved(scoreDirector, entity);
                         break;
+                    case LIST_VARIABLE_CHANGED:
+                        ListVariableListenerNotification listNotification = (ListVariableListenerNotification) notification;
+                        ((ListVariableListener<Solution_, Object>) variableListener).afterListVariableChanged(
+                                scoreDirector, entity, listNotification.getFromIndex(), listNotification.getToIndex());
+                        break;
+                    case ELEMENT_UNASSIGNED:
+                        ((ListVariableListener<Solution_, Object>) variableListener)
+                                .afterListVariableElementUnassigned(scoreDirector, entity);
+                        break;
                     default:
                         throw new IllegalStateException("The variableListenerNotificationType ("
                                 + notification.getType() + ") is not implemented.");
@@ -244,6 +407,13 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                 // No change
                 afterVariableChanged(variableDescriptor, entity);
             }
+            if (entityDescriptor.hasListVariable()) {
+                ListVariableDescriptor<Solution_> listVariableDescriptor = entityDescriptor.getListVariableDescriptor();
+                int size = listVariableDescriptor.getListSize(entity);
+                beforeListVariableChanged(listVariableDescriptor, entity, 0, size);
+                // No change
+                afterListVariableChanged(listVariableDescriptor, entity, 0, size);
+            }
         }
         triggerVariableListenersInNotificationQueues();
     }
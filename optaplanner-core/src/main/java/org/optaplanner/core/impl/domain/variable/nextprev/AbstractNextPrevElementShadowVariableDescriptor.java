@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.nextprev;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+
+/**
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public abstract class AbstractNextPrevElementShadowVariableDescriptor<Solution_>
+        extends ShadowVariableDescriptor<Solution_> {
+
+    protected ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public AbstractNextPrevElementShadowVariableDescriptor(EntityDescriptor<Solution_> entityDescriptor,
+            MemberAccessor variableMemberAccessor) {
+        super(entityDescriptor, variableMemberAccessor);
+    }
+
+    abstract Class<? extends Annotation> getAnnotationClass();
+
+    abstract String getSourceVariableName();
+
+    @Override
+    public void processAnnotations(DescriptorPolicy descriptorPolicy) {
+        // Do nothing
+    }
+
+    @Override
+    public void linkVariableDescriptors(DescriptorPolicy descriptorPolicy) {
+        linkShadowSources(descriptorPolicy);
+    }
+
+    private void linkShadowSources(DescriptorPolicy descriptorPolicy) {
+        String sourceVariableName = getSourceVariableName();
+        sourceVariableDescriptor = entityDescriptor.getSolutionDescriptor().getListVariableDescriptor();
+        if (sourceVariableDescriptor == null || !sourceVariableDescriptor.getVariableName().equals(sourceVariableName)) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a " + getAnnotationClass().getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") with sourceVariableName (" + sourceVariableName
+                    + ") which is not a " + PlanningListVariable.class.getSimpleName()
+                    + " (" + sourceVariableDescriptor + ").");
+        }
+        Class<?> elementType = sourceVariableDescriptor.getElementType();
+        if (!elementType.isAssignableFrom(entityDescriptor.getEntityClass())) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a " + getAnnotationClass().getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") with sourceVariableName (" + sourceVariableName
+                    + ") whose elements are of type (" + elementType
+                    + ") which is not a superclass of that entityClass.");
+        }
+        if (!getVariablePropertyType().isAssignableFrom(elementType)) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a " + getAnnotationClass().getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") of type (" + getVariablePropertyType()
+                    + ") which cannot hold the elements of type (" + elementType
+                    + ") of the sourceVariableName (" + sourceVariableName + ").");
+        }
+        sourceVariableDescriptor.registerSinkVariableDescriptor(this);
+    }
+
+    @Override
+    public List<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return Collections.singletonList(sourceVariableDescriptor);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public Demand<Solution_, ?> getProvidedDemand() {
+        return new NextPrevElementVariableDemand<>(this);
+    }
+
+}
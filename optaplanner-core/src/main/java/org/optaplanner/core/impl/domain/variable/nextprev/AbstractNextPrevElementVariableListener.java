@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.nextprev;
+
+import java.util.List;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public abstract class AbstractNextPrevElementVariableListener<Solution_>
+        implements ListVariableListener<Solution_, Object> {
+
+    protected final AbstractNextPrevElementShadowVariableDescriptor<Solution_> shadowVariableDescriptor;
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public AbstractNextPrevElementVariableListener(
+            AbstractNextPrevElementShadowVariableDescriptor<Solution_> shadowVariableDescriptor,
+            ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.shadowVariableDescriptor = shadowVariableDescriptor;
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        update((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        for (Object element : sourceVariableDescriptor.getListVariable(entity)) {
+            changeShadowValue(innerScoreDirector, element, null);
+        }
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity,
+            int fromIndex, int toIndex) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity,
+            int fromIndex, int toIndex) {
+        update((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public void afterListVariableElementUnassigned(ScoreDirector<Solution_> scoreDirector, Object element) {
+        changeShadowValue((InnerScoreDirector<Solution_, ?>) scoreDirector, element, null);
+    }
+
+    private void update(InnerScoreDirector<Solution_, ?> scoreDirector, Object entity, int fromIndex, int toIndex) {
+        List<Object> list = sourceVariableDescriptor.getListVariable(entity);
+        // The neighbours just outside the changed range have a changed next or previous element too
+        int start = Math.max(fromIndex - 1, 0);
+        int end = (int) Math.min((long) toIndex + 1L, list.size());
+        for (int index = start; index < end; index++) {
+            changeShadowValue(scoreDirector, list.get(index), calculateShadowValue(list, index));
+        }
+    }
+
+    /**
+     * @param list never null
+     * @param index {@code 0 <= index < list.size()}
+     * @return sometimes null
+     */
+    protected abstract Object calculateShadowValue(List<Object> list, int index);
+
+    private void changeShadowValue(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, Object value) {
+        // Only touch the shadow variable if it actually changes, to avoid needless score recalculation
+        if (shadowVariableDescriptor.getValue(element) != value) {
+            scoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+            shadowVariableDescriptor.setValue(element, value);
+            scoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.nextprev;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Like a custom demand, a previous or next element demand isn't equalized based on its sources,
+ * but based on its target, because no built-in system demands it.
+ */
+public class NextPrevElementVariableDemand<Solution_> implements Demand<Solution_, Supply> {
+
+    private final AbstractNextPrevElementShadowVariableDescriptor<Solution_> targetShadowVariableDescriptor;
+
+    public NextPrevElementVariableDemand(
+            AbstractNextPrevElementShadowVariableDescriptor<Solution_> targetShadowVariableDescriptor) {
+        this.targetShadowVariableDescriptor = targetShadowVariableDescriptor;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public Supply createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        throw new IllegalArgumentException("A previous or next element shadow variable cannot be externalized.");
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NextPrevElementVariableDemand)) {
+            return false;
+        }
+        NextPrevElementVariableDemand<Solution_> other = (NextPrevElementVariableDemand<Solution_>) o;
+        return targetShadowVariableDescriptor == other.targetShadowVariableDescriptor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(NextPrevElementVariableDemand.class.getName(), targetShadowVariableDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + targetShadowVariableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.nextprev;
+
+import java.lang.annotation.Annotation;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PreviousElementShadowVariable;
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class PreviousElementShadowVariableDescriptor<Solution_>
+        extends AbstractNextPrevElementShadowVariableDescriptor<Solution_> {
+
+    public PreviousElementShadowVariableDescriptor(EntityDescriptor<Solution_> entityDescriptor,
+            MemberAccessor variableMemberAccessor) {
+        super(entityDescriptor, variableMemberAccessor);
+    }
+
+    @Override
+    Class<? extends Annotation> getAnnotationClass() {
+        return PreviousElementShadowVariable.class;
+    }
+
+    @Override
+    String getSourceVariableName() {
+        return variableMemberAccessor.getAnnotation(PreviousElementShadowVariable.class).sourceVariableName();
+    }
+
+    @Override
+    public Class<? extends VariableListener> getVariableListenerClass() {
+        return PreviousElementVariableListener.class;
+    }
+
+    @Override
+    public VariableListener<Solution_, ?> buildVariableListener(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        return new PreviousElementVariableListener<>(this, sourceVariableDescriptor);
+    }
+
+}
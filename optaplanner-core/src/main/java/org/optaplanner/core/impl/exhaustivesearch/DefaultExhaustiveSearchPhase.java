@@ -214,6 +214,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         restoreMoveList.addAll(oldMoveList);
         Collections.reverse(newMoveList);
         restoreMoveList.addAll(newMoveList);
+        stepScope.setRestoreMoveList(restoreMoveList);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         restoreMoveList.forEach(restoreMove -> restoreMove.doMove(scoreDirector));
         // There is no need to recalculate the score, but we still need to set it
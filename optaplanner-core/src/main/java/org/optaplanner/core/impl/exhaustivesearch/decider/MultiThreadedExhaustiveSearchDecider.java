@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.exhaustivesearch.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
+import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
+import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
+import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchPhaseScope;
+import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchStepScope;
+import org.optaplanner.core.impl.heuristic.move.CompositeMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.entity.mimic.ManualEntityMimicRecorder;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadDispatcher;
+import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * Expands a node by evaluating its child nodes on the move threads.
+ * The move threads follow the working solution of the solver thread from expanding node to expanding node.
+ * The results are processed in move index order, so the node tree and the bounds are reproducible.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MultiThreadedExhaustiveSearchDecider<Solution_> extends ExhaustiveSearchDecider<Solution_> {
+
+    protected final MoveThreadDispatcher<Solution_> moveThreadDispatcher;
+
+    protected boolean assertStepScoreFromScratch = false;
+    protected boolean assertExpectedStepScore = false;
+    protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+
+    public MultiThreadedExhaustiveSearchDecider(String logIndentation, BestSolutionRecaller<Solution_> bestSolutionRecaller,
+            Termination<Solution_> termination, ManualEntityMimicRecorder<Solution_> manualEntityMimicRecorder,
+            MoveSelector<Solution_> moveSelector, boolean scoreBounderEnabled, ScoreBounder scoreBounder,
+            ThreadFactory threadFactory, int moveThreadCount, int selectedMoveBufferSize, int moveThreadBatchSize) {
+        super(logIndentation, bestSolutionRecaller, termination, manualEntityMimicRecorder, moveSelector,
+                scoreBounderEnabled, scoreBounder);
+        moveThreadDispatcher = new MoveThreadDispatcher<>(logIndentation, "Multithreaded Exhaustive Search",
+                threadFactory, moveThreadCount, selectedMoveBufferSize, moveThreadBatchSize);
+    }
+
+    public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
+        this.assertStepScoreFromScratch = assertStepScoreFromScratch;
+    }
+
+    public void setAssertExpectedStepScore(boolean assertExpectedStepScore) {
+        this.assertExpectedStepScore = assertExpectedStepScore;
+    }
+
+    public void setAssertShadowVariablesAreNotStaleAfterStep(boolean assertShadowVariablesAreNotStaleAfterStep) {
+        this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // In BRUTE_FORCE the step score can be null because it was not calculated
+        boolean stepScoreAsserted = scoreBounderEnabled;
+        // Every move is doable, because the original value of the entity(s) is irrelevant
+        moveThreadDispatcher.phaseStarted(phaseScope, false, scoreBounderEnabled ? scoreBounder : null,
+                assertMoveScoreFromScratch, stepScoreAsserted && assertExpectedUndoMoveScore,
+                stepScoreAsserted && assertStepScoreFromScratch, stepScoreAsserted && assertExpectedStepScore,
+                stepScoreAsserted && assertShadowVariablesAreNotStaleAfterStep);
+    }
+
+    @Override
+    public void phaseEnded(ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        moveThreadDispatcher.phaseEnded(phaseScope);
+    }
+
+    @Override
+    public void expandNode(ExhaustiveSearchStepScope<Solution_> stepScope) {
+        ExhaustiveSearchNode expandingNode = stepScope.getExpandingNode();
+        manualEntityMimicRecorder.setRecordedEntity(expandingNode.getEntity());
+        stepScope.setBestScoreImproved(false);
+        int stepIndex = stepScope.getStepIndex();
+        moveThreadDispatcher.startNextStep(stepIndex);
+        if (stepIndex > 0) {
+            // The SetupOperation already brought the move threads to the start node of the first step
+            Move<Solution_> restoreMove = CompositeMove.buildMove(stepScope.getRestoreMoveList());
+            moveThreadDispatcher.applyStep(stepIndex, restoreMove, stepScope.getStartingStepScore());
+        }
+
+        ExhaustiveSearchLayer moveLayer = stepScope.getPhaseScope().getLayerList().get(expandingNode.getDepth() + 1);
+        List<ExhaustiveSearchNode> moveNodeList = new ArrayList<>();
+        int selectedMoveCount = moveThreadDispatcher.evaluateMoves(stepIndex, moveSelector.iterator(), move -> {
+            // Create the node in selection order, so the breadth of every node is reproducible
+            ExhaustiveSearchNode moveNode = new ExhaustiveSearchNode(moveLayer, expandingNode);
+            // Do not filter out pointless moves, because the original value of the entity(s) is irrelevant.
+            // If the original value is null and the variable is nullable, the move to null must be done too.
+            moveNode.setMove(move);
+            moveNodeList.add(moveNode);
+        }, result -> processResult(stepScope, moveNodeList, result));
+        stepScope.setSelectedMoveCount((long) selectedMoveCount);
+    }
+
+    private boolean processResult(ExhaustiveSearchStepScope<Solution_> stepScope,
+            List<ExhaustiveSearchNode> moveNodeList, OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result) {
+        ExhaustiveSearchNode moveNode = moveNodeList.get(result.getMoveIndex());
+        processMoveResult(stepScope, moveNode, result);
+        logger.trace("{}        Move treeId ({}), score ({}), expandable ({}), move ({}).",
+                logIndentation,
+                moveNode.getTreeId(), moveNode.getScore(), moveNode.isExpandable(), moveNode.getMove());
+        // TODO in the lowest level (and only in that level) QuitEarly can be useful
+        // No QuitEarly because lower layers might be promising
+        stepScope.getPhaseScope().getSolverScope().checkYielding();
+        return termination.isPhaseTerminated(stepScope.getPhaseScope());
+    }
+
+    private <Score_ extends Score<Score_>> void processMoveResult(ExhaustiveSearchStepScope<Solution_> stepScope,
+            ExhaustiveSearchNode moveNode, OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result) {
+        ExhaustiveSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        boolean lastLayer = moveNode.isLastLayer();
+        Score_ score = (Score_) result.getScore();
+        if (!scoreBounderEnabled) {
+            if (lastLayer) {
+                moveNode.setScore(score);
+                processWorkingSolutionDuringMove(stepScope, moveNode, score);
+            } else {
+                addExpandableNode(phaseScope, moveNode);
+            }
+        } else {
+            moveNode.setScore(score);
+            if (lastLayer) {
+                // There is no point in bounding a fully initialized score
+                phaseScope.registerPessimisticBound(score);
+                processWorkingSolutionDuringMove(stepScope, moveNode, score);
+            } else {
+                Score_ optimisticBound = (Score_) result.getOptimisticBound();
+                moveNode.setOptimisticBound(optimisticBound);
+                Score_ bestPessimisticBound = (Score_) phaseScope.getBestPessimisticBound();
+                if (optimisticBound.compareTo(bestPessimisticBound) > 0) {
+                    // It's still worth investigating this node further (no need to prune it)
+                    addExpandableNode(phaseScope, moveNode);
+                    phaseScope.registerPessimisticBound(result.getPessimisticBound());
+                }
+            }
+        }
+    }
+
+    private void addExpandableNode(ExhaustiveSearchPhaseScope<Solution_> phaseScope, ExhaustiveSearchNode moveNode) {
+        // The solver thread needs the undo move to restore its working solution later,
+        // but it doesn't need to calculate the score
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        Move<Solution_> undoMove = moveNode.getMove().doMove(scoreDirector);
+        moveNode.setUndoMove(undoMove);
+        undoMove.doMove(scoreDirector);
+        phaseScope.addExpandableNode(moveNode);
+    }
+
+    private <Score_ extends Score<Score_>> void processWorkingSolutionDuringMove(
+            ExhaustiveSearchStepScope<Solution_> stepScope, ExhaustiveSearchNode moveNode, Score_ score) {
+        ExhaustiveSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        if (score.compareTo(phaseScope.getBestScore()) <= 0) {
+            // Nothing to clone
+            bestSolutionRecaller.processWorkingSolutionDuringMove(score, stepScope);
+            return;
+        }
+        // Only a new best solution needs the move on the working solution of the solver thread
+        InnerScoreDirector<Solution_, Score_> scoreDirector = phaseScope.getScoreDirector();
+        Move<Solution_> undoMove = moveNode.getMove().doMove(scoreDirector);
+        phaseScope.getSolutionDescriptor().setScore(phaseScope.getWorkingSolution(), score);
+        bestSolutionRecaller.processWorkingSolutionDuringMove(score, stepScope);
+        undoMove.doMove(scoreDirector);
+    }
+
+}
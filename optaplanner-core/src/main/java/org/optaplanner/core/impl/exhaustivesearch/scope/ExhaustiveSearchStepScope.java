@@ -16,9 +16,12 @@
 
 package org.optaplanner.core.impl.exhaustivesearch.scope;
 
+import java.util.List;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 
 /**
@@ -29,6 +32,8 @@ public class ExhaustiveSearchStepScope<Solution_> extends AbstractStepScope<Solu
     private final ExhaustiveSearchPhaseScope<Solution_> phaseScope;
 
     private ExhaustiveSearchNode expandingNode;
+    // The moves to get from the previous expanding node to this expanding node
+    private List<Move<Solution_>> restoreMoveList = null;
     private Long selectedMoveCount = null;
 
     public ExhaustiveSearchStepScope(ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
@@ -57,6 +62,14 @@ public class ExhaustiveSearchStepScope<Solution_> extends AbstractStepScope<Solu
         return expandingNode.getScore();
     }
 
+    public List<Move<Solution_>> getRestoreMoveList() {
+        return restoreMoveList;
+    }
+
+    public void setRestoreMoveList(List<Move<Solution_>> restoreMoveList) {
+        this.restoreMoveList = restoreMoveList;
+    }
+
     public Long getSelectedMoveCount() {
         return selectedMoveCount;
     }
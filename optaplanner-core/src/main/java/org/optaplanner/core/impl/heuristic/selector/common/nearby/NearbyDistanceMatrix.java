@@ -18,45 +18,83 @@ package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
 
+/**
+ * Caches the destinations of each origin, sorted by their {@link NearbyDistanceMeter nearby distance}.
+ * <p>
+ * If it is created with a destination iterator provider, the destinations of an origin are only calculated
+ * when that origin is first used, so the cost of building the matrix is spread over the phase
+ * and origins that are never selected cost nothing.
+ * In that case, only the nearest destinations up to the highest nearby index requested so far are retained per origin
+ * (at least {@value #INITIAL_DESTINATION_SIZE}), instead of all destinations.
+ * A request beyond them recalculates the origin with at least twice as many destinations,
+ * so the memory stays bounded by the nearby indexes that are actually selected.
+ * <p>
+ * Only the destinations are retained, not their distances,
+ * so a {@link #rebase rebase} recalculates the distances of an origin if a destination is added.
+ */
 public final class NearbyDistanceMatrix {
 
+    static final int INITIAL_DESTINATION_SIZE = 64;
+
     private final NearbyDistanceMeter nearbyDistanceMeter;
     private final Map<Object, Object[]> originToDestinationsMap;
+    /** The origins whose retained destinations are all of their destinations, so none fell off. */
+    private final Set<Object> completeOriginSet;
+    private final Function<Object, Iterator<Object>> destinationIteratorProvider;
+    private final ToIntFunction<Object> destinationSizeFunction;
 
     public NearbyDistanceMatrix(NearbyDistanceMeter nearbyDistanceMeter, int originSize) {
+        this(nearbyDistanceMeter, originSize, null, null);
+    }
+
+    /**
+     * @param nearbyDistanceMeter never null
+     * @param originSize {@code >= 0}, the expected number of origins
+     * @param destinationIteratorProvider null if all destinations are added eagerly
+     *        with {@link #addAllDestinations(Object, Iterator, int)},
+     *        otherwise it provides an ending iterator over all destinations of an origin
+     * @param destinationSizeFunction null if and only if destinationIteratorProvider is null,
+     *        otherwise it provides the maximum number of nearest destinations of an origin,
+     *        of which only the requested ones are retained
+     */
+    public NearbyDistanceMatrix(NearbyDistanceMeter nearbyDistanceMeter, int originSize,
+            Function<Object, Iterator<Object>> destinationIteratorProvider,
+            ToIntFunction<Object> destinationSizeFunction) {
         this.nearbyDistanceMeter = nearbyDistanceMeter;
         originToDestinationsMap = new HashMap<>(originSize);
+        completeOriginSet = new HashSet<>(originSize);
+        this.destinationIteratorProvider = destinationIteratorProvider;
+        this.destinationSizeFunction = destinationSizeFunction;
     }
 
     public void addAllDestinations(Object origin, Iterator<Object> destinationIterator, int destinationSize) {
+        calculateDestinations(origin, destinationIterator, destinationSize);
+    }
+
+    private Object[] calculateDestinations(Object origin, Iterator<Object> destinationIterator, int destinationSize) {
         Object[] destinations = new Object[destinationSize];
         double[] distances = new double[destinationSize];
         int size = 0;
-        Double highestDistance = Double.MAX_VALUE;
+        int destinationCount = 0;
+        double highestDistance = Double.MAX_VALUE;
         while (destinationIterator.hasNext()) {
             Object destination = destinationIterator.next();
+            destinationCount++;
             double distance = nearbyDistanceMeter.getNearbyDistance(origin, destination);
             if (distance < highestDistance || size < destinationSize) {
-                int insertIndex = Arrays.binarySearch(distances, 0, size, distance);
-                if (insertIndex < 0) {
-                    insertIndex = -insertIndex - 1;
-                } else {
-                    while (insertIndex < size && distances[insertIndex] == distance) {
-                        insertIndex++;
-                    }
-                }
                 if (size < destinationSize) {
                     size++;
                 }
-                System.arraycopy(destinations, insertIndex, destinations, insertIndex + 1,
-                        size - insertIndex - 1);
-                System.arraycopy(distances, insertIndex, distances, insertIndex + 1,
-                        size - insertIndex - 1);
-                destinations[insertIndex] = destination;
-                distances[insertIndex] = distance;
+                insertDestination(destinations, distances, size, destination, distance);
                 highestDistance = distances[size - 1];
             }
         }
@@ -65,11 +103,150 @@ public final class NearbyDistanceMatrix {
                     + ") differs from the expected destinationSize (" + destinationSize + ").");
         }
         originToDestinationsMap.put(origin, destinations);
+        if (destinationCount == destinationSize) {
+            completeOriginSet.add(origin);
+        } else {
+            completeOriginSet.remove(origin);
+        }
+        return destinations;
+    }
+
+    /**
+     * Inserts the destination after all destinations with a lower or equal distance.
+     * The last destination falls off if the arrays are full.
+     *
+     * @param size {@code > 0}, the number of used elements after the insertion
+     */
+    private static void insertDestination(Object[] destinations, double[] distances, int size,
+            Object destination, double distance) {
+        int insertIndex = Arrays.binarySearch(distances, 0, size - 1, distance);
+        if (insertIndex < 0) {
+            insertIndex = -insertIndex - 1;
+        } else {
+            while (insertIndex < size - 1 && distances[insertIndex] == distance) {
+                insertIndex++;
+            }
+        }
+        System.arraycopy(destinations, insertIndex, destinations, insertIndex + 1,
+                size - insertIndex - 1);
+        System.arraycopy(distances, insertIndex, distances, insertIndex + 1,
+                size - insertIndex - 1);
+        destinations[insertIndex] = destination;
+        distances[insertIndex] = distance;
     }
 
     public Object getDestination(Object origin, int nearbyIndex) {
         Object[] destinations = originToDestinationsMap.get(origin);
+        if (destinations == null) {
+            if (destinationIteratorProvider == null) {
+                throw new IllegalStateException("The origin (" + origin
+                        + ") has no destinations, because addAllDestinations() was never called for it.");
+            }
+            destinations = calculateDestinations(origin, nearbyIndex, INITIAL_DESTINATION_SIZE);
+        } else if (nearbyIndex >= destinations.length && destinationIteratorProvider != null) {
+            // Grow geometrically, so an origin is recalculated only a logarithmic number of times
+            destinations = calculateDestinations(origin, nearbyIndex, destinations.length * 2);
+        }
         return destinations[nearbyIndex];
     }
 
+    private Object[] calculateDestinations(Object origin, int nearbyIndex, int minimumDestinationSize) {
+        int destinationSize = Math.min(destinationSizeFunction.applyAsInt(origin),
+                Math.max(nearbyIndex + 1, minimumDestinationSize));
+        return calculateDestinations(origin, destinationIteratorProvider.apply(origin), destinationSize);
+    }
+
+    /**
+     * @return never null, the origins for which the destinations have been calculated
+     */
+    Set<Object> getCalculatedOriginSet() {
+        return originToDestinationsMap.keySet();
+    }
+
+    /**
+     * Builds a matrix for a new working solution (for example after a {@code ProblemFactChange})
+     * by reusing the already calculated destinations of this matrix, instead of recalculating them all.
+     * <p>
+     * An origin that is gone is dropped.
+     * An origin with a destination that is gone is also dropped, so it is recalculated on demand.
+     * Every added destination is only inserted in the origins where it is nearby enough.
+     * If an origin does not retain all of its destinations, the farthest retained one falls off,
+     * so it is recalculated on demand if it is requested.
+     * The distances between the remaining origins and destinations must not have changed.
+     * This matrix is not changed.
+     *
+     * @param lookUpFunction never null, returns the working object of an old origin or destination,
+     *        or null if it no longer exists
+     * @param addedDestinationList never null, the destinations that did not exist yet, in working objects
+     * @param destinationIteratorProvider never null, see {@link #NearbyDistanceMatrix(NearbyDistanceMeter, int,
+     *        Function, ToIntFunction)}
+     * @param destinationSizeFunction never null, see {@link #NearbyDistanceMatrix(NearbyDistanceMeter, int,
+     *        Function, ToIntFunction)}
+     * @return never null
+     */
+    public NearbyDistanceMatrix rebase(UnaryOperator<Object> lookUpFunction, List<Object> addedDestinationList,
+            Function<Object, Iterator<Object>> destinationIteratorProvider,
+            ToIntFunction<Object> destinationSizeFunction) {
+        NearbyDistanceMatrix rebasedMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter,
+                originToDestinationsMap.size(), destinationIteratorProvider, destinationSizeFunction);
+        originLoop: for (Map.Entry<Object, Object[]> entry : originToDestinationsMap.entrySet()) {
+            Object rebasedOrigin = lookUpFunction.apply(entry.getKey());
+            if (rebasedOrigin == null) {
+                continue;
+            }
+            Object[] destinations = entry.getValue();
+            Object[] rebasedDestinations = new Object[destinations.length];
+            for (int i = 0; i < destinations.length; i++) {
+                Object rebasedDestination = lookUpFunction.apply(destinations[i]);
+                if (rebasedDestination == null) {
+                    // Only a recalculation knows the next nearest destination to fill the gap
+                    continue originLoop;
+                }
+                rebasedDestinations[i] = rebasedDestination;
+            }
+            rebasedMatrix.originToDestinationsMap.put(rebasedOrigin, rebasedDestinations);
+            if (completeOriginSet.contains(entry.getKey())) {
+                rebasedMatrix.completeOriginSet.add(rebasedOrigin);
+            }
+        }
+        if (!addedDestinationList.isEmpty()) {
+            rebasedMatrix.addDestinations(addedDestinationList);
+        }
+        return rebasedMatrix;
+    }
+
+    private void addDestinations(List<Object> addedDestinationList) {
+        for (Map.Entry<Object, Object[]> entry : originToDestinationsMap.entrySet()) {
+            Object origin = entry.getKey();
+            Object[] destinations = entry.getValue();
+            int size = destinations.length;
+            boolean complete = completeOriginSet.contains(origin);
+            int destinationSize = complete ? destinationSizeFunction.applyAsInt(origin) : size;
+            // Only alive during the rebase, because retaining the distances of every origin costs too much memory
+            double[] distances = new double[size];
+            for (int i = 0; i < size; i++) {
+                distances[i] = nearbyDistanceMeter.getNearbyDistance(origin, destinations[i]);
+            }
+            for (Object destination : addedDestinationList) {
+                double distance = nearbyDistanceMeter.getNearbyDistance(origin, destination);
+                if (size < destinationSize) {
+                    size++;
+                    destinations = Arrays.copyOf(destinations, size);
+                    distances = Arrays.copyOf(distances, size);
+                } else {
+                    // The origin retains only its nearest destinations from now on
+                    complete = false;
+                    if (size == 0 || distance >= distances[size - 1]) {
+                        continue;
+                    }
+                }
+                insertDestination(destinations, distances, size, destination, distance);
+            }
+            entry.setValue(destinations);
+            if (!complete) {
+                completeOriginSet.remove(origin);
+            }
+        }
+    }
+
 }
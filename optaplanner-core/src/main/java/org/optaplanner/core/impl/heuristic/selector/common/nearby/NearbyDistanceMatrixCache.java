@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.solver.ProblemFactChange;
+import org.optaplanner.core.impl.domain.lookup.LookUpStrategyResolver;
+import org.optaplanner.core.impl.domain.lookup.NoneLookUpStrategy;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Keeps the {@link NearbyDistanceMatrix} of a nearby selector between solver restarts,
+ * so after {@link ProblemFactChange}s only the origins affected by added or removed destinations
+ * need to be patched or recalculated, instead of the entire matrix.
+ * <p>
+ * The matrix is recalculated from scratch if a problem property changed
+ * (because any distance might have changed),
+ * if the solver did not restart directly after the run that built the matrix,
+ * or if an origin or destination cannot be looked up (because it has no {@link PlanningId}).
+ */
+public final class NearbyDistanceMatrixCache {
+
+    private final NearbyDistanceMeter nearbyDistanceMeter;
+
+    private NearbyDistanceMatrix nearbyDistanceMatrix = null;
+    private Set<Object> destinationSet = null;
+    private int startingSolverCount = -1;
+    private long problemPropertyRevision = -1L;
+
+    public NearbyDistanceMatrixCache(NearbyDistanceMeter nearbyDistanceMeter) {
+        this.nearbyDistanceMeter = nearbyDistanceMeter;
+    }
+
+    /**
+     * @param phaseScope never null
+     * @param originSize {@code >= 0}, the expected number of origins
+     * @param destinationIterator null if the destinations differ per origin, which disables the incremental rebase,
+     *        otherwise an ending iterator over all destinations
+     * @param destinationIteratorProvider never null, see {@link NearbyDistanceMatrix}
+     * @param destinationSizeFunction never null, see {@link NearbyDistanceMatrix}
+     * @return never null
+     */
+    public NearbyDistanceMatrix phaseStarted(AbstractPhaseScope<?> phaseScope, int originSize,
+            Iterator<Object> destinationIterator,
+            Function<Object, Iterator<Object>> destinationIteratorProvider,
+            ToIntFunction<Object> destinationSizeFunction) {
+        if (destinationIterator == null) {
+            nearbyDistanceMatrix = null;
+            destinationSet = null;
+            return new NearbyDistanceMatrix(nearbyDistanceMeter, originSize,
+                    destinationIteratorProvider, destinationSizeFunction);
+        }
+        InnerScoreDirector<?, ?> scoreDirector = phaseScope.getScoreDirector();
+        int newStartingSolverCount = phaseScope.getSolverScope().getStartingSolverCount();
+        long newProblemPropertyRevision = scoreDirector.getProblemPropertyRevision();
+        if (nearbyDistanceMatrix == null
+                || newStartingSolverCount != startingSolverCount + 1
+                || newProblemPropertyRevision != problemPropertyRevision
+                || !isLookUpSupported(scoreDirector.getSolutionDescriptor().getLookUpStrategyResolver())) {
+            nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, originSize,
+                    destinationIteratorProvider, destinationSizeFunction);
+            destinationSet = newIdentitySet(originSize);
+            destinationIterator.forEachRemaining(destinationSet::add);
+        } else {
+            Set<Object> oldDestinationSet = newIdentitySet(destinationSet.size());
+            for (Object destination : destinationSet) {
+                Object workingDestination = scoreDirector.lookUpWorkingObjectOrReturnNull(destination);
+                if (workingDestination != null) {
+                    oldDestinationSet.add(workingDestination);
+                }
+            }
+            destinationSet = newIdentitySet(oldDestinationSet.size());
+            List<Object> addedDestinationList = new ArrayList<>();
+            while (destinationIterator.hasNext()) {
+                Object destination = destinationIterator.next();
+                destinationSet.add(destination);
+                if (!oldDestinationSet.remove(destination)) {
+                    addedDestinationList.add(destination);
+                }
+            }
+            // What remains are the old destinations that are no longer destinations,
+            // even if they can still be looked up (for example a value that was removed from its value range)
+            Set<Object> removedDestinationSet = oldDestinationSet;
+            UnaryOperator<Object> lookUpFunction = removedDestinationSet.isEmpty()
+                    ? scoreDirector::lookUpWorkingObjectOrReturnNull
+                    : object -> {
+                        Object workingObject = scoreDirector.lookUpWorkingObjectOrReturnNull(object);
+                        // Treated as gone, so an origin with that destination is recalculated on demand
+                        return removedDestinationSet.contains(workingObject) ? null : workingObject;
+                    };
+            nearbyDistanceMatrix = nearbyDistanceMatrix.rebase(lookUpFunction,
+                    addedDestinationList, destinationIteratorProvider, destinationSizeFunction);
+        }
+        startingSolverCount = newStartingSolverCount;
+        problemPropertyRevision = newProblemPropertyRevision;
+        return nearbyDistanceMatrix;
+    }
+
+    private boolean isLookUpSupported(LookUpStrategyResolver lookUpStrategyResolver) {
+        return isLookUpSupported(lookUpStrategyResolver, nearbyDistanceMatrix.getCalculatedOriginSet())
+                && isLookUpSupported(lookUpStrategyResolver, destinationSet);
+    }
+
+    private static boolean isLookUpSupported(LookUpStrategyResolver lookUpStrategyResolver, Set<Object> objectSet) {
+        for (Object object : objectSet) {
+            // The LookUpStrategyResolver caches its decision per class
+            if (lookUpStrategyResolver.determineLookUpStrategy(object) instanceof NoneLookUpStrategy) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Object> newIdentitySet(int expectedSize) {
+        return Collections.newSetFromMap(new IdentityHashMap<>(expectedSize));
+    }
+
+}
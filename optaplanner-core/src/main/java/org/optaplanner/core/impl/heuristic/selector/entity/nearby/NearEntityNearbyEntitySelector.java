@@ -22,6 +22,7 @@ import java.util.ListIterator;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrixCache;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
@@ -37,6 +38,8 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
     protected final NearbyRandom nearbyRandom;
     protected final boolean randomSelection;
     protected final boolean discardNearbyIndexZero = true; // TODO deactivate me when appropriate
+    // Survives solver restarts, so a ProblemFactChange doesn't force a recalculation of every origin
+    protected final NearbyDistanceMatrixCache nearbyDistanceMatrixCache;
 
     protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
 
@@ -51,6 +54,7 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
         }
         this.replayingOriginEntitySelector = originEntitySelector;
         this.nearbyDistanceMeter = nearbyDistanceMeter;
+        nearbyDistanceMatrixCache = new NearbyDistanceMatrixCache(nearbyDistanceMeter);
         this.nearbyRandom = nearbyRandom;
         this.randomSelection = randomSelection;
         if (randomSelection && nearbyRandom == null) {
@@ -99,11 +103,10 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
                 destinationSize = overallSizeMaximum;
             }
         }
-        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize);
-        for (Iterator<Object> originIt = replayingOriginEntitySelector.endingIterator(); originIt.hasNext();) {
-            final Object origin = originIt.next();
-            nearbyDistanceMatrix.addAllDestinations(origin, childEntitySelector.endingIterator(), destinationSize);
-        }
+        int finalDestinationSize = destinationSize;
+        nearbyDistanceMatrix = nearbyDistanceMatrixCache.phaseStarted(phaseScope, (int) originSize,
+                childEntitySelector.endingIterator(),
+                origin -> childEntitySelector.endingIterator(), origin -> finalDestinationSize);
     }
 
     @Override
@@ -20,29 +20,50 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
 import org.optaplanner.core.config.heuristic.selector.move.generic.SubPillarType;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.AbstractSelector;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
+ * The pillars are cached per step.
+ * During a local search or construction heuristic phase, the pillars are maintained incrementally:
+ * only the {@link Move#getPlanningEntities() planning entities} of the previous step are regrouped
+ * and only the pillars they leave or join are copied (so a pillar of a previous step never changes).
+ * The first step of a phase, a step after the working entity list changed
+ * and a step after a move that doesn't implement {@link Move#getPlanningEntities()} still rebuild all pillars.
+ * A {@link ProblemFactChange} restarts the phases, so it rebuilds all pillars too.
+ * The incremental maintenance presumes that the entitySelector doesn't filter on a planning variable,
+ * because an entity that is selected or deselected during a phase isn't regrouped.
+ * An incrementally maintained pillar has the same entity order as a rebuilt one,
+ * but new pillars are added at the end of the pillar list.
+ *
  * @see PillarSelector
  */
 public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_>
@@ -57,6 +78,16 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
 
     protected List<List<Object>> cachedBasePillarList = null;
 
+    // Incremental cache: survives from step to step, but not from phase to phase
+    protected boolean incremental = false;
+    protected boolean rebuildRequired = true;
+    protected long cachedEntityListRevision = -1L;
+    protected Map<Object, Integer> entityToIndexMap = null;
+    protected Map<Object, List<Object>> entityToValueStateMap = null;
+    protected Map<List<Object>, List<Object>> valueStateToPillarMap = null;
+    protected final List<Object> changedEntityList = new ArrayList<>();
+    protected final Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
             SubPillarConfigPolicy subpillarConfigPolicy) {
@@ -102,6 +133,12 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         }
     }
 
+    private List<Object> getValueState(Object entity) {
+        int variableCount = variableDescriptors.size();
+        return variableCount == 1 ? getSingleVariableValueState(entity, variableDescriptors)
+                : getMultiVariableValueState(entity, variableDescriptors, variableCount);
+    }
+
     private static <Solution_> List<Object> getSingleVariableValueState(Object entity,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptors) {
         Object value = variableDescriptors.get(0).getValue(entity);
@@ -118,6 +155,65 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         return valueState;
     }
 
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        rebuildRequired = true;
+        super.phaseStarted(phaseScope);
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        if (incremental && !rebuildRequired) {
+            collectChangedEntities(stepScope);
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        incremental = false;
+        entityToIndexMap = null;
+        entityToValueStateMap = null;
+        valueStateToPillarMap = null;
+        clearChangedEntities();
+    }
+
+    private void collectChangedEntities(AbstractStepScope<Solution_> stepScope) {
+        Move<Solution_> step;
+        if (stepScope instanceof LocalSearchStepScope) {
+            step = ((LocalSearchStepScope<Solution_>) stepScope).getStep();
+        } else if (stepScope instanceof ConstructionHeuristicStepScope) {
+            step = ((ConstructionHeuristicStepScope<Solution_>) stepScope).getStep();
+        } else {
+            // For example an exhaustive search step, which restores the moves of another branch
+            rebuildRequired = true;
+            return;
+        }
+        Collection<? extends Object> planningEntities;
+        try {
+            planningEntities = step.getPlanningEntities();
+        } catch (UnsupportedOperationException e) {
+            // A custom move that doesn't implement getPlanningEntities()
+            rebuildRequired = true;
+            return;
+        }
+        for (Object entity : planningEntities) {
+            if (changedEntitySet.add(entity)) {
+                changedEntityList.add(entity);
+            }
+        }
+    }
+
+    private void clearChangedEntities() {
+        changedEntityList.clear();
+        changedEntitySet.clear();
+    }
+
     // ************************************************************************
     // Cache lifecycle methods
     // ************************************************************************
@@ -140,7 +236,41 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
                     + entitySelector + ") with entitySize (" + entitySize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        if (!incremental || rebuildRequired || scoreDirector.isWorkingEntityListDirty(cachedEntityListRevision)) {
+            rebuildPillars((int) entitySize, scoreDirector);
+        } else {
+            updateChangedPillars();
+        }
+        // Store the cache. Exclude pillars of size lower than the minimumSubPillarSize, as we shouldn't select those.
+        Collection<List<Object>> pillarLists = valueStateToPillarMap.values();
+        int minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
+        if (minimumSubPillarSize > 1) {
+            cachedBasePillarList = pillarLists.stream()
+                    .filter(pillar -> pillar.size() >= minimumSubPillarSize)
+                    .collect(Collectors.toList());
+        } else { // Use shortcut when we don't intend to remove anything.
+            cachedBasePillarList = new ArrayList<>(pillarLists);
+        }
+        if (!incremental) {
+            valueStateToPillarMap = null;
+        }
+    }
+
+    private void rebuildPillars(int entitySize, InnerScoreDirector<Solution_, ?> scoreDirector) {
+        // Without a score director, for example in a unit test, the pillars are rebuilt every step
+        incremental = scoreDirector != null;
         Stream<Object> entities = StreamSupport.stream(entitySelector.spliterator(), false);
+        if (incremental) {
+            cachedEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+            List<Object> entityList = entities.collect(Collectors.toList());
+            entityToIndexMap = new IdentityHashMap<>(entitySize);
+            for (int i = 0; i < entityList.size(); i++) {
+                entityToIndexMap.put(entityList.get(i), i);
+            }
+            entityToValueStateMap = new IdentityHashMap<>(entitySize);
+            entities = entityList.stream();
+        }
         Comparator<?> comparator = subpillarConfigPolicy.getEntityComparator();
         if (comparator != null) {
             /*
@@ -150,24 +280,63 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
             entities = entities.sorted((Comparator<? super Object>) comparator);
         }
         // Create all the pillars from a stream of entities; if sorted, the pillars will be sequential.
-        Map<List<Object>, List<Object>> valueStateToPillarMap = new LinkedHashMap<>((int) entitySize);
-        int variableCount = variableDescriptors.size();
+        valueStateToPillarMap = new LinkedHashMap<>(entitySize);
         entities.forEach(entity -> {
-            List<Object> valueState = variableCount == 1 ? getSingleVariableValueState(entity, variableDescriptors)
-                    : getMultiVariableValueState(entity, variableDescriptors, variableCount);
+            List<Object> valueState = getValueState(entity);
             List<Object> pillar = valueStateToPillarMap.computeIfAbsent(valueState, key -> new ArrayList<>());
             pillar.add(entity);
+            if (incremental) {
+                entityToValueStateMap.put(entity, valueState);
+            }
         });
-        // Store the cache. Exclude pillars of size lower than the minimumSubPillarSize, as we shouldn't select those.
-        Collection<List<Object>> pillarLists = valueStateToPillarMap.values();
-        int minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
-        if (minimumSubPillarSize > 1) {
-            cachedBasePillarList = pillarLists.stream()
-                    .filter(pillar -> pillar.size() >= minimumSubPillarSize)
-                    .collect(Collectors.toList());
-        } else { // Use shortcut when we don't intend to remove anything.
-            cachedBasePillarList = new ArrayList<>(pillarLists);
+        rebuildRequired = false;
+        clearChangedEntities();
+    }
+
+    private void updateChangedPillars() {
+        // The same order as a rebuild: sorted() is stable, so ties keep the entity order
+        Comparator<Object> indexComparator = Comparator.comparingInt(entityToIndexMap::get);
+        Comparator<Object> sortingComparator = (Comparator<Object>) subpillarConfigPolicy.getEntityComparator();
+        Comparator<Object> entityComparator = sortingComparator == null ? indexComparator
+                : sortingComparator.thenComparing(indexComparator);
+        // Copy a changed pillar only once per step, because older pillars can still be referenced by moves
+        Set<List<Object>> copiedPillarSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object entity : changedEntityList) {
+            List<Object> oldValueState = entityToValueStateMap.get(entity);
+            if (oldValueState == null) {
+                // Not selected by the entitySelector
+                continue;
+            }
+            List<Object> newValueState = getValueState(entity);
+            if (newValueState.equals(oldValueState)) {
+                // For example a step that only changed a variable that isn't part of the pillar
+                continue;
+            }
+            List<Object> oldPillar = copyPillar(oldValueState, copiedPillarSet);
+            oldPillar.remove(Collections.binarySearch(oldPillar, entity, entityComparator));
+            if (oldPillar.isEmpty()) {
+                valueStateToPillarMap.remove(oldValueState);
+            }
+            List<Object> newPillar = copyPillar(newValueState, copiedPillarSet);
+            int insertionIndex = -(Collections.binarySearch(newPillar, entity, entityComparator) + 1);
+            newPillar.add(insertionIndex, entity);
+            entityToValueStateMap.put(entity, newValueState);
+        }
+        clearChangedEntities();
+    }
+
+    private List<Object> copyPillar(List<Object> valueState, Set<List<Object>> copiedPillarSet) {
+        List<Object> pillar = valueStateToPillarMap.get(valueState);
+        if (pillar == null) {
+            pillar = new ArrayList<>();
+        } else if (copiedPillarSet.contains(pillar)) {
+            return pillar;
+        } else {
+            pillar = new ArrayList<>(pillar);
         }
+        copiedPillarSet.add(pillar);
+        valueStateToPillarMap.put(valueState, pillar);
+        return pillar;
     }
 
     @Override
@@ -25,9 +25,12 @@ import java.util.Objects;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
@@ -37,7 +40,7 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 public class KOptMove<Solution_> extends AbstractMove<Solution_> {
 
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
-    // TODO remove me to enable multithreaded solving, but first fix https://issues.redhat.com/browse/PLANNER-1250
+    // The supplies belong to the score director of the working solution, so rebase() demands them again
     protected final SingletonInverseVariableSupply inverseVariableSupply;
     protected final AnchorVariableSupply anchorVariableSupply;
 
@@ -140,10 +143,14 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
 
     @Override
     public KOptMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
-        throw new UnsupportedOperationException("https://issues.redhat.com/browse/PLANNER-1250"); // TODO test also disabled
-        //        return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-        //                destinationScoreDirector.lookUpWorkingObject(entity),
-        //                rebaseArray(values, destinationScoreDirector));
+        // The destination score director's supplies are memoized, so only the first rebase creates them
+        SupplyManager<Solution_> supplyManager =
+                ((InnerScoreDirector<Solution_, ?>) destinationScoreDirector).getSupplyManager();
+        return new KOptMove<>(variableDescriptor,
+                supplyManager.demand(new SingletonInverseVariableDemand<>(variableDescriptor)),
+                supplyManager.demand(new AnchorVariableDemand<>(variableDescriptor)),
+                destinationScoreDirector.lookUpWorkingObject(entity),
+                rebaseArray(values, destinationScoreDirector));
     }
 
     // ************************************************************************
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.heuristic.selector.move.generic.chained;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
@@ -26,12 +27,19 @@ import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInvers
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.IterableSelector;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.move.generic.GenericMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
+/**
+ * Selects a {@link KOptMove} with an entity of the {@link EntitySelector} and a value of every {@link ValueSelector}.
+ * <p>
+ * The same {@link ValueSelector} instance can be used for multiple values of 1 move
+ * (for example a nearby value selector, so its distance matrix is built only once).
+ */
 public class KOptMoveSelector<Solution_> extends GenericMoveSelector<Solution_> {
 
     protected final EntitySelector<Solution_> entitySelector;
@@ -47,11 +55,6 @@ public class KOptMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
         this.entitySelector = entitySelector;
         this.valueSelectors = valueSelectors;
         this.randomSelection = randomSelection;
-        if (!randomSelection) {
-            throw new UnsupportedOperationException(
-                    "Non randomSelection (such as original selection) is not yet supported on "
-                            + KOptMoveSelector.class.getSimpleName() + "."); // TODO
-        }
         variableDescriptor = valueSelectors[0].getVariableDescriptor();
         if (!variableDescriptor.isChained()) {
             throw new IllegalStateException("The selector (" + this
@@ -67,16 +70,28 @@ public class KOptMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
                     + entitySelector.getEntityDescriptor().getEntityClass() + ").");
         }
         phaseLifecycleSupport.addEventListener(entitySelector);
-        for (ValueSelector<Solution_> valueSelector : valueSelectors) {
+        for (int i = 0; i < valueSelectors.length; i++) {
+            ValueSelector<Solution_> valueSelector = valueSelectors[i];
             if (valueSelector.getVariableDescriptor() != variableDescriptor) {
                 throw new IllegalStateException("The selector (" + this
                         + ") has a valueSelector with a variableDescriptor (" + valueSelector.getVariableDescriptor()
                         + ") that differs from the first variableDescriptor (" + variableDescriptor + ").");
             }
-            phaseLifecycleSupport.addEventListener(valueSelector);
+            if (isFirstOccurrence(i)) {
+                phaseLifecycleSupport.addEventListener(valueSelector);
+            }
         }
     }
 
+    private boolean isFirstOccurrence(int valueSelectorIndex) {
+        for (int i = 0; i < valueSelectorIndex; i++) {
+            if (valueSelectors[i] == valueSelectors[valueSelectorIndex]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         super.solvingStarted(solverScope);
@@ -124,42 +139,108 @@ public class KOptMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
 
     @Override
     public long getSize() {
-        throw new UnsupportedOperationException("Not yet supported."); // TODO
-        //        if (valueSelector instanceof IterableSelector) {
-        //            return entitySelector.getSize() * (long) Math.pow(((IterableSelector) valueSelector).getSize(), K);
-        //        } else {
-        //        }
+        if (Arrays.stream(valueSelectors).allMatch(valueSelector -> valueSelector instanceof IterableSelector)) {
+            long size = entitySelector.getSize();
+            for (ValueSelector<Solution_> valueSelector : valueSelectors) {
+                size *= ((IterableSelector<Solution_, ?>) valueSelector).getSize();
+            }
+            return size;
+        } else {
+            long size = 0L;
+            for (Iterator<?> it = entitySelector.endingIterator(); it.hasNext();) {
+                Object entity = it.next();
+                long entitySize = 1L;
+                for (ValueSelector<Solution_> valueSelector : valueSelectors) {
+                    entitySize *= valueSelector.getSize(entity);
+                }
+                size += entitySize;
+            }
+            return size;
+        }
     }
 
     @Override
     public Iterator<Move<Solution_>> iterator() {
         if (!randomSelection) {
-            throw new UnsupportedOperationException(
-                    "Non randomSelection (such as original selection) is not yet supported on "
-                            + KOptMoveSelector.class.getSimpleName() + "."); // TODO
+            return new OriginalKOptMoveIterator();
         } else {
-            final Iterator<Object> entityIterator = entitySelector.iterator();
-            return new UpcomingSelectionIterator<Move<Solution_>>() {
-                @Override
-                protected Move<Solution_> createUpcomingSelection() {
-                    // TODO currently presumes that entitySelector and all valueSelectors are never ending, despite the hasNext() checks
+            return new RandomKOptMoveIterator();
+        }
+    }
+
+    /**
+     * Iterates every value of the last {@link ValueSelector} before the next value of the previous one,
+     * and every combination of values before the next entity.
+     */
+    private class OriginalKOptMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> entityIterator;
+        private final Iterator<Object>[] valueIterators;
+        private final Object[] upcomingValues;
+
+        private Object upcomingEntity = null;
+
+        private OriginalKOptMoveIterator() {
+            entityIterator = entitySelector.iterator();
+            valueIterators = new Iterator[valueSelectors.length];
+            Arrays.fill(valueIterators, Collections.emptyIterator());
+            upcomingValues = new Object[valueSelectors.length];
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            int depth = valueSelectors.length - 1;
+            while (true) {
+                if (depth < 0) {
                     if (!entityIterator.hasNext()) {
                         return noUpcomingSelection();
                     }
-                    Object entity = entityIterator.next();
-                    Object[] values = new Object[valueSelectors.length];
-                    for (int i = 0; i < valueSelectors.length; i++) {
-                        Iterator<Object> valueIterator = valueSelectors[i].iterator(entity);
-                        if (!valueIterator.hasNext()) {
-                            return noUpcomingSelection();
-                        }
-                        values[i] = valueIterator.next();
+                    upcomingEntity = entityIterator.next();
+                    depth = 0;
+                    valueIterators[depth] = valueSelectors[depth].iterator(upcomingEntity);
+                }
+                if (!valueIterators[depth].hasNext()) {
+                    depth--;
+                } else {
+                    upcomingValues[depth] = valueIterators[depth].next();
+                    if (depth == valueSelectors.length - 1) {
+                        return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
+                                upcomingEntity, upcomingValues.clone());
                     }
-                    return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply, entity,
-                            values);
+                    depth++;
+                    valueIterators[depth] = valueSelectors[depth].iterator(upcomingEntity);
                 }
-            };
+            }
         }
+
+    }
+
+    private class RandomKOptMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> entityIterator;
+
+        private RandomKOptMoveIterator() {
+            entityIterator = entitySelector.iterator();
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            // TODO currently presumes that entitySelector and all valueSelectors are never ending, despite the hasNext() checks
+            if (!entityIterator.hasNext()) {
+                return noUpcomingSelection();
+            }
+            Object entity = entityIterator.next();
+            Object[] values = new Object[valueSelectors.length];
+            for (int i = 0; i < valueSelectors.length; i++) {
+                Iterator<Object> valueIterator = valueSelectors[i].iterator(entity);
+                if (!valueIterator.hasNext()) {
+                    return noUpcomingSelection();
+                }
+                values[i] = valueIterator.next();
+            }
+            return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply, entity, values);
+        }
+
     }
 
     @Override
@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.generic.chained;
 
+import java.util.Arrays;
+
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
 import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
@@ -49,13 +51,13 @@ public class KOptMoveSelectorFactory<Solution_>
                                 SelectionOrder.fromRandomSelectionBoolean(randomSelection));
         ValueSelectorConfig valueSelectorConfig_ =
                 config.getValueSelectorConfig() == null ? new ValueSelectorConfig() : config.getValueSelectorConfig();
+        // Build the valueSelector only once (instead of K - 1 times),
+        // so for example a nearby valueSelector builds its distance matrix only once
+        ValueSelector<Solution_> valueSelector = ValueSelectorFactory.<Solution_> create(valueSelectorConfig_)
+                .buildValueSelector(configPolicy, entitySelector.getEntityDescriptor(), minimumCacheType,
+                        SelectionOrder.fromRandomSelectionBoolean(randomSelection));
         ValueSelector<Solution_>[] valueSelectors = new ValueSelector[K - 1];
-        for (int i = 0; i < valueSelectors.length; i++) {
-            valueSelectors[i] = ValueSelectorFactory.<Solution_> create(valueSelectorConfig_)
-                    .buildValueSelector(configPolicy, entitySelector.getEntityDescriptor(), minimumCacheType,
-                            SelectionOrder.fromRandomSelectionBoolean(randomSelection));
-
-        }
+        Arrays.fill(valueSelectors, valueSelector);
         return new KOptMoveSelector<>(entitySelector, valueSelectors, randomSelection);
     }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.GenericMoveSelector;
+
+/**
+ * Abstract superclass for every {@link GenericMoveSelector} on a {@link PlanningListVariable}.
+ * <p>
+ * Every iterator works on a {@link ListPositions} snapshot of the entities and their list sizes,
+ * taken when the iterator is created (so once per step), instead of copying the lists themselves.
+ */
+public abstract class AbstractListMoveSelector<Solution_> extends GenericMoveSelector<Solution_> {
+
+    protected final EntitySelector<Solution_> entitySelector;
+    protected final ListVariableDescriptor<Solution_> listVariableDescriptor;
+    protected final boolean randomSelection;
+
+    protected AbstractListMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection) {
+        this.entitySelector = entitySelector;
+        this.randomSelection = randomSelection;
+        EntityDescriptor<Solution_> entityDescriptor = entitySelector.getEntityDescriptor();
+        if (!entityDescriptor.hasListVariable()) {
+            throw new IllegalStateException("The selector (" + this
+                    + ") has an entitySelector with an entityClass (" + entityDescriptor.getEntityClass()
+                    + ") which has no " + PlanningListVariable.class.getSimpleName() + ".");
+        }
+        this.listVariableDescriptor = entityDescriptor.getListVariableDescriptor();
+        phaseLifecycleSupport.addEventListener(entitySelector);
+    }
+
+    public ListVariableDescriptor<Solution_> getListVariableDescriptor() {
+        return listVariableDescriptor;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isCountable() {
+        return entitySelector.isCountable();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return randomSelection || entitySelector.isNeverEnding();
+    }
+
+    protected ListPositions createListPositions() {
+        List<Object> entityList = new ArrayList<>();
+        Iterator<Object> entityIterator = entitySelector.endingIterator();
+        while (entityIterator.hasNext()) {
+            entityList.add(entityIterator.next());
+        }
+        return new ListPositions(entityList);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ")";
+    }
+
+    /**
+     * The entities of the {@link #entitySelector} with the size of their list variable.
+     * Every element is addressed by a global element index in {@code [0, elementCount)}
+     * and every insertion position by a global position index in {@code [0, elementCount + entityCount)},
+     * because every list has 1 more insertion position than it has elements.
+     */
+    protected final class ListPositions {
+
+        protected final List<Object> entityList;
+        protected final int[] sizes;
+        /**
+         * The global element index of the first element of each entity.
+         */
+        protected final int[] elementOffsets;
+        protected final int elementCount;
+
+        private ListPositions(List<Object> entityList) {
+            this.entityList = entityList;
+            int entityCount = entityList.size();
+            sizes = new int[entityCount];
+            elementOffsets = new int[entityCount];
+            int elementCount = 0;
+            for (int i = 0; i < entityCount; i++) {
+                sizes[i] = listVariableDescriptor.getListSize(entityList.get(i));
+                elementOffsets[i] = elementCount;
+                elementCount += sizes[i];
+            }
+            this.elementCount = elementCount;
+        }
+
+        public int getEntityCount() {
+            return entityList.size();
+        }
+
+        public int getPositionCount() {
+            return elementCount + entityList.size();
+        }
+
+        /**
+         * @param elementIndex {@code 0 <= elementIndex < elementCount}
+         * @return the entity index, never an entity with an empty list
+         */
+        public int entityIndexOfElement(int elementIndex) {
+            int i = Arrays.binarySearch(elementOffsets, elementIndex);
+            if (i < 0) {
+                return -i - 2;
+            }
+            // Skip entities with an empty list, which share their offset with the next entity
+            while (sizes[i] == 0) {
+                i++;
+            }
+            return i;
+        }
+
+        /**
+         * @param positionIndex {@code 0 <= positionIndex < elementCount + entityCount}
+         * @return the entity index
+         */
+        public int entityIndexOfPosition(int positionIndex) {
+            // The position offset of entity i is elementOffsets[i] + i, which is strictly increasing
+            int low = 0;
+            int high = sizes.length - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (elementOffsets[middle] + middle <= positionIndex) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return low;
+        }
+
+        public int randomElementIndex(Random workingRandom) {
+            return workingRandom.nextInt(elementCount);
+        }
+
+        public int randomPositionIndex(Random workingRandom) {
+            return workingRandom.nextInt(getPositionCount());
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelectorFactory;
+import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelectorFactory;
+
+public abstract class AbstractListMoveSelectorFactory<Solution_, MoveSelectorConfig_ extends MoveSelectorConfig<MoveSelectorConfig_>>
+        extends AbstractMoveSelectorFactory<Solution_, MoveSelectorConfig_> {
+
+    public AbstractListMoveSelectorFactory(MoveSelectorConfig_ moveSelectorConfig) {
+        super(moveSelectorConfig);
+    }
+
+    /**
+     * @param configPolicy never null
+     * @param entitySelectorConfig sometimes null, defaults to the entity class of the list variable
+     * @param minimumCacheType never null
+     * @param randomSelection true if the entities are selected randomly
+     * @return never null
+     */
+    protected EntitySelector<Solution_> buildEntitySelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            EntitySelectorConfig entitySelectorConfig, SelectionCacheType minimumCacheType, boolean randomSelection) {
+        EntitySelectorConfig entitySelectorConfig_;
+        if (entitySelectorConfig != null) {
+            entitySelectorConfig_ = entitySelectorConfig;
+        } else {
+            ListVariableDescriptor<Solution_> listVariableDescriptor =
+                    configPolicy.getSolutionDescriptor().getListVariableDescriptor();
+            entitySelectorConfig_ = listVariableDescriptor == null ? new EntitySelectorConfig()
+                    : new EntitySelectorConfig(listVariableDescriptor.getEntityDescriptor().getEntityClass());
+        }
+        return EntitySelectorFactory.<Solution_> create(entitySelectorConfig_)
+                .buildEntitySelector(configPolicy, minimumCacheType,
+                        SelectionOrder.fromRandomSelectionBoolean(randomSelection));
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Inserts an unassigned value into a {@link PlanningListVariable} at a destination index.
+ * Used by the construction heuristic.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see ListUnassignMove
+ */
+public class ListAssignMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+    protected final Object planningValue;
+    protected final Object destinationEntity;
+    protected final int destinationIndex;
+
+    public ListAssignMove(ListVariableDescriptor<Solution_> variableDescriptor, Object planningValue,
+            Object destinationEntity, int destinationIndex) {
+        this.variableDescriptor = variableDescriptor;
+        this.planningValue = planningValue;
+        this.destinationEntity = destinationEntity;
+        this.destinationIndex = destinationIndex;
+    }
+
+    public Object getPlanningValue() {
+        return planningValue;
+    }
+
+    public Object getDestinationEntity() {
+        return destinationEntity;
+    }
+
+    public int getDestinationIndex() {
+        return destinationIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return true;
+    }
+
+    @Override
+    public ListUnassignMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new ListUnassignMove<>(variableDescriptor, destinationEntity, destinationIndex);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        int toIndex = variableDescriptor.getListSize(destinationEntity) + 1;
+        innerScoreDirector.beforeListVariableElementAssigned(variableDescriptor, planningValue);
+        innerScoreDirector.beforeListVariableChanged(variableDescriptor, destinationEntity, destinationIndex, toIndex);
+        variableDescriptor.getListVariable(destinationEntity).add(destinationIndex, planningValue);
+        innerScoreDirector.afterListVariableChanged(variableDescriptor, destinationEntity, destinationIndex, toIndex);
+        innerScoreDirector.afterListVariableElementAssigned(variableDescriptor, planningValue);
+    }
+
+    @Override
+    public ListAssignMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new ListAssignMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(planningValue),
+                destinationScoreDirector.lookUpWorkingObject(destinationEntity), destinationIndex);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Collections.singletonList(destinationEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Collections.singletonList(planningValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ListAssignMove<?> other = (ListAssignMove<?>) o;
+        return destinationIndex == other.destinationIndex
+                && Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(planningValue, other.planningValue)
+                && Objects.equals(destinationEntity, other.destinationEntity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, planningValue, destinationEntity, destinationIndex);
+    }
+
+    @Override
+    public String toString() {
+        return planningValue + " {null -> " + destinationEntity + "[" + destinationIndex + "]}";
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Moves 1 element of a {@link PlanningListVariable} from a source index to a destination index,
+ * in the same or in another entity.
+ * <p>
+ * The destination index is the index in the destination list after the element has been removed from the source list.
+ * Only the affected index range of each list is notified, so the index based shadow variables of the other elements
+ * aren't touched.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListChangeMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+    protected final Object sourceEntity;
+    protected final int sourceIndex;
+    protected final Object destinationEntity;
+    protected final int destinationIndex;
+    protected final Object movedValue;
+
+    public ListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, Object destinationEntity, int destinationIndex) {
+        this(variableDescriptor, sourceEntity, sourceIndex, destinationEntity, destinationIndex,
+                variableDescriptor.getElement(sourceEntity, sourceIndex));
+    }
+
+    protected ListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, Object destinationEntity, int destinationIndex, Object movedValue) {
+        this.variableDescriptor = variableDescriptor;
+        this.sourceEntity = sourceEntity;
+        this.sourceIndex = sourceIndex;
+        this.destinationEntity = destinationEntity;
+        this.destinationIndex = destinationIndex;
+        this.movedValue = movedValue;
+    }
+
+    public Object getSourceEntity() {
+        return sourceEntity;
+    }
+
+    public int getSourceIndex() {
+        return sourceIndex;
+    }
+
+    public Object getDestinationEntity() {
+        return destinationEntity;
+    }
+
+    public int getDestinationIndex() {
+        return destinationIndex;
+    }
+
+    public Object getMovedValue() {
+        return movedValue;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return sourceEntity != destinationEntity || sourceIndex != destinationIndex;
+    }
+
+    @Override
+    public ListChangeMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new ListChangeMove<>(variableDescriptor, destinationEntity, destinationIndex, sourceEntity, sourceIndex,
+                movedValue);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        List<Object> sourceList = variableDescriptor.getListVariable(sourceEntity);
+        if (sourceEntity == destinationEntity) {
+            int fromIndex = Math.min(sourceIndex, destinationIndex);
+            int toIndex = Math.max(sourceIndex, destinationIndex) + 1;
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, fromIndex, toIndex);
+            Object element = sourceList.remove(sourceIndex);
+            sourceList.add(destinationIndex, element);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, fromIndex, toIndex);
+        } else {
+            List<Object> destinationList = variableDescriptor.getListVariable(destinationEntity);
+            int sourceToIndex = sourceList.size();
+            int destinationToIndex = destinationList.size() + 1;
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, sourceIndex, sourceToIndex);
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, destinationEntity,
+                    destinationIndex, destinationToIndex);
+            Object element = sourceList.remove(sourceIndex);
+            destinationList.add(destinationIndex, element);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, sourceIndex, sourceToIndex);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, destinationEntity,
+                    destinationIndex, destinationToIndex);
+        }
+    }
+
+    @Override
+    public ListChangeMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new ListChangeMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(sourceEntity), sourceIndex,
+                destinationScoreDirector.lookUpWorkingObject(destinationEntity), destinationIndex,
+                destinationScoreDirector.lookUpWorkingObject(movedValue));
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        if (sourceEntity == destinationEntity) {
+            return Collections.singletonList(sourceEntity);
+        }
+        return List.of(sourceEntity, destinationEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Collections.singletonList(movedValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ListChangeMove<?> other = (ListChangeMove<?>) o;
+        return sourceIndex == other.sourceIndex && destinationIndex == other.destinationIndex
+                && Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(sourceEntity, other.sourceEntity)
+                && Objects.equals(destinationEntity, other.destinationEntity)
+                && Objects.equals(movedValue, other.movedValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, sourceEntity, sourceIndex, destinationEntity, destinationIndex, movedValue);
+    }
+
+    @Override
+    public String toString() {
+        return movedValue + " {" + sourceEntity + "[" + sourceIndex + "] -> "
+                + destinationEntity + "[" + destinationIndex + "]}";
+    }
+
+}
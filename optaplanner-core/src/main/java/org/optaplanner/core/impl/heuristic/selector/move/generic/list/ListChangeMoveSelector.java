@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Selects {@link ListChangeMove}s: every element to every other insertion position, in the same or another entity.
+ */
+public class ListChangeMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    public ListChangeMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection) {
+        super(entitySelector, randomSelection);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public long getSize() {
+        ListPositions positions = createListPositions();
+        if (positions.elementCount == 0) {
+            return 0L;
+        }
+        // Every position except the original position and the position right after it (which are the same)
+        return (long) positions.elementCount * (positions.getPositionCount() - 2);
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        if (!randomSelection) {
+            return new OriginalListChangeMoveIterator();
+        } else {
+            return new RandomListChangeMoveIterator();
+        }
+    }
+
+    private class OriginalListChangeMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private ListPositions positions = null;
+        private int sourceEntityIndex = 0;
+        private int sourceIndex = 0;
+        private int destinationEntityIndex = 0;
+        private int destinationIndex = -1;
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            if (positions == null) {
+                // Not in the constructor (to avoid upcoming selections breaking mimic recording)
+                positions = createListPositions();
+            }
+            int entityCount = positions.getEntityCount();
+            while (sourceEntityIndex < entityCount) {
+                if (sourceIndex >= positions.sizes[sourceEntityIndex]) {
+                    sourceEntityIndex++;
+                    sourceIndex = 0;
+                    continue;
+                }
+                while (destinationEntityIndex < entityCount) {
+                    destinationIndex++;
+                    boolean sameEntity = destinationEntityIndex == sourceEntityIndex;
+                    // After the removal from the same entity, its list has 1 element less
+                    int destinationSize = positions.sizes[destinationEntityIndex] - (sameEntity ? 1 : 0);
+                    if (destinationIndex > destinationSize) {
+                        destinationEntityIndex++;
+                        destinationIndex = -1;
+                    } else if (!sameEntity || destinationIndex != sourceIndex) {
+                        return new ListChangeMove<>(listVariableDescriptor,
+                                positions.entityList.get(sourceEntityIndex), sourceIndex,
+                                positions.entityList.get(destinationEntityIndex), destinationIndex);
+                    }
+                }
+                sourceIndex++;
+                destinationEntityIndex = 0;
+                destinationIndex = -1;
+            }
+            return noUpcomingSelection();
+        }
+
+    }
+
+    private class RandomListChangeMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private ListPositions positions = null;
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            if (positions == null) {
+                // Not in the constructor (to avoid upcoming selections breaking mimic recording)
+                positions = createListPositions();
+            }
+            if (positions.elementCount == 0) {
+                return noUpcomingSelection();
+            }
+            int elementIndex = positions.randomElementIndex(workingRandom);
+            int sourceEntityIndex = positions.entityIndexOfElement(elementIndex);
+            int sourceIndex = elementIndex - positions.elementOffsets[sourceEntityIndex];
+            int positionIndex = positions.randomPositionIndex(workingRandom);
+            int destinationEntityIndex = positions.entityIndexOfPosition(positionIndex);
+            int destinationIndex = positionIndex
+                    - positions.elementOffsets[destinationEntityIndex] - destinationEntityIndex;
+            if (destinationEntityIndex == sourceEntityIndex
+                    && destinationIndex == positions.sizes[sourceEntityIndex]) {
+                // That position doesn't exist after the removal: select the not doable original position instead
+                destinationIndex = sourceIndex;
+            }
+            return new ListChangeMove<>(listVariableDescriptor,
+                    positions.entityList.get(sourceEntityIndex), sourceIndex,
+                    positions.entityList.get(destinationEntityIndex), destinationIndex);
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Selects {@link ListSwapMove}s: every pair of elements, in the same or in 2 different entities.
+ */
+public class ListSwapMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    public ListSwapMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection) {
+        super(entitySelector, randomSelection);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public long getSize() {
+        long elementCount = createListPositions().elementCount;
+        return elementCount * (elementCount - 1L) / 2L;
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        if (!randomSelection) {
+            return new OriginalListSwapMoveIterator();
+        } else {
+            return new RandomListSwapMoveIterator();
+        }
+    }
+
+    private Move<Solution_> newSwapSelection(ListPositions positions, int leftElementIndex, int rightElementIndex) {
+        int leftEntityIndex = positions.entityIndexOfElement(leftElementIndex);
+        int rightEntityIndex = positions.entityIndexOfElement(rightElementIndex);
+        return new ListSwapMove<>(listVariableDescriptor,
+                positions.entityList.get(leftEntityIndex),
+                leftElementIndex - positions.elementOffsets[leftEntityIndex],
+                positions.entityList.get(rightEntityIndex),
+                rightElementIndex - positions.elementOffsets[rightEntityIndex]);
+    }
+
+    private class OriginalListSwapMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private ListPositions positions = null;
+        private int leftElementIndex = 0;
+        private int rightElementIndex = 0;
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            if (positions == null) {
+                // Not in the constructor (to avoid upcoming selections breaking mimic recording)
+                positions = createListPositions();
+            }
+            rightElementIndex++;
+            if (rightElementIndex >= positions.elementCount) {
+                leftElementIndex++;
+                rightElementIndex = leftElementIndex + 1;
+                if (rightElementIndex >= positions.elementCount) {
+                    return noUpcomingSelection();
+                }
+            }
+            return newSwapSelection(positions, leftElementIndex, rightElementIndex);
+        }
+
+    }
+
+    private class RandomListSwapMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private ListPositions positions = null;
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            if (positions == null) {
+                // Not in the constructor (to avoid upcoming selections breaking mimic recording)
+                positions = createListPositions();
+            }
+            if (positions.elementCount == 0) {
+                return noUpcomingSelection();
+            }
+            return newSwapSelection(positions, positions.randomElementIndex(workingRandom),
+                    positions.randomElementIndex(workingRandom));
+        }
+
+    }
+
+}
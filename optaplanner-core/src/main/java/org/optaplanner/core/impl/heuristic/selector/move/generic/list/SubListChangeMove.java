@@ -0,0 +1,215 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Moves a sub list of a {@link PlanningListVariable} from a source index to a destination index,
+ * in the same or in another entity, optionally reversing it.
+ * <p>
+ * The destination index is the index in the destination list after the sub list has been removed from the source list.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class SubListChangeMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+    protected final Object sourceEntity;
+    protected final int sourceIndex;
+    protected final int length;
+    protected final Object destinationEntity;
+    protected final int destinationIndex;
+    protected final boolean reversing;
+    protected final List<Object> movedValueList;
+
+    public SubListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, int length,
+            Object destinationEntity, int destinationIndex, boolean reversing) {
+        this(variableDescriptor, sourceEntity, sourceIndex, length, destinationEntity, destinationIndex, reversing,
+                new ArrayList<>(variableDescriptor.getListVariable(sourceEntity)
+                        .subList(sourceIndex, sourceIndex + length)));
+    }
+
+    protected SubListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, int length,
+            Object destinationEntity, int destinationIndex, boolean reversing, List<Object> movedValueList) {
+        this.variableDescriptor = variableDescriptor;
+        this.sourceEntity = sourceEntity;
+        this.sourceIndex = sourceIndex;
+        this.length = length;
+        this.destinationEntity = destinationEntity;
+        this.destinationIndex = destinationIndex;
+        this.reversing = reversing;
+        this.movedValueList = movedValueList;
+    }
+
+    public Object getSourceEntity() {
+        return sourceEntity;
+    }
+
+    public int getSourceIndex() {
+        return sourceIndex;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public Object getDestinationEntity() {
+        return destinationEntity;
+    }
+
+    public int getDestinationIndex() {
+        return destinationIndex;
+    }
+
+    public boolean isReversing() {
+        return reversing;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        if (length <= 0) {
+            return false;
+        }
+        if (sourceEntity == destinationEntity && sourceIndex == destinationIndex) {
+            return reversing && length > 1;
+        }
+        return true;
+    }
+
+    @Override
+    public SubListChangeMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        List<Object> undoMovedValueList = movedValueList;
+        if (reversing) {
+            undoMovedValueList = new ArrayList<>(movedValueList);
+            Collections.reverse(undoMovedValueList);
+        }
+        return new SubListChangeMove<>(variableDescriptor, destinationEntity, destinationIndex, length,
+                sourceEntity, sourceIndex, reversing, undoMovedValueList);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        List<Object> sourceList = variableDescriptor.getListVariable(sourceEntity);
+        if (sourceEntity == destinationEntity) {
+            int fromIndex = Math.min(sourceIndex, destinationIndex);
+            int toIndex = Math.max(sourceIndex, destinationIndex) + length;
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, fromIndex, toIndex);
+            List<Object> subList = removeSubList(sourceList);
+            sourceList.addAll(destinationIndex, subList);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, fromIndex, toIndex);
+        } else {
+            List<Object> destinationList = variableDescriptor.getListVariable(destinationEntity);
+            int sourceToIndex = sourceList.size();
+            int destinationToIndex = destinationList.size() + length;
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, sourceIndex, sourceToIndex);
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, destinationEntity,
+                    destinationIndex, destinationToIndex);
+            List<Object> subList = removeSubList(sourceList);
+            destinationList.addAll(destinationIndex, subList);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, sourceIndex, sourceToIndex);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, destinationEntity,
+                    destinationIndex, destinationToIndex);
+        }
+    }
+
+    private List<Object> removeSubList(List<Object> sourceList) {
+        List<Object> subListView = sourceList.subList(sourceIndex, sourceIndex + length);
+        List<Object> subList = new ArrayList<>(subListView);
+        subListView.clear();
+        if (reversing) {
+            Collections.reverse(subList);
+        }
+        return subList;
+    }
+
+    @Override
+    public SubListChangeMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new SubListChangeMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(sourceEntity), sourceIndex, length,
+                destinationScoreDirector.lookUpWorkingObject(destinationEntity), destinationIndex, reversing,
+                rebaseList(movedValueList, destinationScoreDirector));
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        if (sourceEntity == destinationEntity) {
+            return Collections.singletonList(sourceEntity);
+        }
+        return List.of(sourceEntity, destinationEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return movedValueList;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SubListChangeMove<?> other = (SubListChangeMove<?>) o;
+        return sourceIndex == other.sourceIndex && length == other.length
+                && destinationIndex == other.destinationIndex && reversing == other.reversing
+                && Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(sourceEntity, other.sourceEntity)
+                && Objects.equals(destinationEntity, other.destinationEntity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, sourceEntity, sourceIndex, length, destinationEntity, destinationIndex,
+                reversing);
+    }
+
+    @Override
+    public String toString() {
+        return movedValueList + " {" + sourceEntity + "[" + sourceIndex + ".." + (sourceIndex + length) + "] -"
+                + (reversing ? "reversing" : "") + "> " + destinationEntity + "[" + destinationIndex + "]}";
+    }
+
+}
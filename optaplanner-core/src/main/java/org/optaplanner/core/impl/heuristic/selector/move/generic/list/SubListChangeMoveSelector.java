@@ -0,0 +1,226 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Selects {@link SubListChangeMove}s: every sub list (within the size limits) to every other insertion position,
+ * in the same or another entity, optionally reversing it too.
+ */
+public class SubListChangeMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    protected final int minimumSubListSize;
+    protected final int maximumSubListSize;
+    protected final boolean selectReversingMoveToo;
+
+    public SubListChangeMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection,
+            int minimumSubListSize, int maximumSubListSize, boolean selectReversingMoveToo) {
+        super(entitySelector, randomSelection);
+        if (minimumSubListSize < 1) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ")'s minimumSubListSize (" + minimumSubListSize + ") must be at least 1.");
+        }
+        if (minimumSubListSize > maximumSubListSize) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ")'s minimumSubListSize (" + minimumSubListSize
+                    + ") must be at most its maximumSubListSize (" + maximumSubListSize + ").");
+        }
+        this.minimumSubListSize = minimumSubListSize;
+        this.maximumSubListSize = maximumSubListSize;
+        this.selectReversingMoveToo = selectReversingMoveToo;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public long getSize() {
+        ListPositions positions = createListPositions();
+        long positionCount = positions.getPositionCount();
+        long size = 0L;
+        for (int i = 0; i < positions.getEntityCount(); i++) {
+            int sourceSize = positions.sizes[i];
+            for (int sourceIndex = 0; sourceIndex + minimumSubListSize <= sourceSize; sourceIndex++) {
+                long maximumLength = Math.min(maximumSubListSize, sourceSize - sourceIndex);
+                long minimumLength = minimumSubListSize;
+                if (minimumLength == 1L) {
+                    // A single element is never reversed: every position except the original one
+                    size += positionCount - 2L;
+                    minimumLength = 2L;
+                }
+                if (minimumLength <= maximumLength) {
+                    // Every length has (positionCount - length) positions, one of which is the original position
+                    long lengthCount = maximumLength - minimumLength + 1L;
+                    long destinationCount = lengthCount * positionCount
+                            - (minimumLength + maximumLength) * lengthCount / 2L;
+                    size += (selectReversingMoveToo ? 2L : 1L) * destinationCount - lengthCount;
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        if (!randomSelection) {
+            return new OriginalSubListChangeMoveIterator();
+        } else {
+            return new RandomSubListChangeMoveIterator();
+        }
+    }
+
+    private Move<Solution_> newSubListChangeMove(ListPositions positions, int sourceEntityIndex, int sourceIndex,
+            int length, int destinationEntityIndex, int destinationIndex, boolean reversing) {
+        return new SubListChangeMove<>(listVariableDescriptor,
+                positions.entityList.get(sourceEntityIndex), sourceIndex, length,
+                positions.entityList.get(destinationEntityIndex), destinationIndex, reversing);
+    }
+
+    private class OriginalSubListChangeMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private ListPositions positions = null;
+        private int sourceEntityIndex = 0;
+        private int sourceIndex = 0;
+        private int length = minimumSubListSize;
+        private int destinationEntityIndex = 0;
+        private int destinationIndex = -1;
+
+        private Move<Solution_> nextReversingSelection = null;
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            if (positions == null) {
+                // Not in the constructor (to avoid upcoming selections breaking mimic recording)
+                positions = createListPositions();
+            }
+            if (nextReversingSelection != null) {
+                Move<Solution_> upcomingSelection = nextReversingSelection;
+                nextReversingSelection = null;
+                return upcomingSelection;
+            }
+            if (!advance()) {
+                return noUpcomingSelection();
+            }
+            Move<Solution_> reversingSelection = (selectReversingMoveToo && length > 1)
+                    ? newSubListChangeMove(positions, sourceEntityIndex, sourceIndex, length,
+                            destinationEntityIndex, destinationIndex, true)
+                    : null;
+            if (destinationEntityIndex == sourceEntityIndex && destinationIndex == sourceIndex) {
+                // Only reversing in place is doable
+                return reversingSelection;
+            }
+            nextReversingSelection = reversingSelection;
+            return newSubListChangeMove(positions, sourceEntityIndex, sourceIndex, length,
+                    destinationEntityIndex, destinationIndex, false);
+        }
+
+        private boolean advance() {
+            destinationIndex++;
+            int entityCount = positions.getEntityCount();
+            while (sourceEntityIndex < entityCount) {
+                int sourceSize = positions.sizes[sourceEntityIndex];
+                if (sourceIndex + minimumSubListSize > sourceSize) {
+                    sourceEntityIndex++;
+                    sourceIndex = 0;
+                    length = minimumSubListSize;
+                    destinationEntityIndex = 0;
+                    destinationIndex = 0;
+                } else if (length > Math.min(maximumSubListSize, sourceSize - sourceIndex)) {
+                    sourceIndex++;
+                    length = minimumSubListSize;
+                    destinationEntityIndex = 0;
+                    destinationIndex = 0;
+                } else if (destinationEntityIndex >= entityCount) {
+                    length++;
+                    destinationEntityIndex = 0;
+                    destinationIndex = 0;
+                } else {
+                    boolean sameEntity = destinationEntityIndex == sourceEntityIndex;
+                    // After the removal from the same entity, its list has length elements less
+                    int destinationSize = positions.sizes[destinationEntityIndex] - (sameEntity ? length : 0);
+                    if (destinationIndex > destinationSize) {
+                        destinationEntityIndex++;
+                        destinationIndex = 0;
+                    } else if (sameEntity && destinationIndex == sourceIndex
+                            && !(selectReversingMoveToo && length > 1)) {
+                        destinationIndex++;
+                    } else {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+    }
+
+    private class RandomSubListChangeMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private ListPositions positions = null;
+        private int[] sourceEntityIndexes = null;
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            if (positions == null) {
+                // Not in the constructor (to avoid upcoming selections breaking mimic recording)
+                positions = createListPositions();
+                sourceEntityIndexes = new int[positions.getEntityCount()];
+                int sourceEntityCount = 0;
+                for (int i = 0; i < positions.getEntityCount(); i++) {
+                    if (positions.sizes[i] >= minimumSubListSize) {
+                        sourceEntityIndexes[sourceEntityCount] = i;
+                        sourceEntityCount++;
+                    }
+                }
+                sourceEntityIndexes = Arrays.copyOf(sourceEntityIndexes, sourceEntityCount);
+            }
+            if (sourceEntityIndexes.length == 0) {
+                return noUpcomingSelection();
+            }
+            int sourceEntityIndex = sourceEntityIndexes[workingRandom.nextInt(sourceEntityIndexes.length)];
+            int sourceSize = positions.sizes[sourceEntityIndex];
+            int sourceIndex = workingRandom.nextInt(sourceSize - minimumSubListSize + 1);
+            int maximumLength = Math.min(maximumSubListSize, sourceSize - sourceIndex);
+            int length = minimumSubListSize + workingRandom.nextInt(maximumLength - minimumSubListSize + 1);
+            int positionIndex = positions.randomPositionIndex(workingRandom);
+            int destinationEntityIndex = positions.entityIndexOfPosition(positionIndex);
+            int destinationIndex = positionIndex
+                    - positions.elementOffsets[destinationEntityIndex] - destinationEntityIndex;
+            if (destinationEntityIndex == sourceEntityIndex && destinationIndex > sourceSize - length) {
+                // That position doesn't exist after the removal: select the original position instead
+                destinationIndex = sourceIndex;
+            }
+            boolean reversing = selectReversingMoveToo && length > 1 && workingRandom.nextBoolean();
+            return newSubListChangeMove(positions, sourceEntityIndex, sourceIndex, length,
+                    destinationEntityIndex, destinationIndex, reversing);
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ", " + minimumSubListSize + ".."
+                + maximumSubListSize + ")";
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
+
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+
+public class SubListChangeMoveSelectorFactory<Solution_>
+        extends AbstractListMoveSelectorFactory<Solution_, SubListChangeMoveSelectorConfig> {
+
+    public SubListChangeMoveSelectorFactory(SubListChangeMoveSelectorConfig moveSelectorConfig) {
+        super(moveSelectorConfig);
+    }
+
+    @Override
+    protected MoveSelector<Solution_> buildBaseMoveSelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            SelectionCacheType minimumCacheType, boolean randomSelection) {
+        EntitySelector<Solution_> entitySelector = buildEntitySelector(configPolicy, config.getEntitySelectorConfig(),
+                minimumCacheType, randomSelection);
+        int minimumSubListSize = defaultIfNull(config.getMinimumSubListSize(), 1);
+        int maximumSubListSize = defaultIfNull(config.getMaximumSubListSize(), Integer.MAX_VALUE);
+        boolean selectReversingMoveToo = defaultIfNull(config.getSelectReversingMoveToo(), true);
+        return new SubListChangeMoveSelector<>(entitySelector, randomSelection, minimumSubListSize, maximumSubListSize,
+                selectReversingMoveToo);
+    }
+
+}
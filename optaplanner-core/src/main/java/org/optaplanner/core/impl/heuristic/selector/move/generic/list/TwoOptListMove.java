@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * A 2-opt move on a {@link PlanningListVariable}: removes 2 edges and reconnects the 2 paths.
+ * <p>
+ * On the same entity, it reverses the elements between the 2 edges, so the first index must be lower.
+ * On 2 different entities, it swaps the tails that start at both indexes.
+ * In both cases, this move is its own undo move.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class TwoOptListMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+    protected final Object firstEntity;
+    protected final int firstIndex;
+    protected final Object secondEntity;
+    protected final int secondIndex;
+
+    public TwoOptListMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object firstEntity, int firstIndex, Object secondEntity, int secondIndex) {
+        if (firstEntity == secondEntity && firstIndex > secondIndex) {
+            throw new IllegalArgumentException("The firstIndex (" + firstIndex
+                    + ") must not be higher than the secondIndex (" + secondIndex + ") on the same entity ("
+                    + firstEntity + ").");
+        }
+        this.variableDescriptor = variableDescriptor;
+        this.firstEntity = firstEntity;
+        this.firstIndex = firstIndex;
+        this.secondEntity = secondEntity;
+        this.secondIndex = secondIndex;
+    }
+
+    public Object getFirstEntity() {
+        return firstEntity;
+    }
+
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    public Object getSecondEntity() {
+        return secondEntity;
+    }
+
+    public int getSecondIndex() {
+        return secondIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        if (firstEntity == secondEntity) {
+            return secondIndex - firstIndex >= 2;
+        }
+        return firstIndex < variableDescriptor.getListSize(firstEntity)
+                || secondIndex < variableDescriptor.getListSize(secondEntity);
+    }
+
+    @Override
+    public TwoOptListMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new TwoOptListMove<>(variableDescriptor, firstEntity, firstIndex, secondEntity, secondIndex);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        List<Object> firstList = variableDescriptor.getListVariable(firstEntity);
+        if (firstEntity == secondEntity) {
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, firstEntity, firstIndex, secondIndex);
+            Collections.reverse(firstList.subList(firstIndex, secondIndex));
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, firstEntity, firstIndex, secondIndex);
+        } else {
+            List<Object> secondList = variableDescriptor.getListVariable(secondEntity);
+            int firstSize = firstList.size();
+            int secondSize = secondList.size();
+            int firstToIndex = Math.max(firstSize, firstIndex + secondSize - secondIndex);
+            int secondToIndex = Math.max(secondSize, secondIndex + firstSize - firstIndex);
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, firstEntity, firstIndex, firstToIndex);
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, secondEntity, secondIndex, secondToIndex);
+            List<Object> firstTailView = firstList.subList(firstIndex, firstSize);
+            List<Object> secondTailView = secondList.subList(secondIndex, secondSize);
+            List<Object> firstTail = new ArrayList<>(firstTailView);
+            firstTailView.clear();
+            firstList.addAll(secondTailView);
+            secondTailView.clear();
+            secondList.addAll(firstTail);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, firstEntity, firstIndex, firstToIndex);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, secondEntity, secondIndex, secondToIndex);
+        }
+    }
+
+    @Override
+    public TwoOptListMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new TwoOptListMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(firstEntity), firstIndex,
+                destinationScoreDirector.lookUpWorkingObject(secondEntity), secondIndex);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        if (firstEntity == secondEntity) {
+            return Collections.singletonList(firstEntity);
+        }
+        return List.of(firstEntity, secondEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        // The same values before and after the move
+        List<Object> firstList = variableDescriptor.getListVariable(firstEntity);
+        if (firstEntity == secondEntity) {
+            return new ArrayList<>(firstList.subList(firstIndex, secondIndex));
+        }
+        List<Object> secondList = variableDescriptor.getListVariable(secondEntity);
+        List<Object> planningValueList = new ArrayList<>(firstList.subList(firstIndex, firstList.size()));
+        planningValueList.addAll(secondList.subList(secondIndex, secondList.size()));
+        return planningValueList;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TwoOptListMove<?> other = (TwoOptListMove<?>) o;
+        return firstIndex == other.firstIndex && secondIndex == other.secondIndex
+                && Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(firstEntity, other.firstEntity)
+                && Objects.equals(secondEntity, other.secondEntity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, firstEntity, firstIndex, secondEntity, secondIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "2-opt {" + firstEntity + "[" + firstIndex + "] <-> " + secondEntity + "[" + secondIndex + "]}";
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Selects {@link TwoOptListMove}s: every pair of insertion positions (which are the edges between 2 elements),
+ * in the same or in 2 different entities.
+ */
+public class TwoOptListMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    public TwoOptListMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection) {
+        super(entitySelector, randomSelection);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public long getSize() {
+        ListPositions positions = createListPositions();
+        long size = 0L;
+        long previousPositionCount = 0L;
+        for (int i = 0; i < positions.getEntityCount(); i++) {
+            long listSize = positions.sizes[i];
+            // Reversing at least 2 elements in the same entity
+            size += listSize * (listSize - 1L) / 2L;
+            // Swapping the tails with every previous entity, except 2 empty tails
+            long positionCount = listSize + 1L;
+            if (i > 0) {
+                size += positionCount * previousPositionCount - i;
+            }
+            previousPositionCount += positionCount;
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        if (!randomSelection) {
+            return new OriginalTwoOptListMoveIterator();
+        } else {
+            return new RandomTwoOptListMoveIterator();
+        }
+    }
+
+    private class OriginalTwoOptListMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private ListPositions positions = null;
+        private int firstEntityIndex = 0;
+        private int firstIndex = 0;
+        private int secondEntityIndex = 0;
+        private int secondIndex = 1;
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            if (positions == null) {
+                // Not in the constructor (to avoid upcoming selections breaking mimic recording)
+                positions = createListPositions();
+            }
+            int entityCount = positions.getEntityCount();
+            while (firstEntityIndex < entityCount) {
+                int firstSize = positions.sizes[firstEntityIndex];
+                if (firstIndex > firstSize) {
+                    firstEntityIndex++;
+                    firstIndex = 0;
+                    secondEntityIndex = firstEntityIndex;
+                    secondIndex = 1;
+                    continue;
+                }
+                while (secondEntityIndex < entityCount) {
+                    secondIndex++;
+                    int secondSize = positions.sizes[secondEntityIndex];
+                    if (secondIndex > secondSize) {
+                        secondEntityIndex++;
+                        secondIndex = -1;
+                    } else if (secondEntityIndex != firstEntityIndex
+                            || secondIndex - firstIndex >= 2) {
+                        if (secondEntityIndex != firstEntityIndex && firstIndex == firstSize
+                                && secondIndex == secondSize) {
+                            // Swapping 2 empty tails
+                            continue;
+                        }
+                        return new TwoOptListMove<>(listVariableDescriptor,
+                                positions.entityList.get(firstEntityIndex), firstIndex,
+                                positions.entityList.get(secondEntityIndex), secondIndex);
+                    }
+                }
+                firstIndex++;
+                secondEntityIndex = firstEntityIndex;
+                secondIndex = firstIndex + 1;
+            }
+            return noUpcomingSelection();
+        }
+
+    }
+
+    private class RandomTwoOptListMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private ListPositions positions = null;
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            if (positions == null) {
+                // Not in the constructor (to avoid upcoming selections breaking mimic recording)
+                positions = createListPositions();
+            }
+            if (positions.getEntityCount() == 0) {
+                return noUpcomingSelection();
+            }
+            int firstPositionIndex = positions.randomPositionIndex(workingRandom);
+            int secondPositionIndex = positions.randomPositionIndex(workingRandom);
+            int firstEntityIndex = positions.entityIndexOfPosition(firstPositionIndex);
+            int secondEntityIndex = positions.entityIndexOfPosition(secondPositionIndex);
+            int firstIndex = firstPositionIndex - positions.elementOffsets[firstEntityIndex] - firstEntityIndex;
+            int secondIndex = secondPositionIndex - positions.elementOffsets[secondEntityIndex] - secondEntityIndex;
+            if (firstEntityIndex == secondEntityIndex && firstIndex > secondIndex) {
+                int swapIndex = firstIndex;
+                firstIndex = secondIndex;
+                secondIndex = swapIndex;
+            }
+            return new TwoOptListMove<>(listVariableDescriptor,
+                    positions.entityList.get(firstEntityIndex), firstIndex,
+                    positions.entityList.get(secondEntityIndex), secondIndex);
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * Hands off multiple moves with consecutive move indexes at once,
+ * to reduce the contention on the operation queue when a move is cheap to evaluate.
+ */
+public class MoveEvaluationBatchOperation<Solution_> extends MoveThreadOperation<Solution_> {
+
+    private final int stepIndex;
+    private final int firstMoveIndex;
+    private final List<Move<Solution_>> moveList;
+
+    public MoveEvaluationBatchOperation(int stepIndex, int firstMoveIndex, List<Move<Solution_>> moveList) {
+        this.stepIndex = stepIndex;
+        this.firstMoveIndex = firstMoveIndex;
+        this.moveList = moveList;
+    }
+
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    /**
+     * @return the moveIndex of the first move in {@link #getMoveList()}, the others follow consecutively
+     */
+    public int getFirstMoveIndex() {
+        return firstMoveIndex;
+    }
+
+    public List<Move<Solution_>> getMoveList() {
+        return moveList;
+    }
+
+}
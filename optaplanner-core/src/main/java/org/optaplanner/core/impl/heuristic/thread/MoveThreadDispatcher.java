@@ -0,0 +1,269 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Runs the move threads of a multithreaded decider during a phase.
+ * It selects the moves of a step on the solver thread, hands them off to the move threads in batches
+ * and processes their results in move index order, so the outcome does not depend on the batch size.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MoveThreadDispatcher<Solution_> {
+
+    private final String logIndentation;
+    private final String threadPoolName;
+    private final ThreadFactory threadFactory;
+    private final int moveThreadCount;
+    private final int selectedMoveBufferSize;
+    private final int moveThreadBatchSize;
+
+    private BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    private OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
+    private ExecutorService executor;
+    private List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
+
+    /**
+     * @param logIndentation never null
+     * @param threadPoolName never null, used in the log if the move threads do not stop in time
+     * @param threadFactory never null
+     * @param moveThreadCount {@code >= 1}
+     * @param selectedMoveBufferSize {@code >= 1}, the number of moves that are selected before the first result
+     *        is processed
+     * @param moveThreadBatchSize {@code >= 1}, the number of moves handed off to a move thread at once
+     */
+    public MoveThreadDispatcher(String logIndentation, String threadPoolName, ThreadFactory threadFactory,
+            int moveThreadCount, int selectedMoveBufferSize, int moveThreadBatchSize) {
+        this.logIndentation = logIndentation;
+        this.threadPoolName = threadPoolName;
+        this.threadFactory = threadFactory;
+        this.moveThreadCount = moveThreadCount;
+        this.selectedMoveBufferSize = selectedMoveBufferSize;
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
+    public int getMoveThreadCount() {
+        return moveThreadCount;
+    }
+
+    /**
+     * Starts the move threads and brings them to the working solution of the solver thread.
+     *
+     * @param phaseScope never null
+     * @param evaluateDoable true if a move that is not doable must not be evaluated
+     * @param scoreBounder sometimes null, see {@link MoveThreadRunner}
+     */
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope, boolean evaluateDoable, ScoreBounder scoreBounder,
+            boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
+            boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
+            boolean assertShadowVariablesAreNotStaleAfterStep) {
+        // Capacity: number of moves (or move batches) in circulation + number of setup xor step operations
+        // + number of destroy operations
+        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        // Capacity: number of moves in circulation + number of exception handling results
+        // + number of stale results that race with the start of the next step
+        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        CyclicBarrier moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        executor = createThreadPoolExecutor();
+        moveThreadRunnerList = new ArrayList<>(moveThreadCount);
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
+                    logIndentation, moveThreadIndex, evaluateDoable, scoreBounder,
+                    operationQueue, resultQueue, moveThreadBarrier,
+                    assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                    assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+            moveThreadRunnerList.add(moveThreadRunner);
+            executor.submit(moveThreadRunner);
+            operationQueue.add(new SetupOperation<>(scoreDirector));
+        }
+        phaseScope.getSolverScope().setMoveThreadRunnerList(moveThreadRunnerList);
+    }
+
+    /**
+     * Stops the move threads and adds their score calculation count to the phase.
+     *
+     * @param phaseScope never null
+     */
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        // Tell the move thread runners to stop
+        // Don't clear the operationsQueue to avoid moveThreadBarrier deadlock:
+        // The MoveEvaluationOperations are already cleared and the new ApplyStepOperation isn't added yet.
+        DestroyOperation<Solution_> destroyOperation = new DestroyOperation<>();
+        for (int i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(destroyOperation);
+        }
+        // TODO This should probably be in a finally that spans at least the entire phase, maybe even the entire solve
+        ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, threadPoolName);
+        long childThreadsScoreCalculationCount = 0;
+        for (MoveThreadRunner<Solution_, ?> moveThreadRunner : moveThreadRunnerList) {
+            childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
+        }
+        phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
+        phaseScope.getSolverScope().setMoveThreadRunnerList(Collections.emptyList());
+        operationQueue = null;
+        resultQueue = null;
+        executor = null;
+        moveThreadRunnerList = null;
+    }
+
+    protected ExecutorService createThreadPoolExecutor() {
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(moveThreadCount,
+                threadFactory);
+        if (threadPoolExecutor.getMaximumPoolSize() < moveThreadCount) {
+            throw new IllegalStateException(
+                    "The threadPoolExecutor's maximumPoolSize (" + threadPoolExecutor.getMaximumPoolSize()
+                            + ") is less than the moveThreadCount (" + moveThreadCount + "), this is unsupported.");
+        }
+        return threadPoolExecutor;
+    }
+
+    /**
+     * Discards the stale results of the previous step.
+     *
+     * @param stepIndex {@code >= 0}
+     */
+    public void startNextStep(int stepIndex) {
+        resultQueue.startNextStep(stepIndex);
+    }
+
+    /**
+     * Does the step on every move thread, without waiting for them to finish it.
+     *
+     * @param stepIndex {@code >= 1}, the index of the step that the move threads will be in after this step
+     * @param step never null
+     * @param score never null, the score of the working solution after the step
+     */
+    public void applyStep(int stepIndex, Move<Solution_> step, Score score) {
+        ApplyStepOperation<Solution_, ?> stepOperation = new ApplyStepOperation<>(stepIndex, step, score);
+        for (int i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(stepOperation);
+        }
+    }
+
+    /**
+     * @param stepIndex {@code >= 0}
+     * @param moveIterator never null
+     * @param resultProcessor never null, see {@link #evaluateMoves(int, Iterator, Consumer, Predicate)}
+     * @return {@code >= 0}, the number of selected moves
+     */
+    public int evaluateMoves(int stepIndex, Iterator<Move<Solution_>> moveIterator,
+            Predicate<OrderByMoveIndexBlockingQueue.MoveResult<Solution_>> resultProcessor) {
+        return evaluateMoves(stepIndex, moveIterator, move -> {
+        }, resultProcessor);
+    }
+
+    /**
+     * @param stepIndex {@code >= 0}
+     * @param moveIterator never null
+     * @param selectedMoveListener never null, called on the solver thread for every selected move, in selection order
+     * @param resultProcessor never null, called on the solver thread for every result, in move index order,
+     *        returns true to stop evaluating moves for this step
+     * @return {@code >= 0}, the number of selected moves
+     */
+    public int evaluateMoves(int stepIndex, Iterator<Move<Solution_>> moveIterator,
+            Consumer<Move<Solution_>> selectedMoveListener,
+            Predicate<OrderByMoveIndexBlockingQueue.MoveResult<Solution_>> resultProcessor) {
+        int selectingMoveIndex = 0;
+        int dispatchedMoveIndex = 0;
+        int processingMoveIndex = 0;
+        List<Move<Solution_>> moveBatch = new ArrayList<>(moveThreadBatchSize);
+        do {
+            boolean moveIteratorEmpty = !moveIterator.hasNext();
+            // First fill the buffer so move evaluation can run freely in parallel
+            // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
+            // even if some of those moves won't end up being evaluated or processed
+            if (selectingMoveIndex >= selectedMoveBufferSize || moveIteratorEmpty) {
+                if (processingMoveIndex >= selectingMoveIndex) {
+                    // No move was selected at all, so there is no result to wait on
+                    break;
+                }
+                if (processingMoveIndex >= dispatchedMoveIndex) {
+                    // The move to process is still in the incomplete batch, so hand it off before waiting on it
+                    dispatchMoveBatch(stepIndex, dispatchedMoveIndex, moveBatch);
+                    dispatchedMoveIndex = selectingMoveIndex;
+                }
+                if (processResult(stepIndex, resultProcessor)) {
+                    break;
+                }
+                processingMoveIndex++;
+            }
+            if (!moveIteratorEmpty) {
+                Move<Solution_> move = moveIterator.next();
+                selectedMoveListener.accept(move);
+                moveBatch.add(move);
+                selectingMoveIndex++;
+                if (moveBatch.size() >= moveThreadBatchSize) {
+                    dispatchMoveBatch(stepIndex, dispatchedMoveIndex, moveBatch);
+                    dispatchedMoveIndex = selectingMoveIndex;
+                }
+            }
+        } while (processingMoveIndex < selectingMoveIndex);
+        // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
+        operationQueue.clear();
+        return selectingMoveIndex;
+    }
+
+    private void dispatchMoveBatch(int stepIndex, int firstMoveIndex, List<Move<Solution_>> moveBatch) {
+        if (moveBatch.size() == 1) {
+            // Single move handoff, also the fallback for expensive moves which are spread best over the move threads
+            operationQueue.add(new MoveEvaluationOperation<>(stepIndex, firstMoveIndex, moveBatch.get(0)));
+        } else {
+            operationQueue.add(new MoveEvaluationBatchOperation<>(stepIndex, firstMoveIndex, new ArrayList<>(moveBatch)));
+        }
+        moveBatch.clear();
+    }
+
+    private boolean processResult(int stepIndex,
+            Predicate<OrderByMoveIndexBlockingQueue.MoveResult<Solution_>> resultProcessor) {
+        OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        try {
+            result = resultQueue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        if (stepIndex != result.getStepIndex()) {
+            throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
+                    + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
+        }
+        return resultProcessor.test(result);
+    }
+
+}
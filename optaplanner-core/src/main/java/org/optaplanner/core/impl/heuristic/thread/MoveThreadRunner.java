@@ -22,6 +22,7 @@ import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
@@ -35,6 +36,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private final String logIndentation;
     private final int moveThreadIndex;
     private final boolean evaluateDoable;
+    private final ScoreBounder scoreBounder;
 
     private final BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     private final OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
@@ -48,6 +50,8 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
 
     private InnerScoreDirector<Solution_, Score_> scoreDirector = null;
     private AtomicLong calculationCount = new AtomicLong(-1);
+    private volatile long lastStepCalculationCount = 0L;
+    private volatile long threadId = -1L;
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
             BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
@@ -56,9 +60,26 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
             boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
             boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
             boolean assertShadowVariablesAreNotStaleAfterStep) {
+        this(logIndentation, moveThreadIndex, evaluateDoable, null, operationQueue, resultQueue, moveThreadBarrier,
+                assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+    }
+
+    /**
+     * @param scoreBounder sometimes null, if not null every evaluated move also calculates its optimistic
+     *        and pessimistic bound
+     */
+    public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable, ScoreBounder scoreBounder,
+            BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
+            OrderByMoveIndexBlockingQueue<Solution_> resultQueue,
+            CyclicBarrier moveThreadBarrier,
+            boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
+            boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
+            boolean assertShadowVariablesAreNotStaleAfterStep) {
         this.logIndentation = logIndentation;
         this.moveThreadIndex = moveThreadIndex;
         this.evaluateDoable = evaluateDoable;
+        this.scoreBounder = scoreBounder;
         this.operationQueue = operationQueue;
         this.resultQueue = resultQueue;
         this.moveThreadBarrier = moveThreadBarrier;
@@ -71,6 +92,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
 
     @Override
     public void run() {
+        threadId = Thread.currentThread().getId();
         try {
             int stepIndex = -1;
             Score_ lastStepScore = null;
@@ -104,9 +126,15 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     calculationCount.set(scoreDirector.getCalculationCount());
                     break;
                 } else if (operation instanceof ApplyStepOperation) {
-                    // TODO Performance gain with specialized 2-phase cyclic barrier:
-                    // As soon as the last move thread has taken its ApplyStepOperation,
-                    // other move threads can already depart from the moveThreadStepBarrier: no need to wait until the step is done.
+                    try {
+                        // Don't consume a MoveEvaluationOperation until every moveThread took this ApplyStepOperation.
+                        // As soon as the last move thread has taken its ApplyStepOperation,
+                        // the other move threads depart: no need to wait until the step is done on every move thread.
+                        moveThreadBarrier.await();
+                    } catch (InterruptedException | BrokenBarrierException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
                     ApplyStepOperation<Solution_, Score_> applyStepOperation =
                             (ApplyStepOperation<Solution_, Score_>) operation;
                     if (stepIndex + 1 != applyStepOperation.getStepIndex()) {
@@ -115,6 +143,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                                 + applyStepOperation.getStepIndex() + ").");
                     }
                     stepIndex = applyStepOperation.getStepIndex();
+                    lastStepCalculationCount = scoreDirector.getCalculationCount();
                     Move<Solution_> step = applyStepOperation.getStep().rebase(scoreDirector);
                     Score_ score = applyStepOperation.getScore();
                     step.doMove(scoreDirector);
@@ -122,36 +151,20 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     lastStepScore = score;
                     logger.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
-                    try {
-                        // Don't consume an MoveEvaluationOperation until every moveThread took this ApplyStepOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
                 } else if (operation instanceof MoveEvaluationOperation) {
                     MoveEvaluationOperation<Solution_> moveEvaluationOperation = (MoveEvaluationOperation<Solution_>) operation;
-                    int moveIndex = moveEvaluationOperation.getMoveIndex();
-                    if (stepIndex != moveEvaluationOperation.getStepIndex()) {
-                        throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
-                                + stepIndex + ") differs from the operation's stepIndex ("
-                                + moveEvaluationOperation.getStepIndex() + ") with moveIndex ("
-                                + moveIndex + ").");
-                    }
-                    Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
-                    if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
-                        logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex);
-                        resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
-                    } else {
-                        Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
-                        if (assertExpectedUndoMoveScore) {
-                            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
-                        }
-                        logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
-                        // Deliberately add to fail fast if there is not enough capacity (which is impossible)
-                        resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+                    assertStepIndex(stepIndex, moveEvaluationOperation.getStepIndex(),
+                            moveEvaluationOperation.getMoveIndex());
+                    evaluateMove(stepIndex, moveEvaluationOperation.getMoveIndex(), moveEvaluationOperation.getMove(),
+                            lastStepScore);
+                } else if (operation instanceof MoveEvaluationBatchOperation) {
+                    MoveEvaluationBatchOperation<Solution_> moveEvaluationBatchOperation =
+                            (MoveEvaluationBatchOperation<Solution_>) operation;
+                    int moveIndex = moveEvaluationBatchOperation.getFirstMoveIndex();
+                    assertStepIndex(stepIndex, moveEvaluationBatchOperation.getStepIndex(), moveIndex);
+                    for (Move<Solution_> move : moveEvaluationBatchOperation.getMoveList()) {
+                        evaluateMove(stepIndex, moveIndex, move, lastStepScore);
+                        moveIndex++;
                     }
                 } else {
                     throw new IllegalStateException("Unknown operation (" + operation + ").");
@@ -172,6 +185,48 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         }
     }
 
+    private void assertStepIndex(int stepIndex, int operationStepIndex, int moveIndex) {
+        if (stepIndex != operationStepIndex) {
+            throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
+                    + stepIndex + ") differs from the operation's stepIndex ("
+                    + operationStepIndex + ") with moveIndex ("
+                    + moveIndex + ").");
+        }
+    }
+
+    private void evaluateMove(int stepIndex, int moveIndex, Move<Solution_> operationMove, Score_ lastStepScore) {
+        Move<Solution_> move = operationMove.rebase(scoreDirector);
+        if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
+            logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex);
+            resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
+        } else if (scoreBounder == null) {
+            Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+            if (assertExpectedUndoMoveScore) {
+                scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+            }
+            logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+            // Deliberately add to fail fast if there is not enough capacity (which is impossible)
+            resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+        } else {
+            scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch, score -> {
+                // The bounds depend on the working solution, so calculate them before the move is undone
+                Score optimisticBound = scoreBounder.calculateOptimisticBound(scoreDirector, score);
+                Score pessimisticBound = scoreBounder.calculatePessimisticBound(scoreDirector, score);
+                logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}),"
+                        + " optimistic bound ({}), pessimistic bound ({}).",
+                        logIndentation, moveThreadIndex, stepIndex, moveIndex, score, optimisticBound, pessimisticBound);
+                // Deliberately add to fail fast if there is not enough capacity (which is impossible)
+                resultQueue.addBoundedMove(moveThreadIndex, stepIndex, moveIndex, move, score,
+                        optimisticBound, pessimisticBound);
+            });
+            if (assertExpectedUndoMoveScore) {
+                scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+            }
+        }
+    }
+
     protected void predictWorkingStepScore(Move<Solution_> step, Score_ score) {
         // There is no need to recalculate the score, but we still need to set it
         scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
@@ -201,6 +256,25 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         return calculationCount;
     }
 
+    /**
+     * This method is thread-safe.
+     * Unlike {@link #getCalculationCount()}, it is also available before this move thread is destroyed.
+     *
+     * @return at least 0, the score calculation count up to the last step that this move thread started
+     */
+    public long getLastStepCalculationCount() {
+        return lastStepCalculationCount;
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @return -1 if this move thread hasn't started yet, otherwise the {@link Thread#getId()} of the move thread
+     */
+    public long getThreadId() {
+        return threadId;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "-" + moveThreadIndex;
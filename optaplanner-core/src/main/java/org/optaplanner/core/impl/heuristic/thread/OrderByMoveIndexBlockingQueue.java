@@ -18,22 +18,37 @@ package org.optaplanner.core.impl.heuristic.thread;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
 import org.optaplanner.core.impl.heuristic.move.Move;
 
+/**
+ * Reorders the {@link MoveResult}s of the move threads by their moveIndex.
+ * <p>
+ * The move threads never contend on a monitor with each other or with the solver thread:
+ * the inner queue uses separate put and take locks
+ * and results of a previous step are filtered on the volatile filterStepIndex.
+ * A result that races with {@link #startNextStep(int)} can still slip into the inner queue,
+ * so the capacity must account for 1 stale result per move thread. {@link #take()} discards those.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
 public class OrderByMoveIndexBlockingQueue<Solution_> {
 
     private final BlockingQueue<MoveResult<Solution_>> innerQueue;
     private final Map<Integer, MoveResult<Solution_>> backlog;
+    private final AtomicReference<MoveResult<Solution_>> exceptionResult = new AtomicReference<>(null);
 
-    private int filterStepIndex = Integer.MIN_VALUE;
+    private volatile int filterStepIndex = Integer.MIN_VALUE;
     private int nextMoveIndex = Integer.MIN_VALUE;
 
     public OrderByMoveIndexBlockingQueue(int capacity) {
-        innerQueue = new ArrayBlockingQueue<>(capacity);
+        innerQueue = new LinkedBlockingQueue<>(capacity);
         backlog = new HashMap<>(capacity);
     }
 
@@ -43,21 +58,16 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @param stepIndex at least 0
      */
     public void startNextStep(int stepIndex) {
-        synchronized (this) {
-            if (filterStepIndex >= stepIndex) {
-                throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
-                        + ") must be less than the stepIndex (" + stepIndex + ")");
-            }
-            filterStepIndex = stepIndex;
-            MoveResult<Solution_> exceptionResult = innerQueue.stream().filter(MoveResult::hasThrownException)
-                    .findFirst().orElse(null);
-            if (exceptionResult != null) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + exceptionResult.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        exceptionResult.getThrowable());
-            }
-            innerQueue.clear();
+        if (filterStepIndex >= stepIndex) {
+            throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
+                    + ") must be less than the stepIndex (" + stepIndex + ")");
+        }
+        filterStepIndex = stepIndex;
+        innerQueue.clear();
+        // Checked after the clear, so an exception that is added concurrently is never eaten
+        MoveResult<Solution_> exceptionResult = this.exceptionResult.get();
+        if (exceptionResult != null) {
+            throw createRelayedException(exceptionResult);
         }
         nextMoveIndex = 0;
         backlog.clear();
@@ -73,14 +83,11 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @see BlockingQueue#add(Object)
      */
     public void addUndoableMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null);
-        synchronized (this) {
-            if (result.getStepIndex() != filterStepIndex) {
-                // Discard element from previous step
-                return;
-            }
-            innerQueue.add(result);
+        if (stepIndex != filterStepIndex) {
+            // Discard element from previous step
+            return;
         }
+        innerQueue.add(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null));
     }
 
     /**
@@ -94,14 +101,34 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @see BlockingQueue#add(Object)
      */
     public void addMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, Score score) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score);
-        synchronized (this) {
-            if (result.getStepIndex() != filterStepIndex) {
-                // Discard element from previous step
-                return;
-            }
-            innerQueue.add(result);
+        if (stepIndex != filterStepIndex) {
+            // Discard element from previous step
+            return;
+        }
+        innerQueue.add(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score));
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @param move never null
+     * @param score never null
+     * @param optimisticBound never null
+     * @param pessimisticBound never null
+     * @see BlockingQueue#add(Object)
+     * @see ScoreBounder
+     */
+    public void addBoundedMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, Score score,
+            Score optimisticBound, Score pessimisticBound) {
+        if (stepIndex != filterStepIndex) {
+            // Discard element from previous step
+            return;
         }
+        innerQueue.add(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score,
+                optimisticBound, pessimisticBound));
     }
 
     /**
@@ -115,9 +142,10 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      */
     public void addExceptionThrown(int moveThreadIndex, Throwable throwable) {
         MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, throwable);
-        synchronized (this) {
-            innerQueue.add(result);
-        }
+        // If 2 exceptions are added from different threads concurrently, either one could end up first.
+        // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
+        exceptionResult.compareAndSet(null, result);
+        innerQueue.add(result);
     }
 
     /**
@@ -138,13 +166,12 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
         }
         while (true) {
             MoveResult<Solution_> result = innerQueue.take();
-            // If 2 exceptions are added from different threads concurrently, either one could end up first.
-            // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
             if (result.hasThrownException()) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + result.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        result.getThrowable());
+                throw createRelayedException(result);
+            }
+            if (result.getStepIndex() != filterStepIndex) {
+                // Discard element from previous step that raced with startNextStep()
+                continue;
             }
             if (result.getMoveIndex() == moveIndex) {
                 return result;
@@ -154,6 +181,13 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
         }
     }
 
+    private IllegalStateException createRelayedException(MoveResult<Solution_> exceptionResult) {
+        return new IllegalStateException("The move thread with moveThreadIndex ("
+                + exceptionResult.getMoveThreadIndex() + ") has thrown an exception."
+                + " Relayed here in the parent thread.",
+                exceptionResult.getThrowable());
+    }
+
     public static class MoveResult<Solution_> {
 
         private final int moveThreadIndex;
@@ -162,16 +196,25 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
         private final Move<Solution_> move;
         private final boolean moveDoable;
         private final Score score;
+        private final Score optimisticBound;
+        private final Score pessimisticBound;
         private final Throwable throwable;
 
         public MoveResult(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, boolean moveDoable,
                 Score score) {
+            this(moveThreadIndex, stepIndex, moveIndex, move, moveDoable, score, null, null);
+        }
+
+        public MoveResult(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, boolean moveDoable,
+                Score score, Score optimisticBound, Score pessimisticBound) {
             this.moveThreadIndex = moveThreadIndex;
             this.stepIndex = stepIndex;
             this.moveIndex = moveIndex;
             this.move = move;
             this.moveDoable = moveDoable;
             this.score = score;
+            this.optimisticBound = optimisticBound;
+            this.pessimisticBound = pessimisticBound;
             this.throwable = null;
         }
 
@@ -182,6 +225,8 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             this.move = null;
             this.moveDoable = false;
             this.score = null;
+            this.optimisticBound = null;
+            this.pessimisticBound = null;
             this.throwable = throwable;
         }
 
@@ -213,6 +258,20 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             return score;
         }
 
+        /**
+         * @return null if the move wasn't bounded
+         */
+        public Score getOptimisticBound() {
+            return optimisticBound;
+        }
+
+        /**
+         * @return null if the move wasn't bounded
+         */
+        public Score getPessimisticBound() {
+            return pessimisticBound;
+        }
+
         private Throwable getThrowable() {
             return throwable;
         }
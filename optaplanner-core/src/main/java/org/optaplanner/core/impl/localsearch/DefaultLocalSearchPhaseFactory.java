@@ -27,6 +27,10 @@ import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
 import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.TwoOptListMoveSelectorConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
 import org.optaplanner.core.config.localsearch.decider.acceptor.AcceptorType;
@@ -101,11 +105,19 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
                 // If it's too high, more moves are selected that aren't foraged
                 moveThreadBufferSize = 10;
             }
+            Integer moveThreadBatchSize = configPolicy.getMoveThreadBatchSize();
+            if (moveThreadBatchSize == null) {
+                // Hand off every move separately: expensive moves are spread best over the move threads
+                moveThreadBatchSize = 1;
+            } else if (moveThreadBatchSize < 1 || moveThreadBatchSize > moveThreadBufferSize) {
+                throw new IllegalArgumentException("The moveThreadBatchSize (" + moveThreadBatchSize
+                        + ") must be at least 1 and at most the moveThreadBufferSize (" + moveThreadBufferSize + ").");
+            }
             ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
             int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
             MultiThreadedLocalSearchDecider<Solution_> multiThreadedDecider = new MultiThreadedLocalSearchDecider<>(
                     configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager,
-                    threadFactory, moveThreadCount, selectedMoveBufferSize);
+                    threadFactory, moveThreadCount, selectedMoveBufferSize, moveThreadBatchSize);
             if (environmentMode.isNonIntrusiveFullAsserted()) {
                 multiThreadedDecider.setAssertStepScoreFromScratch(true);
             }
@@ -211,10 +223,17 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
             defaultSelectionOrder = SelectionOrder.RANDOM;
         }
         if (phaseConfig.getMoveSelectorConfig() == null) {
-            // Default to changeMoveSelector and swapMoveSelector
             UnionMoveSelectorConfig unionMoveSelectorConfig = new UnionMoveSelectorConfig();
-            unionMoveSelectorConfig.setMoveSelectorConfigList(Arrays.asList(new ChangeMoveSelectorConfig(),
-                    new SwapMoveSelectorConfig()));
+            if (configPolicy.getSolutionDescriptor().hasListVariable()) {
+                // Default to the list move selectors
+                unionMoveSelectorConfig.setMoveSelectorConfigList(Arrays.asList(new ListChangeMoveSelectorConfig(),
+                        new ListSwapMoveSelectorConfig(), new SubListChangeMoveSelectorConfig(),
+                        new TwoOptListMoveSelectorConfig()));
+            } else {
+                // Default to changeMoveSelector and swapMoveSelector
+                unionMoveSelectorConfig.setMoveSelectorConfigList(Arrays.asList(new ChangeMoveSelectorConfig(),
+                        new SwapMoveSelectorConfig()));
+            }
             moveSelector = new UnionMoveSelectorFactory<Solution_>(unionMoveSelectorConfig)
                     .buildMoveSelector(configPolicy, defaultCacheType, defaultSelectionOrder);
         } else {
@@ -16,12 +16,9 @@
 
 package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
 
-import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.List;
+import java.util.RandomAccess;
 
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -45,8 +42,7 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
 
     protected boolean assertTabuHashCodeCorrectness = false;
 
-    protected Map<Object, Integer> tabuToStepIndexMap;
-    protected Deque<Object> tabuSequenceDeque;
+    protected TabuStore tabuStore;
 
     protected int workingTabuSize = -1;
     protected int workingFadingTabuSize = -1;
@@ -84,15 +80,13 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0
                 : fadingTabuSizeStrategy.determineTabuSize(lastCompletedStepScope);
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
-        tabuToStepIndexMap = new HashMap<>(totalTabuListSize);
-        tabuSequenceDeque = new ArrayDeque<>();
+        tabuStore = new TabuStore(totalTabuListSize);
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        tabuToStepIndexMap = null;
-        tabuSequenceDeque = null;
+        tabuStore = null;
         workingTabuSize = -1;
         workingFadingTabuSize = -1;
     }
@@ -109,30 +103,10 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
     protected void adjustTabuList(int tabuStepIndex, Collection<? extends Object> tabus) {
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
         // Remove the oldest tabu(s)
-        for (Iterator<Object> it = tabuSequenceDeque.iterator(); it.hasNext();) {
-            Object oldTabu = it.next();
-            Integer oldTabuStepIndexInteger = tabuToStepIndexMap.get(oldTabu);
-            if (oldTabuStepIndexInteger == null) {
-                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
-                        + oldTabu + ") of class (" + oldTabu.getClass()
-                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
-            }
-            int oldTabuStepCount = tabuStepIndex - oldTabuStepIndexInteger; // at least 1
-            if (oldTabuStepCount < totalTabuListSize) {
-                break;
-            }
-            it.remove();
-            tabuToStepIndexMap.remove(oldTabu);
-        }
-        // Add the new tabu(s)
+        tabuStore.removeExpired(tabuStepIndex, totalTabuListSize);
+        // Add the new tabu(s), an existing tabu is pushed to the end of the line
         for (Object tabu : tabus) {
-            // Push tabu to the end of the line
-            if (tabuToStepIndexMap.containsKey(tabu)) {
-                tabuToStepIndexMap.remove(tabu);
-                tabuSequenceDeque.remove(tabu);
-            }
-            tabuToStepIndexMap.put(tabu, tabuStepIndex);
-            tabuSequenceDeque.add(tabu);
+            tabuStore.add(tabu, tabuStepIndex);
         }
     }
 
@@ -175,32 +149,43 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
 
     private int locateMaximumTabStepIndex(LocalSearchMoveScope<Solution_> moveScope) {
         Collection<? extends Object> checkingTabus = findTabu(moveScope);
-        int maximumTabuStepIndex = -1;
-        for (Object checkingTabu : checkingTabus) {
-            Integer tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
-            if (tabuStepIndexInteger != null) {
-                maximumTabuStepIndex = Math.max(tabuStepIndexInteger, maximumTabuStepIndex);
+        int maximumTabuStepIndex = TabuStore.NO_STEP_INDEX;
+        if (checkingTabus instanceof List && checkingTabus instanceof RandomAccess) {
+            // Avoid creating an Iterator for every move
+            List<? extends Object> checkingTabuList = (List<? extends Object>) checkingTabus;
+            for (int i = 0; i < checkingTabuList.size(); i++) {
+                maximumTabuStepIndex = Math.max(locateTabuStepIndex(checkingTabuList.get(i)), maximumTabuStepIndex);
+            }
+        } else {
+            for (Object checkingTabu : checkingTabus) {
+                maximumTabuStepIndex = Math.max(locateTabuStepIndex(checkingTabu), maximumTabuStepIndex);
             }
-            if (assertTabuHashCodeCorrectness) {
-                for (Object tabu : tabuSequenceDeque) {
-                    // tabu and checkingTabu can be null with a nullable planning variable
-                    if (tabu != null && tabu.equals(checkingTabu)) {
-                        if (tabu.hashCode() != checkingTabu.hashCode()) {
-                            throw new IllegalStateException("HashCode/equals contract violation: tabu (" + tabu
-                                    + ") of class (" + tabu.getClass()
-                                    + ") and checkingTabu (" + checkingTabu
-                                    + ") are equals() but have a different hashCode().");
-                        }
-                        if (tabuStepIndexInteger == null) {
-                            throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
-                                    + tabu + ") of class (" + tabu.getClass()
-                                    + ") changed during planning, since it was inserted in the tabu Map or Set.");
-                        }
+        }
+        return maximumTabuStepIndex;
+    }
+
+    private int locateTabuStepIndex(Object checkingTabu) {
+        int tabuStepIndex = tabuStore.getStepIndex(checkingTabu);
+        if (assertTabuHashCodeCorrectness) {
+            for (int i = 0; i < tabuStore.getSequenceSize(); i++) {
+                Object tabu = tabuStore.getSequenceTabu(i);
+                // tabu and checkingTabu can be null with a nullable planning variable
+                if (tabu != null && tabu.equals(checkingTabu)) {
+                    if (tabu.hashCode() != checkingTabu.hashCode()) {
+                        throw new IllegalStateException("HashCode/equals contract violation: tabu (" + tabu
+                                + ") of class (" + tabu.getClass()
+                                + ") and checkingTabu (" + checkingTabu
+                                + ") are equals() but have a different hashCode().");
+                    }
+                    if (tabuStepIndex == TabuStore.NO_STEP_INDEX) {
+                        throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                                + tabu + ") of class (" + tabu.getClass()
+                                + ") changed during planning, since it was inserted in the tabu Map or Set.");
                     }
                 }
             }
         }
-        return maximumTabuStepIndex;
+        return tabuStepIndex;
     }
 
     /**
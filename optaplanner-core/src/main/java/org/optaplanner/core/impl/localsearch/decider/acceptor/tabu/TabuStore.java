@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
+
+/**
+ * Maps every tabu to the step index in which it became tabu, for an {@link AbstractTabuAcceptor}.
+ * <p>
+ * The step indexes are primitives in an open addressing hash table (with linear probing)
+ * and the tabu sequence is a ring buffer, so adding, expiring and looking up a tabu don't allocate,
+ * except when the capacity grows, which stops once the tabu size is reached.
+ * A tabu that is added again isn't removed from the ring buffer (which would be {@code O(n)}),
+ * instead its older entry is skipped when it expires.
+ * <p>
+ * Tabus are still compared with {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ * This class is not thread-safe.
+ */
+public final class TabuStore {
+
+    public static final int NO_STEP_INDEX = -1;
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    // Open addressing hash table: a null key is an empty slot
+    private Object[] keys;
+    private int[] keyHashes;
+    private int[] keyStepIndexes;
+    private int keyCount = 0;
+    // A null tabu (for example with a nullable planning variable) can't be a key
+    private int nullTabuStepIndex = NO_STEP_INDEX;
+
+    // Ring buffer in step index order
+    private Object[] sequenceTabus;
+    private int[] sequenceStepIndexes;
+    private int sequenceHead = 0;
+    private int sequenceSize = 0;
+
+    /**
+     * @param expectedTabuCount {@code >= 0}, the capacity grows if needed
+     */
+    public TabuStore(int expectedTabuCount) {
+        int tableCapacity = powerOfTwoCapacity(expectedTabuCount * 2L);
+        keys = new Object[tableCapacity];
+        keyHashes = new int[tableCapacity];
+        keyStepIndexes = new int[tableCapacity];
+        int sequenceCapacity = powerOfTwoCapacity(expectedTabuCount);
+        sequenceTabus = new Object[sequenceCapacity];
+        sequenceStepIndexes = new int[sequenceCapacity];
+    }
+
+    private static int powerOfTwoCapacity(long minimumCapacity) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < minimumCapacity && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(Object tabu) {
+        int h = tabu.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return the number of distinct tabus
+     */
+    public int size() {
+        return keyCount + (nullTabuStepIndex == NO_STEP_INDEX ? 0 : 1);
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @return {@link #NO_STEP_INDEX} if the tabu isn't tabu, otherwise the step index in which it was last added
+     */
+    public int getStepIndex(Object tabu) {
+        if (tabu == null) {
+            return nullTabuStepIndex;
+        }
+        int slot = findSlot(tabu, hash(tabu));
+        return keys[slot] == null ? NO_STEP_INDEX : keyStepIndexes[slot];
+    }
+
+    /**
+     * Adds the tabu, or if it is already tabu, pushes it to the end of the line.
+     *
+     * @param tabu sometimes null
+     * @param stepIndex {@code >= 0}, never lower than the stepIndex of a previous call
+     */
+    public void add(Object tabu, int stepIndex) {
+        if (tabu == null) {
+            if (nullTabuStepIndex == stepIndex) {
+                return;
+            }
+            nullTabuStepIndex = stepIndex;
+        } else {
+            int hash = hash(tabu);
+            int slot = findSlot(tabu, hash);
+            if (keys[slot] == null) {
+                keys[slot] = tabu;
+                keyHashes[slot] = hash;
+                keyStepIndexes[slot] = stepIndex;
+                keyCount++;
+                if (keyCount * 2 > keys.length) {
+                    growTable();
+                }
+            } else {
+                if (keyStepIndexes[slot] == stepIndex) {
+                    // Already added in this step
+                    return;
+                }
+                keyStepIndexes[slot] = stepIndex;
+            }
+        }
+        if (sequenceSize == sequenceTabus.length) {
+            growSequence();
+        }
+        int sequenceIndex = (sequenceHead + sequenceSize) & (sequenceTabus.length - 1);
+        sequenceTabus[sequenceIndex] = tabu;
+        sequenceStepIndexes[sequenceIndex] = stepIndex;
+        sequenceSize++;
+    }
+
+    /**
+     * Removes every tabu that was last added at least tabuSize steps before the stepIndex.
+     *
+     * @param stepIndex {@code >= 0}
+     * @param tabuSize {@code >= 1}
+     */
+    public void removeExpired(int stepIndex, int tabuSize) {
+        while (sequenceSize > 0) {
+            int oldStepIndex = sequenceStepIndexes[sequenceHead];
+            int oldTabuStepCount = stepIndex - oldStepIndex; // at least 1
+            if (oldTabuStepCount < tabuSize) {
+                break;
+            }
+            Object oldTabu = sequenceTabus[sequenceHead];
+            sequenceTabus[sequenceHead] = null;
+            sequenceHead = (sequenceHead + 1) & (sequenceTabus.length - 1);
+            sequenceSize--;
+            int currentStepIndex = getStepIndex(oldTabu);
+            if (currentStepIndex == NO_STEP_INDEX) {
+                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                        + oldTabu + ") of class (" + oldTabu.getClass()
+                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
+            }
+            // Otherwise the tabu was added again later and that later entry still has to expire
+            if (currentStepIndex == oldStepIndex) {
+                remove(oldTabu);
+            }
+        }
+    }
+
+    /**
+     * @return the number of tabus in the sequence, which can include the same tabu multiple times
+     */
+    public int getSequenceSize() {
+        return sequenceSize;
+    }
+
+    /**
+     * @param sequenceIndex {@code 0 <= sequenceIndex < }{@link #getSequenceSize()}, 0 is the oldest
+     * @return sometimes null
+     */
+    public Object getSequenceTabu(int sequenceIndex) {
+        return sequenceTabus[(sequenceHead + sequenceIndex) & (sequenceTabus.length - 1)];
+    }
+
+    private int findSlot(Object tabu, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        while (true) {
+            Object key = keys[slot];
+            if (key == null || (keyHashes[slot] == hash && key.equals(tabu))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void remove(Object tabu) {
+        if (tabu == null) {
+            nullTabuStepIndex = NO_STEP_INDEX;
+            return;
+        }
+        int mask = keys.length - 1;
+        int emptySlot = findSlot(tabu, hash(tabu));
+        keys[emptySlot] = null;
+        keyCount--;
+        // Shift back the following keys of the probe sequence, so lookups never need tombstones
+        int slot = (emptySlot + 1) & mask;
+        while (keys[slot] != null) {
+            int homeSlot = keyHashes[slot] & mask;
+            if (((slot - homeSlot) & mask) >= ((slot - emptySlot) & mask)) {
+                keys[emptySlot] = keys[slot];
+                keyHashes[emptySlot] = keyHashes[slot];
+                keyStepIndexes[emptySlot] = keyStepIndexes[slot];
+                keys[slot] = null;
+                emptySlot = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void growTable() {
+        Object[] oldKeys = keys;
+        int[] oldKeyHashes = keyHashes;
+        int[] oldKeyStepIndexes = keyStepIndexes;
+        int capacity = oldKeys.length * 2;
+        keys = new Object[capacity];
+        keyHashes = new int[capacity];
+        keyStepIndexes = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = oldKeyHashes[i] & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                keyHashes[slot] = oldKeyHashes[i];
+                keyStepIndexes[slot] = oldKeyStepIndexes[i];
+            }
+        }
+    }
+
+    private void growSequence() {
+        int oldCapacity = sequenceTabus.length;
+        Object[] newSequenceTabus = new Object[oldCapacity * 2];
+        int[] newSequenceStepIndexes = new int[oldCapacity * 2];
+        for (int i = 0; i < sequenceSize; i++) {
+            int oldIndex = (sequenceHead + i) & (oldCapacity - 1);
+            newSequenceTabus[i] = sequenceTabus[oldIndex];
+            newSequenceStepIndexes[i] = sequenceStepIndexes[oldIndex];
+        }
+        sequenceTabus = newSequenceTabus;
+        sequenceStepIndexes = newSequenceStepIndexes;
+        sequenceHead = 0;
+    }
+
+}
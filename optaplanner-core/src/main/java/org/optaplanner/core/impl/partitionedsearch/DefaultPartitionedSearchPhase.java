@@ -62,6 +62,7 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
 
     protected List<PhaseConfig> phaseConfigList;
     protected HeuristicConfigPolicy<Solution_> configPolicy;
+    protected int repartitionCount = 0;
 
     public DefaultPartitionedSearchPhase(int phaseIndex, String logIndentation,
             BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> termination,
@@ -81,6 +82,14 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         this.configPolicy = configPolicy;
     }
 
+    /**
+     * @param repartitionCount {@code >= 0}, the number of times the merged working solution is partitioned again
+     *        after every partition solver of the previous round has ended
+     */
+    public void setRepartitionCount(int repartitionCount) {
+        this.repartitionCount = repartitionCount;
+    }
+
     @Override
     public String getPhaseTypeString() {
         return "Partitioned Search";
@@ -94,16 +103,42 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
     public void solve(SolverScope<Solution_> solverScope) {
         PartitionedSearchPhaseScope<Solution_> phaseScope = new PartitionedSearchPhaseScope<>(solverScope);
         List<Solution_> partList = solutionPartitioner.splitWorkingSolution(
-                solverScope.getScoreDirector(), runnablePartThreadLimit);
-        int partCount = partList.size();
-        phaseScope.setPartCount(partCount);
+                solverScope.getScoreDirector(), runnablePartThreadLimit, 0);
+        phaseScope.setPartCount(partList.size());
         phaseStarted(phaseScope);
-        ExecutorService executor = createThreadPoolExecutor(partCount);
+        // Shared by all rounds, so the part threads of a previous round are reused
+        ExecutorService executor = createThreadPoolExecutor();
+        Semaphore runnablePartThreadSemaphore = runnablePartThreadLimit == null ? null
+                : new Semaphore(runnablePartThreadLimit, true);
+        try {
+            int roundIndex = 0;
+            while (true) {
+                solveRound(phaseScope, partList, executor, runnablePartThreadSemaphore);
+                roundIndex++;
+                phaseScope.setRoundCount(roundIndex);
+                if (roundIndex > repartitionCount || termination.isPhaseTerminated(phaseScope)) {
+                    break;
+                }
+                // The partitions of the next round start from the merged best changes of the previous round
+                partList = solutionPartitioner.splitWorkingSolution(
+                        solverScope.getScoreDirector(), runnablePartThreadLimit, roundIndex);
+                phaseScope.setPartCount(partList.size());
+                logger.debug("{}    PS round ({}) repartitioned into partCount ({}).",
+                        logIndentation, roundIndex, partList.size());
+            }
+        } finally {
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Partitioned Search");
+        }
+        phaseEnded(phaseScope);
+    }
+
+    private void solveRound(PartitionedSearchPhaseScope<Solution_> phaseScope, List<Solution_> partList,
+            ExecutorService executor, Semaphore runnablePartThreadSemaphore) {
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        int partCount = partList.size();
         ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination =
                 new ChildThreadPlumbingTermination<>();
         PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(partCount);
-        Semaphore runnablePartThreadSemaphore = runnablePartThreadLimit == null ? null
-                : new Semaphore(runnablePartThreadLimit, true);
         try {
             for (ListIterator<Solution_> it = partList.listIterator(); it.hasNext();) {
                 int partIndex = it.nextIndex();
@@ -149,17 +184,16 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
             // but the other partition threads are not aware of the failure and may continue solving for a long time,
             // so we need to ask them to terminate. In case no exception was thrown, this does nothing.
             childThreadPlumbingTermination.terminateChildren();
-            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Partitioned Search");
         }
-        phaseEnded(phaseScope);
     }
 
-    private ExecutorService createThreadPoolExecutor(int partCount) {
-        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(partCount, threadFactory);
-        if (threadPoolExecutor.getMaximumPoolSize() < partCount) {
+    private ExecutorService createThreadPoolExecutor() {
+        // Every partition needs its own thread (see runnablePartThreadLimit), even if the partCount differs per round
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newCachedThreadPool(threadFactory);
+        if (threadPoolExecutor.getMaximumPoolSize() < Integer.MAX_VALUE) {
             throw new IllegalStateException(
                     "The threadPoolExecutor's maximumPoolSize (" + threadPoolExecutor.getMaximumPoolSize()
-                            + ") is less than the partCount (" + partCount + "), so some partitions will starve.\n"
+                            + ") is bounded, so some partitions will starve.\n"
                             + "Normally this is impossible because the threadPoolExecutor should be unbounded."
                             + " Use runnablePartThreadLimit (" + runnablePartThreadLimit
                             + ") instead to avoid CPU hogging and live locks.");
@@ -227,7 +261,8 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         super.phaseEnded(phaseScope);
         phaseScope.endingNow();
         logger.info("{}Partitioned Search phase ({}) ended: time spent ({}), best score ({}),"
-                + " score calculation speed ({}/sec), step total ({}), partCount ({}), runnablePartThreadLimit ({}).",
+                + " score calculation speed ({}/sec), step total ({}), partCount ({}), roundCount ({}),"
+                + " runnablePartThreadLimit ({}).",
                 logIndentation,
                 phaseIndex,
                 phaseScope.calculateSolverTimeMillisSpentUpToNow(),
@@ -235,6 +270,7 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
                 phaseScope.getPhaseScoreCalculationSpeed(),
                 phaseScope.getNextStepIndex(),
                 phaseScope.getPartCount(),
+                phaseScope.getRoundCount(),
                 runnablePartThreadLimit);
     }
 
@@ -63,6 +63,17 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
             phaseConfigList_ = Arrays.asList(new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig());
         }
         phase.setPhaseConfigList(phaseConfigList_);
+        Integer repartitionCount = phaseConfig.getRepartitionCount();
+        if (repartitionCount != null) {
+            if (repartitionCount < 0) {
+                throw new IllegalArgumentException("The repartitionCount (" + repartitionCount
+                        + ") cannot be negative.");
+            }
+            if (repartitionCount > 0) {
+                assertPartitionPhasesTerminate(phaseConfigList_, repartitionCount);
+            }
+            phase.setRepartitionCount(repartitionCount);
+        }
         phase.setConfigPolicy(phaseConfigPolicy.createChildThreadConfigPolicy(ChildThreadType.PART_THREAD));
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -75,6 +86,26 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
         return phase;
     }
 
+    /**
+     * A round only ends when all of its partition solvers have terminated.
+     * Without a termination of their own, they only terminate when the parent does,
+     * so they would spend all the time in the first round and the later rounds would never run.
+     */
+    private void assertPartitionPhasesTerminate(List<PhaseConfig> phaseConfigList_, int repartitionCount) {
+        for (PhaseConfig partitionPhaseConfig : phaseConfigList_) {
+            // Other phases (such as a construction heuristic) end on their own
+            if (partitionPhaseConfig instanceof LocalSearchPhaseConfig
+                    && partitionPhaseConfig.getTerminationConfig() == null) {
+                throw new IllegalArgumentException("The repartitionCount (" + repartitionCount
+                        + ") requires that every partition round terminates, but the partition phaseConfig ("
+                        + partitionPhaseConfig + ") has no terminationConfig.\n"
+                        + "Maybe add a termination (such as an unimprovedSecondsSpentLimit) to that phase"
+                        + " inside the <partitionedSearch> element.\n"
+                        + "Or maybe remove the repartitionCount.");
+            }
+        }
+    }
+
     private SolutionPartitioner<Solution_> buildSolutionPartitioner() {
         if (phaseConfig.getSolutionPartitionerClass() != null) {
             SolutionPartitioner<?> solutionPartitioner =
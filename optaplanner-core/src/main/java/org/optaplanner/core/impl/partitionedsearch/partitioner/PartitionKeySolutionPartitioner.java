@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * A {@link SolutionPartitioner} that puts all {@link PlanningEntity planning entities} with the same partition key
+ * (for example the same department or the same depot) in the same partition.
+ * <p>
+ * Every partition is a {@link SolutionCloner planning clone} of the working solution
+ * that only contains the planning entities of that partition in its entity collections.
+ * The working solution is planning cloned once and each partition only clones its own planning entities again.
+ * Problem facts are shared by all partitions,
+ * so the value ranges must not allow 2 partitions to interfere with each other.
+ * <p>
+ * Typically used to run a Construction Heuristic on independent entity groups in parallel,
+ * followed by a non-partitioned Local Search.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public abstract class PartitionKeySolutionPartitioner<Solution_> implements SolutionPartitioner<Solution_> {
+
+    /**
+     * Called once per planning entity, on its planning clone,
+     * so the partition key should be a problem fact or a value object, not a planning entity.
+     *
+     * @param entity never null, a {@link PlanningEntity planning entity}
+     * @return never null, planning entities with {@link Object#equals(Object) equal} partition keys
+     *         end up in the same partition
+     */
+    protected abstract Object extractPartitionKey(Object entity);
+
+    @Override
+    public List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector, Integer runnablePartThreadLimit) {
+        SolutionDescriptor<Solution_> solutionDescriptor =
+                ((InnerScoreDirector<Solution_, ?>) scoreDirector).getSolutionDescriptor();
+        SolutionCloner<Solution_> solutionCloner = solutionDescriptor.getSolutionCloner();
+        // Cloned on the solver thread, so the part threads never read the entities of the working solution
+        Solution_ solutionClone = solutionCloner.cloneSolution(scoreDirector.getWorkingSolution());
+        // Group the entities by partition first, so the partition key of every entity is extracted only once.
+        // The partitions are ordered by the first occurrence of their partition key.
+        Map<Object, Integer> partitionKeyToPartIndexMap = new LinkedHashMap<>();
+        Map<MemberAccessor, List<List<Object>>> partEntityListsMap = new LinkedHashMap<>();
+        for (MemberAccessor memberAccessor : solutionDescriptor.getEntityMemberAccessorMap().values()) {
+            Object entity = memberAccessor.executeGetter(solutionClone);
+            if (entity != null) {
+                partEntityListsMap.put(memberAccessor,
+                        groupByPart(partitionKeyToPartIndexMap, Collections.singletonList(entity)));
+            }
+        }
+        for (MemberAccessor memberAccessor : solutionDescriptor.getEntityCollectionMemberAccessorMap().values()) {
+            Object entityCollectionOrArray = memberAccessor.executeGetter(solutionClone);
+            if (entityCollectionOrArray != null) {
+                Collection<Object> entityCollection = memberAccessor.getType().isArray()
+                        ? Arrays.asList((Object[]) entityCollectionOrArray)
+                        : (Collection<Object>) entityCollectionOrArray;
+                partEntityListsMap.put(memberAccessor, groupByPart(partitionKeyToPartIndexMap, entityCollection));
+            }
+        }
+        int partCount = Math.max(1, partitionKeyToPartIndexMap.size());
+        List<Solution_> partList = new ArrayList<>(partCount);
+        for (int partIndex = 0; partIndex < partCount; partIndex++) {
+            retainPartEntities(solutionClone, partEntityListsMap, partIndex);
+            // Only the entities of this partition are cloned again, the last partition takes the solution clone itself
+            partList.add(partIndex == partCount - 1 ? solutionClone : solutionCloner.cloneSolution(solutionClone));
+        }
+        return partList;
+    }
+
+    /**
+     * @param partitionKeyToPartIndexMap never null, extended with the partition keys that didn't occur yet
+     * @param entityCollection never null
+     * @return never null, the entities of the entityCollection per part index, in their original order
+     */
+    private List<List<Object>> groupByPart(Map<Object, Integer> partitionKeyToPartIndexMap,
+            Collection<Object> entityCollection) {
+        List<List<Object>> partEntityLists = new ArrayList<>();
+        for (Object entity : entityCollection) {
+            int partIndex = partitionKeyToPartIndexMap.computeIfAbsent(extractPartitionKeyOrFail(entity),
+                    key -> partitionKeyToPartIndexMap.size());
+            while (partEntityLists.size() <= partIndex) {
+                partEntityLists.add(new ArrayList<>());
+            }
+            partEntityLists.get(partIndex).add(entity);
+        }
+        return partEntityLists;
+    }
+
+    private Object extractPartitionKeyOrFail(Object entity) {
+        Object partitionKey = extractPartitionKey(entity);
+        if (partitionKey == null) {
+            throw new IllegalStateException("The partitioner (" + getClass().getSimpleName()
+                    + ") extracted a null partitionKey for the entity (" + entity + ").\n"
+                    + "Maybe that entity's partition key property isn't initialized.");
+        }
+        return partitionKey;
+    }
+
+    private void retainPartEntities(Solution_ solutionClone, Map<MemberAccessor, List<List<Object>>> partEntityListsMap,
+            int partIndex) {
+        for (Map.Entry<MemberAccessor, List<List<Object>>> entry : partEntityListsMap.entrySet()) {
+            MemberAccessor memberAccessor = entry.getKey();
+            List<List<Object>> partEntityLists = entry.getValue();
+            List<Object> partEntityList = partIndex < partEntityLists.size()
+                    ? partEntityLists.get(partIndex)
+                    : Collections.emptyList();
+            Class<?> type = memberAccessor.getType();
+            if (type.isArray()) {
+                Object partEntityArray = Array.newInstance(type.getComponentType(), partEntityList.size());
+                for (int i = 0; i < partEntityList.size(); i++) {
+                    Array.set(partEntityArray, i, partEntityList.get(i));
+                }
+                assertSupportSetter(memberAccessor);
+                memberAccessor.executeSetter(solutionClone, partEntityArray);
+            } else if (Collection.class.isAssignableFrom(type)) {
+                // The planning clone has its own entity collection instance, so it can be changed in place
+                Collection<Object> entityCollection = (Collection<Object>) memberAccessor.executeGetter(solutionClone);
+                entityCollection.clear();
+                entityCollection.addAll(partEntityList);
+            } else {
+                Object partEntity = partEntityList.isEmpty() ? null : partEntityList.get(0);
+                if (memberAccessor.executeGetter(solutionClone) != partEntity) {
+                    assertSupportSetter(memberAccessor);
+                    memberAccessor.executeSetter(solutionClone, partEntity);
+                }
+            }
+        }
+    }
+
+    private void assertSupportSetter(MemberAccessor memberAccessor) {
+        if (!memberAccessor.supportSetter()) {
+            throw new IllegalStateException("The partitioner (" + getClass().getSimpleName()
+                    + ") cannot remove the entities of other partitions from the entity property ("
+                    + memberAccessor.getName() + ") because it has no setter.");
+        }
+    }
+
+}
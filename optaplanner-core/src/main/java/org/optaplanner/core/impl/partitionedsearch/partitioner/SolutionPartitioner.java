@@ -49,4 +49,24 @@ public interface SolutionPartitioner<Solution_> {
      */
     List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector, Integer runnablePartThreadLimit);
 
+    /**
+     * Called once per partitioning round.
+     * If the Partitioned Search phase repartitions, the working solution is split up again
+     * after the partitions of the previous round have been solved and merged,
+     * so shifting the partition boundaries (for example by rotating the cluster seeds) per round
+     * allows changes across the boundaries of a previous round.
+     * <p>
+     * Defaults to {@link #splitWorkingSolution(ScoreDirector, Integer)}, which ignores the round.
+     *
+     * @param scoreDirector never null, the {@link ScoreDirector}
+     *        which has the {@link ScoreDirector#getWorkingSolution()} that needs to be split up
+     * @param runnablePartThreadLimit null if unlimited, never negative
+     * @param roundIndex {@code >= 0}, 0 for the first partitioning
+     * @return never null, {@link List#size()} of at least 1.
+     */
+    default List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector, Integer runnablePartThreadLimit,
+            int roundIndex) {
+        return splitWorkingSolution(scoreDirector, runnablePartThreadLimit);
+    }
+
 }
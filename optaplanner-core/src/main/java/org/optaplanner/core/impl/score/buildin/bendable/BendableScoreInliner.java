@@ -17,9 +17,7 @@
 package org.optaplanner.core.impl.score.buildin.bendable;
 
 import java.util.Arrays;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -55,53 +53,38 @@ public class BendableScoreInliner extends ScoreInliner<BendableScore> {
             int levelWeight = constraintWeight.getHardOrSoftScore(singleLevel);
             if (singleLevel < constraintWeight.getHardLevelsSize()) {
                 int level = singleLevel;
-                return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                    int hardImpact = levelWeight * matchWeight;
-                    this.hardScores[level] += hardImpact;
-                    if (constraintMatchEnabled) {
-                        matchScoreConsumer
-                                .accept(BendableScore.ofHard(hardScores.length, softScores.length, level, hardImpact));
-                    }
-                    return () -> this.hardScores[level] -= hardImpact;
-                };
+                return IntWeightedScoreImpacter.of(
+                        matchWeight -> this.hardScores[level] += levelWeight * matchWeight,
+                        matchWeight -> BendableScore.ofHard(hardScores.length, softScores.length, level,
+                                levelWeight * matchWeight));
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
-                return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                    int softImpact = levelWeight * matchWeight;
-                    this.softScores[level] += softImpact;
-                    if (constraintMatchEnabled) {
-                        matchScoreConsumer
-                                .accept(BendableScore.ofSoft(hardScores.length, softScores.length, level, softImpact));
-                    }
-                    return () -> {
-                        this.softScores[level] -= softImpact;
-                    };
-                };
+                return IntWeightedScoreImpacter.of(
+                        matchWeight -> this.softScores[level] += levelWeight * matchWeight,
+                        matchWeight -> BendableScore.ofSoft(hardScores.length, softScores.length, level,
+                                levelWeight * matchWeight));
             }
         } else {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                int[] hardImpacts = new int[hardScores.length];
-                int[] softImpacts = new int[softScores.length];
-                for (int i = 0; i < hardImpacts.length; i++) {
-                    hardImpacts[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    this.hardScores[i] += hardImpacts[i];
-                }
-                for (int i = 0; i < softImpacts.length; i++) {
-                    softImpacts[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    this.softScores[i] += softImpacts[i];
-                }
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(BendableScore.of(hardImpacts, softImpacts));
-                }
-                return () -> {
-                    for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] -= hardImpacts[i];
-                    }
-                    for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] -= softImpacts[i];
-                    }
-                };
-            };
+            return IntWeightedScoreImpacter.of(
+                    matchWeight -> {
+                        for (int i = 0; i < hardScores.length; i++) {
+                            this.hardScores[i] += constraintWeight.getHardScore(i) * matchWeight;
+                        }
+                        for (int i = 0; i < softScores.length; i++) {
+                            this.softScores[i] += constraintWeight.getSoftScore(i) * matchWeight;
+                        }
+                    },
+                    matchWeight -> {
+                        int[] hardImpacts = new int[hardScores.length];
+                        int[] softImpacts = new int[softScores.length];
+                        for (int i = 0; i < hardImpacts.length; i++) {
+                            hardImpacts[i] = constraintWeight.getHardScore(i) * matchWeight;
+                        }
+                        for (int i = 0; i < softImpacts.length; i++) {
+                            softImpacts[i] = constraintWeight.getSoftScore(i) * matchWeight;
+                        }
+                        return BendableScore.of(hardImpacts, softImpacts);
+                    });
         }
     }
 
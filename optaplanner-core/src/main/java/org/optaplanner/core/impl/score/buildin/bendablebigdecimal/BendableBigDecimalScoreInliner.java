@@ -18,9 +18,7 @@ package org.optaplanner.core.impl.score.buildin.bendablebigdecimal;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.bendablebigdecimal.BendableBigDecimalScore;
 import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -58,51 +56,52 @@ public class BendableBigDecimalScoreInliner extends ScoreInliner<BendableBigDeci
             BigDecimal levelWeight = constraintWeight.getHardOrSoftScore(singleLevel);
             if (singleLevel < constraintWeight.getHardLevelsSize()) {
                 int level = singleLevel;
-                return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                    BigDecimal hardImpact = levelWeight.multiply(matchWeight);
-                    this.hardScores[level] = this.hardScores[level].add(hardImpact);
-                    if (constraintMatchEnabled) {
-                        matchScoreConsumer.accept(
-                                BendableBigDecimalScore.ofHard(hardScores.length, softScores.length, level, hardImpact));
-                    }
-                    return () -> this.hardScores[level] = this.hardScores[level].subtract(hardImpact);
-                };
+                return BigDecimalWeightedScoreImpacter.of(
+                        matchWeight -> this.hardScores[level] = this.hardScores[level].add(levelWeight.multiply(matchWeight)),
+                        matchWeight -> this.hardScores[level] = this.hardScores[level].subtract(
+                                levelWeight.multiply(matchWeight)),
+                        matchWeight -> BendableBigDecimalScore.ofHard(hardScores.length, softScores.length, level,
+                                levelWeight.multiply(matchWeight)));
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
-                return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                    BigDecimal softImpact = levelWeight.multiply(matchWeight);
-                    this.softScores[level] = this.softScores[level].add(softImpact);
-                    if (constraintMatchEnabled) {
-                        matchScoreConsumer.accept(
-                                BendableBigDecimalScore.ofSoft(hardScores.length, softScores.length, level, softImpact));
-                    }
-                    return () -> this.softScores[level] = this.softScores[level].subtract(softImpact);
-                };
+                return BigDecimalWeightedScoreImpacter.of(
+                        matchWeight -> this.softScores[level] = this.softScores[level].add(levelWeight.multiply(matchWeight)),
+                        matchWeight -> this.softScores[level] = this.softScores[level].subtract(
+                                levelWeight.multiply(matchWeight)),
+                        matchWeight -> BendableBigDecimalScore.ofSoft(hardScores.length, softScores.length, level,
+                                levelWeight.multiply(matchWeight)));
             }
         } else {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                BigDecimal[] hardImpacts = new BigDecimal[hardScores.length];
-                BigDecimal[] softImpacts = new BigDecimal[softScores.length];
-                for (int i = 0; i < hardImpacts.length; i++) {
-                    hardImpacts[i] = constraintWeight.getHardScore(i).multiply(matchWeight);
-                    this.hardScores[i] = this.hardScores[i].add(hardImpacts[i]);
-                }
-                for (int i = 0; i < softImpacts.length; i++) {
-                    softImpacts[i] = constraintWeight.getSoftScore(i).multiply(matchWeight);
-                    this.softScores[i] = this.softScores[i].add(softImpacts[i]);
-                }
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(BendableBigDecimalScore.of(hardImpacts, softImpacts));
-                }
-                return () -> {
-                    for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] = this.hardScores[i].subtract(hardImpacts[i]);
-                    }
-                    for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] = this.softScores[i].subtract(softImpacts[i]);
-                    }
-                };
-            };
+            return BigDecimalWeightedScoreImpacter.of(
+                    matchWeight -> {
+                        for (int i = 0; i < hardScores.length; i++) {
+                            this.hardScores[i] = this.hardScores[i].add(constraintWeight.getHardScore(i).multiply(matchWeight));
+                        }
+                        for (int i = 0; i < softScores.length; i++) {
+                            this.softScores[i] = this.softScores[i].add(constraintWeight.getSoftScore(i).multiply(matchWeight));
+                        }
+                    },
+                    matchWeight -> {
+                        for (int i = 0; i < hardScores.length; i++) {
+                            this.hardScores[i] = this.hardScores[i].subtract(
+                                    constraintWeight.getHardScore(i).multiply(matchWeight));
+                        }
+                        for (int i = 0; i < softScores.length; i++) {
+                            this.softScores[i] = this.softScores[i].subtract(
+                                    constraintWeight.getSoftScore(i).multiply(matchWeight));
+                        }
+                    },
+                    matchWeight -> {
+                        BigDecimal[] hardImpacts = new BigDecimal[hardScores.length];
+                        BigDecimal[] softImpacts = new BigDecimal[softScores.length];
+                        for (int i = 0; i < hardImpacts.length; i++) {
+                            hardImpacts[i] = constraintWeight.getHardScore(i).multiply(matchWeight);
+                        }
+                        for (int i = 0; i < softImpacts.length; i++) {
+                            softImpacts[i] = constraintWeight.getSoftScore(i).multiply(matchWeight);
+                        }
+                        return BendableBigDecimalScore.of(hardImpacts, softImpacts);
+                    });
         }
     }
 
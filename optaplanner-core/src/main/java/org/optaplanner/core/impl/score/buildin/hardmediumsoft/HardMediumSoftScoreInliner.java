@@ -16,9 +16,6 @@
 
 package org.optaplanner.core.impl.score.buildin.hardmediumsoft;
 
-import java.util.function.Consumer;
-
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -43,49 +40,28 @@ public class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSoftScore
         int mediumConstraintWeight = constraintWeight.getMediumScore();
         int softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight == 0 && softConstraintWeight == 0) {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                int hardImpact = hardConstraintWeight * matchWeight;
-                this.hardScore += hardImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftScore.ofHard(hardImpact));
-                }
-                return () -> this.hardScore -= hardImpact;
-            };
+            return IntWeightedScoreImpacter.of(
+                    matchWeight -> this.hardScore += hardConstraintWeight * matchWeight,
+                    matchWeight -> HardMediumSoftScore.ofHard(hardConstraintWeight * matchWeight));
         } else if (hardConstraintWeight == 0 && softConstraintWeight == 0) {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                int mediumImpact = mediumConstraintWeight * matchWeight;
-                this.mediumScore += mediumImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftScore.ofMedium(mediumImpact));
-                }
-                return () -> this.mediumScore -= mediumImpact;
-            };
+            return IntWeightedScoreImpacter.of(
+                    matchWeight -> this.mediumScore += mediumConstraintWeight * matchWeight,
+                    matchWeight -> HardMediumSoftScore.ofMedium(mediumConstraintWeight * matchWeight));
         } else if (hardConstraintWeight == 0 && mediumConstraintWeight == 0) {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                int softImpact = softConstraintWeight * matchWeight;
-                this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftScore.ofSoft(softImpact));
-                }
-                return () -> this.softScore -= softImpact;
-            };
+            return IntWeightedScoreImpacter.of(
+                    matchWeight -> this.softScore += softConstraintWeight * matchWeight,
+                    matchWeight -> HardMediumSoftScore.ofSoft(softConstraintWeight * matchWeight));
         } else {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                int hardImpact = hardConstraintWeight * matchWeight;
-                int mediumImpact = mediumConstraintWeight * matchWeight;
-                int softImpact = softConstraintWeight * matchWeight;
-                this.hardScore += hardImpact;
-                this.mediumScore += mediumImpact;
-                this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftScore.of(hardImpact, mediumImpact, softImpact));
-                }
-                return () -> {
-                    this.hardScore -= hardImpact;
-                    this.mediumScore -= mediumImpact;
-                    this.softScore -= softImpact;
-                };
-            };
+            return IntWeightedScoreImpacter.of(
+                    matchWeight -> {
+                        this.hardScore += hardConstraintWeight * matchWeight;
+                        this.mediumScore += mediumConstraintWeight * matchWeight;
+                        this.softScore += softConstraintWeight * matchWeight;
+                    },
+                    matchWeight -> HardMediumSoftScore.of(
+                            hardConstraintWeight * matchWeight,
+                            mediumConstraintWeight * matchWeight,
+                            softConstraintWeight * matchWeight));
         }
     }
 
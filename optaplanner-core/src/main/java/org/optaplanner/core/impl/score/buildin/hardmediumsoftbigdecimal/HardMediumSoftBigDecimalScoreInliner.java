@@ -17,9 +17,7 @@
 package org.optaplanner.core.impl.score.buildin.hardmediumsoftbigdecimal;
 
 import java.math.BigDecimal;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediumSoftBigDecimalScore;
 import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -44,49 +42,36 @@ public class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<HardMediu
         BigDecimal mediumConstraintWeight = constraintWeight.getMediumScore();
         BigDecimal softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight.equals(BigDecimal.ZERO) && softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
-                this.hardScore = this.hardScore.add(hardImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.ofHard(hardImpact));
-                }
-                return () -> this.hardScore = this.hardScore.subtract(hardImpact);
-            };
+            return BigDecimalWeightedScoreImpacter.of(
+                    matchWeight -> this.hardScore = this.hardScore.add(hardConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> this.hardScore = this.hardScore.subtract(hardConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardMediumSoftBigDecimalScore.ofHard(hardConstraintWeight.multiply(matchWeight)));
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                BigDecimal mediumImpact = mediumConstraintWeight.multiply(matchWeight);
-                this.mediumScore = this.mediumScore.add(mediumImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.ofMedium(mediumImpact));
-                }
-                return () -> this.mediumScore = this.mediumScore.subtract(mediumImpact);
-            };
+            return BigDecimalWeightedScoreImpacter.of(
+                    matchWeight -> this.mediumScore = this.mediumScore.add(mediumConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> this.mediumScore = this.mediumScore.subtract(mediumConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardMediumSoftBigDecimalScore.ofMedium(mediumConstraintWeight.multiply(matchWeight)));
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && mediumConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
-                this.softScore = this.softScore.add(softImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.ofSoft(softImpact));
-                }
-                return () -> this.softScore = this.softScore.subtract(softImpact);
-            };
+            return BigDecimalWeightedScoreImpacter.of(
+                    matchWeight -> this.softScore = this.softScore.add(softConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> this.softScore = this.softScore.subtract(softConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardMediumSoftBigDecimalScore.ofSoft(softConstraintWeight.multiply(matchWeight)));
         } else {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
-                BigDecimal mediumImpact = mediumConstraintWeight.multiply(matchWeight);
-                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
-                this.hardScore = this.hardScore.add(hardImpact);
-                this.mediumScore = this.mediumScore.add(mediumImpact);
-                this.softScore = this.softScore.add(softImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.of(hardImpact, mediumImpact, softImpact));
-                }
-                return () -> {
-                    this.hardScore = this.hardScore.subtract(hardImpact);
-                    this.mediumScore = this.mediumScore.subtract(mediumImpact);
-                    this.softScore = this.softScore.subtract(softImpact);
-                };
-            };
+            return BigDecimalWeightedScoreImpacter.of(
+                    matchWeight -> {
+                        this.hardScore = this.hardScore.add(hardConstraintWeight.multiply(matchWeight));
+                        this.mediumScore = this.mediumScore.add(mediumConstraintWeight.multiply(matchWeight));
+                        this.softScore = this.softScore.add(softConstraintWeight.multiply(matchWeight));
+                    },
+                    matchWeight -> {
+                        this.hardScore = this.hardScore.subtract(hardConstraintWeight.multiply(matchWeight));
+                        this.mediumScore = this.mediumScore.subtract(mediumConstraintWeight.multiply(matchWeight));
+                        this.softScore = this.softScore.subtract(softConstraintWeight.multiply(matchWeight));
+                    },
+                    matchWeight -> HardMediumSoftBigDecimalScore.of(
+                            hardConstraintWeight.multiply(matchWeight),
+                            mediumConstraintWeight.multiply(matchWeight),
+                            softConstraintWeight.multiply(matchWeight)));
         }
     }
 
@@ -17,9 +17,7 @@
 package org.optaplanner.core.impl.score.buildin.hardsoftbigdecimal;
 
 import java.math.BigDecimal;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
 import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -42,37 +40,28 @@ public class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftBigDeci
         BigDecimal hardConstraintWeight = constraintWeight.getHardScore();
         BigDecimal softConstraintWeight = constraintWeight.getSoftScore();
         if (softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
-                this.hardScore = this.hardScore.add(hardImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftBigDecimalScore.ofHard(hardImpact));
-                }
-                return () -> this.hardScore = this.hardScore.subtract(hardImpact);
-            };
+            return BigDecimalWeightedScoreImpacter.of(
+                    matchWeight -> this.hardScore = this.hardScore.add(hardConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> this.hardScore = this.hardScore.subtract(hardConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardSoftBigDecimalScore.ofHard(hardConstraintWeight.multiply(matchWeight)));
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
-                this.softScore = this.softScore.add(softImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftBigDecimalScore.ofSoft(softImpact));
-                }
-                return () -> this.softScore = this.softScore.subtract(softImpact);
-            };
+            return BigDecimalWeightedScoreImpacter.of(
+                    matchWeight -> this.softScore = this.softScore.add(softConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> this.softScore = this.softScore.subtract(softConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardSoftBigDecimalScore.ofSoft(softConstraintWeight.multiply(matchWeight)));
         } else {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
-                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
-                this.hardScore = this.hardScore.add(hardImpact);
-                this.softScore = this.softScore.add(softImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftBigDecimalScore.of(hardImpact, softImpact));
-                }
-                return () -> {
-                    this.hardScore = this.hardScore.subtract(hardImpact);
-                    this.softScore = this.softScore.subtract(softImpact);
-                };
-            };
+            return BigDecimalWeightedScoreImpacter.of(
+                    matchWeight -> {
+                        this.hardScore = this.hardScore.add(hardConstraintWeight.multiply(matchWeight));
+                        this.softScore = this.softScore.add(softConstraintWeight.multiply(matchWeight));
+                    },
+                    matchWeight -> {
+                        this.hardScore = this.hardScore.subtract(hardConstraintWeight.multiply(matchWeight));
+                        this.softScore = this.softScore.subtract(softConstraintWeight.multiply(matchWeight));
+                    },
+                    matchWeight -> HardSoftBigDecimalScore.of(
+                            hardConstraintWeight.multiply(matchWeight),
+                            softConstraintWeight.multiply(matchWeight)));
         }
     }
 
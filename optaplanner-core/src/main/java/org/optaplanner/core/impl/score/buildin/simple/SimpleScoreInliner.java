@@ -16,9 +16,6 @@
 
 package org.optaplanner.core.impl.score.buildin.simple;
 
-import java.util.function.Consumer;
-
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -38,14 +35,9 @@ public class SimpleScoreInliner extends ScoreInliner<SimpleScore> {
                     + " this constraint should have been culled during node creation.");
         }
         int simpleConstraintWeight = constraintWeight.getScore();
-        return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-            int impact = simpleConstraintWeight * matchWeight;
-            this.score += impact;
-            if (constraintMatchEnabled) {
-                matchScoreConsumer.accept(SimpleScore.of(impact));
-            }
-            return () -> this.score -= impact;
-        };
+        return IntWeightedScoreImpacter.of(
+                matchWeight -> this.score += simpleConstraintWeight * matchWeight,
+                matchWeight -> SimpleScore.of(simpleConstraintWeight * matchWeight));
     }
 
     @Override
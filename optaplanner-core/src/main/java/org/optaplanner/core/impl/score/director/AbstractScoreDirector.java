@@ -47,6 +47,7 @@ import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.lookup.ClassAndPlanningIdComparator;
 import org.optaplanner.core.impl.domain.lookup.LookUpManager;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.listener.support.VariableListenerSupport;
@@ -82,6 +83,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     protected Solution_ workingSolution;
     protected long workingEntityListRevision = 0L;
+    protected long problemPropertyRevision = 0L;
     protected Integer workingInitScore = null;
 
     protected boolean allChangesWillBeUndoneBeforeStepEnds = false;
@@ -138,6 +140,11 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return workingEntityListRevision;
     }
 
+    @Override
+    public long getProblemPropertyRevision() {
+        return problemPropertyRevision;
+    }
+
     public boolean isAllChangesWillBeUndoneBeforeStepEnds() {
         return allChangesWillBeUndoneBeforeStepEnds;
     }
@@ -420,6 +427,41 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         afterVariableChanged(variableDescriptor, entity);
     }
 
+    @Override
+    public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        variableListenerSupport.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public void beforeListVariableElementAssigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableElementAssigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
+        workingInitScore++;
+    }
+
+    @Override
+    public void beforeListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object element) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object element) {
+        workingInitScore--;
+        variableListenerSupport.afterListVariableElementUnassigned(variableDescriptor, element);
+    }
+
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
@@ -459,6 +501,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        problemPropertyRevision++;
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
     }
 
@@ -33,6 +33,7 @@ import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -112,6 +113,14 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     long getWorkingEntityListRevision();
 
+    /**
+     * Unlike {@link #getWorkingEntityListRevision()}, this revision survives
+     * {@link #setWorkingSolution(Object) a new working solution}.
+     *
+     * @return changes every time {@link #afterProblemPropertyChanged(Object)} is called
+     */
+    long getProblemPropertyRevision();
+
     /**
      * @param move never null
      * @param assertMoveScoreFromScratch true will hurt performance
@@ -297,4 +306,41 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     void changeVariableFacade(VariableDescriptor<Solution_> variableDescriptor, Object entity, Object newValue);
 
+    /**
+     * Call this before the list variable of the entity changes,
+     * with the index range that changes, so only the shadow variables of those planning values are updated.
+     * Planning values after toIndex must not change, except for their index if the list size changes.
+     *
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, the first index that changes
+     * @param toIndex {@code >= fromIndex}, the index after the last index that changes,
+     *        {@link Integer#MAX_VALUE} is allowed to cover the end of the list
+     */
+    void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex);
+
+    void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex);
+
+    /**
+     * Call this before a planning value that isn't in any list is added to a list.
+     *
+     * @param variableDescriptor never null
+     * @param element never null
+     */
+    void beforeListVariableElementAssigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element);
+
+    void afterListVariableElementAssigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element);
+
+    /**
+     * Call this before a planning value is removed from a list and not added to another list.
+     *
+     * @param variableDescriptor never null
+     * @param element never null
+     */
+    void beforeListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element);
+
+    void afterListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element);
+
 }
@@ -25,8 +25,10 @@ import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
+import org.optaplanner.core.impl.score.stream.ConstraintProfile;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
 
 /**
@@ -41,6 +43,7 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
         extends AbstractScoreDirector<Solution_, Score_, ConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     protected ConstraintSession<Solution_, Score_> session;
+    protected boolean constraintProfilingEnabled = false;
 
     public ConstraintStreamScoreDirector(ConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
@@ -62,6 +65,9 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
             session.close();
         }
         session = scoreDirectorFactory.newConstraintStreamingSession(constraintMatchEnabledPreference, workingSolution);
+        if (constraintProfilingEnabled) {
+            session.setConstraintProfilingEnabled(true);
+        }
         Collection<Object> workingFacts = getSolutionDescriptor().getAllFacts(workingSolution);
         for (Object fact : workingFacts) {
             session.insert(fact);
@@ -99,6 +105,36 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
         return session.getIndictmentMap();
     }
 
+    /**
+     * Measures the incremental calculation cost of every constraint, which hurts performance.
+     * The measurement restarts when the {@link #setWorkingSolution(Object) working solution} is set.
+     *
+     * @param constraintProfilingEnabled true to measure the cost of every constraint
+     * @see #getConstraintProfileMap()
+     */
+    public void setConstraintProfilingEnabled(boolean constraintProfilingEnabled) {
+        this.constraintProfilingEnabled = constraintProfilingEnabled;
+        if (session != null) {
+            session.setConstraintProfilingEnabled(constraintProfilingEnabled);
+        }
+    }
+
+    public boolean isConstraintProfilingEnabled() {
+        return constraintProfilingEnabled;
+    }
+
+    /**
+     * @return never null, empty if {@link #isConstraintProfilingEnabled()} is false
+     * @see ConstraintSession#getConstraintProfileMap()
+     */
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintProfileMap().");
+        }
+        return session.getConstraintProfileMap();
+    }
+
     @Override
     public void close() {
         super.close();
@@ -133,6 +169,15 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
+    // public void beforeListVariableChanged(...) // Do nothing
+
+    @Override
+    public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        session.update(entity);
+        super.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+    }
+
     // public void beforeEntityRemoved(EntityDescriptor entityDescriptor, Object entity) // Do nothing
 
     @Override
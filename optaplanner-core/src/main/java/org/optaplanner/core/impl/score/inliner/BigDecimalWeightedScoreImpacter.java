@@ -18,18 +18,56 @@ package org.optaplanner.core.impl.score.inliner;
 
 import java.math.BigDecimal;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
-@FunctionalInterface
+/**
+ * Impacts the score of a {@link ScoreInliner} without allocating an undo object per match:
+ * the caller keeps the matchWeight to undo that impact later.
+ */
 public interface BigDecimalWeightedScoreImpacter extends WeightedScoreImpacter {
 
+    static BigDecimalWeightedScoreImpacter of(Consumer<BigDecimal> scoreImpacter,
+            Consumer<BigDecimal> undoScoreImpacter, Function<BigDecimal, Score<?>> matchScoreBuilder) {
+        return new BigDecimalWeightedScoreImpacter() {
+            @Override
+            public void impactScore(BigDecimal matchWeight) {
+                scoreImpacter.accept(matchWeight);
+            }
+
+            @Override
+            public void undoScoreImpact(BigDecimal matchWeight) {
+                undoScoreImpacter.accept(matchWeight);
+            }
+
+            @Override
+            public Score<?> buildMatchScore(BigDecimal matchWeight) {
+                return matchScoreBuilder.apply(matchWeight);
+            }
+        };
+    }
+
+    /**
+     * @param matchWeight never null, the weight of a single match
+     */
+    void impactScore(BigDecimal matchWeight);
+
+    /**
+     * Reverts {@link #impactScore(BigDecimal)} with the same matchWeight.
+     *
+     * @param matchWeight never null, the same weight as given to {@link #impactScore(BigDecimal)}
+     */
+    void undoScoreImpact(BigDecimal matchWeight);
+
     /**
-     * @param matchWeight never null
-     * @param scoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
-     * @return never null
+     * Only called if {@link InnerScoreDirector#isConstraintMatchEnabled()} is true,
+     * so the match score isn't built when it's not needed.
+     *
+     * @param matchWeight never null, the same weight as given to {@link #impactScore(BigDecimal)}
+     * @return never null, the score impact of a single match
      */
-    UndoScoreImpacter impactScore(BigDecimal matchWeight, Consumer<Score<?>> scoreConsumer);
+    Score<?> buildMatchScore(BigDecimal matchWeight);
 
 }
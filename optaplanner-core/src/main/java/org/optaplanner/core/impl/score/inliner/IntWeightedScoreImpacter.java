@@ -16,19 +16,55 @@
 
 package org.optaplanner.core.impl.score.inliner;
 
-import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
-@FunctionalInterface
+/**
+ * Impacts the score of a {@link ScoreInliner} without allocating any object per match:
+ * the caller keeps the matchWeight to undo that impact later.
+ */
 public interface IntWeightedScoreImpacter extends WeightedScoreImpacter {
 
+    static IntWeightedScoreImpacter of(IntConsumer scoreImpacter, IntFunction<Score<?>> matchScoreBuilder) {
+        return new IntWeightedScoreImpacter() {
+            @Override
+            public void impactScore(int matchWeight) {
+                scoreImpacter.accept(matchWeight);
+            }
+
+            @Override
+            public Score<?> buildMatchScore(int matchWeight) {
+                return matchScoreBuilder.apply(matchWeight);
+            }
+        };
+    }
+
+    /**
+     * @param matchWeight the weight of a single match
+     */
+    void impactScore(int matchWeight);
+
+    /**
+     * Reverts {@link #impactScore(int)} with the same matchWeight.
+     * <p>
+     * Because int arithmetic wraps around, negating the matchWeight reverts the impact exactly, even on overflow.
+     *
+     * @param matchWeight the same weight as given to {@link #impactScore(int)}
+     */
+    default void undoScoreImpact(int matchWeight) {
+        impactScore(-matchWeight);
+    }
+
     /**
-     * @param matchWeight never null
-     * @param matchScoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
-     * @return never null
+     * Only called if {@link InnerScoreDirector#isConstraintMatchEnabled()} is true,
+     * so the match score isn't built when it's not needed.
+     *
+     * @param matchWeight the same weight as given to {@link #impactScore(int)}
+     * @return never null, the score impact of a single match
      */
-    UndoScoreImpacter impactScore(int matchWeight, Consumer<Score<?>> matchScoreConsumer);
+    Score<?> buildMatchScore(int matchWeight);
 
 }
@@ -16,19 +16,55 @@
 
 package org.optaplanner.core.impl.score.inliner;
 
-import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
-@FunctionalInterface
+/**
+ * Impacts the score of a {@link ScoreInliner} without allocating any object per match:
+ * the caller keeps the matchWeight to undo that impact later.
+ */
 public interface LongWeightedScoreImpacter extends WeightedScoreImpacter {
 
+    static LongWeightedScoreImpacter of(LongConsumer scoreImpacter, LongFunction<Score<?>> matchScoreBuilder) {
+        return new LongWeightedScoreImpacter() {
+            @Override
+            public void impactScore(long matchWeight) {
+                scoreImpacter.accept(matchWeight);
+            }
+
+            @Override
+            public Score<?> buildMatchScore(long matchWeight) {
+                return matchScoreBuilder.apply(matchWeight);
+            }
+        };
+    }
+
+    /**
+     * @param matchWeight the weight of a single match
+     */
+    void impactScore(long matchWeight);
+
+    /**
+     * Reverts {@link #impactScore(long)} with the same matchWeight.
+     * <p>
+     * Because long arithmetic wraps around, negating the matchWeight reverts the impact exactly, even on overflow.
+     *
+     * @param matchWeight the same weight as given to {@link #impactScore(long)}
+     */
+    default void undoScoreImpact(long matchWeight) {
+        impactScore(-matchWeight);
+    }
+
     /**
-     * @param matchWeight never null
-     * @param scoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
-     * @return never null
+     * Only called if {@link InnerScoreDirector#isConstraintMatchEnabled()} is true,
+     * so the match score isn't built when it's not needed.
+     *
+     * @param matchWeight the same weight as given to {@link #impactScore(long)}
+     * @return never null, the score impact of a single match
      */
-    UndoScoreImpacter impactScore(long matchWeight, Consumer<Score<?>> scoreConsumer);
+    Score<?> buildMatchScore(long matchWeight);
 
 }
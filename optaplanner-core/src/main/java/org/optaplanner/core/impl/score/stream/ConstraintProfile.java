@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.score.stream;
+
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+
+/**
+ * The incremental calculation cost of 1 constraint, measured by a {@link ConstraintSession}
+ * since {@link ConstraintSession#setConstraintProfilingEnabled(boolean) constraint profiling} was enabled.
+ * <p>
+ * The cost of work that multiple constraints share (such as a shared node) is divided evenly over those constraints.
+ */
+public final class ConstraintProfile {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final long timeNanosSpent;
+    private final long churnCount;
+
+    /**
+     * @param constraintPackage never null
+     * @param constraintName never null
+     * @param timeNanosSpent {@code >= 0}, the wall time spent in this constraint
+     * @param churnCount {@code >= 0}, the number of tuples (or matches) of this constraint
+     *        that were created, updated or removed
+     */
+    public ConstraintProfile(String constraintPackage, String constraintName, long timeNanosSpent, long churnCount) {
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.timeNanosSpent = timeNanosSpent;
+        this.churnCount = churnCount;
+    }
+
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    public long getTimeNanosSpent() {
+        return timeNanosSpent;
+    }
+
+    public long getChurnCount() {
+        return churnCount;
+    }
+
+    public String getConstraintId() {
+        return ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+    }
+
+    @Override
+    public String toString() {
+        return getConstraintId() + "=" + timeNanosSpent + "ns/" + churnCount;
+    }
+
+}
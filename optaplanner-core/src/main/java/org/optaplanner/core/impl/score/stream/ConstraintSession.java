@@ -50,6 +50,21 @@ public interface ConstraintSession<Solution_, Score_ extends Score<Score_>> exte
      */
     Map<Object, Indictment<Score_>> getIndictmentMap();
 
+    /**
+     * Enabling constraint profiling measures the incremental calculation cost of every constraint
+     * from now on, which hurts performance.
+     * Enabling it again restarts the measurement.
+     *
+     * @param constraintProfilingEnabled true to measure the cost of every constraint
+     */
+    void setConstraintProfilingEnabled(boolean constraintProfilingEnabled);
+
+    /**
+     * @return never null, the cost of every constraint, mapped by {@link ConstraintProfile#getConstraintId()},
+     *         empty if constraint profiling is not enabled
+     */
+    Map<String, ConstraintProfile> getConstraintProfileMap();
+
     @Override
     void close();
 
@@ -18,12 +18,15 @@ package org.optaplanner.core.impl.score.stream.bavet;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
@@ -32,8 +35,10 @@ import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.impl.score.constraint.DefaultIndictment;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
+import org.optaplanner.core.impl.score.stream.ConstraintProfile;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
@@ -50,12 +55,20 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     private final Map<Class<?>, BavetFromUniNode<Object>> declaredClassToNodeMap;
     private final int nodeOrderSize;
     private final Map<String, BavetScoringNode> constraintIdToScoringNodeMap;
+    private final Map<BavetNode, Set<String>> nodeToConstraintIdSetMap;
 
     private final Map<Class<?>, List<BavetFromUniNode<Object>>> effectiveClassToNodeListMap;
 
     private final List<Queue<BavetAbstractTuple>> nodeOrderedQueueList;
     private final Map<Object, List<BavetFromUniTuple<Object>>> fromTupleListMap;
 
+    private boolean constraintProfilingEnabled = false;
+    /**
+     * Per node, the time spent in nanoseconds (index 0) and the number of tuples refreshed (index 1).
+     * Allocated once for the entire node network, so profiling doesn't allocate per tuple.
+     */
+    private final Map<BavetNode, long[]> nodeToCostMap;
+
     public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
             Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap) {
         this.constraintMatchEnabled = constraintMatchEnabled;
@@ -64,10 +77,15 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         declaredClassToNodeMap = new HashMap<>(50);
         BavetNodeBuildPolicy<Solution_> buildPolicy = new BavetNodeBuildPolicy<>(this, constraintToWeightMap.size());
         constraintToWeightMap.forEach((constraint, constraintWeight) -> {
+            buildPolicy.setCurrentConstraintId(constraint.getConstraintId());
             constraint.createNodes(buildPolicy, declaredClassToNodeMap, constraintWeight);
         });
+        buildPolicy.setCurrentConstraintId(null);
         this.nodeOrderSize = buildPolicy.getNodeOrderMaximum() + 1;
         constraintIdToScoringNodeMap = buildPolicy.getConstraintIdToScoringNodeMap();
+        nodeToConstraintIdSetMap = buildPolicy.getNodeToConstraintIdSetMap();
+        nodeToCostMap = new IdentityHashMap<>(nodeToConstraintIdSetMap.size());
+        nodeToConstraintIdSetMap.keySet().forEach(node -> nodeToCostMap.put(node, new long[2]));
         effectiveClassToNodeListMap = new HashMap<>(declaredClassToNodeMap.size());
         nodeOrderedQueueList = new ArrayList<>(nodeOrderSize);
         for (int i = 0; i < nodeOrderSize; i++) {
@@ -148,15 +166,101 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
 
     @Override
     public Score_ calculateScore(int initScore) {
+        if (constraintProfilingEnabled) {
+            refreshTuplesAndProfile();
+        } else {
+            for (int i = 0; i < nodeOrderSize; i++) {
+                Queue<BavetAbstractTuple> queue = nodeOrderedQueueList.get(i);
+                BavetAbstractTuple tuple = queue.poll();
+                while (tuple != null) {
+                    tuple.refresh();
+                    tuple = queue.poll();
+                }
+            }
+        }
+        return scoreInliner.extractScore(initScore);
+    }
+
+    /**
+     * Times every batch of consecutive tuples of the same node, instead of every tuple,
+     * so the profiling overhead stays low when a node refreshes many tuples in a row.
+     */
+    private void refreshTuplesAndProfile() {
         for (int i = 0; i < nodeOrderSize; i++) {
             Queue<BavetAbstractTuple> queue = nodeOrderedQueueList.get(i);
             BavetAbstractTuple tuple = queue.poll();
+            if (tuple == null) {
+                continue;
+            }
+            BavetNode batchNode = tuple.getNode();
+            long batchCount = 0L;
+            long batchStartNanos = System.nanoTime();
             while (tuple != null) {
+                BavetNode node = tuple.getNode();
+                if (node != batchNode) {
+                    long nanos = System.nanoTime();
+                    addNodeCost(batchNode, nanos - batchStartNanos, batchCount);
+                    batchNode = node;
+                    batchCount = 0L;
+                    batchStartNanos = nanos;
+                }
                 tuple.refresh();
+                batchCount++;
                 tuple = queue.poll();
             }
+            addNodeCost(batchNode, System.nanoTime() - batchStartNanos, batchCount);
         }
-        return scoreInliner.extractScore(initScore);
+    }
+
+    private void addNodeCost(BavetNode node, long timeNanosSpent, long churnCount) {
+        long[] cost = nodeToCostMap.get(node);
+        if (cost == null) {
+            throw new IllegalStateException("Impossible state: the node (" + node
+                    + ") does not belong to any constraint.");
+        }
+        cost[0] += timeNanosSpent;
+        cost[1] += churnCount;
+    }
+
+    @Override
+    public void setConstraintProfilingEnabled(boolean constraintProfilingEnabled) {
+        this.constraintProfilingEnabled = constraintProfilingEnabled;
+        nodeToCostMap.values().forEach(cost -> Arrays.fill(cost, 0L));
+    }
+
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (!constraintProfilingEnabled) {
+            return Collections.emptyMap();
+        }
+        Map<String, long[]> constraintIdToCostMap = new LinkedHashMap<>(constraintIdToScoringNodeMap.size());
+        constraintIdToScoringNodeMap.keySet().forEach(constraintId -> constraintIdToCostMap.put(constraintId, new long[2]));
+        nodeToCostMap.forEach((node, nodeCost) -> {
+            Set<String> constraintIdSet = nodeToConstraintIdSetMap.get(node);
+            if (constraintIdSet == null || constraintIdSet.isEmpty()) {
+                throw new IllegalStateException("Impossible state: the node (" + node
+                        + ") does not belong to any constraint.");
+            }
+            // A shared node divides its cost evenly over its constraints,
+            // the remainder goes to the first constraints, so the total cost is preserved
+            int constraintCount = constraintIdSet.size();
+            int constraintIndex = 0;
+            for (String constraintId : constraintIdSet) {
+                long[] constraintCost = constraintIdToCostMap.get(constraintId);
+                for (int i = 0; i < nodeCost.length; i++) {
+                    constraintCost[i] += nodeCost[i] / constraintCount
+                            + (constraintIndex < nodeCost[i] % constraintCount ? 1L : 0L);
+                }
+                constraintIndex++;
+            }
+        });
+        Map<String, ConstraintProfile> constraintProfileMap = new LinkedHashMap<>(constraintIdToCostMap.size());
+        constraintIdToCostMap.forEach((constraintId, constraintCost) -> {
+            BavetScoringNode scoringNode = constraintIdToScoringNodeMap.get(constraintId);
+            constraintProfileMap.put(constraintId, new ConstraintProfile(scoringNode.getConstraintPackage(),
+                    scoringNode.getConstraintName(), constraintCost[0], constraintCost[1]));
+        });
+        return constraintProfileMap;
     }
 
     @Override
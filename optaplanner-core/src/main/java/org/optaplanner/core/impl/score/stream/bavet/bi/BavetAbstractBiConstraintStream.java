@@ -18,12 +18,15 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToLongBiFunction;
 
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
@@ -38,12 +41,17 @@ import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bi.DefaultBiConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bi.InnerBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 import org.optaplanner.core.impl.score.stream.tri.AbstractTriJoiner;
+import org.optaplanner.core.impl.score.stream.tri.FilteringTriJoiner;
 
 public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends BavetAbstractConstraintStream<Solution_>
         implements InnerBiConstraintStream<A, B> {
@@ -98,14 +106,17 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
         }
         if (!(joiner instanceof AbstractTriJoiner)) {
             throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+        } else if (joiner instanceof FilteringTriJoiner) {
+            return join(otherStream)
+                    .filter(((FilteringTriJoiner<A, B, C>) joiner).getFilter());
         }
         AbstractTriJoiner<A, B, C> castedJoiner = (AbstractTriJoiner<A, B, C>) joiner;
         BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
         BavetJoinBridgeBiConstraintStream<Solution_, A, B> leftBridge = new BavetJoinBridgeBiConstraintStream<>(
-                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
+                constraintFactory, this, true, castedJoiner.getLeftIndexKeyMapping(), indexFactory);
         addChildStream(leftBridge);
         BavetJoinBridgeUniConstraintStream<Solution_, C> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
-                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
+                constraintFactory, other, false, castedJoiner.getRightIndexKeyMapping(), indexFactory);
         other.addChildStream(rightBridge);
         BavetJoinTriConstraintStream<Solution_, A, B, C> joinStream = new BavetJoinTriConstraintStream<>(constraintFactory,
                 leftBridge, rightBridge);
@@ -121,13 +132,52 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifNotExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    private <C> BiConstraintStream<A, B> ifExistsOrNot(boolean shouldExist, Class<C> otherClass,
+            TriJoiner<A, B, C>[] joiners) {
+        BavetAbstractUniConstraintStream<Solution_, C> other = constraintFactory.fromUnfiltered(otherClass);
+        // Index on the joiners before the first filtering joiner, like the Drools implementation
+        int indexOfFirstFilter = -1;
+        TriPredicate<A, B, C> filter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            TriJoiner<A, B, C> joiner = joiners[i];
+            if (!(joiner instanceof AbstractTriJoiner)) {
+                throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+            }
+            TriPredicate<A, B, C> joinerFilter = ((AbstractTriJoiner<A, B, C>) joiner).getFilter();
+            if (joinerFilter != null) {
+                if (indexOfFirstFilter < 0) {
+                    indexOfFirstFilter = i;
+                }
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (indexOfFirstFilter >= 0) {
+                throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow "
+                        + "a filtering joiner (" + joiners[indexOfFirstFilter] + ").\n"
+                        + "Maybe reorder the joiners such that filtering() joiners are later in the parameter list.");
+            }
+        }
+        AbstractTriJoiner<A, B, C> indexingJoiner = AbstractTriJoiner.merge(
+                (indexOfFirstFilter < 0) ? joiners : Arrays.copyOf(joiners, indexOfFirstFilter));
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeBiConstraintStream<Solution_, A, B> leftBridge = new BavetJoinBridgeBiConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner.getLeftIndexKeyMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, C> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, indexingJoiner.getRightIndexKeyMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetExistsBiConstraintStream<Solution_, A, B, C> existsStream = new BavetExistsBiConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter);
+        leftBridge.setJoinStream(existsStream);
+        rightBridge.setJoinStream(existsStream);
+        return existsStream;
     }
 
     // ************************************************************************
@@ -137,32 +187,72 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, Void, ResultContainer_> bridge =
+                buildGroupBridge((a, b) -> null, collector);
+        BavetGroupUniConstraintStream<Solution_, Void, ResultContainer_, Result_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(BiFunction<A, B, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        BiConstraintCollector<A, B, List<Object>, Void> collector = DefaultBiConstraintCollector.noop();
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, List<Object>> bridge =
+                buildGroupBridge(groupKeyMapping, collector);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, List<Object>, Void, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             BiFunction<A, B, GroupKey_> groupKeyMapping,
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_> bridge =
+                buildGroupBridge(groupKeyMapping, collector);
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_, GroupKey_, Result_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey,
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        BiConstraintCollector<A, B, List<Object>, Void> collector = DefaultBiConstraintCollector.noop();
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, Pair<GroupKeyA_, GroupKeyB_>, List<Object>> bridge =
+                buildGroupBridge(
+                        (a, b) -> Pair.of(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b)), collector);
+        BavetGroupBiConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, List<Object>, Void,
+                GroupKeyA_, GroupKeyB_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_> bridge =
+                buildGroupBridge(
+                        (a, b) -> Pair.of(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b)), collector);
+        BavetGroupTriConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_, Result_,
+                GroupKeyA_, GroupKeyB_, Result_> groupStream =
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight(),
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
@@ -171,7 +261,29 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        BiConstraintCollector<A, B, Object[], Pair<ResultC_, ResultD_>> collector =
+                DefaultBiConstraintCollector.compose(collectorC, collectorD);
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, Pair<GroupKeyA_, GroupKeyB_>, Object[]> bridge =
+                buildGroupBridge(
+                        (a, b) -> Pair.of(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b)), collector);
+        BavetGroupQuadConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, Object[], Pair<ResultC_, ResultD_>,
+                GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight(),
+                        (groupKey, result) -> result.getLeft(),
+                        (groupKey, result) -> result.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_> BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_>
+            buildGroupBridge(BiFunction<A, B, GroupKey_> groupKeyMapping,
+                    BiConstraintCollector<A, B, ResultContainer_, ?> collector) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        return bridge;
     }
 
     // ************************************************************************
@@ -278,6 +390,11 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
         return node;
     }
 
+    @Override
+    protected List<? extends BavetAbstractConstraintStream<Solution_>> getChildStreams() {
+        return childStreamList;
+    }
+
     protected BavetAbstractBiNode<A, B> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy, int nodeOrder,
             BavetAbstractBiNode<A, B> parentNode, BavetAbstractBiNode<A, B> node) {
         buildPolicy.updateNodeOrderMaximum(nodeOrder);
@@ -300,6 +417,10 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     + "Maybe don't create it.");
         }
         for (BavetAbstractBiConstraintStream<Solution_, A, B> childStream : childStreamList) {
+            if (!childStream.belongsToConstraint(buildPolicy.getCurrentConstraintId())) {
+                // A stream reused by multiple constraints only creates the nodes of the current constraint
+                continue;
+            }
             childStream.createNodeChain(buildPolicy, constraintWeight, nodeOrder + 1, node);
         }
     }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.function.TriPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetExistsMatch;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+/**
+ * Passes a tuple of the left bridge on if it has (or for ifNotExists(), doesn't have) any match in the right bridge.
+ * Unlike a join, it creates at most one child tuple per left tuple, regardless of the number of matches.
+ */
+public final class BavetExistsBiNode<A, B, C> extends BavetAbstractBiNode<A, B> implements BavetJoinNode {
+
+    private final BavetJoinBridgeBiNode<A, B> leftParentNode;
+    private final BavetJoinBridgeUniNode<C> rightParentNode;
+    private final boolean shouldExist;
+    /** Sometimes null, the filtering() joiners */
+    private final TriPredicate<A, B, C> filter;
+
+    private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
+
+    private final Map<BavetJoinBridgeBiTuple<A, B>, BavetExistsBiTuple<A, B>> childTupleMap = new HashMap<>();
+    /** Reused by {@link #refreshChildTuplesRight(BavetJoinBridgeUniTuple)} to avoid an allocation per call */
+    private final List<BavetJoinBridgeBiTuple<A, B>> affectedLeftParentTupleList = new ArrayList<>();
+
+    public BavetExistsBiNode(BavetConstraintSession session, int nodeOrder,
+            BavetJoinBridgeBiNode<A, B> leftParentNode, BavetJoinBridgeUniNode<C> rightParentNode,
+            boolean shouldExist, TriPredicate<A, B, C> filter) {
+        super(session, nodeOrder);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractBiNode<A, B> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // TODO
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetExistsBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+        return new BavetExistsBiTuple<>(this, (BavetJoinBridgeBiTuple<A, B>) parentTuple);
+    }
+
+    public void refresh(BavetExistsBiTuple<A, B> tuple) {
+        List<BavetAbstractBiTuple<A, B>> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractBiTuple<A, B> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
+                BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeBiTuple<A, B> leftParentTuple) {
+        Set<BavetJoinTuple> leftMatchSet = leftParentTuple.getChildTupleSet();
+        for (BavetJoinTuple uncastMatch : leftMatchSet) {
+            BavetExistsMatch match = (BavetExistsMatch) uncastMatch;
+            boolean removed = match.getRightParentTuple().getChildTupleSet().remove(match);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the match (" + match
+                        + ") cannot be removed from the right join bridge.");
+            }
+        }
+        leftMatchSet.clear();
+        if (leftParentTuple.isActive()) {
+            Set<BavetJoinBridgeUniTuple<C>> rightParentTupleSet = getRightIndex().get(leftParentTuple.getIndexKey());
+            for (BavetJoinBridgeUniTuple<C> rightParentTuple : rightParentTupleSet) {
+                if (!rightParentTuple.isDirty() && matches(leftParentTuple, rightParentTuple)) {
+                    BavetExistsMatch match = new BavetExistsMatch(leftParentTuple, rightParentTuple);
+                    leftMatchSet.add(match);
+                    rightParentTuple.getChildTupleSet().add(match);
+                }
+            }
+        }
+        refreshChildTuple(leftParentTuple, true);
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<C> rightParentTuple) {
+        Set<BavetJoinTuple> rightMatchSet = rightParentTuple.getChildTupleSet();
+        for (BavetJoinTuple uncastMatch : rightMatchSet) {
+            BavetExistsMatch match = (BavetExistsMatch) uncastMatch;
+            BavetJoinBridgeBiTuple<A, B> leftParentTuple =
+                    (BavetJoinBridgeBiTuple<A, B>) match.getLeftParentTuple();
+            boolean removed = leftParentTuple.getChildTupleSet().remove(match);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the match (" + match
+                        + ") cannot be removed from the left join bridge.");
+            }
+            affectedLeftParentTupleList.add(leftParentTuple);
+        }
+        rightMatchSet.clear();
+        if (rightParentTuple.isActive()) {
+            Set<BavetJoinBridgeBiTuple<A, B>> leftParentTupleSet =
+                    getLeftIndex().get(rightParentTuple.getIndexKey());
+            for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : leftParentTupleSet) {
+                if (!leftParentTuple.isDirty() && matches(leftParentTuple, rightParentTuple)) {
+                    BavetExistsMatch match = new BavetExistsMatch(leftParentTuple, rightParentTuple);
+                    leftParentTuple.getChildTupleSet().add(match);
+                    rightMatchSet.add(match);
+                    affectedLeftParentTupleList.add(leftParentTuple);
+                }
+            }
+        }
+        for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : affectedLeftParentTupleList) {
+            // A dirty left tuple rebuilds its matches when it is refreshed itself
+            if (!leftParentTuple.isDirty()) {
+                refreshChildTuple(leftParentTuple, false);
+            }
+        }
+        affectedLeftParentTupleList.clear();
+    }
+
+    private boolean matches(BavetJoinBridgeBiTuple<A, B> leftParentTuple,
+            BavetJoinBridgeUniTuple<C> rightParentTuple) {
+        return filter == null
+                || filter.test(leftParentTuple.getFactA(), leftParentTuple.getFactB(), rightParentTuple.getFactA());
+    }
+
+    private void refreshChildTuple(BavetJoinBridgeBiTuple<A, B> leftParentTuple, boolean leftParentTupleChanged) {
+        boolean passes = leftParentTuple.isActive() && (leftParentTuple.getChildTupleSet().isEmpty() != shouldExist);
+        BavetExistsBiTuple<A, B> childTuple = childTupleMap.get(leftParentTuple);
+        if (childTuple == null) {
+            if (passes) {
+                childTuple = createTuple(leftParentTuple);
+                childTupleMap.put(leftParentTuple, childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        } else if (!passes) {
+            childTupleMap.remove(leftParentTuple);
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        } else if (leftParentTupleChanged && !childTuple.isDirty()) {
+            session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeBiTuple<A, B>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<C>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -18,25 +18,35 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
-public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiNode<GroupKey_, Result_> {
+public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_, NewA, NewB>
+        extends BavetAbstractBiNode<NewA, NewB>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
 
     private final Function<ResultContainer_, Result_> finisher;
+    private final BiFunction<GroupKey_, Result_, NewA> factAMapping;
+    private final BiFunction<GroupKey_, Result_, NewB> factBMapping;
 
-    private final List<BavetAbstractBiNode<GroupKey_, Result_>> childNodeList = new ArrayList<>();
+    private final List<BavetAbstractBiNode<NewA, NewB>> childNodeList = new ArrayList<>();
 
     public BavetGroupBiNode(BavetConstraintSession session, int nodeOrder,
-            Function<ResultContainer_, Result_> finisher) {
+            Function<ResultContainer_, Result_> finisher,
+            BiFunction<GroupKey_, Result_, NewA> factAMapping,
+            BiFunction<GroupKey_, Result_, NewB> factBMapping) {
         super(session, nodeOrder);
         this.finisher = finisher;
+        this.factAMapping = factAMapping;
+        this.factBMapping = factBMapping;
     }
 
     @Override
-    public void addChildNode(BavetAbstractBiNode<GroupKey_, Result_> childNode) {
+    public void addChildNode(BavetAbstractBiNode<NewA, NewB> childNode) {
         childNodeList.add(childNode);
     }
 
@@ -51,27 +61,31 @@ public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extend
     // ************************************************************************
 
     @Override
-    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> createTuple(
-            BavetAbstractBiTuple<GroupKey_, Result_> parentTuple) {
+    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB> createTuple(
+            BavetAbstractBiTuple<NewA, NewB> parentTuple) {
         throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
                 + ") can't have a parentTuple (" + parentTuple + ");");
     }
 
-    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> createTuple(
+    @Override
+    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB> createTuple(
             GroupKey_ groupKey, ResultContainer_ resultContainer) {
         return new BavetGroupBiTuple<>(this, groupKey, resultContainer);
     }
 
-    public void refresh(BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> tuple) {
-        List<BavetAbstractBiTuple<GroupKey_, Result_>> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractBiTuple<GroupKey_, Result_> childTuple : childTupleList) {
+    public void refresh(BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB> tuple) {
+        List<BavetAbstractBiTuple<NewA, NewB>> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractBiTuple<NewA, NewB> childTuple : childTupleList) {
             session.transitionTuple(childTuple, BavetTupleState.DYING);
         }
         childTupleList.clear();
         if (tuple.isActive()) {
-            tuple.updateResult(finisher);
-            for (BavetAbstractBiNode<GroupKey_, Result_> childNode : childNodeList) {
-                BavetAbstractBiTuple<GroupKey_, Result_> childTuple = childNode.createTuple(tuple);
+            GroupKey_ groupKey = tuple.getGroupKey();
+            Result_ result = finisher.apply(tuple.getResultContainer());
+            tuple.updateResult(factAMapping.apply(groupKey, result),
+                    factBMapping.apply(groupKey, result));
+            for (BavetAbstractBiNode<NewA, NewB> childNode : childNodeList) {
+                BavetAbstractBiTuple<NewA, NewB> childTuple = childNode.createTuple(tuple);
                 childTupleList.add(childTuple);
                 session.transitionTuple(childTuple, BavetTupleState.CREATING);
             }
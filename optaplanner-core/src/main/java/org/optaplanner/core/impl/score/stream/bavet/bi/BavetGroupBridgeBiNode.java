@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_>
+        extends BavetAbstractBiNode<A, B> {
+
+    private final BavetAbstractBiNode<A, B> parentNode;
+    private final BiFunction<A, B, GroupKey_> groupKeyMapping;
+    private final Supplier<ResultContainer_> supplier;
+    private final TriFunction<ResultContainer_, A, B, Runnable> accumulator;
+    private final BavetGroupNode<GroupKey_, ResultContainer_> groupNode;
+
+    private final Map<GroupKey_, BavetGroupTuple<GroupKey_, ResultContainer_>> tupleMap;
+
+    public BavetGroupBridgeBiNode(BavetConstraintSession session, int nodeOrder,
+            BavetAbstractBiNode<A, B> parentNode, BiFunction<A, B, GroupKey_> groupKeyMapping,
+            BiConstraintCollector<A, B, ResultContainer_, ?> collector,
+            BavetGroupNode<GroupKey_, ResultContainer_> groupNode) {
+        super(session, nodeOrder);
+        this.parentNode = parentNode;
+        this.groupKeyMapping = groupKeyMapping;
+        this.supplier = collector.supplier();
+        this.accumulator = collector.accumulator();
+        this.groupNode = groupNode;
+        tupleMap = new HashMap<>();
+    }
+
+    @Override
+    public BavetGroupBridgeBiTuple<A, B, GroupKey_, ResultContainer_> createTuple(
+            BavetAbstractBiTuple<A, B> parentTuple) {
+        return new BavetGroupBridgeBiTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetGroupBridgeBiTuple<A, B, GroupKey_, ResultContainer_> tuple) {
+        BavetGroupTuple<GroupKey_, ResultContainer_> oldChildTuple = tuple.getChildTuple();
+        if (oldChildTuple != null) {
+            int parentCount = oldChildTuple.decreaseParentCount();
+            tuple.getUndoAccumulator().run();
+            oldChildTuple.clearResult();
+            tuple.setChildTuple(null);
+            tuple.setUndoAccumulator(null);
+            if (parentCount == 0) {
+                // Clean up tupleMap
+                tupleMap.remove(oldChildTuple.getGroupKey());
+                transitionChildTuple(oldChildTuple, BavetTupleState.DYING);
+            } else {
+                transitionChildTuple(oldChildTuple, BavetTupleState.UPDATING);
+            }
+        }
+        if (tuple.isActive()) {
+            A a = tuple.getFactA();
+            B b = tuple.getFactB();
+            GroupKey_ groupKey = groupKeyMapping.apply(a, b);
+            BavetGroupTuple<GroupKey_, ResultContainer_> childTuple = tupleMap.get(groupKey);
+            if (childTuple == null) {
+                childTuple = groupNode.createTuple(groupKey, supplier.get());
+                tupleMap.put(groupKey, childTuple);
+            }
+            int parentCount = childTuple.increaseParentCount();
+            Runnable undoAccumulator = accumulator.apply(childTuple.getResultContainer(), a, b);
+            tuple.setUndoAccumulator(undoAccumulator);
+            childTuple.clearResult();
+            tuple.setChildTuple(childTuple);
+            transitionChildTuple(childTuple, parentCount == 1 ? BavetTupleState.CREATING : BavetTupleState.UPDATING);
+        }
+        tuple.refreshed();
+    }
+
+    private void transitionChildTuple(BavetGroupTuple<GroupKey_, ResultContainer_> childTuple,
+            BavetTupleState newState) {
+        if (newState == BavetTupleState.UPDATING && childTuple.getState() == BavetTupleState.CREATING) {
+            // It might have just been created by an earlier tuple in the same nodeOrder
+            return;
+        }
+        session.transitionTuple((BavetAbstractTuple) childTuple, newState);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
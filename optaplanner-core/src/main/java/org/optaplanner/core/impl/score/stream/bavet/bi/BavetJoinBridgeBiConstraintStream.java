@@ -16,11 +16,13 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
@@ -35,13 +37,13 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
     private final BavetAbstractBiConstraintStream<Solution_, A, B> parent;
     private BavetJoinConstraintStream<Solution_> joinStream;
     private final boolean isLeftBridge;
-    private final BiFunction<A, B, Object[]> mapping;
+    private final BiFunction<A, B, Object> mapping;
     private final BavetIndexFactory indexFactory;
 
     public BavetJoinBridgeBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractBiConstraintStream<Solution_, A, B> parent,
             boolean isLeftBridge,
-            BiFunction<A, B, Object[]> mapping, BavetIndexFactory indexFactory) {
+            BiFunction<A, B, Object> mapping, BavetIndexFactory indexFactory) {
         super(constraintFactory);
         this.parent = parent;
         this.isLeftBridge = isLeftBridge;
@@ -58,6 +60,11 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
         return parent.getFromStreamList();
     }
 
+    @Override
+    protected List<? extends BavetAbstractConstraintStream<Solution_>> getChildStreams() {
+        return Collections.singletonList((BavetAbstractConstraintStream<Solution_>) joinStream);
+    }
+
     // ************************************************************************
     // Node creation
     // ************************************************************************
@@ -82,6 +89,8 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
         if (otherBridgeNode == null) {
             buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().put(joinStream, node);
         } else {
+            // Consume the pair, so another constraint that reuses the same join stream pairs its own bridges
+            buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().remove(joinStream);
             BavetJoinBridgeNode leftNode = isLeftBridge ? node : otherBridgeNode;
             BavetJoinBridgeNode rightNode = isLeftBridge ? otherBridgeNode : node;
             int maxNodeOrder = Math.max(leftNode.getNodeOrder(), rightNode.getNodeOrder());
@@ -29,14 +29,14 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
         implements BavetJoinBridgeNode {
 
     private final BavetAbstractBiNode<A, B> parentNode;
-    private final BiFunction<A, B, Object[]> mapping;
+    private final BiFunction<A, B, Object> mapping;
     /** Calls {@link BavetJoinTriNode#refreshChildTuplesLeft(BavetJoinBridgeBiTuple)}, right or tri/quad/... variants. */
     private Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher;
 
     private final BavetIndex<BavetJoinBridgeBiTuple<A, B>> index;
 
     public BavetJoinBridgeBiNode(BavetConstraintSession session, int nodeOrder, BavetAbstractBiNode<A, B> parentNode,
-            BiFunction<A, B, Object[]> mapping, BavetIndex<BavetJoinBridgeBiTuple<A, B>> index) {
+            BiFunction<A, B, Object> mapping, BavetIndex<BavetJoinBridgeBiTuple<A, B>> index) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
         this.mapping = mapping;
@@ -56,8 +56,8 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
             index.remove(tuple);
         }
         if (tuple.isActive()) {
-            Object[] indexProperties = mapping.apply(a, b);
-            index.put(indexProperties, tuple);
+            Object indexKey = mapping.apply(a, b);
+            index.put(indexKey, tuple);
         }
         childTupleRefresher.accept(tuple);
         tuple.refreshed();
@@ -29,7 +29,7 @@ public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A,
     private final BavetJoinBridgeBiNode<A, B> node;
 
     protected Set<BavetJoinTuple> childTupleSet = new LinkedHashSet<>(); // TODO capacity
-    private Object[] indexProperties;
+    private Object indexKey;
 
     public BavetJoinBridgeBiTuple(BavetJoinBridgeBiNode<A, B> node,
             BavetAbstractBiTuple<A, B> parentTuple) {
@@ -56,6 +56,7 @@ public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A,
         return node;
     }
 
+    @Override
     public Set<BavetJoinTuple> getChildTupleSet() {
         return childTupleSet;
     }
@@ -71,13 +72,13 @@ public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A,
     }
 
     @Override
-    public Object[] getIndexProperties() {
-        return indexProperties;
+    public Object getIndexKey() {
+        return indexKey;
     }
 
     @Override
-    public void setIndexProperties(Object[] indexProperties) {
-        this.indexProperties = indexProperties;
+    public void setIndexKey(Object indexKey) {
+        this.indexKey = indexKey;
     }
 
 }
@@ -19,14 +19,12 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
 
 public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> implements BavetScoringNode {
@@ -34,14 +32,14 @@ public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> im
     private final String constraintPackage;
     private final String constraintName;
     private final Score<?> constraintWeight;
-    private final TriFunction<A, B, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+    private final BavetScoreImpacter<BavetScoringBiTuple<A, B>> scoreImpacter;
 
     private final boolean constraintMatchEnabled;
     private final Set<BavetScoringBiTuple<A, B>> tupleSet;
 
     public BavetScoringBiNode(BavetConstraintSession session, int nodeOrder,
             String constraintPackage, String constraintName, Score<?> constraintWeight,
-            TriFunction<A, B, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter) {
+            BavetScoreImpacter<BavetScoringBiTuple<A, B>> scoreImpacter) {
         super(session, nodeOrder);
         this.constraintPackage = constraintPackage;
         this.constraintName = constraintName;
@@ -67,13 +65,9 @@ public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> im
     }
 
     public void refresh(BavetScoringBiTuple<A, B> tuple) {
-        A a = tuple.getFactA();
-        B b = tuple.getFactB();
-        UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
-        if (oldUndoScoreImpacter != null) {
-            oldUndoScoreImpacter.undoScoreImpact();
+        if (tuple.isImpacting()) {
+            scoreImpacter.undoScoreImpact(tuple);
             if (constraintMatchEnabled) {
-                tuple.setMatchScore(null);
                 boolean removed = tupleSet.remove(tuple);
                 if (!removed) {
                     throw new IllegalStateException("Impossible state: The node with constraintId ("
@@ -82,8 +76,7 @@ public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> im
             }
         }
         if (tuple.isActive()) {
-            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a, b, tuple::setMatchScore);
-            tuple.setUndoScoreImpacter(undoScoreImpacter);
+            scoreImpacter.impactScore(tuple);
             if (constraintMatchEnabled) {
                 boolean added = tupleSet.add(tuple);
                 if (!added) {
@@ -91,8 +84,6 @@ public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> im
                             + getConstraintId() + ") could not add the tuple (" + tuple + ") to the tupleSet.");
                 }
             }
-        } else {
-            tuple.setUndoScoreImpacter(null);
         }
         tuple.refreshed();
     }
@@ -103,7 +94,7 @@ public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> im
                 constraintName, (Score_) constraintWeight, zeroScore);
         for (BavetScoringBiTuple<A, B> tuple : tupleSet) {
             constraintMatchTotal.addConstraintMatch(
-                    Arrays.asList(tuple.getFactA(), tuple.getFactB()), (Score_) tuple.getMatchScore());
+                    Arrays.asList(tuple.getFactA(), tuple.getFactB()), (Score_) scoreImpacter.buildMatchScore(tuple));
         }
         return constraintMatchTotal;
     }
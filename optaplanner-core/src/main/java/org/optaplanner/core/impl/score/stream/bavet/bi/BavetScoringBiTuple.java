@@ -16,9 +16,8 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
-import org.optaplanner.core.api.score.Score;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
-import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import java.math.BigDecimal;
+
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
 
 public final class BavetScoringBiTuple<A, B> extends BavetAbstractBiTuple<A, B> implements BavetScoringTuple {
@@ -26,9 +25,9 @@ public final class BavetScoringBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
     private final BavetScoringBiNode<A, B> node;
     private final BavetAbstractBiTuple<A, B> parentTuple;
 
-    private UndoScoreImpacter undoScoreImpacter = null;
-    /** Always null if {@link BavetConstraintSession#constraintMatchEnabled} is false. */
-    private Score<?> matchScore = null;
+    private boolean impacting = false;
+    private long matchWeight = 0L;
+    private BigDecimal bigDecimalMatchWeight = null;
 
     public BavetScoringBiTuple(BavetScoringBiNode<A, B> node, BavetAbstractBiTuple<A, B> parentTuple) {
         this.node = node;
@@ -65,23 +64,33 @@ public final class BavetScoringBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
     }
 
     @Override
-    public UndoScoreImpacter getUndoScoreImpacter() {
-        return undoScoreImpacter;
+    public boolean isImpacting() {
+        return impacting;
+    }
+
+    @Override
+    public void setImpacting(boolean impacting) {
+        this.impacting = impacting;
+    }
+
+    @Override
+    public long getMatchWeight() {
+        return matchWeight;
     }
 
     @Override
-    public void setUndoScoreImpacter(UndoScoreImpacter undoScoreImpacter) {
-        this.undoScoreImpacter = undoScoreImpacter;
+    public void setMatchWeight(long matchWeight) {
+        this.matchWeight = matchWeight;
     }
 
     @Override
-    public Score<?> getMatchScore() {
-        return matchScore;
+    public BigDecimal getBigDecimalMatchWeight() {
+        return bigDecimalMatchWeight;
     }
 
     @Override
-    public void setMatchScore(Score<?> matchScore) {
-        this.matchScore = matchScore;
+    public void setBigDecimalMatchWeight(BigDecimal bigDecimalMatchWeight) {
+        this.bigDecimalMatchWeight = bigDecimalMatchWeight;
     }
 
 }
@@ -62,6 +62,29 @@ public abstract class BavetAbstractConstraintStream<Solution_> extends AbstractC
 
     public abstract List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList();
 
+    /**
+     * @return never null, the streams that consume the output of this stream
+     */
+    protected abstract List<? extends BavetAbstractConstraintStream<Solution_>> getChildStreams();
+
+    /**
+     * A stream reused by multiple constraints only creates the nodes of the constraint that is being built,
+     * so another constraint's scoring node isn't created (and counted) twice.
+     * @param constraintId sometimes null, the constraint whose nodes are being created
+     * @return true if this stream leads to the scoring stream of that constraint
+     */
+    public boolean belongsToConstraint(String constraintId) {
+        if (constraintId == null) {
+            return true;
+        }
+        for (BavetAbstractConstraintStream<Solution_> childStream : getChildStreams()) {
+            if (childStream.belongsToConstraint(constraintId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
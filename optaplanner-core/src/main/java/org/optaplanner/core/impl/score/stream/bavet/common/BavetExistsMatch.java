@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+/**
+ * Links a left tuple of an ifExists() or ifNotExists() node to one of the right tuples it matches,
+ * so both sides can drop the link when either of them changes.
+ */
+public final class BavetExistsMatch implements BavetJoinTuple {
+
+    private final BavetJoinBridgeTuple leftParentTuple;
+    private final BavetJoinBridgeTuple rightParentTuple;
+
+    public BavetExistsMatch(BavetJoinBridgeTuple leftParentTuple, BavetJoinBridgeTuple rightParentTuple) {
+        this.leftParentTuple = leftParentTuple;
+        this.rightParentTuple = rightParentTuple;
+    }
+
+    @Override
+    public String toString() {
+        return "ExistsMatch(" + leftParentTuple.getFactsString() + ", " + rightParentTuple.getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public BavetJoinBridgeTuple getLeftParentTuple() {
+        return leftParentTuple;
+    }
+
+    public BavetJoinBridgeTuple getRightParentTuple() {
+        return rightParentTuple;
+    }
+
+}
@@ -16,10 +16,18 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
+import java.util.Set;
+
 public interface BavetJoinBridgeTuple extends BavetTuple {
 
-    Object[] getIndexProperties();
+    Set<BavetJoinTuple> getChildTupleSet();
+
+    /**
+     * @return the index key that this tuple was put with, or null if it was removed from its index
+     * @see org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex
+     */
+    Object getIndexKey();
 
-    void setIndexProperties(Object[] indexProperties);
+    void setIndexKey(Object indexKey);
 
 }
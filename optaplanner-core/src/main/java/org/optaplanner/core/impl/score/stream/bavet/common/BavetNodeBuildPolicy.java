@@ -17,8 +17,11 @@
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 
@@ -31,6 +34,8 @@ public class BavetNodeBuildPolicy<Solution_> {
     private Map<BavetJoinConstraintStream<Solution_>, BavetJoinBridgeNode> joinConstraintStreamToJoinBridgeNodeMap =
             new HashMap<>();
     private Map<BavetAbstractNode, BavetAbstractNode> sharableNodeMap = new HashMap<>();
+    private String currentConstraintId = null;
+    private Map<BavetNode, Set<String>> nodeToConstraintIdSetMap = new IdentityHashMap<>();
 
     public BavetNodeBuildPolicy(BavetConstraintSession session, int constraintCount) {
         this.session = session;
@@ -50,6 +55,11 @@ public class BavetNodeBuildPolicy<Solution_> {
                     + ")'s nodeOrder (" + node.getNodeOrder() + ") differs from the sharedNode (" + sharedNode
                     + ")'s nodeOrder (" + sharedNode.getNodeOrder() + ").");
         }
+        if (currentConstraintId != null) {
+            // Every node of a constraint passes through here, also if it's shared with another constraint
+            nodeToConstraintIdSetMap.computeIfAbsent(sharedNode, k -> new LinkedHashSet<>(1))
+                    .add(currentConstraintId);
+        }
         return sharedNode;
     }
 
@@ -65,6 +75,27 @@ public class BavetNodeBuildPolicy<Solution_> {
         return session;
     }
 
+    /**
+     * @param currentConstraintId sometimes null, the constraint whose nodes are being created
+     */
+    public void setCurrentConstraintId(String currentConstraintId) {
+        this.currentConstraintId = currentConstraintId;
+    }
+
+    /**
+     * @return sometimes null, the constraint whose nodes are being created
+     */
+    public String getCurrentConstraintId() {
+        return currentConstraintId;
+    }
+
+    /**
+     * @return never null, the constraints of each node, which has more than 1 constraint if it's shared
+     */
+    public Map<BavetNode, Set<String>> getNodeToConstraintIdSetMap() {
+        return nodeToConstraintIdSetMap;
+    }
+
     public int getNodeOrderMaximum() {
         return nodeOrderMaximum;
     }
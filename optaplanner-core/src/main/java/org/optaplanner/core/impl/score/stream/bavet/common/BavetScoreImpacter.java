@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
+
+/**
+ * Impacts the score for a {@link BavetScoringTuple} and undoes that impact later.
+ * <p>
+ * The matchWeight is kept on the tuple, instead of in an undo lambda,
+ * so refreshing a tuple doesn't allocate any object (except for {@link BigDecimal} arithmetic).
+ *
+ * @param <Tuple_> the scoring tuple type
+ */
+public abstract class BavetScoreImpacter<Tuple_ extends BavetScoringTuple> {
+
+    public static <Tuple_ extends BavetScoringTuple> BavetScoreImpacter<Tuple_> ofInt(
+            IntWeightedScoreImpacter weightedScoreImpacter, ToIntFunction<Tuple_> matchWeigher) {
+        return new BavetScoreImpacter<Tuple_>() {
+            @Override
+            public void impactScore(Tuple_ tuple) {
+                int matchWeight = matchWeigher.applyAsInt(tuple);
+                weightedScoreImpacter.impactScore(matchWeight);
+                tuple.setMatchWeight(matchWeight);
+                tuple.setImpacting(true);
+            }
+
+            @Override
+            public void undoScoreImpact(Tuple_ tuple) {
+                weightedScoreImpacter.undoScoreImpact((int) tuple.getMatchWeight());
+                tuple.setImpacting(false);
+            }
+
+            @Override
+            public Score<?> buildMatchScore(Tuple_ tuple) {
+                return weightedScoreImpacter.buildMatchScore((int) tuple.getMatchWeight());
+            }
+        };
+    }
+
+    public static <Tuple_ extends BavetScoringTuple> BavetScoreImpacter<Tuple_> ofLong(
+            LongWeightedScoreImpacter weightedScoreImpacter, ToLongFunction<Tuple_> matchWeigher) {
+        return new BavetScoreImpacter<Tuple_>() {
+            @Override
+            public void impactScore(Tuple_ tuple) {
+                long matchWeight = matchWeigher.applyAsLong(tuple);
+                weightedScoreImpacter.impactScore(matchWeight);
+                tuple.setMatchWeight(matchWeight);
+                tuple.setImpacting(true);
+            }
+
+            @Override
+            public void undoScoreImpact(Tuple_ tuple) {
+                weightedScoreImpacter.undoScoreImpact(tuple.getMatchWeight());
+                tuple.setImpacting(false);
+            }
+
+            @Override
+            public Score<?> buildMatchScore(Tuple_ tuple) {
+                return weightedScoreImpacter.buildMatchScore(tuple.getMatchWeight());
+            }
+        };
+    }
+
+    public static <Tuple_ extends BavetScoringTuple> BavetScoreImpacter<Tuple_> ofBigDecimal(
+            BigDecimalWeightedScoreImpacter weightedScoreImpacter, Function<Tuple_, BigDecimal> matchWeigher) {
+        return new BavetScoreImpacter<Tuple_>() {
+            @Override
+            public void impactScore(Tuple_ tuple) {
+                BigDecimal matchWeight = matchWeigher.apply(tuple);
+                weightedScoreImpacter.impactScore(matchWeight);
+                tuple.setBigDecimalMatchWeight(matchWeight);
+                tuple.setImpacting(true);
+            }
+
+            @Override
+            public void undoScoreImpact(Tuple_ tuple) {
+                weightedScoreImpacter.undoScoreImpact(tuple.getBigDecimalMatchWeight());
+                tuple.setBigDecimalMatchWeight(null);
+                tuple.setImpacting(false);
+            }
+
+            @Override
+            public Score<?> buildMatchScore(Tuple_ tuple) {
+                return weightedScoreImpacter.buildMatchScore(tuple.getBigDecimalMatchWeight());
+            }
+        };
+    }
+
+    /**
+     * Calculates the matchWeight of the tuple, impacts the score with it and keeps it on the tuple.
+     *
+     * @param tuple never null, not {@link BavetScoringTuple#isImpacting() impacting}
+     */
+    public abstract void impactScore(Tuple_ tuple);
+
+    /**
+     * Reverts {@link #impactScore(BavetScoringTuple)} with the matchWeight kept on the tuple.
+     *
+     * @param tuple never null, {@link BavetScoringTuple#isImpacting() impacting}
+     */
+    public abstract void undoScoreImpact(Tuple_ tuple);
+
+    /**
+     * Only called if constraint matching is enabled.
+     *
+     * @param tuple never null, {@link BavetScoringTuple#isImpacting() impacting}
+     * @return never null
+     */
+    public abstract Score<?> buildMatchScore(Tuple_ tuple);
+
+}
@@ -16,17 +16,29 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
-import org.optaplanner.core.api.score.Score;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import java.math.BigDecimal;
 
 public interface BavetScoringTuple {
 
-    UndoScoreImpacter getUndoScoreImpacter();
+    /**
+     * @return true if the score is currently impacted by this tuple
+     */
+    boolean isImpacting();
 
-    void setUndoScoreImpacter(UndoScoreImpacter undoScoreImpacter);
+    void setImpacting(boolean impacting);
 
-    Score<?> getMatchScore();
+    /**
+     * @return the matchWeight of the current impact, if the score type has int or long weights
+     */
+    long getMatchWeight();
 
-    void setMatchScore(Score<?> matchScore);
+    void setMatchWeight(long matchWeight);
+
+    /**
+     * @return null if not impacting or if the score type has no {@link BigDecimal} weights
+     */
+    BigDecimal getBigDecimalMatchWeight();
+
+    void setBigDecimalMatchWeight(BigDecimal bigDecimalMatchWeight);
 
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Specialization of {@link BavetEqualsAndComparisonIndex} for a single comparison joiner without any equal joiners,
+ * such as the planning id comparison of {@code fromUniquePair()}.
+ */
+public class BavetComparisonIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final JoinerType comparisonJoinerType;
+    private final NavigableMap<Object, Set<Tuple_>> comparisonMap = new TreeMap<>();
+
+    public BavetComparisonIndex(JoinerType comparisonJoinerType) {
+        this.comparisonJoinerType = comparisonJoinerType;
+    }
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object oldComparisonIndexProperty = tuple.getIndexKey();
+        Set<Tuple_> tupleSet = comparisonMap.get(oldComparisonIndexProperty);
+        boolean removed = tupleSet.remove(tuple);
+        if (!removed) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+        }
+        if (tupleSet.isEmpty()) {
+            comparisonMap.remove(oldComparisonIndexProperty);
+            returnTupleSet(tupleSet);
+        }
+        tuple.setIndexKey(null);
+        modificationCount++;
+    }
+
+    @Override
+    public void put(Object indexKey, Tuple_ tuple) {
+        Set<Tuple_> tupleSet = comparisonMap.get(indexKey);
+        if (tupleSet == null) {
+            tupleSet = borrowTupleSet();
+            comparisonMap.put(indexKey, tupleSet);
+        }
+        boolean added = tupleSet.add(tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with indexKey (" + indexKeyToString(indexKey)
+                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+        }
+        tuple.setIndexKey(indexKey);
+        modificationCount++;
+    }
+
+    @Override
+    public Set<Tuple_> get(Object indexKey) {
+        return selectComparisonTupleSet(this, comparisonJoinerType, comparisonMap, indexKey);
+    }
+
+    /**
+     * @param index never null, the index that owns the comparisonMap
+     * @param comparisonJoinerType never null, one of the 4 comparison types
+     * @param comparisonMap never null
+     * @param comparisonIndexProperty never null
+     * @return never null, a read-only view that is not copied, so it's only valid until the next put or remove
+     */
+    static <Tuple_> Set<Tuple_> selectComparisonTupleSet(BavetIndex<?> index, JoinerType comparisonJoinerType,
+            NavigableMap<Object, Set<Tuple_>> comparisonMap, Object comparisonIndexProperty) {
+        NavigableMap<Object, Set<Tuple_>> selectedComparisonMap;
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, false);
+                break;
+            case LESS_THAN_OR_EQUAL:
+                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, true);
+                break;
+            case GREATER_THAN:
+                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, false);
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, true);
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+        return new BavetNestedSetView<>(index, selectedComparisonMap.values());
+    }
+
+}
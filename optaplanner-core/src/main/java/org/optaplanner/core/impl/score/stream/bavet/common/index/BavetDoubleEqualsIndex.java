@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+
+/**
+ * Specialization of {@link BavetEqualsIndex} for exactly 2 equal joiners.
+ * Nests a map per index property, so it doesn't allocate a {@link BavetIndexKey} per operation.
+ * Emptied second maps are reused, like the emptied tuple sets.
+ */
+public class BavetDoubleEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private static final int SPARE_SECOND_MAP_LIMIT = 64;
+
+    private final Map<Object, Map<Object, Set<Tuple_>>> map = new HashMap<>();
+    private final Deque<Map<Object, Set<Tuple_>>> spareSecondMapDeque = new ArrayDeque<>();
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object[] oldIndexProperties = (Object[]) tuple.getIndexKey();
+        Map<Object, Set<Tuple_>> secondMap = map.get(oldIndexProperties[0]);
+        Set<Tuple_> tupleSet = secondMap.get(oldIndexProperties[1]);
+        boolean removed = tupleSet.remove(tuple);
+        if (!removed) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+        }
+        if (tupleSet.isEmpty()) {
+            secondMap.remove(oldIndexProperties[1]);
+            returnTupleSet(tupleSet);
+            if (secondMap.isEmpty()) {
+                map.remove(oldIndexProperties[0]);
+                if (spareSecondMapDeque.size() < SPARE_SECOND_MAP_LIMIT) {
+                    spareSecondMapDeque.addLast(secondMap);
+                }
+            }
+        }
+        tuple.setIndexKey(null);
+    }
+
+    @Override
+    public void put(Object indexKey, Tuple_ tuple) {
+        Object[] indexProperties = (Object[]) indexKey;
+        Map<Object, Set<Tuple_>> secondMap = map.get(indexProperties[0]);
+        if (secondMap == null) {
+            secondMap = spareSecondMapDeque.pollLast();
+            if (secondMap == null) {
+                secondMap = new HashMap<>();
+            }
+            map.put(indexProperties[0], secondMap);
+        }
+        Set<Tuple_> tupleSet = secondMap.get(indexProperties[1]);
+        if (tupleSet == null) {
+            tupleSet = borrowTupleSet();
+            secondMap.put(indexProperties[1], tupleSet);
+        }
+        boolean added = tupleSet.add(tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with indexKey (" + indexKeyToString(indexKey)
+                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+        }
+        tuple.setIndexKey(indexKey);
+    }
+
+    @Override
+    public Set<Tuple_> get(Object indexKey) {
+        Object[] indexProperties = (Object[]) indexKey;
+        Map<Object, Set<Tuple_>> secondMap = map.get(indexProperties[0]);
+        if (secondMap == null) {
+            return Collections.emptySet();
+        }
+        Set<Tuple_> tupleSet = secondMap.get(indexProperties[1]);
+        if (tupleSet == null) {
+            return Collections.emptySet();
+        }
+        return tupleSet;
+    }
+
+}
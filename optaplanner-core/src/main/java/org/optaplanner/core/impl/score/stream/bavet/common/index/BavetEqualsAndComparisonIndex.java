@@ -17,15 +17,12 @@
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
@@ -41,7 +38,7 @@ public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple>
 
     @Override
     public void remove(Tuple_ tuple) {
-        Object[] oldIndexProperties = tuple.getIndexProperties();
+        Object[] oldIndexProperties = (Object[]) tuple.getIndexKey();
         BavetIndexKey oldEqualsIndexKey = new BavetIndexKey(
                 Arrays.copyOfRange(oldIndexProperties, 0, oldIndexProperties.length - 1));
         Object oldComparisonIndexProperty = oldIndexProperties[oldIndexProperties.length - 1];
@@ -54,57 +51,47 @@ public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple>
         }
         if (tupleSet.isEmpty()) {
             comparisonMap.remove(oldComparisonIndexProperty);
+            returnTupleSet(tupleSet);
             if (comparisonMap.isEmpty()) {
                 equalsMap.remove(oldEqualsIndexKey);
             }
         }
-        tuple.setIndexProperties(null);
+        tuple.setIndexKey(null);
+        modificationCount++;
     }
 
     @Override
-    public void put(Object[] indexProperties, Tuple_ tuple) {
+    public void put(Object indexKey, Tuple_ tuple) {
+        Object[] indexProperties = (Object[]) indexKey;
         BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
         Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
         NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.computeIfAbsent(equalsIndexKey, k -> new TreeMap<>());
-        Set<Tuple_> tupleSet = comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> new LinkedHashSet<>());
+        Set<Tuple_> tupleSet = comparisonMap.get(comparisonIndexProperty);
+        if (tupleSet == null) {
+            tupleSet = borrowTupleSet();
+            comparisonMap.put(comparisonIndexProperty, tupleSet);
+        }
         boolean added = tupleSet.add(tuple);
         if (!added) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
-                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") with indexKey (" + indexKeyToString(indexKey)
                     + ") was already added in the index to the tupleSet (" + tupleSet + ").");
         }
-        tuple.setIndexProperties(indexProperties);
+        tuple.setIndexKey(indexKey);
+        modificationCount++;
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
+    public Set<Tuple_> get(Object indexKey) {
+        Object[] indexProperties = (Object[]) indexKey;
         BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
         Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
         NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.get(equalsIndexKey);
         if (comparisonMap == null) {
             return Collections.emptySet();
         }
-        NavigableMap<Object, Set<Tuple_>> selectedComparisonMap;
-        switch (comparisonJoinerType) {
-            case LESS_THAN:
-                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, false);
-                break;
-            case LESS_THAN_OR_EQUAL:
-                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, true);
-                break;
-            case GREATER_THAN:
-                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, false);
-                break;
-            case GREATER_THAN_OR_EQUAL:
-                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, true);
-                break;
-            default:
-                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
-                        + ") is not one of the 4 comparison types.");
-        }
-        return selectedComparisonMap.values().stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+        return BavetComparisonIndex.selectComparisonTupleSet(this, comparisonJoinerType, comparisonMap,
+                comparisonIndexProperty);
     }
 
 }
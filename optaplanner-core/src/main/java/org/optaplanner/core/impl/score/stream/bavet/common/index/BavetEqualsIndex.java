@@ -16,10 +16,8 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -31,7 +29,7 @@ public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends Bavet
 
     @Override
     public void remove(Tuple_ tuple) {
-        BavetIndexKey oldIndexKey = new BavetIndexKey(tuple.getIndexProperties());
+        BavetIndexKey oldIndexKey = new BavetIndexKey((Object[]) tuple.getIndexKey());
         Set<Tuple_> tupleSet = map.get(oldIndexKey);
         boolean removed = tupleSet.remove(tuple);
         if (!removed) {
@@ -40,25 +38,32 @@ public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends Bavet
         }
         if (tupleSet.isEmpty()) {
             map.remove(oldIndexKey);
+            returnTupleSet(tupleSet);
         }
-        tuple.setIndexProperties(null);
+        tuple.setIndexKey(null);
     }
 
     @Override
-    public void put(Object[] indexProperties, Tuple_ tuple) {
-        Set<Tuple_> tupleSet = map.computeIfAbsent(new BavetIndexKey(indexProperties), k -> new LinkedHashSet<>());
+    public void put(Object indexKey, Tuple_ tuple) {
+        Object[] indexProperties = (Object[]) indexKey;
+        BavetIndexKey equalsIndexKey = new BavetIndexKey(indexProperties);
+        Set<Tuple_> tupleSet = map.get(equalsIndexKey);
+        if (tupleSet == null) {
+            tupleSet = borrowTupleSet();
+            map.put(equalsIndexKey, tupleSet);
+        }
         boolean added = tupleSet.add(tuple);
         if (!added) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
-                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") with indexKey (" + indexKeyToString(indexKey)
                     + ") was already added in the index to the tupleSet (" + tupleSet + ").");
         }
-        tuple.setIndexProperties(indexProperties);
+        tuple.setIndexKey(indexKey);
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
-        Set<Tuple_> tupleSet = map.get(new BavetIndexKey(indexProperties));
+    public Set<Tuple_> get(Object indexKey) {
+        Set<Tuple_> tupleSet = map.get(new BavetIndexKey((Object[]) indexKey));
         if (tupleSet == null) {
             return Collections.emptySet();
         }
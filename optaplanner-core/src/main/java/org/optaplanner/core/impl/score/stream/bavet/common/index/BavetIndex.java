@@ -16,16 +16,68 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
+/**
+ * The index key is the single index property if the joiner has exactly 1 joiner type (which might be null),
+ * otherwise an {@code Object[]} of all index properties.
+ *
+ * @param <Tuple_> the tuple type
+ */
 public abstract class BavetIndex<Tuple_ extends BavetJoinBridgeTuple> {
 
+    private static final int SPARE_TUPLE_SET_LIMIT = 64;
+
+    /**
+     * Incremented by every {@link #put(Object[], BavetJoinBridgeTuple)} and {@link #remove(BavetJoinBridgeTuple)}
+     * of an index that returns views from {@link #get(Object[])}
+     * (and by every such get if those views share state),
+     * so such a view fails fast when it is used after it became stale.
+     */
+    protected int modificationCount = 0;
+
+    /**
+     * Tuple sets that became empty, reused for the next new key,
+     * so a tuple that moves back and forth between keys doesn't allocate a new set every time.
+     */
+    private final Deque<Set<Tuple_>> spareTupleSetDeque = new ArrayDeque<>();
+
     public abstract void remove(Tuple_ tuple);
 
-    public abstract void put(Object[] indexProperties, Tuple_ tuple);
+    public abstract void put(Object indexKey, Tuple_ tuple);
+
+    /**
+     * @param indexKey the same kind of key as given to {@link #put(Object, BavetJoinBridgeTuple)}
+     * @return never null, only valid until the next {@link #put(Object, BavetJoinBridgeTuple)}
+     *         or {@link #remove(BavetJoinBridgeTuple)} on this index, because it might be a view
+     */
+    public abstract Set<Tuple_> get(Object indexKey);
+
+    protected static String indexKeyToString(Object indexKey) {
+        return (indexKey instanceof Object[]) ? Arrays.toString((Object[]) indexKey) : String.valueOf(indexKey);
+    }
+
+    /**
+     * @return never null, empty
+     */
+    protected Set<Tuple_> borrowTupleSet() {
+        Set<Tuple_> tupleSet = spareTupleSetDeque.pollLast();
+        return tupleSet == null ? new LinkedHashSet<>() : tupleSet;
+    }
 
-    public abstract Set<Tuple_> get(Object[] indexProperties);
+    /**
+     * @param tupleSet never null, empty and no longer in this index
+     */
+    protected void returnTupleSet(Set<Tuple_> tupleSet) {
+        if (spareTupleSetDeque.size() < SPARE_TUPLE_SET_LIMIT) {
+            spareTupleSetDeque.addLast(tupleSet);
+        }
+    }
 
 }
@@ -23,11 +23,20 @@ import org.optaplanner.core.impl.score.stream.common.JoinerType;
 public class BavetIndexFactory {
 
     private final JoinerType[] joinerTypes;
+    // Such as Joiners.overlapping(): a lower bounded and an upper bounded comparison after the equals
+    private final boolean intervalPair;
 
     public BavetIndexFactory(AbstractJoiner joiner) {
         joinerTypes = joiner.getJoinerTypes();
-        for (int i = 0; i < joinerTypes.length; i++) {
-            if (joinerTypes[i] != JoinerType.EQUAL && i != (joinerTypes.length - 1)) {
+        for (JoinerType joinerType : joinerTypes) {
+            if (joinerType != JoinerType.EQUAL && !isComparison(joinerType)) {
+                throw new UnsupportedOperationException("Unsupported joiner type (" + joinerType + ").");
+            }
+        }
+        intervalPair = isIntervalPair(joinerTypes);
+        int comparisonStartIndex = joinerTypes.length - (intervalPair ? 2 : 1);
+        for (int i = 0; i < comparisonStartIndex; i++) {
+            if (joinerTypes[i] != JoinerType.EQUAL) {
                 throw new IllegalArgumentException("The joinerType (" + joinerTypes[i]
                         + ") is currently only supported as the last joinerType.\n"
                         + ((joinerTypes[i + 1] == JoinerType.EQUAL)
@@ -39,16 +48,55 @@ public class BavetIndexFactory {
         }
     }
 
+    private static boolean isIntervalPair(JoinerType[] joinerTypes) {
+        if (joinerTypes.length < 2) {
+            return false;
+        }
+        JoinerType first = joinerTypes[joinerTypes.length - 2];
+        JoinerType second = joinerTypes[joinerTypes.length - 1];
+        return isComparison(first) && isComparison(second)
+                && BavetIntervalIndex.isUpperBounded(first) != BavetIntervalIndex.isUpperBounded(second);
+    }
+
+    private static boolean isComparison(JoinerType joinerType) {
+        switch (joinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     public <Tuple_ extends BavetJoinBridgeTuple> BavetIndex<Tuple_> buildIndex(boolean isLeftBridge) {
         if (joinerTypes.length == 0) {
             return new BavetNoneIndex<>();
         }
         JoinerType lastJoinerType = joinerTypes[joinerTypes.length - 1];
-        if (lastJoinerType == JoinerType.EQUAL) {
-            return new BavetEqualsIndex<>();
+        if (intervalPair) {
+            JoinerType firstComparisonJoinerType = joinerTypes[joinerTypes.length - 2];
+            // Use flip() to model A < B as B > A
+            return new BavetIntervalIndex<>(joinerTypes.length - 2,
+                    isLeftBridge ? firstComparisonJoinerType : firstComparisonJoinerType.flip(),
+                    isLeftBridge ? lastJoinerType : lastJoinerType.flip());
+        } else if (lastJoinerType == JoinerType.EQUAL) {
+            switch (joinerTypes.length) {
+                case 1:
+                    return new BavetSingleEqualsIndex<>();
+                case 2:
+                    return new BavetDoubleEqualsIndex<>();
+                default:
+                    return new BavetEqualsIndex<>();
+            }
         } else {
             // Use flip() to model A < B as B > A
-            return new BavetEqualsAndComparisonIndex<>(isLeftBridge ? lastJoinerType : lastJoinerType.flip());
+            JoinerType comparisonJoinerType = isLeftBridge ? lastJoinerType : lastJoinerType.flip();
+            if (joinerTypes.length == 1) {
+                return new BavetComparisonIndex<>(comparisonJoinerType);
+            }
+            return new BavetEqualsAndComparisonIndex<>(comparisonJoinerType);
         }
     }
 
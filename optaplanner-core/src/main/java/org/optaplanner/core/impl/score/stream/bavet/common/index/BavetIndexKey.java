@@ -18,17 +18,57 @@ package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
 import java.util.Arrays;
 
+/**
+ * Only the first {@code length} index properties are part of the key.
+ * A key in a map is never changed.
+ * A probe key (see {@link #BavetIndexKey(int)}) is only used to look up such a key,
+ * so a lookup doesn't need to allocate a key or copy the index properties.
+ */
 public class BavetIndexKey {
 
+    private final int length;
+
     private Object[] indexProperties;
+    private int hashCode;
 
     public BavetIndexKey(Object[] indexProperties) {
+        this.length = indexProperties.length;
+        setIndexProperties(indexProperties);
+    }
+
+    /**
+     * Creates a probe key, which must be {@link #setIndexProperties(Object[]) set} before every lookup.
+     * @param length {@code >= 0}, the number of leading index properties in the key
+     */
+    BavetIndexKey(int length) {
+        this.length = length;
+        this.indexProperties = null;
+        this.hashCode = 0;
+    }
+
+    /**
+     * Only for a probe key.
+     * @param indexProperties null to release the index properties of the previous lookup,
+     *        otherwise at least {@code length} long
+     */
+    void setIndexProperties(Object[] indexProperties) {
         this.indexProperties = indexProperties;
+        if (indexProperties == null) {
+            hashCode = 0;
+            return;
+        }
+        // Same as Arrays.hashCode(), but only over the first length elements
+        int newHashCode = 1;
+        for (int i = 0; i < length; i++) {
+            Object indexProperty = indexProperties[i];
+            newHashCode = 31 * newHashCode + (indexProperty == null ? 0 : indexProperty.hashCode());
+        }
+        hashCode = newHashCode;
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(indexProperties);
+        return hashCode;
     }
 
     @Override
@@ -37,7 +77,8 @@ public class BavetIndexKey {
             return false;
         }
         BavetIndexKey other = (BavetIndexKey) o;
-        return Arrays.equals(indexProperties, other.indexProperties);
+        return length == other.length && hashCode == other.hashCode
+                && Arrays.equals(indexProperties, 0, length, other.indexProperties, 0, length);
     }
 
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Indexes on zero or more equals properties, followed by a pair of comparison properties
+ * of which one is upper bounded and the other one is lower bounded,
+ * such as the start and end of {@link org.optaplanner.core.api.score.stream.Joiners#overlapping}.
+ * <p>
+ * A lookup reuses a probe key and a selection list, so it only allocates the returned view.
+ * Therefore that view is also stale after the next {@link #get(Object)} on this index.
+ *
+ * @param <Tuple_> the tuple type
+ * @see BavetIntervalTree
+ */
+public class BavetIntervalIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final int equalsPropertyCount;
+    private final JoinerType startJoinerType;
+    private final JoinerType endJoinerType;
+    // The index of the start property in the indexProperties, the end property is the other one
+    private final int startPropertyIndex;
+    private final int endPropertyIndex;
+
+    private final Map<BavetIndexKey, BavetIntervalTree<Tuple_>> equalsMap;
+    private final BavetIndexKey equalsProbeKey;
+    private final BavetIntervalTree<Tuple_> intervalTree;
+    private final List<Set<Tuple_>> selectedTupleSetList = new ArrayList<>();
+
+    /**
+     * @param equalsPropertyCount {@code >= 0}, the number of {@link JoinerType#EQUAL} properties before the pair
+     * @param firstComparisonJoinerType never null, one of the 4 comparison types
+     * @param secondComparisonJoinerType never null, one of the 4 comparison types,
+     *        upper bounded if the first one is lower bounded and vice versa
+     */
+    public BavetIntervalIndex(int equalsPropertyCount,
+            JoinerType firstComparisonJoinerType, JoinerType secondComparisonJoinerType) {
+        this.equalsPropertyCount = equalsPropertyCount;
+        if (isUpperBounded(firstComparisonJoinerType) == isUpperBounded(secondComparisonJoinerType)) {
+            throw new IllegalArgumentException("The firstComparisonJoinerType (" + firstComparisonJoinerType
+                    + ") and the secondComparisonJoinerType (" + secondComparisonJoinerType
+                    + ") must be bounded in opposite directions.");
+        }
+        if (isUpperBounded(firstComparisonJoinerType)) {
+            startJoinerType = firstComparisonJoinerType;
+            endJoinerType = secondComparisonJoinerType;
+            startPropertyIndex = equalsPropertyCount;
+            endPropertyIndex = equalsPropertyCount + 1;
+        } else {
+            startJoinerType = secondComparisonJoinerType;
+            endJoinerType = firstComparisonJoinerType;
+            startPropertyIndex = equalsPropertyCount + 1;
+            endPropertyIndex = equalsPropertyCount;
+        }
+        if (equalsPropertyCount == 0) {
+            equalsMap = null;
+            equalsProbeKey = null;
+            intervalTree = new BavetIntervalTree<>(startJoinerType, endJoinerType);
+        } else {
+            equalsMap = new HashMap<>();
+            equalsProbeKey = new BavetIndexKey(equalsPropertyCount);
+            intervalTree = null;
+        }
+    }
+
+    static boolean isUpperBounded(JoinerType comparisonJoinerType) {
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return true;
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return false;
+            default:
+                throw new IllegalArgumentException("The comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not a comparison type.");
+        }
+    }
+
+    private BavetIntervalTree<Tuple_> getEqualsIntervalTree(Object[] indexProperties) {
+        equalsProbeKey.setIndexProperties(indexProperties);
+        BavetIntervalTree<Tuple_> equalsIntervalTree = equalsMap.get(equalsProbeKey);
+        // Don't keep the facts of the last lookup alive
+        equalsProbeKey.setIndexProperties(null);
+        return equalsIntervalTree;
+    }
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object[] oldIndexProperties = (Object[]) tuple.getIndexKey();
+        Object oldStart = oldIndexProperties[startPropertyIndex];
+        Object oldEnd = oldIndexProperties[endPropertyIndex];
+        if (equalsMap == null) {
+            intervalTree.remove(oldStart, oldEnd, tuple);
+        } else {
+            equalsProbeKey.setIndexProperties(oldIndexProperties);
+            BavetIntervalTree<Tuple_> oldIntervalTree = equalsMap.get(equalsProbeKey);
+            oldIntervalTree.remove(oldStart, oldEnd, tuple);
+            if (oldIntervalTree.isEmpty()) {
+                equalsMap.remove(equalsProbeKey);
+            }
+            equalsProbeKey.setIndexProperties(null);
+        }
+        tuple.setIndexKey(null);
+        modificationCount++;
+    }
+
+    @Override
+    public void put(Object indexKey, Tuple_ tuple) {
+        Object[] indexProperties = (Object[]) indexKey;
+        Object start = indexProperties[startPropertyIndex];
+        Object end = indexProperties[endPropertyIndex];
+        if (equalsMap == null) {
+            intervalTree.put(start, end, tuple);
+        } else {
+            BavetIntervalTree<Tuple_> equalsIntervalTree = getEqualsIntervalTree(indexProperties);
+            if (equalsIntervalTree == null) {
+                // Only a new key is copied, because the map keeps it
+                equalsIntervalTree = new BavetIntervalTree<>(startJoinerType, endJoinerType);
+                equalsMap.put(new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, equalsPropertyCount)),
+                        equalsIntervalTree);
+            }
+            equalsIntervalTree.put(start, end, tuple);
+        }
+        tuple.setIndexKey(indexKey);
+        modificationCount++;
+    }
+
+    @Override
+    public Set<Tuple_> get(Object indexKey) {
+        Object[] indexProperties = (Object[]) indexKey;
+        BavetIntervalTree<Tuple_> selectedIntervalTree = (equalsMap == null) ? intervalTree
+                : getEqualsIntervalTree(indexProperties);
+        if (selectedIntervalTree == null) {
+            return Collections.emptySet();
+        }
+        // The previous view iterates the same selectedTupleSetList, so it becomes stale
+        modificationCount++;
+        selectedTupleSetList.clear();
+        selectedIntervalTree.select(indexProperties[startPropertyIndex], indexProperties[endPropertyIndex],
+                selectedTupleSetList);
+        if (selectedTupleSetList.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new BavetNestedSetView<>(this, selectedTupleSetList);
+    }
+
+}
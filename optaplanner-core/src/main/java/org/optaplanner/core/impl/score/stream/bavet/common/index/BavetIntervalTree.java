@@ -0,0 +1,254 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Indexes tuples by a pair of comparison properties, such as the start and end of an interval,
+ * to select the tuples with a start below an upper bound and an end above a lower bound.
+ * <p>
+ * This is an AVL tree ordered by the start property.
+ * Every node also holds the maximum end property of its subtree,
+ * so a selection skips every subtree without a high enough end.
+ * Selecting k tuples is therefore O(k log(n)) instead of O(n).
+ *
+ * @param <Tuple_> the tuple type
+ */
+final class BavetIntervalTree<Tuple_ extends BavetJoinBridgeTuple> {
+
+    private final boolean startInclusive;
+    private final boolean endInclusive;
+
+    private Node<Tuple_> root = null;
+
+    /**
+     * @param startJoinerType never null, {@link JoinerType#LESS_THAN} or {@link JoinerType#LESS_THAN_OR_EQUAL}
+     * @param endJoinerType never null, {@link JoinerType#GREATER_THAN} or {@link JoinerType#GREATER_THAN_OR_EQUAL}
+     */
+    BavetIntervalTree(JoinerType startJoinerType, JoinerType endJoinerType) {
+        this.startInclusive = startJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+        this.endInclusive = endJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    void put(Object start, Object end, Tuple_ tuple) {
+        root = put(root, start, end, tuple);
+    }
+
+    private Node<Tuple_> put(Node<Tuple_> node, Object start, Object end, Tuple_ tuple) {
+        if (node == null) {
+            node = new Node<>(start);
+            addToEndMap(node, end, tuple);
+            node.update();
+            return node;
+        }
+        int comparison = compare(start, node.start);
+        if (comparison < 0) {
+            node.left = put(node.left, start, end, tuple);
+        } else if (comparison > 0) {
+            node.right = put(node.right, start, end, tuple);
+        } else {
+            addToEndMap(node, end, tuple);
+        }
+        return rebalance(node);
+    }
+
+    private void addToEndMap(Node<Tuple_> node, Object end, Tuple_ tuple) {
+        Set<Tuple_> tupleSet = node.endMap.computeIfAbsent(end, k -> new LinkedHashSet<>());
+        boolean added = tupleSet.add(tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with start (" + node.start + ") and end (" + end
+                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+        }
+    }
+
+    void remove(Object start, Object end, Tuple_ tuple) {
+        root = remove(root, start, end, tuple);
+    }
+
+    private Node<Tuple_> remove(Node<Tuple_> node, Object start, Object end, Tuple_ tuple) {
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index with start (" + start + ").");
+        }
+        int comparison = compare(start, node.start);
+        if (comparison < 0) {
+            node.left = remove(node.left, start, end, tuple);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, start, end, tuple);
+        } else {
+            Set<Tuple_> tupleSet = node.endMap.get(end);
+            if (tupleSet == null || !tupleSet.remove(tuple)) {
+                throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                        + ")'s tuple cannot be removed in the index with start (" + start
+                        + ") and end (" + end + ") from the tupleSet (" + tupleSet + ").");
+            }
+            if (tupleSet.isEmpty()) {
+                node.endMap.remove(end);
+                if (node.endMap.isEmpty()) {
+                    return removeNode(node);
+                }
+            }
+        }
+        return rebalance(node);
+    }
+
+    private Node<Tuple_> removeNode(Node<Tuple_> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        // Replace this node by the node with the lowest start of the right subtree
+        Node<Tuple_> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = removeLowest(node.right);
+        successor.left = node.left;
+        return rebalance(successor);
+    }
+
+    private Node<Tuple_> removeLowest(Node<Tuple_> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeLowest(node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * @param startBound never null, every selected start is lower than (or equal to) it
+     * @param endBound never null, every selected end is higher than (or equal to) it
+     * @param selectedTupleSetList never null, receives the tuple sets of the selected tuples
+     */
+    void select(Object startBound, Object endBound, List<Set<Tuple_>> selectedTupleSetList) {
+        select(root, startBound, endBound, selectedTupleSetList);
+    }
+
+    private void select(Node<Tuple_> node, Object startBound, Object endBound,
+            List<Set<Tuple_>> selectedTupleSetList) {
+        while (node != null && matchesEnd(node.maxEnd, endBound)) {
+            select(node.left, startBound, endBound, selectedTupleSetList);
+            if (!matchesStart(node.start, startBound)) {
+                // Every start in the right subtree is even higher
+                return;
+            }
+            selectedTupleSetList.addAll(node.endMap.tailMap(endBound, endInclusive).values());
+            node = node.right;
+        }
+    }
+
+    private boolean matchesStart(Object start, Object startBound) {
+        int comparison = compare(start, startBound);
+        return startInclusive ? comparison <= 0 : comparison < 0;
+    }
+
+    private boolean matchesEnd(Object end, Object endBound) {
+        int comparison = compare(end, endBound);
+        return endInclusive ? comparison >= 0 : comparison > 0;
+    }
+
+    // ************************************************************************
+    // AVL balancing
+    // ************************************************************************
+
+    private static <Tuple_> Node<Tuple_> rebalance(Node<Tuple_> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <Tuple_> Node<Tuple_> rotateRight(Node<Tuple_> node) {
+        Node<Tuple_> newNode = node.left;
+        node.left = newNode.right;
+        newNode.right = node;
+        node.update();
+        newNode.update();
+        return newNode;
+    }
+
+    private static <Tuple_> Node<Tuple_> rotateLeft(Node<Tuple_> node) {
+        Node<Tuple_> newNode = node.right;
+        node.right = newNode.left;
+        newNode.left = node;
+        node.update();
+        newNode.update();
+        return newNode;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int compare(Object a, Object b) {
+        return ((Comparable) a).compareTo(b);
+    }
+
+    private static final class Node<Tuple_> {
+
+        private final Object start;
+        private final NavigableMap<Object, Set<Tuple_>> endMap = new TreeMap<>();
+
+        private Node<Tuple_> left = null;
+        private Node<Tuple_> right = null;
+        private int height = 1;
+        // The highest end of this node and its subtrees
+        private Object maxEnd = null;
+
+        private Node(Object start) {
+            this.start = start;
+        }
+
+        private void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            maxEnd = endMap.lastKey();
+            if (left != null && compare(left.maxEnd, maxEnd) > 0) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && compare(right.maxEnd, maxEnd) > 0) {
+                maxEnd = right.maxEnd;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only view over disjoint sets, such as the values of a {@link java.util.NavigableMap#headMap(Object, boolean)}.
+ * Unlike collecting them into a new {@link Set}, creating this view is O(1)
+ * and iterating it is O(k) for k elements, without copying.
+ * <p>
+ * The join nodes only iterate it.
+ * {@link #size()} is O(s) for s sets the first time (and O(1) afterwards) and {@link #contains(Object)} is O(s).
+ * <p>
+ * This view is only valid until the next put or remove on its {@link BavetIndex}
+ * (or the next get, if that index reuses the setCollection).
+ * After that, every method fails fast with a {@link ConcurrentModificationException}
+ * instead of returning stale data.
+ * @param <E> the element type
+ */
+final class BavetNestedSetView<E> extends AbstractSet<E> {
+
+    private final BavetIndex<?> index;
+    private final int expectedModificationCount;
+    private final Collection<Set<E>> setCollection;
+
+    private int size = -1;
+
+    BavetNestedSetView(BavetIndex<?> index, Collection<Set<E>> setCollection) {
+        this.index = index;
+        this.expectedModificationCount = index.modificationCount;
+        this.setCollection = setCollection;
+    }
+
+    private void checkNotStale() {
+        if (index.modificationCount != expectedModificationCount) {
+            throw new ConcurrentModificationException("The view of the index (" + index
+                    + ") is used after it became stale by a later operation on that index.");
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        checkNotStale();
+        Iterator<Set<E>> setIterator = setCollection.iterator();
+        return new Iterator<E>() {
+
+            private Iterator<E> elementIterator = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                checkNotStale();
+                while (!elementIterator.hasNext()) {
+                    if (!setIterator.hasNext()) {
+                        return false;
+                    }
+                    elementIterator = setIterator.next().iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elementIterator.next();
+            }
+
+        };
+    }
+
+    @Override
+    public int size() {
+        checkNotStale();
+        if (size < 0) {
+            int newSize = 0;
+            for (Set<E> set : setCollection) {
+                newSize += set.size();
+            }
+            // The view never changes while it's valid
+            size = newSize;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        checkNotStale();
+        if (size >= 0) {
+            return size == 0;
+        }
+        for (Set<E> set : setCollection) {
+            if (!set.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        checkNotStale();
+        for (Set<E> set : setCollection) {
+            if (set.contains(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
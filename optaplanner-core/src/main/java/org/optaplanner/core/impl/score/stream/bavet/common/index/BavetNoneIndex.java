@@ -16,7 +16,6 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -33,22 +32,22 @@ public class BavetNoneIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIn
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
                     + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
         }
-        tuple.setIndexProperties(null);
+        tuple.setIndexKey(null);
     }
 
     @Override
-    public void put(Object[] indexProperties, Tuple_ tuple) {
+    public void put(Object indexKey, Tuple_ tuple) {
         boolean added = tupleSet.add(tuple);
         if (!added) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
-                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") with indexKey (" + indexKeyToString(indexKey)
                     + ") was already added in the index to the tupleSet (" + tupleSet + ").");
         }
-        tuple.setIndexProperties(indexProperties);
+        tuple.setIndexKey(indexKey);
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
+    public Set<Tuple_> get(Object indexKey) {
         return tupleSet;
     }
 
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+
+/**
+ * Specialization of {@link BavetEqualsIndex} for exactly 1 equal joiner.
+ * The index key is the index property itself, so it doesn't allocate an array or a {@link BavetIndexKey} per operation.
+ */
+public class BavetSingleEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final Map<Object, Set<Tuple_>> map = new HashMap<>();
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object oldIndexKey = tuple.getIndexKey();
+        Set<Tuple_> tupleSet = map.get(oldIndexKey);
+        boolean removed = tupleSet.remove(tuple);
+        if (!removed) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+        }
+        if (tupleSet.isEmpty()) {
+            map.remove(oldIndexKey);
+            returnTupleSet(tupleSet);
+        }
+        tuple.setIndexKey(null);
+    }
+
+    @Override
+    public void put(Object indexKey, Tuple_ tuple) {
+        Set<Tuple_> tupleSet = map.get(indexKey);
+        if (tupleSet == null) {
+            tupleSet = borrowTupleSet();
+            map.put(indexKey, tupleSet);
+        }
+        boolean added = tupleSet.add(tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with indexKey (" + indexKeyToString(indexKey)
+                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+        }
+        tuple.setIndexKey(indexKey);
+    }
+
+    @Override
+    public Set<Tuple_> get(Object indexKey) {
+        Set<Tuple_> tupleSet = map.get(indexKey);
+        if (tupleSet == null) {
+            return Collections.emptySet();
+        }
+        return tupleSet;
+    }
+
+}
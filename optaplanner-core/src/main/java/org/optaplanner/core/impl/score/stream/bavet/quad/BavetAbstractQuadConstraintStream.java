@@ -0,0 +1,399 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.function.PentaPredicate;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.api.function.ToIntQuadFunction;
+import org.optaplanner.core.api.function.ToLongQuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.penta.PentaJoiner;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.penta.AbstractPentaJoiner;
+import org.optaplanner.core.impl.score.stream.quad.DefaultQuadConstraintCollector;
+import org.optaplanner.core.impl.score.stream.quad.InnerQuadConstraintStream;
+
+public abstract class BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>
+        extends BavetAbstractConstraintStream<Solution_>
+        implements InnerQuadConstraintStream<A, B, C, D> {
+
+    protected final List<BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>> childStreamList = new ArrayList<>(2);
+
+    public BavetAbstractQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory) {
+        super(constraintFactory);
+    }
+
+    // ************************************************************************
+    // Stream builder methods
+    // ************************************************************************
+
+    protected void addChildStream(BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream) {
+        childStreamList.add(childStream);
+    }
+
+    @Override
+    public int getCardinality() {
+        return 4;
+    }
+
+    // ************************************************************************
+    // Filter
+    // ************************************************************************
+
+    @Override
+    public BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> filter(QuadPredicate<A, B, C, D> predicate) {
+        BavetFilterQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetFilterQuadConstraintStream<>(
+                constraintFactory, this, predicate);
+        addChildStream(stream);
+        return stream;
+    }
+
+    // ************************************************************************
+    // If (not) exists
+    // ************************************************************************
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifExists(Class<E> otherClass, PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(true, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifNotExists(Class<E> otherClass, PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    private <E> QuadConstraintStream<A, B, C, D> ifExistsOrNot(boolean shouldExist, Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>[] joiners) {
+        BavetAbstractUniConstraintStream<Solution_, E> other = constraintFactory.fromUnfiltered(otherClass);
+        // Index on the joiners before the first filtering joiner, like the Drools implementation
+        int indexOfFirstFilter = -1;
+        PentaPredicate<A, B, C, D, E> filter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            PentaJoiner<A, B, C, D, E> joiner = joiners[i];
+            if (!(joiner instanceof AbstractPentaJoiner)) {
+                throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+            }
+            PentaPredicate<A, B, C, D, E> joinerFilter = ((AbstractPentaJoiner<A, B, C, D, E>) joiner).getFilter();
+            if (joinerFilter != null) {
+                if (indexOfFirstFilter < 0) {
+                    indexOfFirstFilter = i;
+                }
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (indexOfFirstFilter >= 0) {
+                throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow "
+                        + "a filtering joiner (" + joiners[indexOfFirstFilter] + ").\n"
+                        + "Maybe reorder the joiners such that filtering() joiners are later in the parameter list.");
+            }
+        }
+        AbstractPentaJoiner<A, B, C, D, E> indexingJoiner = AbstractPentaJoiner.merge(
+                (indexOfFirstFilter < 0) ? joiners : Arrays.copyOf(joiners, indexOfFirstFilter));
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeQuadConstraintStream<Solution_, A, B, C, D> leftBridge = new BavetJoinBridgeQuadConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner.getLeftIndexKeyMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, E> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, indexingJoiner.getRightIndexKeyMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetExistsQuadConstraintStream<Solution_, A, B, C, D, E> existsStream = new BavetExistsQuadConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter);
+        leftBridge.setJoinStream(existsStream);
+        rightBridge.setJoinStream(existsStream);
+        return existsStream;
+    }
+
+    // ************************************************************************
+    // Group by
+    // ************************************************************************
+
+    @Override
+    public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, Void, ResultContainer_> bridge =
+                buildGroupBridge((a, b, c, d) -> null, collector);
+        BavetGroupUniConstraintStream<Solution_, Void, ResultContainer_, Result_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping) {
+        QuadConstraintCollector<A, B, C, D, List<Object>, Void> collector = DefaultQuadConstraintCollector.noop();
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, List<Object>> bridge =
+                buildGroupBridge(groupKeyMapping, collector);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, List<Object>, Void, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, ResultContainer_> bridge =
+                buildGroupBridge(groupKeyMapping, collector);
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_, GroupKey_, Result_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey,
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+            QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping) {
+        QuadConstraintCollector<A, B, C, D, List<Object>, Void> collector = DefaultQuadConstraintCollector.noop();
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, Pair<GroupKeyA_, GroupKeyB_>, List<Object>> bridge =
+                buildGroupBridge(
+                        (a, b, c, d) -> Pair.of(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d)),
+                        collector);
+        BavetGroupBiConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, List<Object>, Void,
+                GroupKeyA_, GroupKeyB_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+            QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_> bridge =
+                buildGroupBridge(
+                        (a, b, c, d) -> Pair.of(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d)),
+                        collector);
+        BavetGroupTriConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_, Result_,
+                GroupKeyA_, GroupKeyB_, Result_> groupStream =
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight(),
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupBy(
+                    QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+                    QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        QuadConstraintCollector<A, B, C, D, Object[], Pair<ResultC_, ResultD_>> collector =
+                DefaultQuadConstraintCollector.compose(collectorC, collectorD);
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, Pair<GroupKeyA_, GroupKeyB_>, Object[]> bridge =
+                buildGroupBridge(
+                        (a, b, c, d) -> Pair.of(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d)),
+                        collector);
+        BavetGroupQuadConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, Object[], Pair<ResultC_, ResultD_>,
+                GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight(),
+                        (groupKey, result) -> result.getLeft(),
+                        (groupKey, result) -> result.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_>
+            BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, ResultContainer_>
+            buildGroupBridge(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainer_, ?> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        return bridge;
+    }
+
+    // ************************************************************************
+    // Penalize/reward
+    // ************************************************************************
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreLong(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreBigDecimal(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableLong(String constraintPackage, String constraintName,
+            ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableBigDecimal(String constraintPackage, String constraintName,
+            QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    public BavetAbstractQuadNode<A, B, C, D> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        BavetAbstractQuadNode<A, B, C, D> node = createNode(buildPolicy, constraintWeight, nodeOrder, parentNode);
+        node = processNode(buildPolicy, nodeOrder, parentNode, node);
+        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
+        return node;
+    }
+
+    @Override
+    protected List<? extends BavetAbstractConstraintStream<Solution_>> getChildStreams() {
+        return childStreamList;
+    }
+
+    protected BavetAbstractQuadNode<A, B, C, D> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy, int nodeOrder,
+            BavetAbstractQuadNode<A, B, C, D> parentNode, BavetAbstractQuadNode<A, B, C, D> node) {
+        buildPolicy.updateNodeOrderMaximum(nodeOrder);
+        BavetAbstractQuadNode<A, B, C, D> sharedNode = buildPolicy.retrieveSharedNode(node);
+        if (sharedNode != node) {
+            // Share node
+            node = sharedNode;
+        } else {
+            // A join node has no single parentNode: its parents are the join bridges
+            if (parentNode != null) {
+                parentNode.addChildNode(node);
+            }
+        }
+        return node;
+    }
+
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight, int nodeOrder,
+            BavetAbstractQuadNode<A, B, C, D> node) {
+        if (childStreamList.isEmpty()) {
+            throw new IllegalStateException("The stream (" + this + ") leads to nowhere.\n"
+                    + "Maybe don't create it.");
+        }
+        for (BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream : childStreamList) {
+            if (!childStream.belongsToConstraint(buildPolicy.getCurrentConstraintId())) {
+                // A stream reused by multiple constraints only creates the nodes of the current constraint
+                continue;
+            }
+            childStream.createNodeChain(buildPolicy, constraintWeight, nodeOrder + 1, node);
+        }
+    }
+
+    protected abstract BavetAbstractQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractQuadNode<A, B, C, D> parentNode);
+
+}
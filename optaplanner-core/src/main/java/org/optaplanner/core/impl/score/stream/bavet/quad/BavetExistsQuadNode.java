@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.function.PentaPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetExistsMatch;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+/**
+ * Passes a tuple of the left bridge on if it has (or for ifNotExists(), doesn't have) any match in the right bridge.
+ * Unlike a join, it creates at most one child tuple per left tuple, regardless of the number of matches.
+ */
+public final class BavetExistsQuadNode<A, B, C, D, E> extends BavetAbstractQuadNode<A, B, C, D> implements BavetJoinNode {
+
+    private final BavetJoinBridgeQuadNode<A, B, C, D> leftParentNode;
+    private final BavetJoinBridgeUniNode<E> rightParentNode;
+    private final boolean shouldExist;
+    /** Sometimes null, the filtering() joiners */
+    private final PentaPredicate<A, B, C, D, E> filter;
+
+    private final List<BavetAbstractQuadNode<A, B, C, D>> childNodeList = new ArrayList<>();
+
+    private final Map<BavetJoinBridgeQuadTuple<A, B, C, D>, BavetExistsQuadTuple<A, B, C, D>> childTupleMap = new HashMap<>();
+    /** Reused by {@link #refreshChildTuplesRight(BavetJoinBridgeUniTuple)} to avoid an allocation per call */
+    private final List<BavetJoinBridgeQuadTuple<A, B, C, D>> affectedLeftParentTupleList = new ArrayList<>();
+
+    public BavetExistsQuadNode(BavetConstraintSession session, int nodeOrder,
+            BavetJoinBridgeQuadNode<A, B, C, D> leftParentNode, BavetJoinBridgeUniNode<E> rightParentNode,
+            boolean shouldExist, PentaPredicate<A, B, C, D, E> filter) {
+        super(session, nodeOrder);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractQuadNode<A, B, C, D> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // TODO
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetExistsQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetExistsQuadTuple<>(this, (BavetJoinBridgeQuadTuple<A, B, C, D>) parentTuple);
+    }
+
+    public void refresh(BavetExistsQuadTuple<A, B, C, D> tuple) {
+        List<BavetAbstractQuadTuple<A, B, C, D>> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractQuadTuple<A, B, C, D> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            for (BavetAbstractQuadNode<A, B, C, D> childNode : childNodeList) {
+                BavetAbstractQuadTuple<A, B, C, D> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple) {
+        Set<BavetJoinTuple> leftMatchSet = leftParentTuple.getChildTupleSet();
+        for (BavetJoinTuple uncastMatch : leftMatchSet) {
+            BavetExistsMatch match = (BavetExistsMatch) uncastMatch;
+            boolean removed = match.getRightParentTuple().getChildTupleSet().remove(match);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the match (" + match
+                        + ") cannot be removed from the right join bridge.");
+            }
+        }
+        leftMatchSet.clear();
+        if (leftParentTuple.isActive()) {
+            Set<BavetJoinBridgeUniTuple<E>> rightParentTupleSet = getRightIndex().get(leftParentTuple.getIndexKey());
+            for (BavetJoinBridgeUniTuple<E> rightParentTuple : rightParentTupleSet) {
+                if (!rightParentTuple.isDirty() && matches(leftParentTuple, rightParentTuple)) {
+                    BavetExistsMatch match = new BavetExistsMatch(leftParentTuple, rightParentTuple);
+                    leftMatchSet.add(match);
+                    rightParentTuple.getChildTupleSet().add(match);
+                }
+            }
+        }
+        refreshChildTuple(leftParentTuple, true);
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<E> rightParentTuple) {
+        Set<BavetJoinTuple> rightMatchSet = rightParentTuple.getChildTupleSet();
+        for (BavetJoinTuple uncastMatch : rightMatchSet) {
+            BavetExistsMatch match = (BavetExistsMatch) uncastMatch;
+            BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple =
+                    (BavetJoinBridgeQuadTuple<A, B, C, D>) match.getLeftParentTuple();
+            boolean removed = leftParentTuple.getChildTupleSet().remove(match);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the match (" + match
+                        + ") cannot be removed from the left join bridge.");
+            }
+            affectedLeftParentTupleList.add(leftParentTuple);
+        }
+        rightMatchSet.clear();
+        if (rightParentTuple.isActive()) {
+            Set<BavetJoinBridgeQuadTuple<A, B, C, D>> leftParentTupleSet =
+                    getLeftIndex().get(rightParentTuple.getIndexKey());
+            for (BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple : leftParentTupleSet) {
+                if (!leftParentTuple.isDirty() && matches(leftParentTuple, rightParentTuple)) {
+                    BavetExistsMatch match = new BavetExistsMatch(leftParentTuple, rightParentTuple);
+                    leftParentTuple.getChildTupleSet().add(match);
+                    rightMatchSet.add(match);
+                    affectedLeftParentTupleList.add(leftParentTuple);
+                }
+            }
+        }
+        for (BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple : affectedLeftParentTupleList) {
+            // A dirty left tuple rebuilds its matches when it is refreshed itself
+            if (!leftParentTuple.isDirty()) {
+                refreshChildTuple(leftParentTuple, false);
+            }
+        }
+        affectedLeftParentTupleList.clear();
+    }
+
+    private boolean matches(BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple,
+            BavetJoinBridgeUniTuple<E> rightParentTuple) {
+        return filter == null
+                || filter.test(leftParentTuple.getFactA(), leftParentTuple.getFactB(),
+                        leftParentTuple.getFactC(), leftParentTuple.getFactD(), rightParentTuple.getFactA());
+    }
+
+    private void refreshChildTuple(BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple, boolean leftParentTupleChanged) {
+        boolean passes = leftParentTuple.isActive() && (leftParentTuple.getChildTupleSet().isEmpty() != shouldExist);
+        BavetExistsQuadTuple<A, B, C, D> childTuple = childTupleMap.get(leftParentTuple);
+        if (childTuple == null) {
+            if (passes) {
+                childTuple = createTuple(leftParentTuple);
+                childTupleMap.put(leftParentTuple, childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        } else if (!passes) {
+            childTupleMap.remove(leftParentTuple);
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        } else if (leftParentTupleChanged && !childTuple.isDirty()) {
+            session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<E>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
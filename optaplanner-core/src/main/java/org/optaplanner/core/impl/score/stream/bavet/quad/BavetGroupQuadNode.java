@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupQuadNode<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC, NewD>
+        extends BavetAbstractQuadNode<NewA, NewB, NewC, NewD>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
+
+    private final Function<ResultContainer_, Result_> finisher;
+    private final BiFunction<GroupKey_, Result_, NewA> factAMapping;
+    private final BiFunction<GroupKey_, Result_, NewB> factBMapping;
+    private final BiFunction<GroupKey_, Result_, NewC> factCMapping;
+    private final BiFunction<GroupKey_, Result_, NewD> factDMapping;
+
+    private final List<BavetAbstractQuadNode<NewA, NewB, NewC, NewD>> childNodeList = new ArrayList<>();
+
+    public BavetGroupQuadNode(BavetConstraintSession session, int nodeOrder,
+            Function<ResultContainer_, Result_> finisher,
+            BiFunction<GroupKey_, Result_, NewA> factAMapping,
+            BiFunction<GroupKey_, Result_, NewB> factBMapping,
+            BiFunction<GroupKey_, Result_, NewC> factCMapping,
+            BiFunction<GroupKey_, Result_, NewD> factDMapping) {
+        super(session, nodeOrder);
+        this.finisher = finisher;
+        this.factAMapping = factAMapping;
+        this.factBMapping = factBMapping;
+        this.factCMapping = factCMapping;
+        this.factDMapping = factDMapping;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractQuadNode<NewA, NewB, NewC, NewD> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // TODO
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupQuadTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC, NewD> createTuple(
+            BavetAbstractQuadTuple<NewA, NewB, NewC, NewD> parentTuple) {
+        throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    @Override
+    public BavetGroupQuadTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC, NewD> createTuple(
+            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        return new BavetGroupQuadTuple<>(this, groupKey, resultContainer);
+    }
+
+    public void refresh(BavetGroupQuadTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC, NewD> tuple) {
+        List<BavetAbstractQuadTuple<NewA, NewB, NewC, NewD>> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractQuadTuple<NewA, NewB, NewC, NewD> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            GroupKey_ groupKey = tuple.getGroupKey();
+            Result_ result = finisher.apply(tuple.getResultContainer());
+            tuple.updateResult(factAMapping.apply(groupKey, result),
+                    factBMapping.apply(groupKey, result),
+                    factCMapping.apply(groupKey, result),
+                    factDMapping.apply(groupKey, result));
+            for (BavetAbstractQuadNode<NewA, NewB, NewC, NewD> childNode : childNodeList) {
+                BavetAbstractQuadTuple<NewA, NewB, NewC, NewD> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
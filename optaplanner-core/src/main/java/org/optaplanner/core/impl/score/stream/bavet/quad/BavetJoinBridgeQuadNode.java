@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+
+public final class BavetJoinBridgeQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D>
+        implements BavetJoinBridgeNode {
+
+    private final BavetAbstractQuadNode<A, B, C, D> parentNode;
+    private final QuadFunction<A, B, C, D, Object> mapping;
+    /** Calls {@link BavetExistsQuadNode#refreshChildTuplesLeft(BavetJoinBridgeQuadTuple)} or the right variant. */
+    private Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleRefresher;
+
+    private final BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> index;
+
+    public BavetJoinBridgeQuadNode(BavetConstraintSession session, int nodeOrder, BavetAbstractQuadNode<A, B, C, D> parentNode,
+            QuadFunction<A, B, C, D, Object> mapping, BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> index) {
+        super(session, nodeOrder);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+        this.index = index;
+    }
+
+    @Override
+    public BavetJoinBridgeQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetJoinBridgeQuadTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetJoinBridgeQuadTuple<A, B, C, D> tuple) {
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        D d = tuple.getFactD();
+        if (tuple.getState() != BavetTupleState.CREATING) {
+            // Clean up index
+            index.remove(tuple);
+        }
+        if (tuple.isActive()) {
+            Object indexKey = mapping.apply(a, b, c, d);
+            index.put(indexKey, tuple);
+        }
+        childTupleRefresher.accept(tuple);
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "JoinBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> getIndex() {
+        return index;
+    }
+
+    public void setChildTupleRefresher(Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleRefresher) {
+        this.childTupleRefresher = childTupleRefresher;
+    }
+
+}
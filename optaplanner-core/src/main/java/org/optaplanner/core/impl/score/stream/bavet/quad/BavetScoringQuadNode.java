@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+
+public final class BavetScoringQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D> implements BavetScoringNode {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final Score<?> constraintWeight;
+    private final BavetScoreImpacter<BavetScoringQuadTuple<A, B, C, D>> scoreImpacter;
+
+    private final boolean constraintMatchEnabled;
+    private final Set<BavetScoringQuadTuple<A, B, C, D>> tupleSet;
+
+    public BavetScoringQuadNode(BavetConstraintSession session, int nodeOrder,
+            String constraintPackage, String constraintName, Score<?> constraintWeight,
+            BavetScoreImpacter<BavetScoringQuadTuple<A, B, C, D>> scoreImpacter) {
+        super(session, nodeOrder);
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.constraintWeight = constraintWeight;
+        this.scoreImpacter = scoreImpacter;
+        this.constraintMatchEnabled = session.isConstraintMatchEnabled();
+        tupleSet = constraintMatchEnabled ? new HashSet<>() : null;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // No node sharing
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetScoringQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetScoringQuadTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetScoringQuadTuple<A, B, C, D> tuple) {
+        if (tuple.isImpacting()) {
+            scoreImpacter.undoScoreImpact(tuple);
+            if (constraintMatchEnabled) {
+                boolean removed = tupleSet.remove(tuple);
+                if (!removed) {
+                    throw new IllegalStateException("Impossible state: The node with constraintId ("
+                            + getConstraintId() + ") could not remove the tuple (" + tuple + ") from the tupleSet.");
+                }
+            }
+        }
+        if (tuple.isActive()) {
+            scoreImpacter.impactScore(tuple);
+            if (constraintMatchEnabled) {
+                boolean added = tupleSet.add(tuple);
+                if (!added) {
+                    throw new IllegalStateException("Impossible state: The node with constraintId ("
+                            + getConstraintId() + ") could not add the tuple (" + tuple + ") to the tupleSet.");
+                }
+            }
+        }
+        tuple.refreshed();
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> ConstraintMatchTotal<Score_> buildConstraintMatchTotal(Score_ zeroScore) {
+        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = new DefaultConstraintMatchTotal(constraintPackage,
+                constraintName, constraintWeight, zeroScore);
+        for (BavetScoringQuadTuple<A, B, C, D> tuple : tupleSet) {
+            constraintMatchTotal.addConstraintMatch(
+                    Arrays.asList(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), tuple.getFactD()),
+                    (Score_) scoreImpacter.buildMatchScore(tuple));
+        }
+        return constraintMatchTotal;
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring(" + constraintWeight + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    @Override
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    @Override
+    public String getConstraintId() {
+        return ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+    }
+
+    @Override
+    public Score<?> getConstraintWeight() {
+        return constraintWeight;
+    }
+
+}
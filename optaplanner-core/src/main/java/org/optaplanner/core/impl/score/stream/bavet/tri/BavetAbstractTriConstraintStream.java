@@ -18,14 +18,18 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.function.QuadPredicate;
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadJoiner;
@@ -34,9 +38,19 @@ import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetJoinQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.quad.AbstractQuadJoiner;
+import org.optaplanner.core.impl.score.stream.quad.FilteringQuadJoiner;
+import org.optaplanner.core.impl.score.stream.tri.DefaultTriConstraintCollector;
 import org.optaplanner.core.impl.score.stream.tri.InnerTriConstraintStream;
 
 public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> extends BavetAbstractConstraintStream<Solution_>
@@ -79,7 +93,36 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
 
     @Override
     public <D> QuadConstraintStream<A, B, C, D> join(UniConstraintStream<D> otherStream, QuadJoiner<A, B, C, D> joiner) {
-        throw new UnsupportedOperationException();
+        if (!(otherStream instanceof BavetAbstractUniConstraintStream)) {
+            throw new IllegalStateException("The streams (" + this + ", " + otherStream
+                    + ") are not build from the same " + ConstraintFactory.class.getSimpleName() + ".");
+        }
+        BavetAbstractUniConstraintStream<Solution_, D> other = (BavetAbstractUniConstraintStream<Solution_, D>) otherStream;
+        if (constraintFactory != other.getConstraintFactory()) {
+            throw new IllegalStateException("The streams (" + this + ", " + other
+                    + ") are build from different constraintFactories (" + constraintFactory + ", "
+                    + other.getConstraintFactory()
+                    + ").");
+        }
+        if (!(joiner instanceof AbstractQuadJoiner)) {
+            throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+        } else if (joiner instanceof FilteringQuadJoiner) {
+            return join(otherStream)
+                    .filter(((FilteringQuadJoiner<A, B, C, D>) joiner).getFilter());
+        }
+        AbstractQuadJoiner<A, B, C, D> castedJoiner = (AbstractQuadJoiner<A, B, C, D>) joiner;
+        BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge = new BavetJoinBridgeTriConstraintStream<>(
+                constraintFactory, this, true, castedJoiner.getLeftIndexKeyMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, D> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, castedJoiner.getRightIndexKeyMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetJoinQuadConstraintStream<Solution_, A, B, C, D> joinStream = new BavetJoinQuadConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge);
+        leftBridge.setJoinStream(joinStream);
+        rightBridge.setJoinStream(joinStream);
+        return joinStream;
     }
 
     // ************************************************************************
@@ -89,13 +132,52 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifNotExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    private <D> TriConstraintStream<A, B, C> ifExistsOrNot(boolean shouldExist, Class<D> otherClass,
+            QuadJoiner<A, B, C, D>[] joiners) {
+        BavetAbstractUniConstraintStream<Solution_, D> other = constraintFactory.fromUnfiltered(otherClass);
+        // Index on the joiners before the first filtering joiner, like the Drools implementation
+        int indexOfFirstFilter = -1;
+        QuadPredicate<A, B, C, D> filter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            QuadJoiner<A, B, C, D> joiner = joiners[i];
+            if (!(joiner instanceof AbstractQuadJoiner)) {
+                throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+            }
+            QuadPredicate<A, B, C, D> joinerFilter = ((AbstractQuadJoiner<A, B, C, D>) joiner).getFilter();
+            if (joinerFilter != null) {
+                if (indexOfFirstFilter < 0) {
+                    indexOfFirstFilter = i;
+                }
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (indexOfFirstFilter >= 0) {
+                throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow "
+                        + "a filtering joiner (" + joiners[indexOfFirstFilter] + ").\n"
+                        + "Maybe reorder the joiners such that filtering() joiners are later in the parameter list.");
+            }
+        }
+        AbstractQuadJoiner<A, B, C, D> indexingJoiner = AbstractQuadJoiner.merge(
+                (indexOfFirstFilter < 0) ? joiners : Arrays.copyOf(joiners, indexOfFirstFilter));
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge = new BavetJoinBridgeTriConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner.getLeftIndexKeyMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, D> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, indexingJoiner.getRightIndexKeyMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetExistsTriConstraintStream<Solution_, A, B, C, D> existsStream = new BavetExistsTriConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter);
+        leftBridge.setJoinStream(existsStream);
+        rightBridge.setJoinStream(existsStream);
+        return existsStream;
     }
 
     // ************************************************************************
@@ -105,32 +187,72 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, Void, ResultContainer_> bridge =
+                buildGroupBridge((a, b, c) -> null, collector);
+        BavetGroupUniConstraintStream<Solution_, Void, ResultContainer_, Result_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(TriFunction<A, B, C, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        TriConstraintCollector<A, B, C, List<Object>, Void> collector = DefaultTriConstraintCollector.noop();
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, List<Object>> bridge =
+                buildGroupBridge(groupKeyMapping, collector);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, List<Object>, Void, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             TriFunction<A, B, C, GroupKey_> groupKeyMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_> bridge =
+                buildGroupBridge(groupKeyMapping, collector);
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_, GroupKey_, Result_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey,
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        TriConstraintCollector<A, B, C, List<Object>, Void> collector = DefaultTriConstraintCollector.noop();
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, Pair<GroupKeyA_, GroupKeyB_>, List<Object>> bridge =
+                buildGroupBridge(
+                        (a, b, c) -> Pair.of(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c)), collector);
+        BavetGroupBiConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, List<Object>, Void,
+                GroupKeyA_, GroupKeyB_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_> bridge =
+                buildGroupBridge(
+                        (a, b, c) -> Pair.of(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c)), collector);
+        BavetGroupTriConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_, Result_,
+                GroupKeyA_, GroupKeyB_, Result_> groupStream =
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight(),
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
@@ -139,7 +261,29 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        TriConstraintCollector<A, B, C, Object[], Pair<ResultC_, ResultD_>> collector =
+                DefaultTriConstraintCollector.compose(collectorC, collectorD);
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, Pair<GroupKeyA_, GroupKeyB_>, Object[]> bridge =
+                buildGroupBridge(
+                        (a, b, c) -> Pair.of(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c)), collector);
+        BavetGroupQuadConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, Object[], Pair<ResultC_, ResultD_>,
+                GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight(),
+                        (groupKey, result) -> result.getLeft(),
+                        (groupKey, result) -> result.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_> BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_>
+            buildGroupBridge(TriFunction<A, B, C, GroupKey_> groupKeyMapping,
+                    TriConstraintCollector<A, B, C, ResultContainer_, ?> collector) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        return bridge;
     }
 
     // ************************************************************************
@@ -246,6 +390,11 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
         return node;
     }
 
+    @Override
+    protected List<? extends BavetAbstractConstraintStream<Solution_>> getChildStreams() {
+        return childStreamList;
+    }
+
     protected BavetAbstractTriNode<A, B, C> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy, int nodeOrder,
             BavetAbstractTriNode<A, B, C> parentNode, BavetAbstractTriNode<A, B, C> node) {
         buildPolicy.updateNodeOrderMaximum(nodeOrder);
@@ -268,6 +417,10 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     + "Maybe don't create it.");
         }
         for (BavetAbstractTriConstraintStream<Solution_, A, B, C> childStream : childStreamList) {
+            if (!childStream.belongsToConstraint(buildPolicy.getCurrentConstraintId())) {
+                // A stream reused by multiple constraints only creates the nodes of the current constraint
+                continue;
+            }
             childStream.createNodeChain(buildPolicy, constraintWeight, nodeOrder + 1, node);
         }
     }
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetExistsMatch;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+/**
+ * Passes a tuple of the left bridge on if it has (or for ifNotExists(), doesn't have) any match in the right bridge.
+ * Unlike a join, it creates at most one child tuple per left tuple, regardless of the number of matches.
+ */
+public final class BavetExistsTriNode<A, B, C, D> extends BavetAbstractTriNode<A, B, C> implements BavetJoinNode {
+
+    private final BavetJoinBridgeTriNode<A, B, C> leftParentNode;
+    private final BavetJoinBridgeUniNode<D> rightParentNode;
+    private final boolean shouldExist;
+    /** Sometimes null, the filtering() joiners */
+    private final QuadPredicate<A, B, C, D> filter;
+
+    private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
+
+    private final Map<BavetJoinBridgeTriTuple<A, B, C>, BavetExistsTriTuple<A, B, C>> childTupleMap = new HashMap<>();
+    /** Reused by {@link #refreshChildTuplesRight(BavetJoinBridgeUniTuple)} to avoid an allocation per call */
+    private final List<BavetJoinBridgeTriTuple<A, B, C>> affectedLeftParentTupleList = new ArrayList<>();
+
+    public BavetExistsTriNode(BavetConstraintSession session, int nodeOrder,
+            BavetJoinBridgeTriNode<A, B, C> leftParentNode, BavetJoinBridgeUniNode<D> rightParentNode,
+            boolean shouldExist, QuadPredicate<A, B, C, D> filter) {
+        super(session, nodeOrder);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractTriNode<A, B, C> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // TODO
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetExistsTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        return new BavetExistsTriTuple<>(this, (BavetJoinBridgeTriTuple<A, B, C>) parentTuple);
+    }
+
+    public void refresh(BavetExistsTriTuple<A, B, C> tuple) {
+        List<BavetAbstractTriTuple<A, B, C>> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTriTuple<A, B, C> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
+                BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        Set<BavetJoinTuple> leftMatchSet = leftParentTuple.getChildTupleSet();
+        for (BavetJoinTuple uncastMatch : leftMatchSet) {
+            BavetExistsMatch match = (BavetExistsMatch) uncastMatch;
+            boolean removed = match.getRightParentTuple().getChildTupleSet().remove(match);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the match (" + match
+                        + ") cannot be removed from the right join bridge.");
+            }
+        }
+        leftMatchSet.clear();
+        if (leftParentTuple.isActive()) {
+            Set<BavetJoinBridgeUniTuple<D>> rightParentTupleSet = getRightIndex().get(leftParentTuple.getIndexKey());
+            for (BavetJoinBridgeUniTuple<D> rightParentTuple : rightParentTupleSet) {
+                if (!rightParentTuple.isDirty() && matches(leftParentTuple, rightParentTuple)) {
+                    BavetExistsMatch match = new BavetExistsMatch(leftParentTuple, rightParentTuple);
+                    leftMatchSet.add(match);
+                    rightParentTuple.getChildTupleSet().add(match);
+                }
+            }
+        }
+        refreshChildTuple(leftParentTuple, true);
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        Set<BavetJoinTuple> rightMatchSet = rightParentTuple.getChildTupleSet();
+        for (BavetJoinTuple uncastMatch : rightMatchSet) {
+            BavetExistsMatch match = (BavetExistsMatch) uncastMatch;
+            BavetJoinBridgeTriTuple<A, B, C> leftParentTuple =
+                    (BavetJoinBridgeTriTuple<A, B, C>) match.getLeftParentTuple();
+            boolean removed = leftParentTuple.getChildTupleSet().remove(match);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the match (" + match
+                        + ") cannot be removed from the left join bridge.");
+            }
+            affectedLeftParentTupleList.add(leftParentTuple);
+        }
+        rightMatchSet.clear();
+        if (rightParentTuple.isActive()) {
+            Set<BavetJoinBridgeTriTuple<A, B, C>> leftParentTupleSet =
+                    getLeftIndex().get(rightParentTuple.getIndexKey());
+            for (BavetJoinBridgeTriTuple<A, B, C> leftParentTuple : leftParentTupleSet) {
+                if (!leftParentTuple.isDirty() && matches(leftParentTuple, rightParentTuple)) {
+                    BavetExistsMatch match = new BavetExistsMatch(leftParentTuple, rightParentTuple);
+                    leftParentTuple.getChildTupleSet().add(match);
+                    rightMatchSet.add(match);
+                    affectedLeftParentTupleList.add(leftParentTuple);
+                }
+            }
+        }
+        for (BavetJoinBridgeTriTuple<A, B, C> leftParentTuple : affectedLeftParentTupleList) {
+            // A dirty left tuple rebuilds its matches when it is refreshed itself
+            if (!leftParentTuple.isDirty()) {
+                refreshChildTuple(leftParentTuple, false);
+            }
+        }
+        affectedLeftParentTupleList.clear();
+    }
+
+    private boolean matches(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple,
+            BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        return filter == null
+                || filter.test(leftParentTuple.getFactA(), leftParentTuple.getFactB(), leftParentTuple.getFactC(),
+                        rightParentTuple.getFactA());
+    }
+
+    private void refreshChildTuple(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple, boolean leftParentTupleChanged) {
+        boolean passes = leftParentTuple.isActive() && (leftParentTuple.getChildTupleSet().isEmpty() != shouldExist);
+        BavetExistsTriTuple<A, B, C> childTuple = childTupleMap.get(leftParentTuple);
+        if (childTuple == null) {
+            if (passes) {
+                childTuple = createTuple(leftParentTuple);
+                childTupleMap.put(leftParentTuple, childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        } else if (!passes) {
+            childTupleMap.remove(leftParentTuple);
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        } else if (leftParentTupleChanged && !childTuple.isDirty()) {
+            session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<D>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
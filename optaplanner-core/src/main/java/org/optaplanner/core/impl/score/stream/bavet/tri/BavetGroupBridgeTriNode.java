@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupBridgeTriNode<A, B, C, GroupKey_, ResultContainer_>
+        extends BavetAbstractTriNode<A, B, C> {
+
+    private final BavetAbstractTriNode<A, B, C> parentNode;
+    private final TriFunction<A, B, C, GroupKey_> groupKeyMapping;
+    private final Supplier<ResultContainer_> supplier;
+    private final QuadFunction<ResultContainer_, A, B, C, Runnable> accumulator;
+    private final BavetGroupNode<GroupKey_, ResultContainer_> groupNode;
+
+    private final Map<GroupKey_, BavetGroupTuple<GroupKey_, ResultContainer_>> tupleMap;
+
+    public BavetGroupBridgeTriNode(BavetConstraintSession session, int nodeOrder,
+            BavetAbstractTriNode<A, B, C> parentNode, TriFunction<A, B, C, GroupKey_> groupKeyMapping,
+            TriConstraintCollector<A, B, C, ResultContainer_, ?> collector,
+            BavetGroupNode<GroupKey_, ResultContainer_> groupNode) {
+        super(session, nodeOrder);
+        this.parentNode = parentNode;
+        this.groupKeyMapping = groupKeyMapping;
+        this.supplier = collector.supplier();
+        this.accumulator = collector.accumulator();
+        this.groupNode = groupNode;
+        tupleMap = new HashMap<>();
+    }
+
+    @Override
+    public BavetGroupBridgeTriTuple<A, B, C, GroupKey_, ResultContainer_> createTuple(
+            BavetAbstractTriTuple<A, B, C> parentTuple) {
+        return new BavetGroupBridgeTriTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetGroupBridgeTriTuple<A, B, C, GroupKey_, ResultContainer_> tuple) {
+        BavetGroupTuple<GroupKey_, ResultContainer_> oldChildTuple = tuple.getChildTuple();
+        if (oldChildTuple != null) {
+            int parentCount = oldChildTuple.decreaseParentCount();
+            tuple.getUndoAccumulator().run();
+            oldChildTuple.clearResult();
+            tuple.setChildTuple(null);
+            tuple.setUndoAccumulator(null);
+            if (parentCount == 0) {
+                // Clean up tupleMap
+                tupleMap.remove(oldChildTuple.getGroupKey());
+                transitionChildTuple(oldChildTuple, BavetTupleState.DYING);
+            } else {
+                transitionChildTuple(oldChildTuple, BavetTupleState.UPDATING);
+            }
+        }
+        if (tuple.isActive()) {
+            A a = tuple.getFactA();
+            B b = tuple.getFactB();
+            C c = tuple.getFactC();
+            GroupKey_ groupKey = groupKeyMapping.apply(a, b, c);
+            BavetGroupTuple<GroupKey_, ResultContainer_> childTuple = tupleMap.get(groupKey);
+            if (childTuple == null) {
+                childTuple = groupNode.createTuple(groupKey, supplier.get());
+                tupleMap.put(groupKey, childTuple);
+            }
+            int parentCount = childTuple.increaseParentCount();
+            Runnable undoAccumulator = accumulator.apply(childTuple.getResultContainer(), a, b, c);
+            tuple.setUndoAccumulator(undoAccumulator);
+            childTuple.clearResult();
+            tuple.setChildTuple(childTuple);
+            transitionChildTuple(childTuple, parentCount == 1 ? BavetTupleState.CREATING : BavetTupleState.UPDATING);
+        }
+        tuple.refreshed();
+    }
+
+    private void transitionChildTuple(BavetGroupTuple<GroupKey_, ResultContainer_> childTuple,
+            BavetTupleState newState) {
+        if (newState == BavetTupleState.UPDATING && childTuple.getState() == BavetTupleState.CREATING) {
+            // It might have just been created by an earlier tuple in the same nodeOrder
+            return;
+        }
+        session.transitionTuple((BavetAbstractTuple) childTuple, newState);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetGroupTriConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC>
+        extends BavetAbstractTriConstraintStream<Solution_, NewA, NewB, NewC>
+        implements BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> {
+
+    private final BavetAbstractConstraintStream<Solution_> parent;
+    private final Function<ResultContainer_, Result_> finisher;
+    private final BiFunction<GroupKey_, Result_, NewA> factAMapping;
+    private final BiFunction<GroupKey_, Result_, NewB> factBMapping;
+    private final BiFunction<GroupKey_, Result_, NewC> factCMapping;
+
+    public BavetGroupTriConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractConstraintStream<Solution_> parent, Function<ResultContainer_, Result_> finisher,
+            BiFunction<GroupKey_, Result_, NewA> factAMapping,
+            BiFunction<GroupKey_, Result_, NewB> factBMapping,
+            BiFunction<GroupKey_, Result_, NewC> factCMapping) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.finisher = finisher;
+        this.factAMapping = factAMapping;
+        this.factBMapping = factBMapping;
+        this.factCMapping = factCMapping;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetGroupTriNode<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC> createNodeChain(
+            BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight, int nodeOrder) {
+        return (BavetGroupTriNode<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC>) createNodeChain(
+                buildPolicy, constraintWeight, nodeOrder, null);
+    }
+
+    @Override
+    protected BavetGroupTriNode<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC> createNode(
+            BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight, int nodeOrder,
+            BavetAbstractTriNode<NewA, NewB, NewC> parentNode) {
+        if (parentNode != null) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") cannot have a parentNode (" + parentNode + ").");
+        }
+        return new BavetGroupTriNode<>(buildPolicy.getSession(), nodeOrder, finisher,
+                factAMapping, factBMapping, factCMapping);
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupTriNode<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC>
+        extends BavetAbstractTriNode<NewA, NewB, NewC>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
+
+    private final Function<ResultContainer_, Result_> finisher;
+    private final BiFunction<GroupKey_, Result_, NewA> factAMapping;
+    private final BiFunction<GroupKey_, Result_, NewB> factBMapping;
+    private final BiFunction<GroupKey_, Result_, NewC> factCMapping;
+
+    private final List<BavetAbstractTriNode<NewA, NewB, NewC>> childNodeList = new ArrayList<>();
+
+    public BavetGroupTriNode(BavetConstraintSession session, int nodeOrder,
+            Function<ResultContainer_, Result_> finisher,
+            BiFunction<GroupKey_, Result_, NewA> factAMapping,
+            BiFunction<GroupKey_, Result_, NewB> factBMapping,
+            BiFunction<GroupKey_, Result_, NewC> factCMapping) {
+        super(session, nodeOrder);
+        this.finisher = finisher;
+        this.factAMapping = factAMapping;
+        this.factBMapping = factBMapping;
+        this.factCMapping = factCMapping;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractTriNode<NewA, NewB, NewC> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // TODO
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupTriTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC> createTuple(
+            BavetAbstractTriTuple<NewA, NewB, NewC> parentTuple) {
+        throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    @Override
+    public BavetGroupTriTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC> createTuple(
+            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        return new BavetGroupTriTuple<>(this, groupKey, resultContainer);
+    }
+
+    public void refresh(BavetGroupTriTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC> tuple) {
+        List<BavetAbstractTriTuple<NewA, NewB, NewC>> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTriTuple<NewA, NewB, NewC> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            GroupKey_ groupKey = tuple.getGroupKey();
+            Result_ result = finisher.apply(tuple.getResultContainer());
+            tuple.updateResult(factAMapping.apply(groupKey, result),
+                    factBMapping.apply(groupKey, result),
+                    factCMapping.apply(groupKey, result));
+            for (BavetAbstractTriNode<NewA, NewB, NewC> childNode : childNodeList) {
+                BavetAbstractTriTuple<NewA, NewB, NewC> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
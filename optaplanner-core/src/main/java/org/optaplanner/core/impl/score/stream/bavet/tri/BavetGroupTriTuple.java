@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupTriTuple<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC>
+        extends BavetAbstractTriTuple<NewA, NewB, NewC>
+        implements BavetGroupTuple<GroupKey_, ResultContainer_> {
+
+    private final BavetGroupTriNode<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC> node;
+
+    private final GroupKey_ groupKey;
+    private int parentCount;
+    private final ResultContainer_ resultContainer;
+    private NewA factA;
+    private NewB factB;
+    private NewC factC;
+
+    protected List<BavetAbstractTriTuple<NewA, NewB, NewC>> childTupleList;
+
+    public BavetGroupTriTuple(BavetGroupTriNode<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC> node,
+            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        this.node = node;
+        this.groupKey = groupKey;
+        parentCount = 0;
+        this.resultContainer = resultContainer;
+        childTupleList = new ArrayList<>();
+    }
+
+    @Override
+    public void refresh() {
+        node.refresh(this);
+    }
+
+    @Override
+    public int increaseParentCount() {
+        parentCount++;
+        return parentCount;
+    }
+
+    @Override
+    public int decreaseParentCount() {
+        parentCount--;
+        if (parentCount < 0) {
+            throw new IllegalStateException("The parentCount (" + parentCount + ") for groupKey (" + groupKey
+                    + ") must not be negative.");
+        }
+        return parentCount;
+    }
+
+    @Override
+    public void clearResult() {
+        factA = null;
+        factB = null;
+        factC = null;
+    }
+
+    public void updateResult(NewA factA, NewB factB, NewC factC) {
+        this.factA = factA;
+        this.factB = factB;
+        this.factC = factC;
+    }
+
+    @Override
+    public String toString() {
+        return "Group(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetGroupTriNode<GroupKey_, ResultContainer_, Result_, NewA, NewB, NewC> getNode() {
+        return node;
+    }
+
+    @Override
+    public NewA getFactA() {
+        return factA;
+    }
+
+    @Override
+    public NewB getFactB() {
+        return factB;
+    }
+
+    @Override
+    public NewC getFactC() {
+        return factC;
+    }
+
+    @Override
+    public GroupKey_ getGroupKey() {
+        return groupKey;
+    }
+
+    @Override
+    public ResultContainer_ getResultContainer() {
+        return resultContainer;
+    }
+
+    public List<BavetAbstractTriTuple<NewA, NewB, NewC>> getChildTupleList() {
+        return childTupleList;
+    }
+
+}
@@ -100,7 +100,7 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         }
         leftTupleSet.clear();
         if (leftParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<C>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
+            Set<BavetJoinBridgeUniTuple<C>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexKey());
             for (BavetJoinBridgeUniTuple<C> rightParentTuple : rightParentTupleList) {
                 if (!rightParentTuple.isDirty()) {
                     BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
@@ -126,7 +126,7 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         }
         rightTupleSet.clear();
         if (rightParentTuple.isActive()) {
-            Set<BavetJoinBridgeBiTuple<A, B>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
+            Set<BavetJoinBridgeBiTuple<A, B>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexKey());
             for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : leftParentTupleList) {
                 if (!leftParentTuple.isDirty()) {
                     BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
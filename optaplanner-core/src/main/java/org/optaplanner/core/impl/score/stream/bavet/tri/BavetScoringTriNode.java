@@ -19,14 +19,12 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
 
 public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C> implements BavetScoringNode {
@@ -34,14 +32,14 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
     private final String constraintPackage;
     private final String constraintName;
     private final Score<?> constraintWeight;
-    private final QuadFunction<A, B, C, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+    private final BavetScoreImpacter<BavetScoringTriTuple<A, B, C>> scoreImpacter;
 
     private final boolean constraintMatchEnabled;
     private final Set<BavetScoringTriTuple<A, B, C>> tupleSet;
 
     public BavetScoringTriNode(BavetConstraintSession session, int nodeOrder,
             String constraintPackage, String constraintName, Score<?> constraintWeight,
-            QuadFunction<A, B, C, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter) {
+            BavetScoreImpacter<BavetScoringTriTuple<A, B, C>> scoreImpacter) {
         super(session, nodeOrder);
         this.constraintPackage = constraintPackage;
         this.constraintName = constraintName;
@@ -67,14 +65,9 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
     }
 
     public void refresh(BavetScoringTriTuple<A, B, C> tuple) {
-        A a = tuple.getFactA();
-        B b = tuple.getFactB();
-        C c = tuple.getFactC();
-        UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
-        if (oldUndoScoreImpacter != null) {
-            oldUndoScoreImpacter.undoScoreImpact();
+        if (tuple.isImpacting()) {
+            scoreImpacter.undoScoreImpact(tuple);
             if (constraintMatchEnabled) {
-                tuple.setMatchScore(null);
                 boolean removed = tupleSet.remove(tuple);
                 if (!removed) {
                     throw new IllegalStateException("Impossible state: The node with constraintId ("
@@ -83,8 +76,7 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
             }
         }
         if (tuple.isActive()) {
-            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a, b, c, tuple::setMatchScore);
-            tuple.setUndoScoreImpacter(undoScoreImpacter);
+            scoreImpacter.impactScore(tuple);
             if (constraintMatchEnabled) {
                 boolean added = tupleSet.add(tuple);
                 if (!added) {
@@ -92,8 +84,6 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
                             + getConstraintId() + ") could not add the tuple (" + tuple + ") to the tupleSet.");
                 }
             }
-        } else {
-            tuple.setUndoScoreImpacter(null);
         }
         tuple.refreshed();
     }
@@ -104,7 +94,8 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
                 constraintName, constraintWeight, zeroScore);
         for (BavetScoringTriTuple<A, B, C> tuple : tupleSet) {
             constraintMatchTotal.addConstraintMatch(
-                    Arrays.asList(tuple.getFactA(), tuple.getFactB(), tuple.getFactC()), (Score_) tuple.getMatchScore());
+                    Arrays.asList(tuple.getFactA(), tuple.getFactB(), tuple.getFactC()),
+                    (Score_) scoreImpacter.buildMatchScore(tuple));
         }
         return constraintMatchTotal;
     }
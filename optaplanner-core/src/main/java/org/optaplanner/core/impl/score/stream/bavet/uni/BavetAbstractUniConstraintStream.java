@@ -18,12 +18,15 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
@@ -40,10 +43,12 @@ import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBiConstraintStre
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
 import org.optaplanner.core.impl.score.stream.bi.FilteringBiJoiner;
-import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.uni.DefaultUniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.uni.InnerUniConstraintStream;
 
 public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends BavetAbstractConstraintStream<Solution_>
@@ -104,24 +109,12 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     .filter(((FilteringBiJoiner<A, B>) joiner).getFilter());
         }
         AbstractBiJoiner<A, B> castedJoiner = (AbstractBiJoiner<A, B>) joiner;
-        for (JoinerType type : castedJoiner.getJoinerTypes()) {
-            switch (type) {
-                case EQUAL:
-                case LESS_THAN:
-                case LESS_THAN_OR_EQUAL:
-                case GREATER_THAN:
-                case GREATER_THAN_OR_EQUAL:
-                    continue;
-                default:
-                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
-            }
-        }
         BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
         BavetJoinBridgeUniConstraintStream<Solution_, A> leftBridge = new BavetJoinBridgeUniConstraintStream<>(
-                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
+                constraintFactory, this, true, castedJoiner.getLeftIndexKeyMapping(), indexFactory);
         childStreamList.add(leftBridge);
         BavetJoinBridgeUniConstraintStream<Solution_, B> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
-                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
+                constraintFactory, other, false, castedJoiner.getRightIndexKeyMapping(), indexFactory);
         other.childStreamList.add(rightBridge);
         BavetJoinBiConstraintStream<Solution_, A, B> joinStream = new BavetJoinBiConstraintStream<>(constraintFactory,
                 leftBridge, rightBridge);
@@ -137,13 +130,52 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifNotExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    private <B> UniConstraintStream<A> ifExistsOrNot(boolean shouldExist, Class<B> otherClass,
+            BiJoiner<A, B>[] joiners) {
+        BavetAbstractUniConstraintStream<Solution_, B> other = constraintFactory.fromUnfiltered(otherClass);
+        // Index on the joiners before the first filtering joiner, like the Drools implementation
+        int indexOfFirstFilter = -1;
+        BiPredicate<A, B> filter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            BiJoiner<A, B> joiner = joiners[i];
+            if (!(joiner instanceof AbstractBiJoiner)) {
+                throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+            }
+            BiPredicate<A, B> joinerFilter = ((AbstractBiJoiner<A, B>) joiner).getFilter();
+            if (joinerFilter != null) {
+                if (indexOfFirstFilter < 0) {
+                    indexOfFirstFilter = i;
+                }
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (indexOfFirstFilter >= 0) {
+                throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow "
+                        + "a filtering joiner (" + joiners[indexOfFirstFilter] + ").\n"
+                        + "Maybe reorder the joiners such that filtering() joiners are later in the parameter list.");
+            }
+        }
+        AbstractBiJoiner<A, B> indexingJoiner = AbstractBiJoiner.merge(
+                (indexOfFirstFilter < 0) ? joiners : Arrays.copyOf(joiners, indexOfFirstFilter));
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeUniConstraintStream<Solution_, A> leftBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner.getLeftIndexKeyMapping(), indexFactory);
+        childStreamList.add(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, B> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, indexingJoiner.getRightIndexKeyMapping(), indexFactory);
+        other.childStreamList.add(rightBridge);
+        BavetExistsUniConstraintStream<Solution_, A, B> existsStream = new BavetExistsUniConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter);
+        leftBridge.setJoinStream(existsStream);
+        rightBridge.setJoinStream(existsStream);
+        return existsStream;
     }
 
     // ************************************************************************
@@ -153,29 +185,53 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException(); // TODO
+        BavetGroupBridgeUniConstraintStream<Solution_, A, Void, ResultContainer_> bridge =
+                buildGroupBridge(a -> null, collector);
+        BavetGroupUniConstraintStream<Solution_, Void, ResultContainer_, Result_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(Function<A, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException(); // TODO
+        UniConstraintCollector<A, List<Object>, Void> collector = DefaultUniConstraintCollector.noop();
+        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, List<Object>> bridge =
+                buildGroupBridge(groupKeyMapping, collector);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, List<Object>, Void, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException(); // TODO
+        UniConstraintCollector<A, List<Object>, Void> collector = DefaultUniConstraintCollector.noop();
+        BavetGroupBridgeUniConstraintStream<Solution_, A, Pair<GroupKeyA_, GroupKeyB_>, List<Object>> bridge =
+                buildGroupBridge(
+                        a -> Pair.of(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a)), collector);
+        BavetGroupBiConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, List<Object>, Void,
+                GroupKeyA_, GroupKeyB_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             Function<A, GroupKey_> groupKeyMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_, Result_> bridge =
-                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
-        childStreamList.add(bridge);
-        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_> groupStream =
-                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher());
+        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_> bridge =
+                buildGroupBridge(groupKeyMapping, collector);
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_, GroupKey_, Result_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey,
+                        (groupKey, result) -> result);
         bridge.setGroupStream(groupStream);
         return groupStream;
     }
@@ -184,7 +240,17 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException(); // TODO
+        BavetGroupBridgeUniConstraintStream<Solution_, A, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_> bridge =
+                buildGroupBridge(
+                        a -> Pair.of(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a)), collector);
+        BavetGroupTriConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_, Result_,
+                GroupKeyA_, GroupKeyB_, Result_> groupStream =
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight(),
+                        (groupKey, result) -> result);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
@@ -193,7 +259,29 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     Function<A, GroupKeyA_> groupKeyAMapping,
                     Function<A, GroupKeyB_> groupKeyBMapping, UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException(); // TODO
+        UniConstraintCollector<A, Object[], Pair<ResultC_, ResultD_>> collector =
+                DefaultUniConstraintCollector.compose(collectorC, collectorD);
+        BavetGroupBridgeUniConstraintStream<Solution_, A, Pair<GroupKeyA_, GroupKeyB_>, Object[]> bridge =
+                buildGroupBridge(
+                        a -> Pair.of(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a)), collector);
+        BavetGroupQuadConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, Object[], Pair<ResultC_, ResultD_>,
+                GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge, collector.finisher(),
+                        (groupKey, result) -> groupKey.getLeft(),
+                        (groupKey, result) -> groupKey.getRight(),
+                        (groupKey, result) -> result.getLeft(),
+                        (groupKey, result) -> result.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_> BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_>
+            buildGroupBridge(Function<A, GroupKey_> groupKeyMapping,
+                    UniConstraintCollector<A, ResultContainer_, ?> collector) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        return bridge;
     }
 
     // ************************************************************************
@@ -300,6 +388,11 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
         return node;
     }
 
+    @Override
+    protected List<? extends BavetAbstractConstraintStream<Solution_>> getChildStreams() {
+        return childStreamList;
+    }
+
     protected BavetAbstractUniNode<A> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy, int nodeOrder,
             BavetAbstractUniNode<A> parentNode, BavetAbstractUniNode<A> node) {
         buildPolicy.updateNodeOrderMaximum(nodeOrder);
@@ -322,6 +415,10 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     + "Maybe don't create it.");
         }
         for (BavetAbstractUniConstraintStream<Solution_, A> childStream : childStreamList) {
+            if (!childStream.belongsToConstraint(buildPolicy.getCurrentConstraintId())) {
+                // A stream reused by multiple constraints only creates the nodes of the current constraint
+                continue;
+            }
             childStream.createNodeChain(buildPolicy, constraintWeight, nodeOrder + 1, node);
         }
     }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetExistsMatch;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+
+/**
+ * Passes a tuple of the left bridge on if it has (or for ifNotExists(), doesn't have) any match in the right bridge.
+ * Unlike a join, it creates at most one child tuple per left tuple, regardless of the number of matches.
+ */
+public final class BavetExistsUniNode<A, B> extends BavetAbstractUniNode<A> implements BavetJoinNode {
+
+    private final BavetJoinBridgeUniNode<A> leftParentNode;
+    private final BavetJoinBridgeUniNode<B> rightParentNode;
+    private final boolean shouldExist;
+    /** Sometimes null, the filtering() joiners */
+    private final BiPredicate<A, B> filter;
+
+    private final List<BavetAbstractUniNode<A>> childNodeList = new ArrayList<>();
+
+    private final Map<BavetJoinBridgeUniTuple<A>, BavetExistsUniTuple<A>> childTupleMap = new HashMap<>();
+    /** Reused by {@link #refreshChildTuplesRight(BavetJoinBridgeUniTuple)} to avoid an allocation per call */
+    private final List<BavetJoinBridgeUniTuple<A>> affectedLeftParentTupleList = new ArrayList<>();
+
+    public BavetExistsUniNode(BavetConstraintSession session, int nodeOrder,
+            BavetJoinBridgeUniNode<A> leftParentNode, BavetJoinBridgeUniNode<B> rightParentNode,
+            boolean shouldExist, BiPredicate<A, B> filter) {
+        super(session, nodeOrder);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractUniNode<A> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // TODO
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetExistsUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        return new BavetExistsUniTuple<>(this, (BavetJoinBridgeUniTuple<A>) parentTuple);
+    }
+
+    public void refresh(BavetExistsUniTuple<A> tuple) {
+        List<BavetAbstractUniTuple<A>> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractUniTuple<A> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            for (BavetAbstractUniNode<A> childNode : childNodeList) {
+                BavetAbstractUniTuple<A> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeUniTuple<A> leftParentTuple) {
+        Set<BavetJoinTuple> leftMatchSet = leftParentTuple.getChildTupleSet();
+        for (BavetJoinTuple uncastMatch : leftMatchSet) {
+            BavetExistsMatch match = (BavetExistsMatch) uncastMatch;
+            boolean removed = match.getRightParentTuple().getChildTupleSet().remove(match);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the match (" + match
+                        + ") cannot be removed from the right join bridge.");
+            }
+        }
+        leftMatchSet.clear();
+        if (leftParentTuple.isActive()) {
+            Set<BavetJoinBridgeUniTuple<B>> rightParentTupleSet = getRightIndex().get(leftParentTuple.getIndexKey());
+            for (BavetJoinBridgeUniTuple<B> rightParentTuple : rightParentTupleSet) {
+                if (!rightParentTuple.isDirty() && matches(leftParentTuple, rightParentTuple)) {
+                    BavetExistsMatch match = new BavetExistsMatch(leftParentTuple, rightParentTuple);
+                    leftMatchSet.add(match);
+                    rightParentTuple.getChildTupleSet().add(match);
+                }
+            }
+        }
+        refreshChildTuple(leftParentTuple, true);
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<B> rightParentTuple) {
+        Set<BavetJoinTuple> rightMatchSet = rightParentTuple.getChildTupleSet();
+        for (BavetJoinTuple uncastMatch : rightMatchSet) {
+            BavetExistsMatch match = (BavetExistsMatch) uncastMatch;
+            BavetJoinBridgeUniTuple<A> leftParentTuple =
+                    (BavetJoinBridgeUniTuple<A>) match.getLeftParentTuple();
+            boolean removed = leftParentTuple.getChildTupleSet().remove(match);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the match (" + match
+                        + ") cannot be removed from the left join bridge.");
+            }
+            affectedLeftParentTupleList.add(leftParentTuple);
+        }
+        rightMatchSet.clear();
+        if (rightParentTuple.isActive()) {
+            Set<BavetJoinBridgeUniTuple<A>> leftParentTupleSet =
+                    getLeftIndex().get(rightParentTuple.getIndexKey());
+            for (BavetJoinBridgeUniTuple<A> leftParentTuple : leftParentTupleSet) {
+                if (!leftParentTuple.isDirty() && matches(leftParentTuple, rightParentTuple)) {
+                    BavetExistsMatch match = new BavetExistsMatch(leftParentTuple, rightParentTuple);
+                    leftParentTuple.getChildTupleSet().add(match);
+                    rightMatchSet.add(match);
+                    affectedLeftParentTupleList.add(leftParentTuple);
+                }
+            }
+        }
+        for (BavetJoinBridgeUniTuple<A> leftParentTuple : affectedLeftParentTupleList) {
+            // A dirty left tuple rebuilds its matches when it is refreshed itself
+            if (!leftParentTuple.isDirty()) {
+                refreshChildTuple(leftParentTuple, false);
+            }
+        }
+        affectedLeftParentTupleList.clear();
+    }
+
+    private boolean matches(BavetJoinBridgeUniTuple<A> leftParentTuple,
+            BavetJoinBridgeUniTuple<B> rightParentTuple) {
+        return filter == null
+                || filter.test(leftParentTuple.getFactA(), rightParentTuple.getFactA());
+    }
+
+    private void refreshChildTuple(BavetJoinBridgeUniTuple<A> leftParentTuple, boolean leftParentTupleChanged) {
+        boolean passes = leftParentTuple.isActive() && (leftParentTuple.getChildTupleSet().isEmpty() != shouldExist);
+        BavetExistsUniTuple<A> childTuple = childTupleMap.get(leftParentTuple);
+        if (childTuple == null) {
+            if (passes) {
+                childTuple = createTuple(leftParentTuple);
+                childTupleMap.put(leftParentTuple, childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        } else if (!passes) {
+            childTupleMap.remove(leftParentTuple);
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        } else if (leftParentTupleChanged && !childTuple.isDirty()) {
+            session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<A>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<B>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -18,79 +18,90 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiNode;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
-public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> extends BavetAbstractUniNode<A> {
+public final class BavetGroupBridgeUniNode<A, GroupKey_, ResultContainer_>
+        extends BavetAbstractUniNode<A> {
 
     private final BavetAbstractUniNode<A> parentNode;
-    private final Function<A, NewA> groupKeyMapping;
-    private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
-    private final BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
+    private final Function<A, GroupKey_> groupKeyMapping;
+    private final Supplier<ResultContainer_> supplier;
+    private final BiFunction<ResultContainer_, A, Runnable> accumulator;
+    private final BavetGroupNode<GroupKey_, ResultContainer_> groupNode;
 
-    private final Map<NewA, BavetGroupBiTuple<NewA, ResultContainer_, NewB>> tupleMap;
+    private final Map<GroupKey_, BavetGroupTuple<GroupKey_, ResultContainer_>> tupleMap;
 
-    public BavetGroupBridgeUniNode(BavetConstraintSession session, int nodeOrder, BavetAbstractUniNode<A> parentNode,
-            Function<A, NewA> groupKeyMapping, UniConstraintCollector<A, ResultContainer_, NewB> collector,
-            BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode) {
+    public BavetGroupBridgeUniNode(BavetConstraintSession session, int nodeOrder,
+            BavetAbstractUniNode<A> parentNode, Function<A, GroupKey_> groupKeyMapping,
+            UniConstraintCollector<A, ResultContainer_, ?> collector,
+            BavetGroupNode<GroupKey_, ResultContainer_> groupNode) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
         this.groupKeyMapping = groupKeyMapping;
-        this.collector = collector;
+        this.supplier = collector.supplier();
+        this.accumulator = collector.accumulator();
         this.groupNode = groupNode;
         tupleMap = new HashMap<>();
     }
 
     @Override
-    public BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+    public BavetGroupBridgeUniTuple<A, GroupKey_, ResultContainer_> createTuple(
+            BavetAbstractUniTuple<A> parentTuple) {
         return new BavetGroupBridgeUniTuple<>(this, parentTuple);
     }
 
-    public void refresh(BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> tuple) {
-        if (tuple.getChildTuple() != null) {
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tuple.getChildTuple();
-            NewA oldGroupKey = childTuple.getGroupKey();
-            int parentCount = childTuple.decreaseParentCount();
+    public void refresh(BavetGroupBridgeUniTuple<A, GroupKey_, ResultContainer_> tuple) {
+        BavetGroupTuple<GroupKey_, ResultContainer_> oldChildTuple = tuple.getChildTuple();
+        if (oldChildTuple != null) {
+            int parentCount = oldChildTuple.decreaseParentCount();
             tuple.getUndoAccumulator().run();
-            childTuple.clearResult();
+            oldChildTuple.clearResult();
             tuple.setChildTuple(null);
             tuple.setUndoAccumulator(null);
             if (parentCount == 0) {
                 // Clean up tupleMap
-                tupleMap.remove(oldGroupKey);
-                session.transitionTuple(childTuple, BavetTupleState.DYING);
+                tupleMap.remove(oldChildTuple.getGroupKey());
+                transitionChildTuple(oldChildTuple, BavetTupleState.DYING);
             } else {
-                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+                transitionChildTuple(oldChildTuple, BavetTupleState.UPDATING);
             }
         }
         if (tuple.isActive()) {
             A a = tuple.getFactA();
-            NewA groupKey = groupKeyMapping.apply(a);
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tupleMap.computeIfAbsent(groupKey,
-                    k -> groupNode.createTuple(groupKey, collector.supplier().get()));
+            GroupKey_ groupKey = groupKeyMapping.apply(a);
+            BavetGroupTuple<GroupKey_, ResultContainer_> childTuple = tupleMap.get(groupKey);
+            if (childTuple == null) {
+                childTuple = groupNode.createTuple(groupKey, supplier.get());
+                tupleMap.put(groupKey, childTuple);
+            }
             int parentCount = childTuple.increaseParentCount();
-
-            Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a);
+            Runnable undoAccumulator = accumulator.apply(childTuple.getResultContainer(), a);
             tuple.setUndoAccumulator(undoAccumulator);
             childTuple.clearResult();
             tuple.setChildTuple(childTuple);
-            if (parentCount == 1) {
-                session.transitionTuple(childTuple, BavetTupleState.CREATING);
-            } else {
-                // It might have just been created by an earlier tuple in the same nodeOrder
-                if (childTuple.getState() != BavetTupleState.CREATING) {
-                    session.transitionTuple(childTuple, BavetTupleState.UPDATING);
-                }
-            }
+            transitionChildTuple(childTuple, parentCount == 1 ? BavetTupleState.CREATING : BavetTupleState.UPDATING);
         }
         tuple.refreshed();
     }
 
+    private void transitionChildTuple(BavetGroupTuple<GroupKey_, ResultContainer_> childTuple,
+            BavetTupleState newState) {
+        if (newState == BavetTupleState.UPDATING && childTuple.getState() == BavetTupleState.CREATING) {
+            // It might have just been created by an earlier tuple in the same nodeOrder
+            return;
+        }
+        session.transitionTuple((BavetAbstractTuple) childTuple, newState);
+    }
+
     @Override
     public String toString() {
         return "GroupBridge()";
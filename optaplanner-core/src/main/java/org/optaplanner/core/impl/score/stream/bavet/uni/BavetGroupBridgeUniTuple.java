@@ -16,17 +16,18 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
-public final class BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> extends BavetAbstractUniTuple<A> {
+public final class BavetGroupBridgeUniTuple<A, GroupKey_, ResultContainer_>
+        extends BavetAbstractUniTuple<A> {
 
-    private final BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> node;
+    private final BavetGroupBridgeUniNode<A, GroupKey_, ResultContainer_> node;
     private final BavetAbstractUniTuple<A> parentTuple;
 
     private Runnable undoAccumulator;
-    private BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple;
+    private BavetGroupTuple<GroupKey_, ResultContainer_> childTuple;
 
-    public BavetGroupBridgeUniTuple(BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> node,
+    public BavetGroupBridgeUniTuple(BavetGroupBridgeUniNode<A, GroupKey_, ResultContainer_> node,
             BavetAbstractUniTuple<A> parentTuple) {
         this.node = node;
         this.parentTuple = parentTuple;
@@ -47,7 +48,7 @@ public final class BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> ext
     // ************************************************************************
 
     @Override
-    public BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> getNode() {
+    public BavetGroupBridgeUniNode<A, GroupKey_, ResultContainer_> getNode() {
         return node;
     }
 
@@ -64,11 +65,11 @@ public final class BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> ext
         this.undoAccumulator = undoAccumulator;
     }
 
-    public BavetGroupBiTuple<NewA, ResultContainer_, NewB> getChildTuple() {
+    public BavetGroupTuple<GroupKey_, ResultContainer_> getChildTuple() {
         return childTuple;
     }
 
-    public void setChildTuple(BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple) {
+    public void setChildTuple(BavetGroupTuple<GroupKey_, ResultContainer_> childTuple) {
         this.childTuple = childTuple;
     }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupUniNode<GroupKey_, ResultContainer_, Result_, NewA>
+        extends BavetAbstractUniNode<NewA>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
+
+    private final Function<ResultContainer_, Result_> finisher;
+    private final BiFunction<GroupKey_, Result_, NewA> factAMapping;
+
+    private final List<BavetAbstractUniNode<NewA>> childNodeList = new ArrayList<>();
+
+    public BavetGroupUniNode(BavetConstraintSession session, int nodeOrder,
+            Function<ResultContainer_, Result_> finisher,
+            BiFunction<GroupKey_, Result_, NewA> factAMapping) {
+        super(session, nodeOrder);
+        this.finisher = finisher;
+        this.factAMapping = factAMapping;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractUniNode<NewA> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // TODO
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupUniTuple<GroupKey_, ResultContainer_, Result_, NewA> createTuple(
+            BavetAbstractUniTuple<NewA> parentTuple) {
+        throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    @Override
+    public BavetGroupUniTuple<GroupKey_, ResultContainer_, Result_, NewA> createTuple(
+            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        return new BavetGroupUniTuple<>(this, groupKey, resultContainer);
+    }
+
+    public void refresh(BavetGroupUniTuple<GroupKey_, ResultContainer_, Result_, NewA> tuple) {
+        List<BavetAbstractUniTuple<NewA>> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractUniTuple<NewA> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            GroupKey_ groupKey = tuple.getGroupKey();
+            Result_ result = finisher.apply(tuple.getResultContainer());
+            tuple.updateResult(factAMapping.apply(groupKey, result));
+            for (BavetAbstractUniNode<NewA> childNode : childNodeList) {
+                BavetAbstractUniTuple<NewA> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
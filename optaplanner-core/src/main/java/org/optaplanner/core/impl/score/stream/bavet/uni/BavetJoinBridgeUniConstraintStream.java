@@ -16,11 +16,13 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
@@ -34,13 +36,13 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
     private final BavetAbstractUniConstraintStream<Solution_, A> parent;
     private BavetJoinConstraintStream<Solution_> joinStream;
     private final boolean isLeftBridge;
-    private final Function<A, Object[]> mapping;
+    private final Function<A, Object> mapping;
     private final BavetIndexFactory indexFactory;
 
     public BavetJoinBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractUniConstraintStream<Solution_, A> parent,
             boolean isLeftBridge,
-            Function<A, Object[]> mapping, BavetIndexFactory indexFactory) {
+            Function<A, Object> mapping, BavetIndexFactory indexFactory) {
         super(constraintFactory);
         this.parent = parent;
         this.isLeftBridge = isLeftBridge;
@@ -57,6 +59,11 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
         return parent.getFromStreamList();
     }
 
+    @Override
+    protected List<? extends BavetAbstractConstraintStream<Solution_>> getChildStreams() {
+        return Collections.singletonList((BavetAbstractConstraintStream<Solution_>) joinStream);
+    }
+
     // ************************************************************************
     // Node creation
     // ************************************************************************
@@ -81,6 +88,8 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
         if (otherBridgeNode == null) {
             buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().put(joinStream, node);
         } else {
+            // Consume the pair, so another constraint that reuses the same join stream pairs its own bridges
+            buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().remove(joinStream);
             BavetJoinBridgeNode leftNode = isLeftBridge ? node : otherBridgeNode;
             BavetJoinBridgeNode rightNode = isLeftBridge ? otherBridgeNode : node;
             int maxNodeOrder = Math.max(leftNode.getNodeOrder(), rightNode.getNodeOrder());
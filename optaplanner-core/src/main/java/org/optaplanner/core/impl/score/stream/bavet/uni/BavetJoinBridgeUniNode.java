@@ -29,14 +29,14 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
         implements BavetJoinBridgeNode {
 
     private final BavetAbstractUniNode<A> parentNode;
-    private final Function<A, Object[]> mapping;
+    private final Function<A, Object> mapping;
     /** Calls {@link BavetJoinBiNode#refreshChildTuplesLeft(BavetJoinBridgeUniTuple)}, right or tri/quad/... variants. */
     private Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher;
 
     private final BavetIndex<BavetJoinBridgeUniTuple<A>> index;
 
     public BavetJoinBridgeUniNode(BavetConstraintSession session, int nodeOrder, BavetAbstractUniNode<A> parentNode,
-            Function<A, Object[]> mapping, BavetIndex<BavetJoinBridgeUniTuple<A>> index) {
+            Function<A, Object> mapping, BavetIndex<BavetJoinBridgeUniTuple<A>> index) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
         this.mapping = mapping;
@@ -55,8 +55,8 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
             index.remove(tuple);
         }
         if (tuple.isActive()) {
-            Object[] indexProperties = mapping.apply(a);
-            index.put(indexProperties, tuple);
+            Object indexKey = mapping.apply(a);
+            index.put(indexKey, tuple);
         }
         childTupleRefresher.accept(tuple);
         tuple.refreshed();
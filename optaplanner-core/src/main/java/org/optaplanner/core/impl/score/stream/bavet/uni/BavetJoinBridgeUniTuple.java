@@ -29,7 +29,7 @@ public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
     private final BavetJoinBridgeUniNode<A> node;
 
     protected Set<BavetJoinTuple> childTupleSet = new LinkedHashSet<>(); // TODO capacity
-    private Object[] indexProperties;
+    private Object indexKey;
 
     public BavetJoinBridgeUniTuple(BavetJoinBridgeUniNode<A> node,
             BavetAbstractUniTuple<A> parentTuple) {
@@ -56,6 +56,7 @@ public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
         return node;
     }
 
+    @Override
     public Set<BavetJoinTuple> getChildTupleSet() {
         return childTupleSet;
     }
@@ -66,13 +67,13 @@ public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
     }
 
     @Override
-    public Object[] getIndexProperties() {
-        return indexProperties;
+    public Object getIndexKey() {
+        return indexKey;
     }
 
     @Override
-    public void setIndexProperties(Object[] indexProperties) {
-        this.indexProperties = indexProperties;
+    public void setIndexKey(Object indexKey) {
+        this.indexKey = indexKey;
     }
 
 }
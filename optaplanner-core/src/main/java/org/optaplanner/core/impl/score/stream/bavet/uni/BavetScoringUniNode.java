@@ -19,14 +19,12 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.BiFunction;
-import java.util.function.Consumer;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
 
 public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implements BavetScoringNode {
@@ -35,14 +33,14 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
     private final String constraintPackage;
     private final String constraintName;
     private final Score<?> constraintWeight;
-    private final BiFunction<A, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+    private final BavetScoreImpacter<BavetScoringUniTuple<A>> scoreImpacter;
 
     private final boolean constraintMatchEnabled;
     private final Set<BavetScoringUniTuple<A>> tupleSet;
 
     public BavetScoringUniNode(BavetConstraintSession session, int nodeOrder, BavetAbstractUniNode<A> parentNode,
             String constraintPackage, String constraintName, Score<?> constraintWeight,
-            BiFunction<A, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter) {
+            BavetScoreImpacter<BavetScoringUniTuple<A>> scoreImpacter) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
         this.constraintPackage = constraintPackage;
@@ -69,12 +67,9 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
     }
 
     public void refresh(BavetScoringUniTuple<A> tuple) {
-        A a = tuple.getFactA();
-        UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
-        if (oldUndoScoreImpacter != null) {
-            oldUndoScoreImpacter.undoScoreImpact();
+        if (tuple.isImpacting()) {
+            scoreImpacter.undoScoreImpact(tuple);
             if (constraintMatchEnabled) {
-                tuple.setMatchScore(null);
                 boolean removed = tupleSet.remove(tuple);
                 if (!removed) {
                     throw new IllegalStateException("Impossible state: The node with constraintId ("
@@ -83,8 +78,7 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
             }
         }
         if (tuple.isActive()) {
-            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a, tuple::setMatchScore);
-            tuple.setUndoScoreImpacter(undoScoreImpacter);
+            scoreImpacter.impactScore(tuple);
             if (constraintMatchEnabled) {
                 boolean added = tupleSet.add(tuple);
                 if (!added) {
@@ -92,8 +86,6 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
                             + getConstraintId() + ") could not add the tuple (" + tuple + ") to the tupleSet.");
                 }
             }
-        } else {
-            tuple.setUndoScoreImpacter(null);
         }
         tuple.refreshed();
     }
@@ -104,7 +96,7 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
                 constraintName, constraintWeight, zeroScore);
         for (BavetScoringUniTuple<A> tuple : tupleSet) {
             constraintMatchTotal.addConstraintMatch(
-                    Collections.singletonList(tuple.getFactA()), (Score_) tuple.getMatchScore());
+                    Collections.singletonList(tuple.getFactA()), (Score_) scoreImpacter.buildMatchScore(tuple));
         }
         return constraintMatchTotal;
     }
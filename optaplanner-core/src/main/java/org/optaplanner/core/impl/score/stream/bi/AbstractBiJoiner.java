@@ -81,6 +81,34 @@ public abstract class AbstractBiJoiner<A, B> extends AbstractJoiner implements B
 
     public abstract Function<B, Object[]> getRightCombinedMapping();
 
+    /**
+     * Unlike {@link #getLeftCombinedMapping()}, it doesn't allocate an array for a single joiner.
+     *
+     * @return never null, maps to the index key: the mapped property itself if there is exactly 1 joiner,
+     *         otherwise an array of all mapped properties
+     */
+    public Function<A, Object> getLeftIndexKeyMapping() {
+        if (getJoinerTypes().length == 1) {
+            return getLeftMapping(0);
+        }
+        Function<A, Object[]> combinedMapping = getLeftCombinedMapping();
+        return combinedMapping::apply;
+    }
+
+    /**
+     * Unlike {@link #getRightCombinedMapping()}, it doesn't allocate an array for a single joiner.
+     *
+     * @return never null, maps to the index key: the mapped property itself if there is exactly 1 joiner,
+     *         otherwise an array of all mapped properties
+     */
+    public Function<B, Object> getRightIndexKeyMapping() {
+        if (getJoinerTypes().length == 1) {
+            return getRightMapping(0);
+        }
+        Function<B, Object[]> combinedMapping = getRightCombinedMapping();
+        return combinedMapping::apply;
+    }
+
     public BiPredicate<A, B> getFilter() {
         return filter;
     }
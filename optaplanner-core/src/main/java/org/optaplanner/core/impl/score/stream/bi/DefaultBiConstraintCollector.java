@@ -17,9 +17,11 @@
 package org.optaplanner.core.impl.score.stream.bi;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
 
@@ -38,13 +40,36 @@ public final class DefaultBiConstraintCollector<A, B, ResultContainer_, Result_>
         this.finisher = finisher;
     }
 
-    public static <A, B, Result_> BiConstraintCollector<A, B, ?, Result_> noop() {
+    public static <A, B, Result_> BiConstraintCollector<A, B, List<Object>, Result_> noop() {
         return new DefaultBiConstraintCollector<>(Collections::emptyList,
                 (a, b, container) -> () -> {
                 },
                 container -> null);
     }
 
+    public static <A, B, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            BiConstraintCollector<A, B, Object[], Pair<ResultC_, ResultD_>> compose(
+                    BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
+                    BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
+        Supplier<ResultContainerC_> supplierC = collectorC.supplier();
+        Supplier<ResultContainerD_> supplierD = collectorD.supplier();
+        TriFunction<ResultContainerC_, A, B, Runnable> accumulatorC = collectorC.accumulator();
+        TriFunction<ResultContainerD_, A, B, Runnable> accumulatorD = collectorD.accumulator();
+        Function<ResultContainerC_, ResultC_> finisherC = collectorC.finisher();
+        Function<ResultContainerD_, ResultD_> finisherD = collectorD.finisher();
+        return new DefaultBiConstraintCollector<>(() -> new Object[] { supplierC.get(), supplierD.get() },
+                (container, a, b) -> {
+                    Runnable undoC = accumulatorC.apply((ResultContainerC_) container[0], a, b);
+                    Runnable undoD = accumulatorD.apply((ResultContainerD_) container[1], a, b);
+                    return () -> {
+                        undoC.run();
+                        undoD.run();
+                    };
+                },
+                container -> Pair.of(finisherC.apply((ResultContainerC_) container[0]),
+                        finisherD.apply((ResultContainerD_) container[1])));
+    }
+
     @Override
     public Supplier<ResultContainer_> supplier() {
         return supplier;
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.score.stream.drools;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.runtime.rule.Match;
+import org.kie.internal.event.rule.RuleEventListener;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.impl.score.stream.ConstraintProfile;
+
+/**
+ * Measures the cost of every rule (so every constraint) of a {@link DroolsConstraintSession}.
+ * <p>
+ * The churn of a rule is the number of its matches that fire, update or get deleted.
+ * Drools evaluates the network of a rule lazily, just before it fires the matches of that rule,
+ * so the time between the previous match event and firing a match
+ * (and the time spent in the consequence itself) is attributed to the rule of that match.
+ * Time spent outside {@link #calculationStarted()} and {@link #calculationEnded()} is ignored.
+ */
+final class DroolsConstraintProfiler implements RuleEventListener {
+
+    /**
+     * Per constraintId, the time spent in nanoseconds (index 0) and the churn count (index 1).
+     */
+    private final Map<String, long[]> constraintIdToCostMap = new HashMap<>();
+
+    private boolean calculating = false;
+    private long lastEventNanos = 0L;
+
+    public void calculationStarted() {
+        calculating = true;
+        lastEventNanos = System.nanoTime();
+    }
+
+    public void calculationEnded() {
+        calculating = false;
+    }
+
+    @Override
+    public void onBeforeMatchFire(Match match) {
+        addCost(match, true);
+    }
+
+    @Override
+    public void onAfterMatchFire(Match match) {
+        addCost(match, false);
+    }
+
+    @Override
+    public void onUpdateMatch(Match match) {
+        addCost(match, true);
+    }
+
+    @Override
+    public void onDeleteMatch(Match match) {
+        addCost(match, true);
+    }
+
+    private void addCost(Match match, boolean churn) {
+        Rule rule = match.getRule();
+        long[] cost = constraintIdToCostMap.computeIfAbsent(
+                ConstraintMatchTotal.composeConstraintId(rule.getPackageName(), rule.getName()), k -> new long[2]);
+        if (calculating) {
+            long eventNanos = System.nanoTime();
+            cost[0] += eventNanos - lastEventNanos;
+            lastEventNanos = eventNanos;
+        }
+        if (churn) {
+            cost[1]++;
+        }
+    }
+
+    /**
+     * @param constraints never null
+     * @return never null
+     */
+    public Map<String, ConstraintProfile> buildConstraintProfileMap(Collection<? extends DroolsConstraint<?>> constraints) {
+        Map<String, ConstraintProfile> constraintProfileMap = new LinkedHashMap<>(constraints.size());
+        for (DroolsConstraint<?> constraint : constraints) {
+            long[] cost = constraintIdToCostMap.getOrDefault(constraint.getConstraintId(), new long[2]);
+            constraintProfileMap.put(constraint.getConstraintId(), new ConstraintProfile(
+                    constraint.getConstraintPackage(), constraint.getConstraintName(), cost[0], cost[1]));
+        }
+        return constraintProfileMap;
+    }
+
+}
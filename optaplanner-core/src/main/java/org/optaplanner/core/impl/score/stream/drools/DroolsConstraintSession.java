@@ -16,16 +16,20 @@
 
 package org.optaplanner.core.impl.score.stream.drools;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.event.rule.RuleEventManager;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.holder.AbstractScoreHolder;
+import org.optaplanner.core.impl.score.stream.ConstraintProfile;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
 
 public class DroolsConstraintSession<Solution_, Score_ extends Score<Score_>>
@@ -34,12 +38,16 @@ public class DroolsConstraintSession<Solution_, Score_ extends Score<Score_>>
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final KieSession kieSession;
     private final AbstractScoreHolder<Score_> scoreHolder;
+    private final Collection<DroolsConstraint<Solution_>> constraints;
+
+    private DroolsConstraintProfiler constraintProfiler = null;
 
     public DroolsConstraintSession(SolutionDescriptor<Solution_> solutionDescriptor, KieSession kieSession,
-            AbstractScoreHolder<Score_> scoreHolder) {
+            AbstractScoreHolder<Score_> scoreHolder, Collection<DroolsConstraint<Solution_>> constraints) {
         this.solutionDescriptor = solutionDescriptor;
         this.kieSession = kieSession;
         this.scoreHolder = scoreHolder;
+        this.constraints = constraints;
     }
 
     @Override
@@ -69,7 +77,13 @@ public class DroolsConstraintSession<Solution_, Score_ extends Score<Score_>>
 
     @Override
     public Score_ calculateScore(int initScore) {
-        kieSession.fireAllRules();
+        if (constraintProfiler != null) {
+            constraintProfiler.calculationStarted();
+            kieSession.fireAllRules();
+            constraintProfiler.calculationEnded();
+        } else {
+            kieSession.fireAllRules();
+        }
         return scoreHolder.extractScore(initScore);
     }
 
@@ -85,6 +99,26 @@ public class DroolsConstraintSession<Solution_, Score_ extends Score<Score_>>
         return scoreHolder.getIndictmentMap();
     }
 
+    @Override
+    public void setConstraintProfilingEnabled(boolean constraintProfilingEnabled) {
+        if (constraintProfiler != null) {
+            ((RuleEventManager) kieSession).removeEventListener(constraintProfiler);
+            constraintProfiler = null;
+        }
+        if (constraintProfilingEnabled) {
+            constraintProfiler = new DroolsConstraintProfiler();
+            ((RuleEventManager) kieSession).addEventListener(constraintProfiler);
+        }
+    }
+
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (constraintProfiler == null) {
+            return Collections.emptyMap();
+        }
+        return constraintProfiler.buildConstraintProfileMap(constraints);
+    }
+
     @Override
     public void close() {
         kieSession.dispose();
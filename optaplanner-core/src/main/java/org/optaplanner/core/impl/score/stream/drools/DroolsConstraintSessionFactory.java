@@ -194,7 +194,8 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
         KieSession kieSession = currentKieBase.newKieSession();
         ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
         kieSession.setGlobal(DroolsScoreDirector.GLOBAL_SCORE_HOLDER_KEY, scoreHolder);
-        return new DroolsConstraintSession<>(solutionDescriptor, kieSession, scoreHolder);
+        return new DroolsConstraintSession<>(solutionDescriptor, kieSession, scoreHolder,
+                compiledRuleToConstraintMap.values());
     }
 
 }
@@ -81,6 +81,34 @@ public abstract class AbstractPentaJoiner<A, B, C, D, E> extends AbstractJoiner
 
     public abstract Function<E, Object[]> getRightCombinedMapping();
 
+    /**
+     * Unlike {@link #getLeftCombinedMapping()}, it doesn't allocate an array for a single joiner.
+     *
+     * @return never null, maps to the index key: the mapped property itself if there is exactly 1 joiner,
+     *         otherwise an array of all mapped properties
+     */
+    public QuadFunction<A, B, C, D, Object> getLeftIndexKeyMapping() {
+        if (getJoinerTypes().length == 1) {
+            return getLeftMapping(0);
+        }
+        QuadFunction<A, B, C, D, Object[]> combinedMapping = getLeftCombinedMapping();
+        return combinedMapping::apply;
+    }
+
+    /**
+     * Unlike {@link #getRightCombinedMapping()}, it doesn't allocate an array for a single joiner.
+     *
+     * @return never null, maps to the index key: the mapped property itself if there is exactly 1 joiner,
+     *         otherwise an array of all mapped properties
+     */
+    public Function<E, Object> getRightIndexKeyMapping() {
+        if (getJoinerTypes().length == 1) {
+            return getRightMapping(0);
+        }
+        Function<E, Object[]> combinedMapping = getRightCombinedMapping();
+        return combinedMapping::apply;
+    }
+
     public PentaPredicate<A, B, C, D, E> getFilter() {
         return filter;
     }
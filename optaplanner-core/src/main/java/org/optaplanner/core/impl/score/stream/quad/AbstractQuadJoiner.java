@@ -81,6 +81,34 @@ public abstract class AbstractQuadJoiner<A, B, C, D> extends AbstractJoiner impl
 
     public abstract Function<D, Object[]> getRightCombinedMapping();
 
+    /**
+     * Unlike {@link #getLeftCombinedMapping()}, it doesn't allocate an array for a single joiner.
+     *
+     * @return never null, maps to the index key: the mapped property itself if there is exactly 1 joiner,
+     *         otherwise an array of all mapped properties
+     */
+    public TriFunction<A, B, C, Object> getLeftIndexKeyMapping() {
+        if (getJoinerTypes().length == 1) {
+            return getLeftMapping(0);
+        }
+        TriFunction<A, B, C, Object[]> combinedMapping = getLeftCombinedMapping();
+        return combinedMapping::apply;
+    }
+
+    /**
+     * Unlike {@link #getRightCombinedMapping()}, it doesn't allocate an array for a single joiner.
+     *
+     * @return never null, maps to the index key: the mapped property itself if there is exactly 1 joiner,
+     *         otherwise an array of all mapped properties
+     */
+    public Function<D, Object> getRightIndexKeyMapping() {
+        if (getJoinerTypes().length == 1) {
+            return getRightMapping(0);
+        }
+        Function<D, Object[]> combinedMapping = getRightCombinedMapping();
+        return combinedMapping::apply;
+    }
+
     public QuadPredicate<A, B, C, D> getFilter() {
         return filter;
     }
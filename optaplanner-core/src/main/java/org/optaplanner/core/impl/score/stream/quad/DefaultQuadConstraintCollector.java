@@ -17,9 +17,11 @@
 package org.optaplanner.core.impl.score.stream.quad;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.optaplanner.core.api.function.PentaFunction;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 
@@ -38,13 +40,36 @@ public final class DefaultQuadConstraintCollector<A, B, C, D, ResultContainer_,
         this.finisher = finisher;
     }
 
-    public static <A, B, C, D, Result_> QuadConstraintCollector<A, B, C, D, ?, Result_> noop() {
+    public static <A, B, C, D, Result_> QuadConstraintCollector<A, B, C, D, List<Object>, Result_> noop() {
         return new DefaultQuadConstraintCollector<>(Collections::emptyList,
                 (a, b, c, d, container) -> () -> {
                 },
                 container -> null);
     }
 
+    public static <A, B, C, D, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintCollector<A, B, C, D, Object[], Pair<ResultC_, ResultD_>> compose(
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        Supplier<ResultContainerC_> supplierC = collectorC.supplier();
+        Supplier<ResultContainerD_> supplierD = collectorD.supplier();
+        PentaFunction<ResultContainerC_, A, B, C, D, Runnable> accumulatorC = collectorC.accumulator();
+        PentaFunction<ResultContainerD_, A, B, C, D, Runnable> accumulatorD = collectorD.accumulator();
+        Function<ResultContainerC_, ResultC_> finisherC = collectorC.finisher();
+        Function<ResultContainerD_, ResultD_> finisherD = collectorD.finisher();
+        return new DefaultQuadConstraintCollector<>(() -> new Object[] { supplierC.get(), supplierD.get() },
+                (container, a, b, c, d) -> {
+                    Runnable undoC = accumulatorC.apply((ResultContainerC_) container[0], a, b, c, d);
+                    Runnable undoD = accumulatorD.apply((ResultContainerD_) container[1], a, b, c, d);
+                    return () -> {
+                        undoC.run();
+                        undoD.run();
+                    };
+                },
+                container -> Pair.of(finisherC.apply((ResultContainerC_) container[0]),
+                        finisherD.apply((ResultContainerD_) container[1])));
+    }
+
     @Override
     public Supplier<ResultContainer_> supplier() {
         return supplier;
@@ -81,6 +81,34 @@ public abstract class AbstractTriJoiner<A, B, C> extends AbstractJoiner implemen
 
     public abstract Function<C, Object[]> getRightCombinedMapping();
 
+    /**
+     * Unlike {@link #getLeftCombinedMapping()}, it doesn't allocate an array for a single joiner.
+     *
+     * @return never null, maps to the index key: the mapped property itself if there is exactly 1 joiner,
+     *         otherwise an array of all mapped properties
+     */
+    public BiFunction<A, B, Object> getLeftIndexKeyMapping() {
+        if (getJoinerTypes().length == 1) {
+            return getLeftMapping(0);
+        }
+        BiFunction<A, B, Object[]> combinedMapping = getLeftCombinedMapping();
+        return combinedMapping::apply;
+    }
+
+    /**
+     * Unlike {@link #getRightCombinedMapping()}, it doesn't allocate an array for a single joiner.
+     *
+     * @return never null, maps to the index key: the mapped property itself if there is exactly 1 joiner,
+     *         otherwise an array of all mapped properties
+     */
+    public Function<C, Object> getRightIndexKeyMapping() {
+        if (getJoinerTypes().length == 1) {
+            return getRightMapping(0);
+        }
+        Function<C, Object[]> combinedMapping = getRightCombinedMapping();
+        return combinedMapping::apply;
+    }
+
     public TriPredicate<A, B, C> getFilter() {
         return filter;
     }
@@ -17,9 +17,11 @@
 package org.optaplanner.core.impl.score.stream.tri;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 
@@ -38,13 +40,36 @@ public final class DefaultTriConstraintCollector<A, B, C, ResultContainer_, Resu
         this.finisher = finisher;
     }
 
-    public static <A, B, C, Result_> TriConstraintCollector<A, B, C, ?, Result_> noop() {
+    public static <A, B, C, Result_> TriConstraintCollector<A, B, C, List<Object>, Result_> noop() {
         return new DefaultTriConstraintCollector<>(Collections::emptyList,
                 (a, b, c, container) -> () -> {
                 },
                 container -> null);
     }
 
+    public static <A, B, C, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            TriConstraintCollector<A, B, C, Object[], Pair<ResultC_, ResultD_>> compose(
+                    TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
+                    TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
+        Supplier<ResultContainerC_> supplierC = collectorC.supplier();
+        Supplier<ResultContainerD_> supplierD = collectorD.supplier();
+        QuadFunction<ResultContainerC_, A, B, C, Runnable> accumulatorC = collectorC.accumulator();
+        QuadFunction<ResultContainerD_, A, B, C, Runnable> accumulatorD = collectorD.accumulator();
+        Function<ResultContainerC_, ResultC_> finisherC = collectorC.finisher();
+        Function<ResultContainerD_, ResultD_> finisherD = collectorD.finisher();
+        return new DefaultTriConstraintCollector<>(() -> new Object[] { supplierC.get(), supplierD.get() },
+                (container, a, b, c) -> {
+                    Runnable undoC = accumulatorC.apply((ResultContainerC_) container[0], a, b, c);
+                    Runnable undoD = accumulatorD.apply((ResultContainerD_) container[1], a, b, c);
+                    return () -> {
+                        undoC.run();
+                        undoD.run();
+                    };
+                },
+                container -> Pair.of(finisherC.apply((ResultContainerC_) container[0]),
+                        finisherD.apply((ResultContainerD_) container[1])));
+    }
+
     @Override
     public Supplier<ResultContainer_> supplier() {
         return supplier;
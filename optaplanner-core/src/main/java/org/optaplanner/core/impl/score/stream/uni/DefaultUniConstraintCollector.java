@@ -16,10 +16,13 @@
 
 package org.optaplanner.core.impl.score.stream.uni;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 
 public final class DefaultUniConstraintCollector<A, ResultContainer_, Result_>
@@ -37,6 +40,36 @@ public final class DefaultUniConstraintCollector<A, ResultContainer_, Result_>
         this.finisher = finisher;
     }
 
+    public static <A, Result_> UniConstraintCollector<A, List<Object>, Result_> noop() {
+        return new DefaultUniConstraintCollector<>(Collections::emptyList,
+                (container, a) -> () -> {
+                },
+                container -> null);
+    }
+
+    public static <A, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            UniConstraintCollector<A, Object[], Pair<ResultC_, ResultD_>> compose(
+                    UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
+                    UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
+        Supplier<ResultContainerC_> supplierC = collectorC.supplier();
+        Supplier<ResultContainerD_> supplierD = collectorD.supplier();
+        BiFunction<ResultContainerC_, A, Runnable> accumulatorC = collectorC.accumulator();
+        BiFunction<ResultContainerD_, A, Runnable> accumulatorD = collectorD.accumulator();
+        Function<ResultContainerC_, ResultC_> finisherC = collectorC.finisher();
+        Function<ResultContainerD_, ResultD_> finisherD = collectorD.finisher();
+        return new DefaultUniConstraintCollector<>(() -> new Object[] { supplierC.get(), supplierD.get() },
+                (container, a) -> {
+                    Runnable undoC = accumulatorC.apply((ResultContainerC_) container[0], a);
+                    Runnable undoD = accumulatorD.apply((ResultContainerD_) container[1], a);
+                    return () -> {
+                        undoC.run();
+                        undoD.run();
+                    };
+                },
+                container -> Pair.of(finisherC.apply((ResultContainerC_) container[0]),
+                        finisherD.apply((ResultContainerD_) container[1])));
+    }
+
     @Override
     public Supplier<ResultContainer_> supplier() {
         return supplier;
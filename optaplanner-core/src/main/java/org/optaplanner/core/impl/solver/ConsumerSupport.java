@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+
+/**
+ * Consumes the best solutions of a {@link DefaultSolverJob} on a consumer thread,
+ * so a slow consumer never blocks the solver thread.
+ * <p>
+ * At most 1 consumption per solver job runs at the same time, so the consumers don't need to be thread-safe.
+ * While a best solution is being consumed, newer best solutions replace each other (skip ahead),
+ * so only the latest one is consumed next.
+ * Successive intermediate best solutions are consumed at least a throttling delay apart.
+ * The last best solution is always consumed, without waiting for that throttling delay.
+ * <p>
+ * Concurrency note: all state is guarded by the monitor of this instance.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class ConsumerSupport<Solution_> {
+
+    private final Consumer<? super Solution_> bestSolutionConsumer;
+    private final Consumer<? super Solution_> finalBestSolutionConsumer;
+    private final Executor consumerExecutor;
+    private final long throttlingDelayMillis;
+    private final Runnable consumptionFailedHandler;
+
+    private final CompletableFuture<Void> consumptionEndedFuture = new CompletableFuture<>();
+
+    private Solution_ pendingBestSolution = null;
+    private boolean consuming = false;
+    private long nextConsumptionTimeMillis = 0L;
+    private boolean ending = false;
+    private Solution_ finalBestSolution = null;
+    private Throwable consumptionThrowable = null;
+
+    /**
+     * @param bestSolutionConsumer sometimes null
+     * @param finalBestSolutionConsumer sometimes null
+     * @param consumerExecutor never null
+     * @param throttlingDelayMillis {@code >= 0}
+     * @param consumptionFailedHandler never null, called if a consumer throws an exception
+     *        or if the consumerExecutor rejects a consumption, for example to terminate the solver early
+     */
+    public ConsumerSupport(Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            Executor consumerExecutor, long throttlingDelayMillis, Runnable consumptionFailedHandler) {
+        this.bestSolutionConsumer = bestSolutionConsumer;
+        this.finalBestSolutionConsumer = finalBestSolutionConsumer;
+        this.consumerExecutor = consumerExecutor;
+        this.throttlingDelayMillis = throttlingDelayMillis;
+        this.consumptionFailedHandler = consumptionFailedHandler;
+    }
+
+    // ************************************************************************
+    // Solver thread methods
+    // ************************************************************************
+
+    /**
+     * Called on the solver thread for every new best solution, returns immediately.
+     *
+     * @param bestSolution never null
+     */
+    public synchronized void consumeIntermediateBestSolution(Solution_ bestSolution) {
+        if (bestSolutionConsumer == null || ending || consumptionThrowable != null) {
+            return;
+        }
+        // Skip ahead: an older best solution that isn't consumed yet is never consumed
+        pendingBestSolution = bestSolution;
+        startConsuming();
+    }
+
+    /**
+     * Called on the solver thread once, after solving ended, returns immediately.
+     *
+     * @param finalBestSolution null if solving failed, in which case any pending best solution is discarded too
+     * @return never null, completes after every best solution is consumed,
+     *         exceptionally if a consumer threw an exception
+     */
+    public synchronized CompletableFuture<Void> consumeFinalBestSolution(Solution_ finalBestSolution) {
+        ending = true;
+        this.finalBestSolution = finalBestSolution;
+        if (finalBestSolution == null) {
+            pendingBestSolution = null;
+        }
+        // Wakes up a consumer thread waiting for the throttling delay
+        notifyAll();
+        startConsuming();
+        return consumptionEndedFuture;
+    }
+
+    private void startConsuming() {
+        if (consuming || consumptionEndedFuture.isDone()) {
+            return;
+        }
+        // Take the best solution now, so a newer best solution can't skip ahead of it before the consumer thread starts
+        Solution_ firstBestSolution = (ending || nextConsumptionTimeMillis <= System.currentTimeMillis())
+                ? takePendingBestSolution()
+                : null;
+        consuming = true;
+        try {
+            consumerExecutor.execute(() -> consume(firstBestSolution));
+        } catch (RejectedExecutionException e) {
+            consuming = false;
+            failConsumption(e);
+            consumptionEndedFuture.completeExceptionally(e);
+            if (!ending) {
+                consumptionFailedHandler.run();
+            }
+        }
+    }
+
+    // ************************************************************************
+    // Consumer thread methods
+    // ************************************************************************
+
+    /**
+     * @param firstBestSolution sometimes null, taken by {@link #startConsuming()}
+     */
+    private void consume(Solution_ firstBestSolution) {
+        Solution_ bestSolution = firstBestSolution;
+        while (true) {
+            synchronized (this) {
+                if (bestSolution == null) {
+                    bestSolution = takePendingBestSolution();
+                }
+                if (bestSolution == null) {
+                    if (!ending) {
+                        // Atomically with the check, so the next best solution starts a new consumption
+                        consuming = false;
+                        return;
+                    }
+                    break;
+                }
+            }
+            try {
+                bestSolutionConsumer.accept(bestSolution);
+            } catch (Throwable throwable) {
+                failConsumption(throwable);
+                consumptionFailedHandler.run();
+            }
+            bestSolution = null;
+        }
+        Solution_ finalBestSolution;
+        synchronized (this) {
+            // Don't consume the final best solution if consuming an intermediate best solution failed
+            finalBestSolution = (consumptionThrowable == null) ? this.finalBestSolution : null;
+            this.finalBestSolution = null;
+        }
+        if (finalBestSolution != null && finalBestSolutionConsumer != null) {
+            try {
+                finalBestSolutionConsumer.accept(finalBestSolution);
+            } catch (Throwable throwable) {
+                failConsumption(throwable);
+            }
+        }
+        Throwable throwable;
+        synchronized (this) {
+            throwable = consumptionThrowable;
+        }
+        if (throwable == null) {
+            consumptionEndedFuture.complete(null);
+        } else {
+            consumptionEndedFuture.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * @return null if there is no best solution to consume right now
+     */
+    private synchronized Solution_ takePendingBestSolution() {
+        long delayMillis = nextConsumptionTimeMillis - System.currentTimeMillis();
+        while (pendingBestSolution != null && !ending && delayMillis > 0L) {
+            try {
+                wait(delayMillis);
+            } catch (InterruptedException e) {
+                // The SolverManager is closing: consume the pending best solution without waiting any longer
+                Thread.currentThread().interrupt();
+                break;
+            }
+            delayMillis = nextConsumptionTimeMillis - System.currentTimeMillis();
+        }
+        Solution_ bestSolution = pendingBestSolution;
+        if (bestSolution != null) {
+            pendingBestSolution = null;
+            nextConsumptionTimeMillis = System.currentTimeMillis() + throttlingDelayMillis;
+        }
+        return bestSolution;
+    }
+
+    private synchronized void failConsumption(Throwable throwable) {
+        if (consumptionThrowable == null) {
+            consumptionThrowable = throwable;
+        } else {
+            consumptionThrowable.addSuppressed(throwable);
+        }
+        pendingBestSolution = null;
+    }
+
+}
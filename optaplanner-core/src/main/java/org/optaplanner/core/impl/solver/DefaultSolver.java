@@ -143,6 +143,16 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return basicPlumbingTermination.isEveryProblemFactChangeProcessed();
     }
 
+    /**
+     * Discards every {@link ProblemFactChange} that hasn't started processing yet,
+     * for example because the problem it applies to is replaced.
+     *
+     * @return {@code >= 0}, the number of discarded problem fact changes
+     */
+    public int clearProblemFactChanges() {
+        return basicPlumbingTermination.clearProblemFactChanges();
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -88,8 +88,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy<>(environmentMode_,
-                moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getThreadFactoryClass(),
-                scoreDirectorFactory);
+                moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getMoveThreadBatchSize(),
+                solverConfig.getThreadFactoryClass(), scoreDirectorFactory);
         TerminationConfig terminationConfig_ = solverConfig.getTerminationConfig() == null
                 ? new TerminationConfig()
                 : solverConfig.getTerminationConfig();
@@ -131,8 +131,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     solverConfig.getEntityClassList() + "). If you're using the Quarkus extension or Spring Boot starter, " +
                     "it should have been filled in already.");
         }
-        return SolutionDescriptor.buildSolutionDescriptor((Class<Solution_>) solverConfig.getSolutionClass(),
-                solverConfig.getEntityClassList());
+        return SolutionDescriptor.buildSolutionDescriptor(solverConfig.determineDomainAccessType(),
+                (Class<Solution_>) solverConfig.getSolutionClass(), solverConfig.getEntityClassList());
     }
 
     protected RandomFactory buildRandomFactory(EnvironmentMode environmentMode_) {
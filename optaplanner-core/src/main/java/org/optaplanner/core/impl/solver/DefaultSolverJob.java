@@ -19,18 +19,20 @@ package org.optaplanner.core.impl.solver;
 import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverJob;
 import org.optaplanner.core.api.solver.SolverStatus;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,19 +49,27 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private final DefaultSolver<Solution_> solver;
     private final ProblemId_ problemId;
     private final Function<? super ProblemId_, ? extends Solution_> problemFinder;
-    private final Consumer<? super Solution_> finalBestSolutionConsumer;
+    private final ConsumerSupport<Solution_> consumerSupport;
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
 
     private final AtomicReference<SolverStatus> solverStatusReference;
+    // Guards reloadedProblemFinder and finalBestSolutionDecided,
+    // so a reloadProblem() call either restarts the solver or happens after the final best solution is decided
+    private final Object reloadLock = new Object();
+    // Not null if the problem must be reloaded before (re)starting to solve
+    private Function<? super ProblemId_, ? extends Solution_> reloadedProblemFinder = null;
+    private boolean finalBestSolutionDecided = false;
     private CountDownLatch terminatedLatch;
 
-    private Future<Solution_> future;
+    private FutureTask<Solution_> future;
+    // Completes after the final best solution is consumed, which can be after the solver thread is released
+    private final CompletableFuture<Solution_> finalBestSolutionFuture;
 
     public DefaultSolverJob(
             DefaultSolverManager<Solution_, ProblemId_> solverManager,
             Solver<Solution_> solver, ProblemId_ problemId,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
-            Consumer<? super Solution_> finalBestSolutionConsumer,
+            ConsumerSupport<Solution_> consumerSupport,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
         this.solverManager = solverManager;
         this.problemId = problemId;
@@ -69,13 +79,25 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         }
         this.solver = (DefaultSolver<Solution_>) solver;
         this.problemFinder = problemFinder;
-        this.finalBestSolutionConsumer = finalBestSolutionConsumer;
+        this.consumerSupport = consumerSupport;
         this.exceptionHandler = exceptionHandler;
         solverStatusReference = new AtomicReference<>(SolverStatus.SOLVING_SCHEDULED);
+        // Solver.solve() resets an earlier terminateEarly() call, so repeat it once the solver has started
+        this.solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<Solution_>() {
+            @Override
+            public void solvingStarted(SolverScope<Solution_> solverScope) {
+                synchronized (reloadLock) {
+                    if (reloadedProblemFinder != null) {
+                        DefaultSolverJob.this.solver.terminateEarly();
+                    }
+                }
+            }
+        });
         terminatedLatch = new CountDownLatch(1);
+        finalBestSolutionFuture = new CompletableFuture<>();
     }
 
-    public void setFuture(Future<Solution_> future) {
+    public void setFuture(FutureTask<Solution_> future) {
         this.future = future;
     }
 
@@ -97,18 +119,57 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             return problemFinder.apply(problemId);
         }
         try {
-            Solution_ problem = problemFinder.apply(problemId);
-            final Solution_ finalBestSolution = solver.solve(problem);
-            if (finalBestSolutionConsumer != null) {
-                // TODO consumption should happen on different thread than solver thread
-                finalBestSolutionConsumer.accept(finalBestSolution);
+            Function<? super ProblemId_, ? extends Solution_> currentProblemFinder = problemFinder;
+            Solution_ bestSolution;
+            while (true) {
+                synchronized (reloadLock) {
+                    if (reloadedProblemFinder != null) {
+                        currentProblemFinder = reloadedProblemFinder;
+                        reloadedProblemFinder = null;
+                    }
+                }
+                Solution_ problem = currentProblemFinder.apply(problemId);
+                bestSolution = solver.solve(problem);
+                synchronized (reloadLock) {
+                    if (reloadedProblemFinder == null) {
+                        // From now on reloadProblem() does nothing
+                        finalBestSolutionDecided = true;
+                        break;
+                    }
+                }
+                // The solver terminated early to solve a reloaded problem instead
             }
+            Solution_ finalBestSolution = bestSolution;
+            // Before the consumption ends, because the solver itself no longer runs
+            solverStatusReference.set(SolverStatus.NOT_SOLVING);
+            // The solver thread doesn't wait for the consumption, so it can start solving the next problem
+            consumerSupport.consumeFinalBestSolution(finalBestSolution)
+                    .whenComplete((ignored, throwable) -> solvingEnded(finalBestSolution, throwable));
             return finalBestSolution;
-        } catch (Exception e) {
-            exceptionHandler.accept(problemId, e);
+        } catch (Throwable e) {
+            solverStatusReference.set(SolverStatus.NOT_SOLVING);
+            consumerSupport.consumeFinalBestSolution(null)
+                    .whenComplete((ignored, throwable) -> {
+                        if (throwable != null) {
+                            e.addSuppressed(throwable);
+                        }
+                        solvingEnded(null, e);
+                    });
             throw new IllegalStateException("Solving failed for problemId (" + problemId + ").", e);
-        } finally {
-            solvingTerminated();
+        }
+    }
+
+    private void solvingEnded(Solution_ finalBestSolution, Throwable throwable) {
+        if (throwable != null) {
+            exceptionHandler.accept(problemId, throwable);
+        }
+        // Before completing the finalBestSolutionFuture, so the solver job is no longer registered by then
+        solvingTerminated();
+        if (throwable == null) {
+            finalBestSolutionFuture.complete(finalBestSolution);
+        } else {
+            finalBestSolutionFuture.completeExceptionally(
+                    new IllegalStateException("Solving failed for problemId (" + problemId + ").", throwable));
         }
     }
 
@@ -118,24 +179,44 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         terminatedLatch.countDown();
     }
 
-    // TODO Future features
-    //    @Override
-    //    public void reloadProblem(Function<? super ProblemId_, Solution_> problemFinder) {
-    //        throw new UnsupportedOperationException("The solver is still solving and reloadProblem() is not yet supported.");
-    //    }
+    @Override
+    public void reloadProblem(Function<? super ProblemId_, ? extends Solution_> problemFinder) {
+        synchronized (reloadLock) {
+            if (finalBestSolutionDecided || solverStatusReference.get() == SolverStatus.NOT_SOLVING) {
+                // The solver already terminated
+                return;
+            }
+            reloadedProblemFinder = problemFinder;
+            // They apply to the replaced problem, so they must not be processed on the reloaded problem
+            int discardedCount = solver.clearProblemFactChanges();
+            if (discardedCount > 0) {
+                logger.debug("Discarded {} unprocessed problem fact changes of problemId ({}) due to a reload.",
+                        discardedCount, problemId);
+            }
+            if (solverStatusReference.get() == SolverStatus.SOLVING_ACTIVE) {
+                // Indirectly restarts solving with the reloaded problem
+                solver.terminateEarly();
+            }
+        }
+    }
 
-    // TODO Future features
-    //    @Override
-    //    public void addProblemFactChange(ProblemFactChange<Solution_> problemFactChange) {
-    //        solver.addProblemFactChange(problemFactChange);
-    //    }
+    @Override
+    public void addProblemFactChange(ProblemFactChange<Solution_> problemFactChange) {
+        solver.addProblemFactChange(problemFactChange);
+    }
 
     @Override
     public void terminateEarly() {
+        synchronized (reloadLock) {
+            // Otherwise the solver restarts with the reloaded problem
+            reloadedProblemFinder = null;
+        }
         future.cancel(false);
+        finalBestSolutionFuture.cancel(false);
         SolverStatus solverStatus = solverStatusReference.get();
         switch (solverStatus) {
             case SOLVING_SCHEDULED:
+                solverManager.unscheduleSolverJob(future);
                 solvingTerminated();
                 break;
             case SOLVING_ACTIVE:
@@ -143,7 +224,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
                 solver.terminateEarly();
                 break;
             case NOT_SOLVING:
-                // Do nothing, solvingTerminated() already called
+                // Do nothing, the solver already ended and solvingTerminated() is called when the consumption ends
                 break;
             default:
                 throw new IllegalStateException("Unsupported solverStatus (" + solverStatus + ").");
@@ -159,7 +240,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
 
     @Override
     public Solution_ getFinalBestSolution() throws InterruptedException, ExecutionException {
-        return future.get();
+        return finalBestSolutionFuture.get();
     }
 
     @Override
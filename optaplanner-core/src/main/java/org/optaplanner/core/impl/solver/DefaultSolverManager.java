@@ -16,23 +16,33 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverJob;
 import org.optaplanner.core.api.solver.SolverManager;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,22 +56,79 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
-    private final int parallelSolverCount;
-    private final ExecutorService solverThreadPool;
+    private final Integer solverJobQueueCapacity;
+    // Null if the solver jobs run on an executor service of the caller
+    private final ThreadPoolExecutor solverThreadPool;
+    private final ExecutorService solverExecutorService;
+    private final long throttlingDelayMillis;
+    private final ExecutorService consumerThreadPool;
+    // Keeps solver jobs with the same priority in submission order
+    private final AtomicLong solverJobSequence = new AtomicLong(0L);
 
     private ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
             SolverManagerConfig solverManagerConfig) {
+        this(solverFactory, solverManagerConfig, null);
+    }
+
+    /**
+     * @param solverFactory never null
+     * @param solverManagerConfig never null
+     * @param solverExecutorService null if this creates its own solver thread pool,
+     *        otherwise it runs the solver jobs and it is never shut down by this
+     */
+    public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
+            SolverManagerConfig solverManagerConfig, ExecutorService solverExecutorService) {
         defaultExceptionHandler = (problemId, throwable) -> logger.error(
                 "Solving failed for problemId ({}).", problemId, throwable);
         this.solverFactory = solverFactory;
         validateSolverFactory();
-        this.parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        solverJobQueueCapacity = solverManagerConfig.getSolverJobQueueCapacity();
+        int parallelSolverCount;
+        if (solverExecutorService == null) {
+            parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
+            if (solverJobQueueCapacity != null && solverJobQueueCapacity < 1) {
+                throw new IllegalArgumentException("The solverJobQueueCapacity (" + solverJobQueueCapacity
+                        + ") cannot be negative or zero.");
+            }
+            // Like Executors.newFixedThreadPool(), but scheduled solver jobs start in order of priority
+            solverThreadPool = new ThreadPoolExecutor(parallelSolverCount, parallelSolverCount,
+                    0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+                    buildThreadFactory(solverManagerConfig, "Solver"));
+            this.solverExecutorService = solverThreadPool;
+        } else {
+            if (solverManagerConfig.getParallelSolverCount() != null || solverJobQueueCapacity != null) {
+                throw new IllegalArgumentException("The solverManagerConfig with parallelSolverCount ("
+                        + solverManagerConfig.getParallelSolverCount() + ") and solverJobQueueCapacity ("
+                        + solverJobQueueCapacity + ") cannot be combined with a solverExecutorService ("
+                        + solverExecutorService + ").\n"
+                        + "Maybe configure the parallelism and the queue of that solverExecutorService instead.");
+            }
+            // Only used to size the problemIdToSolverJobMap
+            parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
+            solverThreadPool = null;
+            this.solverExecutorService = solverExecutorService;
+        }
+        Duration throttlingDelay = solverManagerConfig.getThrottlingDelay();
+        if (throttlingDelay != null && throttlingDelay.isNegative()) {
+            throw new IllegalArgumentException("The throttlingDelay (" + throttlingDelay + ") cannot be negative.");
+        }
+        throttlingDelayMillis = (throttlingDelay == null) ? 0L : throttlingDelay.toMillis();
+        // Each solver job consumes on at most 1 consumer thread at the same time
+        consumerThreadPool = Executors.newCachedThreadPool(buildThreadFactory(solverManagerConfig, "Consumer"));
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
+    private ThreadFactory buildThreadFactory(SolverManagerConfig solverManagerConfig, String threadPrefix) {
+        Class<? extends ThreadFactory> threadFactoryClass = solverManagerConfig.getThreadFactoryClass();
+        if (threadFactoryClass != null) {
+            return ConfigUtils.newInstance(solverManagerConfig, "threadFactoryClass", threadFactoryClass);
+        } else {
+            return new DefaultSolverThreadFactory(threadPrefix);
+        }
+    }
+
     public SolverFactory<Solution_> getSolverFactory() {
         return solverFactory;
     }
@@ -79,7 +146,16 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        return solve(problemId, problemFinder, null, finalBestSolutionConsumer, exceptionHandler);
+        return solve(problemId, problemFinder, null, finalBestSolutionConsumer, exceptionHandler, DEFAULT_PRIORITY);
+    }
+
+    @Override
+    public SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            int priority) {
+        return solve(problemId, problemFinder, null, finalBestSolutionConsumer, exceptionHandler, priority);
     }
 
     @Override
@@ -88,37 +164,74 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        return solve(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer, exceptionHandler);
+        return solve(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer, exceptionHandler,
+                DEFAULT_PRIORITY);
+    }
+
+    @Override
+    public SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            int priority) {
+        return solve(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer, exceptionHandler,
+                priority);
     }
 
     protected SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
-            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            int priority) {
         Solver<Solution_> solver = solverFactory.buildSolver();
-        // TODO consumption should happen on different thread than solver thread, doing skipAhead and throttling
+        ConsumerSupport<Solution_> consumerSupport = new ConsumerSupport<>(bestSolutionConsumer,
+                finalBestSolutionConsumer, consumerThreadPool, throttlingDelayMillis, solver::terminateEarly);
         if (bestSolutionConsumer != null) {
-            solver.addEventListener(event -> bestSolutionConsumer.accept(event.getNewBestSolution()));
+            solver.addEventListener(event -> consumerSupport.consumeIntermediateBestSolution(event.getNewBestSolution()));
         }
         BiConsumer<? super ProblemId_, ? super Throwable> finalExceptionHandler = (exceptionHandler != null)
                 ? exceptionHandler
                 : defaultExceptionHandler;
-        DefaultSolverJob<Solution_, ProblemId_> solverJob = problemIdToSolverJobMap
-                .compute(problemId, (key, oldSolverJob) -> {
-                    if (oldSolverJob != null) {
-                        // TODO Future features: automatically restart solving by calling reloadProblem()
-                        throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
-                    } else {
-                        return new DefaultSolverJob<>(this, solver, problemId, problemFinder, finalBestSolutionConsumer,
-                                finalExceptionHandler);
-                    }
-                });
-        Future<Solution_> future = solverThreadPool.submit(solverJob);
-        solverJob.setFuture(future);
+        SolverJobFutureTask<Solution_> future;
+        DefaultSolverJob<Solution_, ProblemId_> solverJob;
+        // Synchronized so concurrent submissions cannot overflow the solverJobQueueCapacity together
+        synchronized (solverExecutorService) {
+            if (solverJobQueueCapacity != null && solverThreadPool.getQueue().size() >= solverJobQueueCapacity) {
+                throw new RejectedExecutionException("The problemId (" + problemId
+                        + ") cannot be scheduled because the solverJobQueueCapacity (" + solverJobQueueCapacity
+                        + ") is reached.\n"
+                        + "Maybe submit it again later or increase the solverJobQueueCapacity.");
+            }
+            solverJob = problemIdToSolverJobMap
+                    .compute(problemId, (key, oldSolverJob) -> {
+                        if (oldSolverJob != null) {
+                            throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
+                        } else {
+                            return new DefaultSolverJob<>(this, solver, problemId, problemFinder,
+                                    consumerSupport, finalExceptionHandler);
+                        }
+                    });
+            future = new SolverJobFutureTask<>(solverJob, priority, solverJobSequence.getAndIncrement());
+            solverJob.setFuture(future);
+            solverExecutorService.execute(future);
+        }
         return solverJob;
     }
 
+    /**
+     * Frees up the place in the queue of a solver job that is canceled before it started.
+     *
+     * @param future never null
+     */
+    void unscheduleSolverJob(FutureTask<Solution_> future) {
+        if (solverThreadPool != null) {
+            solverThreadPool.remove(future);
+        }
+        // Otherwise the executor service of the caller still runs the canceled future, which then does nothing
+    }
+
     @Override
     public SolverStatus getSolverStatus(ProblemId_ problemId) {
         DefaultSolverJob<Solution_, ProblemId_> solverJob = problemIdToSolverJobMap.get(problemId);
@@ -128,29 +241,27 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         return solverJob.getSolverStatus();
     }
 
-    // TODO Future features
-    //    @Override
-    //    public void reloadProblem(ProblemId_ problemId, Function<? super ProblemId_, Solution_> problemFinder) {
-    //        DefaultSolverJob<Solution_, ProblemId_> solverJob = problemIdToSolverJobMap.get(problemId);
-    //        if (solverJob == null) {
-    //            // We cannot distinguish between "already terminated" and "never solved" without causing a memory leak.
-    //            logger.debug("Ignoring reloadProblem() call because problemId ({}) is not solving.", problemId);
-    //            return;
-    //        }
-    //        solverJob.reloadProblem(problemFinder);
-    //    }
-
-    // TODO Future features
-    //    @Override
-    //    public void addProblemFactChange(ProblemId_ problemId, ProblemFactChange<Solution_> problemFactChange) {
-    //        DefaultSolverJob<Solution_, ProblemId_> solverJob = problemIdToSolverJobMap.get(problemId);
-    //        if (solverJob == null) {
-    //            // We cannot distinguish between "already terminated" and "never solved" without causing a memory leak.
-    //            logger.debug("Ignoring addProblemFactChange() call because problemId ({}) is not solving.", problemId);
-    //            return;
-    //        }
-    //        solverJob.addProblemFactChange(problemFactChange);
-    //    }
+    @Override
+    public void reloadProblem(ProblemId_ problemId, Function<? super ProblemId_, ? extends Solution_> problemFinder) {
+        DefaultSolverJob<Solution_, ProblemId_> solverJob = problemIdToSolverJobMap.get(problemId);
+        if (solverJob == null) {
+            // We cannot distinguish between "already terminated" and "never solved" without causing a memory leak.
+            logger.debug("Ignoring reloadProblem() call because problemId ({}) is not solving.", problemId);
+            return;
+        }
+        solverJob.reloadProblem(problemFinder);
+    }
+
+    @Override
+    public void addProblemFactChange(ProblemId_ problemId, ProblemFactChange<Solution_> problemFactChange) {
+        DefaultSolverJob<Solution_, ProblemId_> solverJob = problemIdToSolverJobMap.get(problemId);
+        if (solverJob == null) {
+            // We cannot distinguish between "already terminated" and "never solved" without causing a memory leak.
+            logger.debug("Ignoring addProblemFactChange() call because problemId ({}) is not solving.", problemId);
+            return;
+        }
+        solverJob.addProblemFactChange(problemFactChange);
+    }
 
     @Override
     public void terminateEarly(ProblemId_ problemId) {
@@ -165,7 +276,41 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     @Override
     public void close() {
-        solverThreadPool.shutdownNow();
+        if (solverThreadPool != null) {
+            solverThreadPool.shutdownNow();
+        } else {
+            // The executor service belongs to the caller, so only stop the solver jobs of this SolverManager
+            problemIdToSolverJobMap.values().forEach(DefaultSolverJob::terminateEarly);
+        }
+        consumerThreadPool.shutdownNow();
+    }
+
+    /**
+     * Orders the scheduled solver jobs in the {@link PriorityBlockingQueue} of the solver thread pool.
+     *
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     */
+    private static final class SolverJobFutureTask<Solution_> extends FutureTask<Solution_>
+            implements Comparable<SolverJobFutureTask<?>> {
+
+        private final int priority;
+        private final long sequence;
+
+        public SolverJobFutureTask(DefaultSolverJob<Solution_, ?> solverJob, int priority, long sequence) {
+            super(solverJob);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(SolverJobFutureTask<?> other) {
+            if (priority != other.priority) {
+                // Higher priority first
+                return Integer.compare(other.priority, priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+
     }
 
 }
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.solver.scope;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.Semaphore;
@@ -24,6 +25,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -50,6 +52,11 @@ public class SolverScope<Solution_> {
     protected volatile Long startingSystemTimeMillis;
     protected volatile Long endingSystemTimeMillis;
     protected long childThreadsScoreCalculationCount = 0;
+    /**
+     * The move threads of the current multithreaded phase, empty otherwise.
+     * Only accessed by the solver thread.
+     */
+    protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList = Collections.emptyList();
 
     protected Score startingInitializedScore;
 
@@ -89,6 +96,14 @@ public class SolverScope<Solution_> {
         this.runnableThreadSemaphore = runnableThreadSemaphore;
     }
 
+    public List<MoveThreadRunner<Solution_, ?>> getMoveThreadRunnerList() {
+        return moveThreadRunnerList;
+    }
+
+    public void setMoveThreadRunnerList(List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList) {
+        this.moveThreadRunnerList = moveThreadRunnerList;
+    }
+
     public Long getStartingSystemTimeMillis() {
         return startingSystemTimeMillis;
     }
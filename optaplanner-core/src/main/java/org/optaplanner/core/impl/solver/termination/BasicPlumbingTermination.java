@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.solver.termination;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
@@ -122,6 +123,17 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
         return added;
     }
 
+    /**
+     * Discards every {@link ProblemFactChange} that hasn't started processing yet.
+     *
+     * @return {@code >= 0}, the number of discarded problem fact changes
+     */
+    public synchronized int clearProblemFactChanges() {
+        List<ProblemFactChange<Solution_>> discardedList = new ArrayList<>();
+        problemFactChangeQueue.drainTo(discardedList);
+        return discardedList.size();
+    }
+
     public synchronized BlockingQueue<ProblemFactChange<Solution_>> startProblemFactChangesProcessing() {
         problemFactChangesBeingProcessed = true;
         return problemFactChangeQueue;
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream;
+
+import static java.util.function.Function.identity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.count;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countBi;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countDistinct;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countQuad;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countTri;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+import static org.optaplanner.core.api.score.stream.Joiners.filtering;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntityGroup;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValueGroup;
+
+/**
+ * Runs the same constraints on Bavet and on Drools through a random sequence of variable changes
+ * and asserts that both implementations agree on every score and on every constraint match total.
+ */
+public class ConstraintStreamImplEquivalenceTest {
+
+    private static final int STEP_COUNT = 500;
+
+    @Test
+    public void randomVariableChanges() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 12);
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> droolsScoreDirector =
+                buildScoreDirector(ConstraintStreamImplType.DROOLS);
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> bavetScoreDirector =
+                buildScoreDirector(ConstraintStreamImplType.BAVET);
+        droolsScoreDirector.setWorkingSolution(solution);
+        bavetScoreDirector.setWorkingSolution(solution);
+        assertEquivalent(droolsScoreDirector, bavetScoreDirector, "Working solution");
+
+        Random workingRandom = new Random(37L);
+        List<TestdataLavishEntity> entityList = solution.getEntityList();
+        List<TestdataLavishValue> valueList = solution.getValueList();
+        for (int i = 0; i < STEP_COUNT; i++) {
+            TestdataLavishEntity entity = entityList.get(workingRandom.nextInt(entityList.size()));
+            TestdataLavishValue value = valueList.get(workingRandom.nextInt(valueList.size()));
+            droolsScoreDirector.beforeVariableChanged(entity, "value");
+            bavetScoreDirector.beforeVariableChanged(entity, "value");
+            entity.setValue(value);
+            droolsScoreDirector.afterVariableChanged(entity, "value");
+            bavetScoreDirector.afterVariableChanged(entity, "value");
+            assertEquivalent(droolsScoreDirector, bavetScoreDirector,
+                    "Step (" + i + ") changed entity (" + entity + ") to value (" + value + ")");
+        }
+    }
+
+    private static InnerScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector(
+            ConstraintStreamImplType constraintStreamImplType) {
+        ConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        ConstraintStreamImplEquivalenceTest::defineConstraints, constraintStreamImplType);
+        return scoreDirectorFactory.buildScoreDirector(false, true);
+    }
+
+    private static Constraint[] defineConstraints(ConstraintFactory factory) {
+        BiConstraintStream<TestdataLavishEntity, TestdataLavishEntity> pairs =
+                factory.fromUniquePair(TestdataLavishEntity.class, equal(TestdataLavishEntity::getEntityGroup));
+        TriConstraintStream<TestdataLavishEntity, TestdataLavishEntity, TestdataLavishValue> triples =
+                pairs.join(TestdataLavishValue.class, equal((a, b) -> a.getValue(), identity()));
+        QuadConstraintStream<TestdataLavishEntity, TestdataLavishEntity, TestdataLavishValue,
+                TestdataLavishValueGroup> quadruples = triples.join(TestdataLavishValueGroup.class,
+                        equal((a, b, value) -> value.getValueGroup(), identity()));
+        return new Constraint[] {
+                factory.from(TestdataLavishEntity.class)
+                        .groupBy(count())
+                        .penalize("uni0Key1Collector", SimpleScore.ONE, count -> count),
+                factory.from(TestdataLavishEntity.class)
+                        .groupBy(TestdataLavishEntity::getValue)
+                        .penalize("uni1Key0Collector", SimpleScore.ONE),
+                factory.from(TestdataLavishEntity.class)
+                        .groupBy(TestdataLavishEntity::getValue, count())
+                        .penalize("uni1Key1Collector", SimpleScore.ONE, (value, count) -> count * count),
+                factory.from(TestdataLavishEntity.class)
+                        .groupBy(TestdataLavishEntity::getValue, TestdataLavishEntity::getEntityGroup)
+                        .penalize("uni2Key0Collector", SimpleScore.ONE),
+                factory.from(TestdataLavishEntity.class)
+                        .groupBy(TestdataLavishEntity::getValue, TestdataLavishEntity::getEntityGroup, count())
+                        .penalize("uni2Key1Collector", SimpleScore.ONE, (value, group, count) -> count * count),
+                factory.from(TestdataLavishEntity.class)
+                        .groupBy(TestdataLavishEntity::getEntityGroup, e -> e.getValue().getValueGroup(),
+                                count(), countDistinct(TestdataLavishEntity::getValue))
+                        .penalize("uni2Key2Collector", SimpleScore.ONE,
+                                (group, valueGroup, count, distinctCount) -> count * distinctCount),
+                factory.from(TestdataLavishEntity.class)
+                        .ifExists(TestdataLavishEntity.class, equal(TestdataLavishEntity::getValue),
+                                filtering((a, b) -> a != b))
+                        .penalize("uniIfExists", SimpleScore.ONE),
+                factory.from(TestdataLavishEntity.class)
+                        .ifNotExists(TestdataLavishEntity.class, equal(TestdataLavishEntity::getValue),
+                                filtering((a, b) -> a != b))
+                        .penalize("uniIfNotExists", SimpleScore.ONE),
+                pairs.groupBy((a, b) -> a.getValue(), countBi())
+                        .penalize("biGroupBy", SimpleScore.ONE, (value, count) -> count),
+                pairs.groupBy((a, b) -> a.getValue(), (a, b) -> b.getValue())
+                        .penalize("bi2Key0Collector", SimpleScore.ONE),
+                pairs.ifExists(TestdataLavishValue.class,
+                        equal((a, b) -> a.getValue().getValueGroup(), TestdataLavishValue::getValueGroup),
+                        filtering((a, b, otherValue) -> otherValue != a.getValue() && otherValue != b.getValue()))
+                        .penalize("biIfExists", SimpleScore.ONE),
+                pairs.ifNotExists(TestdataLavishEntityGroup.class,
+                        equal((a, b) -> b.getValue().getCode().length(), group -> group.getCode().length()),
+                        filtering((a, b, group) -> a.getValue() == b.getValue()))
+                        .penalize("biIfNotExists", SimpleScore.ONE),
+                triples.groupBy((a, b, value) -> value, countTri())
+                        .penalize("triGroupBy", SimpleScore.ONE, (value, count) -> count),
+                triples.ifExists(TestdataLavishValue.class,
+                        equal((a, b, value) -> b.getValue().getValueGroup(), TestdataLavishValue::getValueGroup),
+                        filtering((a, b, value, otherValue) -> otherValue != value))
+                        .penalize("triIfExists", SimpleScore.ONE),
+                triples.ifNotExists(TestdataLavishValue.class,
+                        equal((a, b, value) -> b.getValue().getValueGroup(), TestdataLavishValue::getValueGroup),
+                        filtering((a, b, value, otherValue) -> otherValue != b.getValue()
+                                && otherValue.getValueGroup() != value.getValueGroup()))
+                        .penalize("triIfNotExists", SimpleScore.ONE),
+                quadruples.groupBy((a, b, value, valueGroup) -> valueGroup, countQuad())
+                        .penalize("quadGroupBy", SimpleScore.ONE, (valueGroup, count) -> count),
+                quadruples.ifExists(TestdataLavishValue.class,
+                        equal((a, b, value, valueGroup) -> b.getValue(), identity()),
+                        filtering((a, b, value, valueGroup, otherValue) -> otherValue.getValueGroup() == valueGroup))
+                        .penalize("quadIfExists", SimpleScore.ONE),
+                quadruples.ifNotExists(TestdataLavishEntityGroup.class,
+                        equal((a, b, value, valueGroup) -> a.getEntityGroup(), identity()),
+                        filtering((a, b, value, valueGroup, entityGroup) -> b.getValue() == value))
+                        .penalize("quadIfNotExists", SimpleScore.ONE)
+        };
+    }
+
+    private static void assertEquivalent(InnerScoreDirector<TestdataLavishSolution, SimpleScore> droolsScoreDirector,
+            InnerScoreDirector<TestdataLavishSolution, SimpleScore> bavetScoreDirector, String description) {
+        droolsScoreDirector.triggerVariableListeners();
+        bavetScoreDirector.triggerVariableListeners();
+        SimpleScore droolsScore = droolsScoreDirector.calculateScore();
+        SimpleScore bavetScore = bavetScoreDirector.calculateScore();
+        assertThat(extractConstraintScoreMap(bavetScoreDirector))
+                .as(description)
+                .isEqualTo(extractConstraintScoreMap(droolsScoreDirector));
+        assertThat(bavetScore).as(description).isEqualTo(droolsScore);
+    }
+
+    private static Map<String, Integer> extractConstraintScoreMap(
+            InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector) {
+        Map<String, Integer> constraintScoreMap = new TreeMap<>();
+        for (ConstraintMatchTotal<SimpleScore> constraintMatchTotal : scoreDirector.getConstraintMatchTotalMap().values()) {
+            int score = constraintMatchTotal.getScore().getScore();
+            if (score != 0) {
+                constraintScoreMap.put(constraintMatchTotal.getConstraintName(), score);
+            }
+        }
+        return constraintScoreMap;
+    }
+
+}
@@ -21,12 +21,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.optaplanner.core.api.score.stream.Joiners.equal;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 import org.junit.jupiter.api.TestTemplate;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
 import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.score.stream.ConstraintProfile;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.score.TestdataSimpleBigDecimalScoreSolution;
@@ -929,4 +934,65 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
         assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleBigDecimalScore.of(BigDecimal.valueOf(-4)));
     }
 
+    @TestTemplate
+    public void constraintProfiling() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        ConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        factory -> new Constraint[] {
+                                factory.from(TestdataLavishEntity.class)
+                                        .join(TestdataLavishValue.class)
+                                        .penalize("entityConstraint", SimpleScore.ONE),
+                                factory.from(TestdataLavishValue.class)
+                                        .join(TestdataLavishEntity.class)
+                                        .penalize("valueConstraint", SimpleScore.ONE)
+                        },
+                        constraintStreamImplType);
+        ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                (ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore>) scoreDirectorFactory
+                        .buildScoreDirector(false, constraintMatchEnabled);
+        scoreDirector.setConstraintProfilingEnabled(true);
+
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+        String constraintPackage = TestdataLavishSolution.class.getPackage().getName();
+        Map<String, ConstraintProfile> constraintProfileMap = scoreDirector.getConstraintProfileMap();
+        assertThat(constraintProfileMap).containsOnlyKeys(
+                ConstraintMatchTotal.composeConstraintId(constraintPackage, "entityConstraint"),
+                ConstraintMatchTotal.composeConstraintId(constraintPackage, "valueConstraint"));
+        assertThat(constraintProfileMap.values())
+                .allSatisfy(constraintProfile -> assertThat(constraintProfile.getChurnCount()).isPositive());
+
+        scoreDirector.setConstraintProfilingEnabled(false);
+        assertThat(scoreDirector.getConstraintProfileMap()).isEmpty();
+    }
+
+    @TestTemplate
+    public void constraintProfilingSharedNodeKeepsTotalChurn() {
+        assumeBavet();
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        ConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        factory -> new Constraint[] {
+                                factory.from(TestdataLavishEntity.class)
+                                        .penalize("firstConstraint", SimpleScore.ONE),
+                                factory.from(TestdataLavishEntity.class)
+                                        .penalize("secondConstraint", SimpleScore.ONE)
+                        },
+                        constraintStreamImplType);
+        ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                (ConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore>) scoreDirectorFactory
+                        .buildScoreDirector(false, constraintMatchEnabled);
+        scoreDirector.setConstraintProfilingEnabled(true);
+
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+        int entityCount = solution.getEntityList().size();
+        // The shared from node, the shared initialized filter node and both scoring nodes refresh every entity once,
+        // so the odd churn of the shared nodes must not be truncated when it's divided over both constraints
+        assertThat(scoreDirector.getConstraintProfileMap().values().stream()
+                .mapToLong(ConstraintProfile::getChurnCount).sum())
+                        .isEqualTo(4L * entityCount);
+    }
+
 }
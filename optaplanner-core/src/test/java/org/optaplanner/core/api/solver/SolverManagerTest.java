@@ -17,6 +17,7 @@
 package org.optaplanner.core.api.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.optaplanner.core.api.solver.SolverStatus.NOT_SOLVING;
@@ -24,6 +25,7 @@ import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_ACTIVE;
 import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_SCHEDULED;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertSolutionInitialized;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -33,6 +35,9 @@ import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -51,6 +56,8 @@ import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.config.solver.testutil.MockThreadFactory;
+import org.optaplanner.core.impl.phase.custom.CustomPhaseCommand;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.extended.TestdataUnannotatedExtendedSolution;
@@ -198,7 +205,6 @@ public class SolverManagerTest {
         solverJob.getFinalBestSolution();
     }
 
-    @Disabled("Skip ahead not yet supported")
     @Test
     @Timeout(60)
     public void skipAhead() throws ExecutionException, InterruptedException {
@@ -228,7 +234,7 @@ public class SolverManagerTest {
                             scoreDirector.afterVariableChanged(entity, "value");
                             scoreDirector.triggerVariableListeners();
                         }, (ScoreDirector<TestdataSolution> scoreDirector) -> {
-                            // In the next best solution event, both e1 and e2 are definitely not null (but e3 might be).
+                            // By now, the best solution events with e2 and e3 are published (but not consumed).
                             latch.countDown();
                             TestdataSolution solution = scoreDirector.getWorkingSolution();
                             TestdataEntity entity = solution.getEntityList().get(3);
@@ -245,26 +251,23 @@ public class SolverManagerTest {
         SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
                 problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4),
                 bestSolution -> {
-                    if (bestSolution.getEntityList().get(1).getValue() == null) {
-                        // The problem itself causes a best solution event. TODO Do we really want that behavior?
-                        return;
-                    }
                     bestSolutionCount.incrementAndGet();
-                    if (bestSolution.getEntityList().get(2).getValue() == null) {
+                    if (bestSolution.getEntityList().get(1).getValue() == null) {
+                        // The first consumed best solution blocks the consumer thread, but not the solver thread.
                         try {
                             latch.await();
                         } catch (InterruptedException e) {
                             fail("Latch failed.");
                         }
-                    } else if (bestSolution.getEntityList().get(3).getValue() == null) {
-                        fail("No skip ahead occurred: both e2 and e3 are null in a best solution event.");
+                    } else if (bestSolution.getEntityList().get(2).getValue() == null) {
+                        fail("No skip ahead occurred: the best solution event with e2 but without e3 is consumed.");
                     }
                 },
                 finalBestSolution -> finalBestSolutionCount.incrementAndGet(),
                 (problemId, throwable) -> exceptionCount.incrementAndGet());
         assertSolutionInitialized(solverJob1.getFinalBestSolution());
-        // EventCount can be 2 or 3, depending on the race, but it can never be 4.
-        assertThat(bestSolutionCount).hasValueLessThan(4);
+        // EventCount can be 2 or 3, depending on the race, but it can never be 4 or more.
+        assertThat(bestSolutionCount).hasValueBetween(2, 3);
         assertThat(finalBestSolutionCount).hasValue(1);
         assertThat(exceptionCount).hasValue(0);
     }
@@ -329,6 +332,261 @@ public class SolverManagerTest {
         assertThat(solverJob3.getSolverStatus()).isEqualTo(NOT_SOLVING);
     }
 
+    @Test
+    @Timeout(60)
+    public void solveWithPriority() throws InterruptedException, ExecutionException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        // Only 1 solver can run at the same time to predict the order in which the scheduled jobs start.
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+        CountDownLatch problem1Latch = new CountDownLatch(1);
+        List<Long> startedProblemIdList = Collections.synchronizedList(new ArrayList<>());
+        Function<Long, TestdataSolution> problemFinder = problemId -> {
+            startedProblemIdList.add(problemId);
+            if (problemId == 1L) {
+                awaitLatch(problem1Latch);
+            }
+            return PlannerTestUtils.generateTestdataSolution("s" + problemId);
+        };
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L, problemFinder, null, null, 0);
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L, problemFinder, null, null, 0);
+        SolverJob<TestdataSolution, Long> solverJob3 = solverManager.solve(3L, problemFinder, null, null, 10);
+        SolverJob<TestdataSolution, Long> solverJob4 = solverManager.solve(4L, problemFinder, null, null, 10);
+        SolverJob<TestdataSolution, Long> solverJob5 = solverManager.solve(5L, problemFinder, null, null, -10);
+        problem1Latch.countDown();
+        solverJob1.getFinalBestSolution();
+        solverJob2.getFinalBestSolution();
+        solverJob3.getFinalBestSolution();
+        solverJob4.getFinalBestSolution();
+        solverJob5.getFinalBestSolution();
+        assertThat(startedProblemIdList).containsExactly(1L, 3L, 4L, 2L, 5L);
+    }
+
+    @Test
+    @Timeout(60)
+    public void solverJobQueueCapacity() throws InterruptedException, ExecutionException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withParallelSolverCount("1").withSolverJobQueueCapacity(1));
+        CountDownLatch problem1Latch = new CountDownLatch(1);
+        Function<Long, TestdataSolution> problemFinder = problemId -> {
+            if (problemId == 1L) {
+                awaitLatch(problem1Latch);
+            }
+            return PlannerTestUtils.generateTestdataSolution("s" + problemId);
+        };
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L, problemFinder, null);
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L, problemFinder, null);
+        assertThatThrownBy(() -> solverManager.solve(3L, problemFinder, null))
+                .isInstanceOf(RejectedExecutionException.class).hasMessageContaining("solverJobQueueCapacity");
+        assertThat(solverManager.getSolverStatus(3L)).isEqualTo(NOT_SOLVING);
+
+        // Canceling a scheduled job frees up its place in the queue
+        solverJob2.terminateEarly();
+        SolverJob<TestdataSolution, Long> solverJob4 = solverManager.solve(4L, problemFinder, null);
+        problem1Latch.countDown();
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        assertSolutionInitialized(solverJob4.getFinalBestSolution());
+    }
+
+    @Test
+    @Timeout(60)
+    public void addProblemFactChange() throws InterruptedException, ExecutionException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+        CountDownLatch problem1Latch = new CountDownLatch(1);
+        Function<Long, TestdataSolution> problemFinder = problemId -> {
+            if (problemId == 1L) {
+                awaitLatch(problem1Latch);
+            }
+            return PlannerTestUtils.generateTestdataSolution("s" + problemId, 2);
+        };
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L, problemFinder, null);
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L, problemFinder, null);
+        // Added while solver job 2 is still scheduled
+        solverManager.addProblemFactChange(2L, buildAddEntityProblemFactChange("added"));
+        problem1Latch.countDown();
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        TestdataSolution solution2 = solverJob2.getFinalBestSolution();
+        assertSolutionInitialized(solution2);
+        assertThat(solution2.getEntityList()).hasSize(3);
+    }
+
+    @Test
+    @Timeout(60)
+    public void reloadProblem() throws InterruptedException, BrokenBarrierException {
+        CyclicBarrier startedBarrier = new CyclicBarrier(2);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withTerminationConfig(new TerminationConfig())
+                // After the construction heuristic, so terminating early still yields an initialized solution
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        new CustomPhaseConfig().withCustomPhaseCommands((scoreDirector) -> {
+                            try {
+                                startedBarrier.await();
+                            } catch (InterruptedException | BrokenBarrierException e) {
+                                throw new IllegalStateException("The startedBarrier failed.", e);
+                            }
+                        }),
+                        new LocalSearchPhaseConfig());
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+        List<TestdataSolution> finalBestSolutionList = Collections.synchronizedList(new ArrayList<>());
+
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solve(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1", 2), finalBestSolutionList::add);
+        startedBarrier.await();
+        assertThat(solverJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+
+        // Restarts the solver, without consuming a final best solution for the replaced problem
+        solverManager.reloadProblem(1L, problemId -> PlannerTestUtils.generateTestdataSolution("s1-reloaded", 3));
+        startedBarrier.await();
+        assertThat(solverJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+
+        solverJob.terminateEarly();
+        assertThat(solverJob.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        assertThat(finalBestSolutionList).hasSize(1);
+        TestdataSolution finalBestSolution = finalBestSolutionList.get(0);
+        assertThat(finalBestSolution.getCode()).isEqualTo("s1-reloaded");
+        assertSolutionInitialized(finalBestSolution);
+        assertThat(finalBestSolution.getEntityList()).hasSize(3);
+    }
+
+    @Test
+    @Timeout(60)
+    public void reloadProblemDiscardsEarlierProblemFactChanges() throws InterruptedException, ExecutionException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+        CountDownLatch problem1Latch = new CountDownLatch(1);
+        Function<Long, TestdataSolution> problemFinder = problemId -> {
+            if (problemId == 1L) {
+                awaitLatch(problem1Latch);
+            }
+            return PlannerTestUtils.generateTestdataSolution("s" + problemId, 2);
+        };
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L, problemFinder, null);
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L, problemFinder, null);
+        // Added while solver job 2 is still scheduled
+        solverManager.addProblemFactChange(2L, buildAddEntityProblemFactChange("discarded"));
+        solverManager.reloadProblem(2L, problemId -> PlannerTestUtils.generateTestdataSolution("s2-reloaded", 3));
+        solverManager.addProblemFactChange(2L, buildAddEntityProblemFactChange("added"));
+        problem1Latch.countDown();
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        TestdataSolution solution2 = solverJob2.getFinalBestSolution();
+        assertSolutionInitialized(solution2);
+        assertThat(solution2.getCode()).isEqualTo("s2-reloaded");
+        assertThat(solution2.getEntityList())
+                .extracting(TestdataEntity::getCode)
+                .containsExactly("e1", "e2", "e3", "added");
+    }
+
+    private static ProblemFactChange<TestdataSolution> buildAddEntityProblemFactChange(String entityCode) {
+        return scoreDirector -> {
+            TestdataEntity entity = new TestdataEntity(entityCode);
+            scoreDirector.beforeEntityAdded(entity);
+            scoreDirector.getWorkingSolution().getEntityList().add(entity);
+            scoreDirector.afterEntityAdded(entity);
+            scoreDirector.triggerVariableListeners();
+        };
+    }
+
+    @Test
+    @Timeout(60)
+    public void customThreadFactoryClassIsUsed() throws InterruptedException, ExecutionException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withThreadFactoryClass(MockThreadFactory.class));
+        List<String> solverThreadNameList = Collections.synchronizedList(new ArrayList<>());
+
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solve(1L, problemId -> {
+            solverThreadNameList.add(Thread.currentThread().getName());
+            return PlannerTestUtils.generateTestdataSolution("s1");
+        }, null);
+        assertSolutionInitialized(solverJob.getFinalBestSolution());
+        assertThat(MockThreadFactory.hasBeenCalled()).isTrue();
+        assertThat(solverThreadNameList).containsExactly("testing thread");
+    }
+
+    @Test
+    @Timeout(60)
+    public void callerExecutorServiceIsUsed() throws InterruptedException, ExecutionException {
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(
+                PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class));
+        ExecutorService solverExecutorService = Executors.newSingleThreadExecutor(
+                runnable -> new Thread(runnable, "caller thread"));
+        try {
+            SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(solverFactory,
+                    solverExecutorService);
+            List<String> solverThreadNameList = Collections.synchronizedList(new ArrayList<>());
+
+            SolverJob<TestdataSolution, Long> solverJob = solverManager.solve(1L, problemId -> {
+                solverThreadNameList.add(Thread.currentThread().getName());
+                return PlannerTestUtils.generateTestdataSolution("s1");
+            }, null);
+            assertSolutionInitialized(solverJob.getFinalBestSolution());
+            assertThat(solverThreadNameList).containsExactly("caller thread");
+            solverManager.close();
+            // The executor service belongs to the caller
+            assertThat(solverExecutorService.isShutdown()).isFalse();
+        } finally {
+            solverExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void callerExecutorServiceWithParallelSolverCount() {
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(
+                PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class));
+        ExecutorService solverExecutorService = Executors.newSingleThreadExecutor();
+        try {
+            assertThatIllegalArgumentException().isThrownBy(() -> SolverManager.create(solverFactory,
+                    new SolverManagerConfig().withParallelSolverCount("2"), solverExecutorService));
+        } finally {
+            solverExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    public void throttlingDelay() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(IntStream.range(0, 4)
+                        .mapToObj(i -> (CustomPhaseCommand<TestdataSolution>) scoreDirector -> {
+                            TestdataSolution solution = scoreDirector.getWorkingSolution();
+                            TestdataEntity entity = solution.getEntityList().get(i);
+                            scoreDirector.beforeVariableChanged(entity, "value");
+                            entity.setValue(solution.getValueList().get(i));
+                            scoreDirector.afterVariableChanged(entity, "value");
+                            scoreDirector.triggerVariableListeners();
+                        })
+                        .toArray(CustomPhaseCommand[]::new)));
+        // Much longer than the test timeout
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withThrottlingDelay(Duration.ofHours(1)));
+        List<TestdataSolution> consumedBestSolutionList = Collections.synchronizedList(new ArrayList<>());
+
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solveAndListen(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4), consumedBestSolutionList::add);
+        assertSolutionInitialized(solverJob.getFinalBestSolution());
+        // The first best solution is consumed immediately and the last one without waiting for the throttling delay
+        assertThat(consumedBestSolutionList).hasSize(2);
+        assertSolutionInitialized(consumedBestSolutionList.get(1));
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The latch await failed.", e);
+        }
+    }
+
     /**
      * Tests whether SolverManager can solve on multiple threads problems that use multiple thread counts.
      */
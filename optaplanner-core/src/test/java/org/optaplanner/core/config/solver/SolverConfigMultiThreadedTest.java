@@ -18,6 +18,7 @@ package org.optaplanner.core.config.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -25,6 +26,10 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchType;
 import org.optaplanner.core.config.solver.testutil.MockThreadFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
@@ -46,6 +51,44 @@ public class SolverConfigMultiThreadedTest {
         runSolvingAndVerifySolution(1, 1, "2");
     }
 
+    @ParameterizedTest
+    @EnumSource(ExhaustiveSearchType.class)
+    @Timeout(5)
+    public void solvingWithExhaustiveSearchMatchesSingleThreaded(ExhaustiveSearchType exhaustiveSearchType) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        ExhaustiveSearchPhaseConfig exhaustiveSearchPhaseConfig = new ExhaustiveSearchPhaseConfig();
+        exhaustiveSearchPhaseConfig.setExhaustiveSearchType(exhaustiveSearchType);
+        solverConfig.setPhaseConfigList(Collections.singletonList(exhaustiveSearchPhaseConfig));
+        TestdataSolution singleThreadedSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(4, 3));
+
+        solverConfig.setMoveThreadCount("2");
+        TestdataSolution multiThreadedSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(4, 3));
+        assertThat(multiThreadedSolution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(multiThreadedSolution.getScore()).isEqualTo(singleThreadedSolution.getScore());
+    }
+
+    @Test
+    @Timeout(5)
+    public void solvingWithBatchedMoveEvaluationMatchesUnbatched() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setMoveThreadBufferSize(4);
+        TestdataSolution unbatchedSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(6, 4));
+
+        solverConfig.setMoveThreadBatchSize(3);
+        TestdataSolution batchedSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(6, 4));
+        assertThat(batchedSolution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(batchedSolution.getScore()).isEqualTo(unbatchedSolution.getScore());
+        assertThat(batchedSolution.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(unbatchedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .collect(Collectors.toList()));
+    }
+
     private void runSolvingAndVerifySolution(final int entityCount, final int valueCount, final String moveThreadCount) {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
                 TestdataEntity.class);
@@ -59,6 +59,11 @@ import org.optaplanner.core.impl.testdata.domain.extended.TestdataUnannotatedExt
 import org.optaplanner.core.impl.testdata.domain.extended.thirdparty.TestdataExtendedThirdPartyEntity;
 import org.optaplanner.core.impl.testdata.domain.extended.thirdparty.TestdataExtendedThirdPartySolution;
 import org.optaplanner.core.impl.testdata.domain.extended.thirdparty.TestdataThirdPartyEntityPojo;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+import org.optaplanner.core.impl.testdata.domain.list.plain.TestdataPlainListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.plain.TestdataPlainListSolution;
 import org.optaplanner.core.impl.testdata.domain.reflect.accessmodifier.TestdataAccessModifierSolution;
 import org.optaplanner.core.impl.testdata.domain.reflect.field.TestdataFieldAnnotatedEntity;
 import org.optaplanner.core.impl.testdata.domain.reflect.field.TestdataFieldAnnotatedSolution;
@@ -390,6 +395,76 @@ public abstract class AbstractSolutionClonerTest {
         assertThat(cloneEntity.getChainedObject()).isSameAs(value);
     }
 
+    @Test
+    public void cloneListSolution() {
+        SolutionDescriptor<TestdataListSolution> solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        SolutionCloner<TestdataListSolution> cloner = createSolutionCloner(solutionDescriptor);
+
+        TestdataListValue v1 = new TestdataListValue("v1");
+        TestdataListValue v2 = new TestdataListValue("v2");
+        TestdataListValue v3 = new TestdataListValue("v3");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b", v3);
+
+        TestdataListSolution original = new TestdataListSolution("solution");
+        original.setValueList(Arrays.asList(v1, v2, v3));
+        original.setEntityList(Arrays.asList(a, b));
+
+        TestdataListSolution clone = cloner.cloneSolution(original);
+        assertThat(clone).isNotSameAs(original);
+        TestdataListEntity cloneA = clone.getEntityList().get(0);
+        TestdataListEntity cloneB = clone.getEntityList().get(1);
+        assertThat(cloneA).isNotSameAs(a);
+        assertThat(cloneA.getValueList()).isNotSameAs(a.getValueList());
+        assertThat(cloneB.getValueList()).isNotSameAs(b.getValueList());
+        // The values are planning entities too, so they are cloned
+        assertThat(cloneA.getValueList()).hasSize(2).doesNotContain(v1, v2);
+        assertCode("v1", cloneA.getValueList().get(0));
+        assertThat(clone.getValueList()).containsExactly(cloneA.getValueList().get(0), cloneA.getValueList().get(1),
+                cloneB.getValueList().get(0));
+
+        a.getValueList().remove(v2);
+        b.getValueList().add(v2);
+        // Clone remains unchanged
+        assertThat(cloneA.getValueList()).hasSize(2);
+        assertThat(cloneB.getValueList()).hasSize(1);
+    }
+
+    @Test
+    public void clonePlainListSolution() {
+        SolutionDescriptor<TestdataPlainListSolution> solutionDescriptor =
+                TestdataPlainListSolution.buildSolutionDescriptor();
+        SolutionCloner<TestdataPlainListSolution> cloner = createSolutionCloner(solutionDescriptor);
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataPlainListEntity a = new TestdataPlainListEntity("a", v1, v2);
+        TestdataPlainListEntity b = new TestdataPlainListEntity("b", v3);
+
+        TestdataPlainListSolution original = new TestdataPlainListSolution("solution");
+        List<TestdataValue> valueList = Arrays.asList(v1, v2, v3);
+        original.setValueList(valueList);
+        original.setEntityList(Arrays.asList(a, b));
+
+        TestdataPlainListSolution clone = cloner.cloneSolution(original);
+        assertThat(clone.getValueList()).isSameAs(valueList);
+        TestdataPlainListEntity cloneA = clone.getEntityList().get(0);
+        TestdataPlainListEntity cloneB = clone.getEntityList().get(1);
+        assertThat(cloneA).isNotSameAs(a);
+        // The values are not planning entities, so they are shared, but the list variable itself is not
+        assertThat(cloneA.getValueList()).isNotSameAs(a.getValueList());
+        assertThat(cloneA.getValueList()).containsExactly(v1, v2);
+        assertThat(cloneB.getValueList()).isNotSameAs(b.getValueList());
+        assertThat(cloneB.getValueList()).containsExactly(v3);
+
+        a.getValueList().remove(v2);
+        b.getValueList().add(v2);
+        // Clone remains unchanged
+        assertThat(cloneA.getValueList()).containsExactly(v1, v2);
+        assertThat(cloneB.getValueList()).containsExactly(v3);
+    }
+
     @Test
     public void cloneSetBasedSolution() {
         SolutionDescriptor<TestdataSetBasedSolution> solutionDescriptor =
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.config.solver.DomainAccessType;
+import org.optaplanner.core.impl.domain.common.accessor.LambdaBeanPropertyMemberAccessor;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedEntity;
+import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedSolution;
+import org.optaplanner.core.impl.testdata.domain.reflect.accessmodifier.TestdataVisibilityModifierSolution;
+
+public class GeneratedSolutionClonerTest extends AbstractSolutionClonerTest {
+
+    @Override
+    protected <Solution_> SolutionCloner<Solution_> createSolutionCloner(
+            SolutionDescriptor<Solution_> solutionDescriptor) {
+        return new GeneratedSolutionCloner<>(solutionDescriptor);
+    }
+
+    @Test
+    public void cloneVisibilityModifierSolutionWithGeneratedDomainAccess() throws ReflectiveOperationException {
+        SolutionDescriptor<TestdataVisibilityModifierSolution> solutionDescriptor =
+                SolutionDescriptor.buildSolutionDescriptor(DomainAccessType.GENERATED,
+                        TestdataVisibilityModifierSolution.class, Arrays.asList(TestdataEntity.class));
+        assertThat(solutionDescriptor.getSolutionCloner()).isInstanceOf(GeneratedSolutionCloner.class);
+        SolutionCloner<TestdataVisibilityModifierSolution> cloner = solutionDescriptor.getSolutionCloner();
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataVisibilityModifierSolution original = new TestdataVisibilityModifierSolution("solution",
+                "privateFieldValue", "publicFieldValue",
+                "privatePropertyValue", "friendlyPropertyValue", "protectedPropertyValue", "publicPropertyValue");
+        List<TestdataValue> valueList = Arrays.asList(val1);
+        original.setValueList(valueList);
+        original.setEntityList(Arrays.asList(a));
+
+        TestdataVisibilityModifierSolution clone = cloner.cloneSolution(original);
+
+        assertThat(clone).isNotSameAs(original);
+        assertCode("solution", clone);
+        Field privateField = TestdataVisibilityModifierSolution.class.getDeclaredField("privateField");
+        privateField.setAccessible(true);
+        assertThat(privateField.get(clone)).isEqualTo("privateFieldValue");
+        assertThat(clone.publicField).isEqualTo("publicFieldValue");
+        Map<String, MemberAccessor> problemFactMemberAccessorMap = solutionDescriptor.getProblemFactMemberAccessorMap();
+        for (String propertyName : Arrays.asList("privateProperty", "friendlyProperty", "protectedProperty",
+                "publicProperty")) {
+            MemberAccessor memberAccessor = problemFactMemberAccessorMap.get(propertyName);
+            assertThat(memberAccessor).isInstanceOf(LambdaBeanPropertyMemberAccessor.class);
+            assertThat(memberAccessor.executeGetter(clone)).isEqualTo(propertyName + "Value");
+        }
+        assertThat(clone.getValueList()).isSameAs(valueList);
+        TestdataEntity cloneA = clone.getEntityList().get(0);
+        assertThat(cloneA).isNotSameAs(a);
+        assertCode("a", cloneA);
+        assertThat(cloneA.getValue()).isSameAs(val1);
+    }
+
+    @Test
+    public void clonePrimitiveFieldsWithGeneratedDomainAccess() {
+        SolutionDescriptor<TestdataPinnedSolution> solutionDescriptor =
+                SolutionDescriptor.buildSolutionDescriptor(DomainAccessType.GENERATED,
+                        TestdataPinnedSolution.class, Arrays.asList(TestdataPinnedEntity.class));
+        SolutionCloner<TestdataPinnedSolution> cloner = solutionDescriptor.getSolutionCloner();
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataPinnedEntity a = new TestdataPinnedEntity("a", val1, true, false);
+        TestdataPinnedEntity b = new TestdataPinnedEntity("b", val1, false, true);
+        TestdataPinnedSolution original = new TestdataPinnedSolution("solution");
+        original.setValueList(Arrays.asList(val1));
+        original.setEntityList(Arrays.asList(a, b));
+
+        TestdataPinnedSolution clone = cloner.cloneSolution(original);
+
+        TestdataPinnedEntity cloneA = clone.getEntityList().get(0);
+        TestdataPinnedEntity cloneB = clone.getEntityList().get(1);
+        assertThat(cloneA).isNotSameAs(a);
+        assertThat(cloneA.isLocked()).isTrue();
+        assertThat(cloneA.isPinned()).isFalse();
+        assertThat(cloneB).isNotSameAs(b);
+        assertThat(cloneB.isLocked()).isFalse();
+        assertThat(cloneB.isPinned()).isTrue();
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.variable.listener.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedObject;
+
+public class VariableListenerNotifiableTest {
+
+    @Test
+    public void notificationQueueIsUnique() {
+        VariableListener variableListener = mock(VariableListener.class);
+        when(variableListener.requiresUniqueEntityEvents()).thenReturn(true);
+        VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, 0);
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1");
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2");
+
+        assertThat(notifiable.getNotificationQueue().add(
+                new VariableListenerNotification(a1, VariableListenerNotificationType.VARIABLE_CHANGED))).isTrue();
+        assertThat(notifiable.getNotificationQueue().add(
+                new VariableListenerNotification(a2, VariableListenerNotificationType.VARIABLE_CHANGED))).isTrue();
+        assertThat(notifiable.getNotificationQueue().add(
+                new VariableListenerNotification(a1, VariableListenerNotificationType.VARIABLE_CHANGED))).isFalse();
+        assertThat(notifiable.getNotificationQueue().add(
+                new VariableListenerNotification(a1, VariableListenerNotificationType.ENTITY_REMOVED))).isTrue();
+        assertThat(notifiable.getNotificationQueue()).hasSize(3);
+    }
+
+    @Test
+    public void notificationQueueIsNotUnique() {
+        VariableListenerNotifiable notifiable = new VariableListenerNotifiable(mock(VariableListener.class), 0);
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1");
+
+        assertThat(notifiable.getNotificationQueue().add(
+                new VariableListenerNotification(a1, VariableListenerNotificationType.VARIABLE_CHANGED))).isTrue();
+        assertThat(notifiable.getNotificationQueue().add(
+                new VariableListenerNotification(a1, VariableListenerNotificationType.VARIABLE_CHANGED))).isTrue();
+        assertThat(notifiable.getNotificationQueue()).hasSize(2);
+    }
+
+    @Test
+    public void triggerOrderedNotificationQueueChained() {
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+        TestdataChainedEntity b2 = new TestdataChainedEntity("b2", b1);
+        AnchorVariableSupply anchorVariableSupply = mock(AnchorVariableSupply.class);
+        when(anchorVariableSupply.getAnchor(a1)).thenReturn(a0);
+        when(anchorVariableSupply.getAnchor(a2)).thenReturn(a0);
+        when(anchorVariableSupply.getAnchor(a3)).thenReturn(a0);
+        when(anchorVariableSupply.getAnchor(b1)).thenReturn(b0);
+        when(anchorVariableSupply.getAnchor(b2)).thenReturn(b0);
+        SingletonInverseVariableSupply inverseVariableSupply = mock(SingletonInverseVariableSupply.class);
+        when(inverseVariableSupply.getInverseSingleton(a0)).thenReturn(a1);
+        when(inverseVariableSupply.getInverseSingleton(a1)).thenReturn(a2);
+        when(inverseVariableSupply.getInverseSingleton(a2)).thenReturn(a3);
+        when(inverseVariableSupply.getInverseSingleton(b0)).thenReturn(b1);
+        when(inverseVariableSupply.getInverseSingleton(b1)).thenReturn(b2);
+        VariableListenerNotifiable notifiable = new VariableListenerNotifiable(mock(VariableListener.class), 0);
+        notifiable.linkChainSupplies(anchorVariableSupply, inverseVariableSupply);
+
+        VariableListenerNotification a3Notification =
+                new VariableListenerNotification(a3, VariableListenerNotificationType.VARIABLE_CHANGED);
+        VariableListenerNotification b1Notification =
+                new VariableListenerNotification(b1, VariableListenerNotificationType.VARIABLE_CHANGED);
+        VariableListenerNotification a1Notification =
+                new VariableListenerNotification(a1, VariableListenerNotificationType.VARIABLE_CHANGED);
+        VariableListenerNotification a2Notification =
+                new VariableListenerNotification(a2, VariableListenerNotificationType.VARIABLE_CHANGED);
+        notifiable.getNotificationQueue().add(a3Notification);
+        notifiable.getNotificationQueue().add(b1Notification);
+        notifiable.getNotificationQueue().add(a1Notification);
+        notifiable.getNotificationQueue().add(a2Notification);
+
+        // Chain a was affected first
+        assertThat(notifiable.getTriggerOrderedNotificationQueue())
+                .containsExactly(a1Notification, a2Notification, a3Notification, b1Notification);
+        // The notification queue itself keeps the order in which the entities were affected
+        assertThat(notifiable.getNotificationQueue())
+                .containsExactly(a3Notification, b1Notification, a1Notification, a2Notification);
+        // The chain walk stops at the last notified entity
+        verify(inverseVariableSupply, never()).getInverseSingleton(a3);
+        verify(inverseVariableSupply, never()).getInverseSingleton(b0);
+
+        notifiable.getNotificationQueue().clear();
+        VariableListenerNotification b2Notification =
+                new VariableListenerNotification(b2, VariableListenerNotificationType.VARIABLE_CHANGED);
+        notifiable.getNotificationQueue().add(b2Notification);
+        notifiable.getNotificationQueue().add(a2Notification);
+        notifiable.getNotificationQueue().add(b1Notification);
+        assertThat(notifiable.getTriggerOrderedNotificationQueue())
+                .containsExactly(b1Notification, b2Notification, a2Notification);
+    }
+
+    @Test
+    public void triggerOrderedNotificationQueueChainedWithDuplicates() {
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        AnchorVariableSupply anchorVariableSupply = mock(AnchorVariableSupply.class);
+        when(anchorVariableSupply.getAnchor(a1)).thenReturn(a0);
+        when(anchorVariableSupply.getAnchor(a2)).thenReturn(a0);
+        SingletonInverseVariableSupply inverseVariableSupply = mock(SingletonInverseVariableSupply.class);
+        when(inverseVariableSupply.getInverseSingleton(a0)).thenReturn(a1);
+        when(inverseVariableSupply.getInverseSingleton(a1)).thenReturn(a2);
+        // Doesn't require unique entity events
+        VariableListenerNotifiable notifiable = new VariableListenerNotifiable(mock(VariableListener.class), 0);
+        notifiable.linkChainSupplies(anchorVariableSupply, inverseVariableSupply);
+
+        VariableListenerNotification a2Notification =
+                new VariableListenerNotification(a2, VariableListenerNotificationType.VARIABLE_CHANGED);
+        VariableListenerNotification a1Notification =
+                new VariableListenerNotification(a1, VariableListenerNotificationType.VARIABLE_CHANGED);
+        notifiable.getNotificationQueue().add(a2Notification);
+        notifiable.getNotificationQueue().add(a1Notification);
+        notifiable.getNotificationQueue().add(a2Notification);
+
+        assertThat(notifiable.getTriggerOrderedNotificationQueue())
+                .containsExactly(a1Notification, a2Notification, a2Notification);
+    }
+
+    @Test
+    public void triggerOrderedNotificationQueueChainedAboveSmallSetThreshold() {
+        int entityCount = SmallScalingOrderedSet.LIST_SIZE_THRESHOLD * 2;
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        AnchorVariableSupply anchorVariableSupply = mock(AnchorVariableSupply.class);
+        SingletonInverseVariableSupply inverseVariableSupply = mock(SingletonInverseVariableSupply.class);
+        List<VariableListenerNotification> notificationList = new ArrayList<>(entityCount);
+        TestdataChainedObject previous = a0;
+        for (int i = 1; i <= entityCount; i++) {
+            TestdataChainedEntity entity = new TestdataChainedEntity("a" + i, previous);
+            when(anchorVariableSupply.getAnchor(entity)).thenReturn(a0);
+            when(inverseVariableSupply.getInverseSingleton(previous)).thenReturn(entity);
+            notificationList.add(new VariableListenerNotification(entity,
+                    VariableListenerNotificationType.VARIABLE_CHANGED));
+            previous = entity;
+        }
+        VariableListener variableListener = mock(VariableListener.class);
+        when(variableListener.requiresUniqueEntityEvents()).thenReturn(true);
+        VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, 0);
+        notifiable.linkChainSupplies(anchorVariableSupply, inverseVariableSupply);
+
+        List<VariableListenerNotification> reversedNotificationList = new ArrayList<>(notificationList);
+        Collections.reverse(reversedNotificationList);
+        notifiable.getNotificationQueue().addAll(reversedNotificationList);
+
+        assertThat(notifiable.getTriggerOrderedNotificationQueue()).containsExactlyElementsOf(notificationList);
+    }
+
+    @Test
+    public void triggerOrderedNotificationQueueChainedWithEntityRemoved() {
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        VariableListenerNotifiable notifiable = new VariableListenerNotifiable(mock(VariableListener.class), 0);
+        notifiable.linkChainSupplies(mock(AnchorVariableSupply.class), mock(SingletonInverseVariableSupply.class));
+        VariableListenerNotification a2Notification =
+                new VariableListenerNotification(a2, VariableListenerNotificationType.VARIABLE_CHANGED);
+        VariableListenerNotification a1Notification =
+                new VariableListenerNotification(a1, VariableListenerNotificationType.ENTITY_REMOVED);
+        notifiable.getNotificationQueue().add(a2Notification);
+        notifiable.getNotificationQueue().add(a1Notification);
+
+        assertThat(notifiable.getTriggerOrderedNotificationQueue())
+                .containsExactly(a2Notification, a1Notification);
+    }
+
+    @Test
+    public void triggerOrderedNotificationQueueNotChained() {
+        VariableListenerNotifiable notifiable = new VariableListenerNotifiable(mock(VariableListener.class), 0);
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        VariableListenerNotification a2Notification =
+                new VariableListenerNotification(a2, VariableListenerNotificationType.VARIABLE_CHANGED);
+        VariableListenerNotification a1Notification =
+                new VariableListenerNotification(a1, VariableListenerNotificationType.VARIABLE_CHANGED);
+        notifiable.getNotificationQueue().add(a2Notification);
+        notifiable.getNotificationQueue().add(a1Notification);
+
+        assertThat(notifiable.getTriggerOrderedNotificationQueue())
+                .containsExactly(a2Notification, a1Notification);
+    }
+
+}
@@ -424,6 +424,33 @@ public class BlackBoxExhaustiveSearchPhaseTest {
                 valueSorterManner,
                 exhaustiveSearchType,
                 nodeExplorationType);
+        verifyExhaustiveSearchSteps(solverConfig, exhaustiveSearchType, nodeExplorationType, steps);
+    }
+
+    /**
+     * The move threads must expand the nodes in the same order and find the same best solution
+     * as the single-threaded exhaustive search.
+     */
+    @ParameterizedTest(name = "{0}, NodeExplorationType-{1}, EntitySorterManner-{2}, ValueSorterManner-{3}")
+    @MethodSource("params")
+    public void verifyMultiThreadedExhaustiveSearchSteps(
+            ExhaustiveSearchType exhaustiveSearchType,
+            NodeExplorationType nodeExplorationType,
+            EntitySorterManner entitySorterManner,
+            ValueSorterManner valueSorterManner,
+            List<String> steps) {
+        SolverConfig solverConfig = buildSolverConfig(
+                entitySorterManner,
+                valueSorterManner,
+                exhaustiveSearchType,
+                nodeExplorationType);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setMoveThreadBatchSize(2);
+        verifyExhaustiveSearchSteps(solverConfig, exhaustiveSearchType, nodeExplorationType, steps);
+    }
+
+    private void verifyExhaustiveSearchSteps(SolverConfig solverConfig, ExhaustiveSearchType exhaustiveSearchType,
+            NodeExplorationType nodeExplorationType, List<String> steps) {
         SolverFactory<TestdataDifficultyComparingSolution> solverFactory = SolverFactory.create(solverConfig);
 
         if (exhaustiveSearchType == ExhaustiveSearchType.BRUTE_FORCE && nodeExplorationType != null) {
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.lookup.LookUpStrategyType;
+import org.optaplanner.core.impl.domain.lookup.LookUpStrategyResolver;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+
+public class NearbyDistanceMatrixCacheTest {
+
+    private final PositionTestdataObject a = new PositionTestdataObject("a", 0);
+    private final PositionTestdataObject b = new PositionTestdataObject("b", 10);
+    private final PositionTestdataObject c = new PositionTestdataObject("c", 3);
+
+    private List<Object> calculatedOriginList;
+    private NearbyDistanceMatrixCache cache;
+    private AbstractPhaseScope<?> phaseScope;
+    private InnerScoreDirector<?, ?> scoreDirector;
+    private SolverScope<?> solverScope;
+
+    @BeforeEach
+    public void setUp() {
+        calculatedOriginList = new ArrayList<>();
+        NearbyDistanceMeter<PositionTestdataObject, PositionTestdataObject> meter =
+                (origin, destination) -> Math.abs(origin.position - destination.position);
+        cache = new NearbyDistanceMatrixCache(meter);
+        phaseScope = mock(AbstractPhaseScope.class);
+        scoreDirector = mock(InnerScoreDirector.class);
+        solverScope = mock(SolverScope.class);
+        SolutionDescriptor solutionDescriptor = mock(SolutionDescriptor.class);
+        when(phaseScope.getScoreDirector()).thenReturn((InnerScoreDirector) scoreDirector);
+        when(phaseScope.getSolverScope()).thenReturn((SolverScope) solverScope);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(solutionDescriptor);
+        when(solutionDescriptor.getLookUpStrategyResolver())
+                .thenReturn(new LookUpStrategyResolver(LookUpStrategyType.PLANNING_ID_OR_NONE));
+        when(scoreDirector.lookUpWorkingObjectOrReturnNull(a)).thenReturn(a);
+        when(scoreDirector.lookUpWorkingObjectOrReturnNull(b)).thenReturn(b);
+    }
+
+    private NearbyDistanceMatrix phaseStarted(int startingSolverCount, long problemPropertyRevision,
+            List<Object> destinationList, boolean sameDestinationsForEveryOrigin) {
+        when(solverScope.getStartingSolverCount()).thenReturn(startingSolverCount);
+        when(scoreDirector.getProblemPropertyRevision()).thenReturn(problemPropertyRevision);
+        return cache.phaseStarted(phaseScope, destinationList.size(),
+                sameDestinationsForEveryOrigin ? destinationList.iterator() : null,
+                origin -> {
+                    calculatedOriginList.add(origin);
+                    return destinationList.iterator();
+                }, origin -> destinationList.size());
+    }
+
+    @Test
+    public void restartRebasesMatrix() {
+        NearbyDistanceMatrix matrix = phaseStarted(1, 0L, Arrays.asList(a, b), true);
+        assertThat(matrix.getDestination(a, 1)).isSameAs(b);
+        assertThat(calculatedOriginList).containsExactly(a);
+
+        // A ProblemFactChange added c
+        NearbyDistanceMatrix rebasedMatrix = phaseStarted(2, 0L, Arrays.asList(a, b, c), true);
+        assertThat(rebasedMatrix).isNotSameAs(matrix);
+        assertThat(rebasedMatrix.getDestination(a, 0)).isSameAs(a);
+        assertThat(rebasedMatrix.getDestination(a, 1)).isSameAs(c);
+        assertThat(rebasedMatrix.getDestination(a, 2)).isSameAs(b);
+        // The destinations of a are patched, not recalculated
+        assertThat(calculatedOriginList).containsExactly(a);
+        assertThat(rebasedMatrix.getDestination(c, 1)).isSameAs(a);
+        assertThat(calculatedOriginList).containsExactly(a, c);
+    }
+
+    @Test
+    public void restartDropsRemovedDestinationsThatCanStillBeLookedUp() {
+        when(scoreDirector.lookUpWorkingObjectOrReturnNull(c)).thenReturn(c);
+        NearbyDistanceMatrix matrix = phaseStarted(1, 0L, Arrays.asList(a, b, c), true);
+        assertThat(matrix.getDestination(a, 1)).isSameAs(c);
+        assertThat(matrix.getDestination(b, 1)).isSameAs(c);
+        assertThat(calculatedOriginList).containsExactly(a, b);
+
+        // A ProblemFactChange removed c from the destinations, but c still exists in the working solution
+        NearbyDistanceMatrix rebasedMatrix = phaseStarted(2, 0L, Arrays.asList(a, b), true);
+        assertThat(rebasedMatrix.getCalculatedOriginSet()).isEmpty();
+        assertThat(rebasedMatrix.getDestination(a, 1)).isSameAs(b);
+        assertThat(rebasedMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(calculatedOriginList).containsExactly(a, b, a, b);
+    }
+
+    @Test
+    public void problemPropertyChangeRecalculatesMatrix() {
+        NearbyDistanceMatrix matrix = phaseStarted(1, 0L, Arrays.asList(a, b), true);
+        assertThat(matrix.getDestination(a, 1)).isSameAs(b);
+
+        NearbyDistanceMatrix recalculatedMatrix = phaseStarted(2, 1L, Arrays.asList(a, b), true);
+        assertThat(recalculatedMatrix.getCalculatedOriginSet()).isEmpty();
+        assertThat(recalculatedMatrix.getDestination(a, 1)).isSameAs(b);
+        assertThat(calculatedOriginList).containsExactly(a, a);
+    }
+
+    @Test
+    public void skippedRestartRecalculatesMatrix() {
+        NearbyDistanceMatrix matrix = phaseStarted(1, 0L, Arrays.asList(a, b), true);
+        assertThat(matrix.getDestination(a, 1)).isSameAs(b);
+
+        NearbyDistanceMatrix recalculatedMatrix = phaseStarted(3, 0L, Arrays.asList(a, b), true);
+        assertThat(recalculatedMatrix.getCalculatedOriginSet()).isEmpty();
+    }
+
+    @Test
+    public void destinationsPerOriginDisableRebase() {
+        NearbyDistanceMatrix matrix = phaseStarted(1, 0L, Arrays.asList(a, b), false);
+        assertThat(matrix.getDestination(a, 1)).isSameAs(b);
+
+        NearbyDistanceMatrix recalculatedMatrix = phaseStarted(2, 0L, Arrays.asList(a, b), false);
+        assertThat(recalculatedMatrix).isNotSameAs(matrix);
+        assertThat(recalculatedMatrix.getCalculatedOriginSet()).isEmpty();
+    }
+
+    private static class PositionTestdataObject extends TestdataObject {
+
+        private final int position;
+
+        public PositionTestdataObject(String code, int position) {
+            super(code);
+            this.position = position;
+        }
+
+    }
+
+}
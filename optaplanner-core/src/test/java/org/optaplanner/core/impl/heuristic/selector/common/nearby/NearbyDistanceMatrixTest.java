@@ -17,8 +17,11 @@
 package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -94,6 +97,208 @@ public class NearbyDistanceMatrixTest {
         assertThat(nearbyDistanceMatrix.getDestination(d, 3)).isSameAs(c);
     }
 
+    @Test
+    public void calculateDestinationsOnDemand() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0, 2.0, 6.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0, 5.0, 10.0 });
+        final MatrixTestdataObject c = new MatrixTestdataObject("c", 2, new double[] { 2.0, 5.0, 0.0, 7.0 });
+        final MatrixTestdataObject d = new MatrixTestdataObject("d", 3, new double[] { 6.0, 10.0, 7.0, 0.0 });
+        List<Object> entityList = Arrays.asList(a, b, c, d);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin,
+                destination) -> origin.distances[destination.index];
+        List<Object> calculatedOriginList = new ArrayList<>();
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, 4,
+                origin -> {
+                    calculatedOriginList.add(origin);
+                    return entityList.iterator();
+                }, origin -> 3);
+        assertThat(calculatedOriginList).isEmpty();
+
+        assertThat(nearbyDistanceMatrix.getDestination(b, 0)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 2)).isSameAs(c);
+        assertThat(calculatedOriginList).containsExactly(b);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 0)).isSameAs(d);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 2)).isSameAs(c);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(calculatedOriginList).containsExactly(b, d);
+    }
+
+    @Test
+    public void retainOnlyRequestedDestinations() {
+        int entitySize = NearbyDistanceMatrix.INITIAL_DESTINATION_SIZE * 4;
+        List<Object> entityList = new ArrayList<>(entitySize);
+        for (int i = 0; i < entitySize; i++) {
+            entityList.add(new MatrixTestdataObject("e" + i, i, null));
+        }
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin,
+                destination) -> Math.abs(origin.index - destination.index);
+        Object origin = entityList.get(0);
+        List<Object> calculatedOriginList = new ArrayList<>();
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, entitySize,
+                o -> {
+                    calculatedOriginList.add(o);
+                    return entityList.iterator();
+                }, o -> entitySize);
+        assertThat(nearbyDistanceMatrix.getDestination(origin, 0)).isSameAs(origin);
+        assertThat(nearbyDistanceMatrix.getDestination(origin, NearbyDistanceMatrix.INITIAL_DESTINATION_SIZE - 1))
+                .isSameAs(entityList.get(NearbyDistanceMatrix.INITIAL_DESTINATION_SIZE - 1));
+        assertThat(calculatedOriginList).hasSize(1);
+        // Beyond the retained destinations, the origin is recalculated with twice as many
+        assertThat(nearbyDistanceMatrix.getDestination(origin, NearbyDistanceMatrix.INITIAL_DESTINATION_SIZE))
+                .isSameAs(entityList.get(NearbyDistanceMatrix.INITIAL_DESTINATION_SIZE));
+        assertThat(calculatedOriginList).hasSize(2);
+        assertThat(nearbyDistanceMatrix.getDestination(origin, NearbyDistanceMatrix.INITIAL_DESTINATION_SIZE * 2 - 1))
+                .isSameAs(entityList.get(NearbyDistanceMatrix.INITIAL_DESTINATION_SIZE * 2 - 1));
+        assertThat(calculatedOriginList).hasSize(2);
+        // A far request jumps straight to that nearby index
+        assertThat(nearbyDistanceMatrix.getDestination(origin, entitySize - 1))
+                .isSameAs(entityList.get(entitySize - 1));
+        assertThat(calculatedOriginList).hasSize(3);
+    }
+
+    @Test
+    public void getDestinationOfMissingOrigin() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0 });
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin,
+                destination) -> origin.distances[destination.index];
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, 2);
+        nearbyDistanceMatrix.addAllDestinations(a, Arrays.<Object> asList(a, b).iterator(), 2);
+        assertThat(nearbyDistanceMatrix.getDestination(a, 1)).isSameAs(b);
+        assertThatIllegalStateException().isThrownBy(() -> nearbyDistanceMatrix.getDestination(b, 0));
+    }
+
+    @Test
+    public void rebase() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0, 2.0, 6.0, 1.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0, 5.0, 10.0, 3.0 });
+        final MatrixTestdataObject c = new MatrixTestdataObject("c", 2, new double[] { 2.0, 5.0, 0.0, 7.0, 9.0 });
+        final MatrixTestdataObject d = new MatrixTestdataObject("d", 3, new double[] { 6.0, 10.0, 7.0, 0.0, 8.0 });
+        final MatrixTestdataObject e = new MatrixTestdataObject("e", 4, new double[] { 1.0, 3.0, 9.0, 8.0, 0.0 });
+        List<Object> entityList = Arrays.asList(a, b, c, d);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin,
+                destination) -> origin.distances[destination.index];
+        List<Object> calculatedOriginList = new ArrayList<>();
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, 4,
+                origin -> entityList.iterator(), origin -> 3);
+        assertThat(nearbyDistanceMatrix.getDestination(a, 2)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 2)).isSameAs(c);
+        assertThat(nearbyDistanceMatrix.getDestination(c, 2)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 2)).isSameAs(c);
+
+        // Remove d and add e
+        List<Object> rebasedEntityList = Arrays.asList(a, b, c, e);
+        NearbyDistanceMatrix rebasedMatrix = nearbyDistanceMatrix.rebase(
+                object -> object == d ? null : object, Collections.singletonList(e),
+                origin -> {
+                    calculatedOriginList.add(origin);
+                    return rebasedEntityList.iterator();
+                }, origin -> 3);
+        assertThat(rebasedMatrix.getDestination(a, 0)).isSameAs(a);
+        assertThat(rebasedMatrix.getDestination(a, 1)).isSameAs(e);
+        assertThat(rebasedMatrix.getDestination(a, 2)).isSameAs(c);
+        assertThat(rebasedMatrix.getDestination(b, 0)).isSameAs(b);
+        assertThat(rebasedMatrix.getDestination(b, 1)).isSameAs(e);
+        assertThat(rebasedMatrix.getDestination(b, 2)).isSameAs(a);
+        // The old destinations of c were nearer than e, so c is not patched
+        assertThat(rebasedMatrix.getDestination(c, 0)).isSameAs(c);
+        assertThat(rebasedMatrix.getDestination(c, 1)).isSameAs(a);
+        assertThat(rebasedMatrix.getDestination(c, 2)).isSameAs(b);
+        assertThat(calculatedOriginList).isEmpty();
+        assertThat(rebasedMatrix.getDestination(e, 0)).isSameAs(e);
+        assertThat(rebasedMatrix.getDestination(e, 1)).isSameAs(a);
+        assertThat(rebasedMatrix.getDestination(e, 2)).isSameAs(b);
+        assertThat(calculatedOriginList).containsExactly(e);
+    }
+
+    @Test
+    public void rebaseGrowsUntruncatedOrigins() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0, 2.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0, 5.0 });
+        final MatrixTestdataObject c = new MatrixTestdataObject("c", 2, new double[] { 2.0, 5.0, 0.0 });
+        List<Object> entityList = new ArrayList<>(Arrays.asList(a, b));
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin,
+                destination) -> origin.distances[destination.index];
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, 2,
+                origin -> entityList.iterator(), origin -> entityList.size());
+        assertThat(nearbyDistanceMatrix.getDestination(a, 1)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+
+        entityList.add(c);
+        NearbyDistanceMatrix rebasedMatrix = nearbyDistanceMatrix.rebase(object -> object,
+                Collections.singletonList(c), origin -> entityList.iterator(), origin -> entityList.size());
+        assertThat(rebasedMatrix.getDestination(a, 0)).isSameAs(a);
+        assertThat(rebasedMatrix.getDestination(a, 1)).isSameAs(c);
+        assertThat(rebasedMatrix.getDestination(a, 2)).isSameAs(b);
+        assertThat(rebasedMatrix.getDestination(b, 0)).isSameAs(b);
+        assertThat(rebasedMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(rebasedMatrix.getDestination(b, 2)).isSameAs(c);
+    }
+
+    @Test
+    public void rebasePatchesTruncatedOrigins() {
+        int entitySize = NearbyDistanceMatrix.INITIAL_DESTINATION_SIZE * 2;
+        List<Object> entityList = new ArrayList<>(entitySize + 1);
+        for (int i = 0; i < entitySize; i++) {
+            entityList.add(new MatrixTestdataObject("e" + i, i, null));
+        }
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin,
+                destination) -> Math.abs(origin.index - destination.index);
+        Object origin = entityList.get(0);
+        int lastIndex = NearbyDistanceMatrix.INITIAL_DESTINATION_SIZE - 1;
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, entitySize,
+                o -> entityList.iterator(), o -> entityList.size());
+        assertThat(nearbyDistanceMatrix.getDestination(origin, lastIndex)).isSameAs(entityList.get(lastIndex));
+
+        MatrixTestdataObject added = new MatrixTestdataObject("added", 1, null);
+        entityList.add(added);
+        List<Object> calculatedOriginList = new ArrayList<>();
+        NearbyDistanceMatrix rebasedMatrix = nearbyDistanceMatrix.rebase(object -> object,
+                Collections.singletonList(added), o -> {
+                    calculatedOriginList.add(o);
+                    return entityList.iterator();
+                }, o -> entityList.size());
+        assertThat(rebasedMatrix.getDestination(origin, 1)).isSameAs(entityList.get(1));
+        assertThat(rebasedMatrix.getDestination(origin, 2)).isSameAs(added);
+        assertThat(rebasedMatrix.getDestination(origin, lastIndex)).isSameAs(entityList.get(lastIndex - 1));
+        assertThat(calculatedOriginList).isEmpty();
+        // The farthest retained destination fell off, so requesting beyond it recalculates the origin
+        assertThat(rebasedMatrix.getDestination(origin, lastIndex + 1)).isSameAs(entityList.get(lastIndex));
+        assertThat(calculatedOriginList).containsExactly(origin);
+    }
+
+    @Test
+    public void rebaseDoesNotChangeOldMatrix() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0 });
+        final MatrixTestdataObject workingA = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0 });
+        final MatrixTestdataObject workingB = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0 });
+        List<Object> entityList = Arrays.asList(a, b);
+        List<Object> workingEntityList = Arrays.asList(workingA, workingB);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin,
+                destination) -> origin.distances[destination.index];
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, 2,
+                origin -> entityList.iterator(), origin -> 2);
+        assertThat(nearbyDistanceMatrix.getDestination(a, 1)).isSameAs(b);
+
+        NearbyDistanceMatrix rebasedMatrix = nearbyDistanceMatrix.rebase(
+                object -> object == a ? workingA : workingB, Collections.emptyList(),
+                origin -> workingEntityList.iterator(), origin -> 2);
+        assertThat(rebasedMatrix.getDestination(workingA, 0)).isSameAs(workingA);
+        assertThat(rebasedMatrix.getDestination(workingA, 1)).isSameAs(workingB);
+        assertThat(nearbyDistanceMatrix.getDestination(a, 0)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(a, 1)).isSameAs(b);
+    }
+
     private static class MatrixTestdataObject extends TestdataObject {
         private int index;
         private double[] distances;
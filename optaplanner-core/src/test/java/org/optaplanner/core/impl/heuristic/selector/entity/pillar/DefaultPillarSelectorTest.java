@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -25,16 +26,21 @@ import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCodesO
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataObject;
@@ -146,6 +152,76 @@ public class DefaultPillarSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 3);
     }
 
+    @Test
+    public void originalNoSubsIncremental() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+        TestdataValue val4 = new TestdataValue("4");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+        final TestdataEntity e = new TestdataEntity("e", val3);
+        final TestdataEntity f = new TestdataEntity("f", val3);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c, d, e, f);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
+                entitySelector, Arrays.asList(variableDescriptor), false, SubPillarConfigPolicy.withoutSubpillars());
+
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        SolverScope solverScope = mock(SolverScope.class);
+        when(solverScope.getScoreDirector()).thenReturn(scoreDirector);
+        pillarSelector.solvingStarted(solverScope);
+
+        LocalSearchPhaseScope phaseScopeA = mock(LocalSearchPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        LocalSearchStepScope stepScopeA1 = mock(LocalSearchStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c, e, f]");
+        b.setValue(val3);
+        f.setValue(val4);
+        Move stepA1 = mock(Move.class);
+        when(stepA1.getPlanningEntities()).thenReturn(Arrays.asList(b, f));
+        when(stepScopeA1.getStep()).thenReturn(stepA1);
+        pillarSelector.stepEnded(stepScopeA1);
+
+        LocalSearchStepScope stepScopeA2 = mock(LocalSearchStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        // The pillars are updated incrementally, so a new pillar is added at the end
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[d]", "[b, c, e]", "[f]");
+        Move stepA2 = mock(Move.class);
+        when(stepA2.getPlanningEntities()).thenReturn(Collections.emptyList());
+        when(stepScopeA2.getStep()).thenReturn(stepA2);
+        pillarSelector.stepEnded(stepScopeA2);
+
+        // For example a ProblemFactChange that added an entity
+        when(scoreDirector.isWorkingEntityListDirty(anyLong())).thenReturn(true);
+        LocalSearchStepScope stepScopeA3 = mock(LocalSearchStepScope.class);
+        when(stepScopeA3.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA3);
+        // A changed working entity list rebuilds the pillars
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, c, e]", "[d]", "[f]");
+        Move stepA3 = mock(Move.class);
+        when(stepA3.getPlanningEntities()).thenReturn(Collections.emptyList());
+        when(stepScopeA3.getStep()).thenReturn(stepA3);
+        pillarSelector.stepEnded(stepScopeA3);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+
+        pillarSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(entitySelector, 1, 1, 3);
+    }
+
     @Test
     public void emptyEntitySelectorOriginalNoSubs() {
         GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.chained;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+public class KOptMoveSelectorTest {
+
+    @Test
+    public void originalSelection() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity
+                .buildVariableDescriptorForChainedObject();
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+
+        EntitySelector<TestdataChainedSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                variableDescriptor.getEntityDescriptor(), a1, b1);
+        ValueSelector<TestdataChainedSolution> valueSelector = SelectorTestUtils.mockValueSelector(
+                variableDescriptor, a0, a1, b0);
+        KOptMoveSelector<TestdataChainedSolution> moveSelector = new KOptMoveSelector<>(entitySelector,
+                new ValueSelector[] { valueSelector, valueSelector }, false);
+
+        assertThat(moveSelector.isNeverEnding()).isFalse();
+        assertThat(moveSelector.getSize()).isEqualTo(18L);
+        List<KOptMove<TestdataChainedSolution>> moveList = new ArrayList<>();
+        for (Iterator<Move<TestdataChainedSolution>> it = moveSelector.iterator(); it.hasNext();) {
+            moveList.add((KOptMove<TestdataChainedSolution>) it.next());
+        }
+        assertThat(moveList).hasSize(18);
+        assertThat(moveList.get(0).getEntity()).isSameAs(a1);
+        assertThat(moveList.get(0).getValues()).containsExactly(a0, a0);
+        assertThat(moveList.get(1).getValues()).containsExactly(a0, a1);
+        assertThat(moveList.get(3).getValues()).containsExactly(a1, a0);
+        assertThat(moveList.get(8).getValues()).containsExactly(b0, b0);
+        assertThat(moveList.get(9).getEntity()).isSameAs(b1);
+        assertThat(moveList.get(9).getValues()).containsExactly(a0, a0);
+    }
+
+    @Test
+    public void getSizeWithEntityIndependentValueSelector() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity
+                .buildVariableDescriptorForChainedObject();
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+
+        EntitySelector<TestdataChainedSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                variableDescriptor.getEntityDescriptor(), a1, a2);
+        ValueSelector<TestdataChainedSolution> valueSelector = SelectorTestUtils.mockEntityIndependentValueSelector(
+                variableDescriptor, a0, a1, a2);
+        KOptMoveSelector<TestdataChainedSolution> moveSelector = new KOptMoveSelector<>(entitySelector,
+                new ValueSelector[] { valueSelector, valueSelector }, false);
+
+        assertThat(moveSelector.getSize()).isEqualTo(2L * 3L * 3L);
+    }
+
+}
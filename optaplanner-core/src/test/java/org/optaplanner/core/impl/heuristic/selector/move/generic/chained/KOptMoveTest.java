@@ -17,7 +17,9 @@
 package org.optaplanner.core.impl.heuristic.selector.move.generic.chained;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertArrayElementsSameExactly;
 import static org.optaplanner.core.impl.testdata.util.PlannerTestUtils.mockRebasingScoreDirector;
 
@@ -26,13 +28,13 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
-import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
@@ -258,7 +260,6 @@ public class KOptMoveTest {
     }
 
     @Test
-    @Disabled("https://issues.redhat.com/browse/PLANNER-1250") // TODO https://issues.redhat.com/browse/PLANNER-1250
     public void rebase() {
         GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity
                 .buildVariableDescriptorForChainedObject();
@@ -279,7 +280,7 @@ public class KOptMoveTest {
         TestdataChainedAnchor destinationC0 = new TestdataChainedAnchor("c0");
         TestdataChainedEntity destinationC1 = new TestdataChainedEntity("c1", destinationC0);
 
-        ScoreDirector<TestdataChainedSolution> destinationScoreDirector = mockRebasingScoreDirector(
+        InnerScoreDirector<TestdataChainedSolution, SimpleScore> destinationScoreDirector = mockRebasingScoreDirector(
                 variableDescriptor.getEntityDescriptor().getSolutionDescriptor(), new Object[][] {
                         { a0, destinationA0 },
                         { a1, destinationA1 },
@@ -289,6 +290,12 @@ public class KOptMoveTest {
                         { c0, destinationC0 },
                         { c1, destinationC1 },
                 });
+        SupplyManager<TestdataChainedSolution> destinationSupplyManager = mock(SupplyManager.class);
+        when(destinationSupplyManager.demand(any(SingletonInverseVariableDemand.class)))
+                .thenReturn(mock(SingletonInverseVariableSupply.class));
+        when(destinationSupplyManager.demand(any(AnchorVariableDemand.class)))
+                .thenReturn(mock(AnchorVariableSupply.class));
+        when(destinationScoreDirector.getSupplyManager()).thenReturn(destinationSupplyManager);
         SingletonInverseVariableSupply inverseVariableSupply = mock(SingletonInverseVariableSupply.class);
         AnchorVariableSupply anchorVariableSupply = mock(AnchorVariableSupply.class);
 
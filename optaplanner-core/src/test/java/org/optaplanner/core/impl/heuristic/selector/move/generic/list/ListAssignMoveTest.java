@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListMoveTestUtils.assertShadowVariables;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListMoveTestUtils.buildScoreDirector;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class ListAssignMoveTest {
+
+    @Test
+    public void doMove() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = buildScoreDirector(a);
+        scoreDirector.getWorkingSolution().getValueList().add(v3);
+        scoreDirector.setWorkingSolution(scoreDirector.getWorkingSolution());
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                scoreDirector.getSolutionDescriptor().getListVariableDescriptor();
+        assertThat(v3.getEntity()).isNull();
+
+        Move<TestdataListSolution> undoMove = new ListAssignMove<>(variableDescriptor, v3, a, 1).doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v3, v2);
+        assertShadowVariables(a);
+
+        undoMove.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v2);
+        assertShadowVariables(a);
+        assertThat(v3.getEntity()).isNull();
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListMoveTestUtils.assertShadowVariables;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListMoveTestUtils.buildScoreDirector;
+import static org.optaplanner.core.impl.testdata.util.PlannerTestUtils.mockRebasingScoreDirector;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class ListChangeMoveTest {
+
+    @Test
+    public void isMoveDoable() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b");
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+
+        assertThat(new ListChangeMove<>(variableDescriptor, a, 0, a, 0).isMoveDoable(null)).isFalse();
+        assertThat(new ListChangeMove<>(variableDescriptor, a, 0, a, 1).isMoveDoable(null)).isTrue();
+        assertThat(new ListChangeMove<>(variableDescriptor, a, 1, b, 0).isMoveDoable(null)).isTrue();
+    }
+
+    @Test
+    public void doMoveOnSameEntity() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v4 = new TestdataListValue("4");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2, v3, v4);
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = buildScoreDirector(a);
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                scoreDirector.getSolutionDescriptor().getListVariableDescriptor();
+
+        ListChangeMove<TestdataListSolution> move = new ListChangeMove<>(variableDescriptor, a, 0, a, 2);
+        Move<TestdataListSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v2, v3, v1, v4);
+        assertShadowVariables(a);
+        assertThat(move.getPlanningValues().toArray()).containsExactly(v1);
+
+        undoMove.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v2, v3, v4);
+        assertShadowVariables(a);
+    }
+
+    @Test
+    public void doMoveOnOtherEntity() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b", v3);
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = buildScoreDirector(a, b);
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                scoreDirector.getSolutionDescriptor().getListVariableDescriptor();
+
+        ListChangeMove<TestdataListSolution> move = new ListChangeMove<>(variableDescriptor, a, 0, b, 1);
+        Move<TestdataListSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v2);
+        assertThat(b.getValueList()).containsExactly(v3, v1);
+        assertShadowVariables(a, b);
+
+        undoMove.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v2);
+        assertThat(b.getValueList()).containsExactly(v3);
+        assertShadowVariables(a, b);
+    }
+
+    @Test
+    public void rebase() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListEntity a = new TestdataListEntity("a", v1);
+        TestdataListEntity b = new TestdataListEntity("b");
+        TestdataListValue destinationV1 = new TestdataListValue("1");
+        TestdataListEntity destinationA = new TestdataListEntity("a", destinationV1);
+        TestdataListEntity destinationB = new TestdataListEntity("b");
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        InnerScoreDirector<TestdataListSolution, SimpleScore> destinationScoreDirector = mockRebasingScoreDirector(
+                variableDescriptor.getEntityDescriptor().getSolutionDescriptor(), new Object[][] {
+                        { v1, destinationV1 },
+                        { a, destinationA },
+                        { b, destinationB },
+                });
+
+        ListChangeMove<TestdataListSolution> rebasedMove = new ListChangeMove<>(variableDescriptor, a, 0, b, 0)
+                .rebase(destinationScoreDirector);
+        assertThat(rebasedMove.getSourceEntity()).isSameAs(destinationA);
+        assertThat(rebasedMove.getDestinationEntity()).isSameAs(destinationB);
+        assertThat(rebasedMove.getMovedValue()).isSameAs(destinationV1);
+    }
+
+    @Test
+    public void toStringTest() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListEntity a = new TestdataListEntity("a", v1);
+        TestdataListEntity b = new TestdataListEntity("b");
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+
+        assertThat(new ListChangeMove<>(variableDescriptor, a, 0, b, 0)).hasToString("1 {a[0] -> b[0]}");
+    }
+
+}
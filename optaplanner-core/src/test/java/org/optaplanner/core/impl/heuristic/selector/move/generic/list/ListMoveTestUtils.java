@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+final class ListMoveTestUtils {
+
+    /**
+     * @param entities never null, their lists contain all values of the solution
+     * @return never null, with a working solution that contains the entities
+     */
+    static InnerScoreDirector<TestdataListSolution, SimpleScore> buildScoreDirector(TestdataListEntity... entities) {
+        TestdataListSolution solution = new TestdataListSolution("s1");
+        solution.setEntityList(Arrays.asList(entities));
+        solution.setValueList(Arrays.stream(entities)
+                .flatMap(entity -> entity.getValueList().stream())
+                .collect(Collectors.toList()));
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataListSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        return scoreDirector;
+    }
+
+    /**
+     * Asserts that the inverse, index, previous and next shadow variables of every element match its list.
+     *
+     * @param entities never null
+     */
+    static void assertShadowVariables(TestdataListEntity... entities) {
+        for (TestdataListEntity entity : entities) {
+            List<TestdataListValue> valueList = entity.getValueList();
+            for (int i = 0; i < valueList.size(); i++) {
+                TestdataListValue value = valueList.get(i);
+                assertThat(value.getEntity()).isSameAs(entity);
+                assertThat(value.getIndex()).isEqualTo(i);
+                assertThat(value.getPreviousValue()).isSameAs(i == 0 ? null : valueList.get(i - 1));
+                assertThat(value.getNextValue()).isSameAs(i == valueList.size() - 1 ? null : valueList.get(i + 1));
+            }
+        }
+    }
+
+    /**
+     * Asserts that {@link MoveSelector#getSize()} equals the number of moves of the original iterator
+     * and that every move of the original iterator is doable.
+     *
+     * @param moveSelector never null, with original selection
+     * @param scoreDirector never null
+     * @param expectedSize {@code >= 0}
+     */
+    static void assertOriginalSize(MoveSelector<TestdataListSolution> moveSelector,
+            InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector, long expectedSize) {
+        assertThat(moveSelector.getSize()).isEqualTo(expectedSize);
+        long count = 0L;
+        Iterator<Move<TestdataListSolution>> iterator = moveSelector.iterator();
+        while (iterator.hasNext()) {
+            Move<TestdataListSolution> move = iterator.next();
+            assertThat(move.isMoveDoable(scoreDirector)).as("Move (%s) is not doable.", move).isTrue();
+            count++;
+        }
+        assertThat(count).isEqualTo(expectedSize);
+    }
+
+    private ListMoveTestUtils() {
+    }
+
+}
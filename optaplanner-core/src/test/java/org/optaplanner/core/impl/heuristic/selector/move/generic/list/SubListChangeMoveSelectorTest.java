@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListMoveTestUtils.assertOriginalSize;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListMoveTestUtils.buildScoreDirector;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class SubListChangeMoveSelectorTest {
+
+    @Test
+    public void originalSize() {
+        TestdataListEntity a = new TestdataListEntity("a",
+                new TestdataListValue("1"), new TestdataListValue("2"), new TestdataListValue("3"));
+        TestdataListEntity b = new TestdataListEntity("b");
+        TestdataListEntity c = new TestdataListEntity("c", new TestdataListValue("4"), new TestdataListValue("5"));
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = buildScoreDirector(a, b, c);
+        EntitySelector<TestdataListSolution> entitySelector =
+                SelectorTestUtils.mockEntitySelector(TestdataListEntity.buildEntityDescriptor(), a, b, c);
+
+        // Sub lists a[0, 2), a[0, 3), a[1, 3) and c[0, 2), each to every other position and reversed to every position
+        assertOriginalSize(new SubListChangeMoveSelector<>(entitySelector, false, 2, 3, true), scoreDirector, 42L);
+    }
+
+}
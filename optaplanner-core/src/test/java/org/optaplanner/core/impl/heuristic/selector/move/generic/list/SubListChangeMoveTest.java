@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListMoveTestUtils.assertShadowVariables;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListMoveTestUtils.buildScoreDirector;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class SubListChangeMoveTest {
+
+    @Test
+    public void isMoveDoable() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+
+        assertThat(new SubListChangeMove<>(variableDescriptor, a, 0, 2, a, 0, false).isMoveDoable(null)).isFalse();
+        assertThat(new SubListChangeMove<>(variableDescriptor, a, 0, 2, a, 0, true).isMoveDoable(null)).isTrue();
+        assertThat(new SubListChangeMove<>(variableDescriptor, a, 0, 1, a, 0, true).isMoveDoable(null)).isFalse();
+        assertThat(new SubListChangeMove<>(variableDescriptor, a, 0, 1, a, 1, false).isMoveDoable(null)).isTrue();
+    }
+
+    @Test
+    public void doMoveOnSameEntity() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v4 = new TestdataListValue("4");
+        TestdataListValue v5 = new TestdataListValue("5");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2, v3, v4, v5);
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = buildScoreDirector(a);
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                scoreDirector.getSolutionDescriptor().getListVariableDescriptor();
+
+        SubListChangeMove<TestdataListSolution> move = new SubListChangeMove<>(variableDescriptor, a, 1, 2, a, 3, true);
+        Move<TestdataListSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v4, v5, v3, v2);
+        assertShadowVariables(a);
+        assertThat(move.getPlanningValues().toArray()).containsExactly(v2, v3);
+
+        undoMove.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v2, v3, v4, v5);
+        assertShadowVariables(a);
+    }
+
+    @Test
+    public void doMoveOnOtherEntity() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v4 = new TestdataListValue("4");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2, v3);
+        TestdataListEntity b = new TestdataListEntity("b", v4);
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = buildScoreDirector(a, b);
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                scoreDirector.getSolutionDescriptor().getListVariableDescriptor();
+
+        Move<TestdataListSolution> undoMove = new SubListChangeMove<>(variableDescriptor, a, 0, 2, b, 0, false)
+                .doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v3);
+        assertThat(b.getValueList()).containsExactly(v1, v2, v4);
+        assertShadowVariables(a, b);
+
+        undoMove.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v2, v3);
+        assertThat(b.getValueList()).containsExactly(v4);
+        assertShadowVariables(a, b);
+    }
+
+}
@@ -31,6 +31,7 @@ import org.optaplanner.core.impl.heuristic.selector.entity.mimic.MimicReplayingE
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -109,6 +110,7 @@ public class NearEntityNearbyValueSelectorTest {
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
         when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        when(phaseScopeA.getScoreDirector()).thenReturn(mock(InnerScoreDirector.class));
         valueSelector.phaseStarted(phaseScopeA);
 
         AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
@@ -129,6 +131,7 @@ public class NearEntityNearbyValueSelectorTest {
 
         AbstractPhaseScope phaseScopeB = mock(AbstractPhaseScope.class);
         when(phaseScopeB.getSolverScope()).thenReturn(solverScope);
+        when(phaseScopeB.getScoreDirector()).thenReturn(mock(InnerScoreDirector.class));
         valueSelector.phaseStarted(phaseScopeB);
 
         AbstractStepScope stepScopeB1 = mock(AbstractStepScope.class);
@@ -227,6 +230,7 @@ public class NearEntityNearbyValueSelectorTest {
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
         when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        when(phaseScopeA.getScoreDirector()).thenReturn(mock(InnerScoreDirector.class));
         valueSelector.phaseStarted(phaseScopeA);
 
         AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
@@ -247,6 +251,7 @@ public class NearEntityNearbyValueSelectorTest {
 
         AbstractPhaseScope phaseScopeB = mock(AbstractPhaseScope.class);
         when(phaseScopeB.getSolverScope()).thenReturn(solverScope);
+        when(phaseScopeB.getScoreDirector()).thenReturn(mock(InnerScoreDirector.class));
         valueSelector.phaseStarted(phaseScopeB);
 
         AbstractStepScope stepScopeB1 = mock(AbstractStepScope.class);
@@ -20,14 +20,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.heuristic.move.DummyMove;
 import org.optaplanner.core.impl.partitionedsearch.queue.PartitionQueueTest;
@@ -164,6 +170,91 @@ public class OrderByMoveIndexBlockingQueueTest {
         }).hasCause(exception);
     }
 
+    /**
+     * Mimics the multithreaded deciders: the move threads race with the solver thread,
+     * each step only consumes some of the dispatched moves
+     * and the move threads pass the step barrier while stale results of the previous step are still in flight.
+     */
+    @Test
+    @Timeout(60)
+    public void concurrentStepRollover() throws InterruptedException, ExecutionException {
+        final int moveThreadCount = 4;
+        final int selectedMoveBufferSize = 8;
+        final int stepCount = 200;
+        final int moveCount = 50;
+        // Same capacity as the multithreaded deciders
+        OrderByMoveIndexBlockingQueue<TestdataSolution> queue = new OrderByMoveIndexBlockingQueue<>(
+                selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        // Each operation is {stepIndex, moveIndex}: moveIndex -1 means apply the step, -2 means destroy
+        BlockingQueue<int[]> operationQueue = new LinkedBlockingQueue<>();
+        CyclicBarrier moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        ExecutorService moveThreadPool = Executors.newFixedThreadPool(moveThreadCount);
+        try {
+            List<Future<?>> moveThreadFutureList = new ArrayList<>(moveThreadCount);
+            for (int i = 0; i < moveThreadCount; i++) {
+                int moveThreadIndex = i;
+                moveThreadFutureList.add(moveThreadPool.submit(() -> {
+                    int moveThreadStepIndex = 0;
+                    while (true) {
+                        int[] operation = operationQueue.take();
+                        if (operation[1] == -2) {
+                            return null;
+                        } else if (operation[1] == -1) {
+                            // Don't take another operation until every move thread took this one
+                            moveThreadBarrier.await();
+                            if (moveThreadStepIndex + 1 != operation[0]) {
+                                throw new IllegalStateException("The moveThreadStepIndex (" + moveThreadStepIndex
+                                        + ") is not followed by the operation's stepIndex (" + operation[0] + ").");
+                            }
+                            moveThreadStepIndex = operation[0];
+                        } else {
+                            int stepIndex = operation[0];
+                            int moveIndex = operation[1];
+                            DummyMove move = new DummyMove(stepIndex + "-" + moveIndex);
+                            if (moveIndex % 3 == 0) {
+                                queue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
+                            } else {
+                                queue.addMove(moveThreadIndex, stepIndex, moveIndex, move, SimpleScore.of(-moveIndex));
+                            }
+                        }
+                    }
+                }));
+            }
+
+            for (int stepIndex = 0; stepIndex < stepCount; stepIndex++) {
+                queue.startNextStep(stepIndex);
+                int dispatchedMoveIndex = 0;
+                for (; dispatchedMoveIndex < selectedMoveBufferSize; dispatchedMoveIndex++) {
+                    operationQueue.add(new int[] { stepIndex, dispatchedMoveIndex });
+                }
+                // Quit the step early (like an accepted count limit) to leave results of this step in flight
+                int takeCount = 1 + (stepIndex * 7) % moveCount;
+                for (int moveIndex = 0; moveIndex < takeCount; moveIndex++) {
+                    OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution> result = queue.take();
+                    assertThat(result.getStepIndex()).isEqualTo(stepIndex);
+                    assertThat(result.getMoveIndex()).isEqualTo(moveIndex);
+                    assertCode(stepIndex + "-" + moveIndex, result.getMove());
+                    assertThat(result.isMoveDoable()).isEqualTo(moveIndex % 3 != 0);
+                    if (dispatchedMoveIndex < moveCount) {
+                        operationQueue.add(new int[] { stepIndex, dispatchedMoveIndex });
+                        dispatchedMoveIndex++;
+                    }
+                }
+                for (int i = 0; i < moveThreadCount; i++) {
+                    operationQueue.add(new int[] { stepIndex + 1, -1 });
+                }
+            }
+            for (int i = 0; i < moveThreadCount; i++) {
+                operationQueue.add(new int[] { stepCount, -2 });
+            }
+            for (Future<?> moveThreadFuture : moveThreadFutureList) {
+                moveThreadFuture.get(); // Fails if a move thread overflowed the queue or broke the barrier
+            }
+        } finally {
+            moveThreadPool.shutdownNow();
+        }
+    }
+
     private void assertResult(String moveCode, int score, OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution> result) {
         assertCode(moveCode, result.getMove());
         assertThat(result.getScore()).isEqualTo(SimpleScore.of(score));
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.TabuStore.NO_STEP_INDEX;
+
+import org.junit.jupiter.api.Test;
+
+public class TabuStoreTest {
+
+    @Test
+    public void addAndRemoveExpired() {
+        TabuStore tabuStore = new TabuStore(2);
+        tabuStore.add("a", 0);
+        tabuStore.add("b", 0);
+        tabuStore.add("c", 1);
+        assertThat(tabuStore.size()).isEqualTo(3);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(0);
+        assertThat(tabuStore.getStepIndex("c")).isEqualTo(1);
+        assertThat(tabuStore.getStepIndex("d")).isEqualTo(NO_STEP_INDEX);
+
+        tabuStore.removeExpired(2, 2);
+        assertThat(tabuStore.size()).isEqualTo(1);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(NO_STEP_INDEX);
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(NO_STEP_INDEX);
+        assertThat(tabuStore.getStepIndex("c")).isEqualTo(1);
+    }
+
+    @Test
+    public void addAgainPushesToTheEndOfTheLine() {
+        TabuStore tabuStore = new TabuStore(2);
+        tabuStore.add("a", 0);
+        tabuStore.add("b", 0);
+        tabuStore.add("a", 1);
+        tabuStore.add("a", 1);
+        assertThat(tabuStore.size()).isEqualTo(2);
+        assertThat(tabuStore.getSequenceSize()).isEqualTo(3);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(1);
+
+        tabuStore.removeExpired(2, 2);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(1);
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(NO_STEP_INDEX);
+        assertThat(tabuStore.getSequenceSize()).isEqualTo(1);
+
+        tabuStore.removeExpired(3, 2);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(NO_STEP_INDEX);
+        assertThat(tabuStore.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void nullTabu() {
+        TabuStore tabuStore = new TabuStore(2);
+        tabuStore.add(null, 0);
+        tabuStore.add("a", 0);
+        assertThat(tabuStore.getStepIndex(null)).isEqualTo(0);
+        assertThat(tabuStore.size()).isEqualTo(2);
+        tabuStore.removeExpired(1, 1);
+        assertThat(tabuStore.getStepIndex(null)).isEqualTo(NO_STEP_INDEX);
+        assertThat(tabuStore.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void growBeyondExpectedTabuCount() {
+        TabuStore tabuStore = new TabuStore(0);
+        for (int i = 0; i < 1000; i++) {
+            tabuStore.add(i, i / 10);
+        }
+        assertThat(tabuStore.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(tabuStore.getStepIndex(i)).isEqualTo(i / 10);
+        }
+        tabuStore.removeExpired(100, 50);
+        // Steps 0 to 50 have expired
+        assertThat(tabuStore.size()).isEqualTo(490);
+        assertThat(tabuStore.getStepIndex(509)).isEqualTo(NO_STEP_INDEX);
+        assertThat(tabuStore.getStepIndex(510)).isEqualTo(51);
+    }
+
+}
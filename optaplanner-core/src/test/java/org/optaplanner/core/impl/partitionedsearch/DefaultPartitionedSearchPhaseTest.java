@@ -16,11 +16,14 @@
 package org.optaplanner.core.impl.partitionedsearch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -33,6 +36,7 @@ import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
@@ -40,6 +44,7 @@ import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
 import org.optaplanner.core.impl.partitionedsearch.scope.PartitionedSearchPhaseScope;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
@@ -80,7 +85,101 @@ public class DefaultPartitionedSearchPhaseTest {
         solver.solve(createSolution(partCount * partSize, 2));
     }
 
+    @Test
+    @Timeout(5)
+    public void repartition() {
+        final int partSize = 3;
+        final int partCount = 4;
+        final int repartitionCount = 2;
+        SolverFactory<TestdataSolution> solverFactory = createSolverFactory(false, SolverConfig.MOVE_THREAD_COUNT_NONE,
+                partSize, repartitionCount);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        PartitionedSearchPhase<TestdataSolution> phase = (PartitionedSearchPhase<TestdataSolution>) solver.getPhaseList()
+                .get(0);
+        phase.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void phaseEnded(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                PartitionedSearchPhaseScope<TestdataSolution> partitionedSearchPhaseScope =
+                        (PartitionedSearchPhaseScope<TestdataSolution>) phaseScope;
+                assertThat(partitionedSearchPhaseScope.getRoundCount()).isEqualTo(repartitionCount + 1);
+                assertThat(partitionedSearchPhaseScope.getPartCount()).isEqualTo(Integer.valueOf(partCount));
+            }
+        });
+        TestdataSolution bestSolution = solver.solve(createSolution(partCount * partSize, 2));
+        assertThat(bestSolution.getEntityList()).hasSize(partCount * partSize);
+        assertThat(bestSolution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
+
+    @Test
+    @Timeout(5)
+    public void repartitionSolvesLaterRounds() {
+        final int roundCount = 3;
+        SolverConfig solverConfig = createSolverConfig(false, SolverConfig.MOVE_THREAD_COUNT_NONE, 2, roundCount - 1);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig =
+                (PartitionedSearchPhaseConfig) solverConfig.getPhaseConfigList().get(0);
+        partitionedSearchPhaseConfig.setSolutionPartitionerClass(RoundRobinSolutionPartitioner.class);
+        Map<String, String> solutionPartitionerCustomProperties = new HashMap<>();
+        solutionPartitionerCustomProperties.put("roundCount", Integer.toString(roundCount));
+        partitionedSearchPhaseConfig.setSolutionPartitionerCustomProperties(solutionPartitionerCustomProperties);
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        // Every round only partitions the entities that no previous round has seen
+        TestdataSolution bestSolution = solver.solve(createSolution(roundCount * 4, 2));
+        assertThat(bestSolution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
+
+    @Test
+    public void repartitionWithoutPartitionTermination() {
+        SolverFactory<TestdataSolution> solverFactory = createSolverFactory(true, SolverConfig.MOVE_THREAD_COUNT_NONE,
+                3, 1);
+        assertThatIllegalArgumentException().isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("repartitionCount");
+    }
+
+    /**
+     * Partitions the entities with an index modulo roundCount that equals the roundIndex, in parts of 2 entities.
+     */
+    public static class RoundRobinSolutionPartitioner implements SolutionPartitioner<TestdataSolution> {
+
+        private int roundCount = 1;
+
+        public void setRoundCount(int roundCount) {
+            this.roundCount = roundCount;
+        }
+
+        @Override
+        public List<TestdataSolution> splitWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector,
+                Integer runnablePartThreadLimit) {
+            return splitWorkingSolution(scoreDirector, runnablePartThreadLimit, 0);
+        }
+
+        @Override
+        public List<TestdataSolution> splitWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector,
+                Integer runnablePartThreadLimit, int roundIndex) {
+            TestdataSolution workingSolution = scoreDirector.getWorkingSolution();
+            List<TestdataEntity> entityList = workingSolution.getEntityList();
+            List<TestdataSolution> partList = new ArrayList<>();
+            for (int i = roundIndex; i + roundCount < entityList.size(); i += roundCount * 2) {
+                TestdataSolution part = new TestdataSolution();
+                part.setEntityList(Arrays.asList(entityList.get(i), entityList.get(i + roundCount)));
+                part.setValueList(workingSolution.getValueList());
+                partList.add(part);
+            }
+            return partList;
+        }
+
+    }
+
     private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite, String moveThreadCount, int partSize) {
+        return createSolverFactory(infinite, moveThreadCount, partSize, null);
+    }
+
+    private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite, String moveThreadCount, int partSize,
+            Integer repartitionCount) {
+        return SolverFactory.create(createSolverConfig(infinite, moveThreadCount, partSize, repartitionCount));
+    }
+
+    private static SolverConfig createSolverConfig(boolean infinite, String moveThreadCount, int partSize,
+            Integer repartitionCount) {
         SolverConfig solverConfig = PlannerTestUtils
                 .buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
         solverConfig.setMoveThreadCount(moveThreadCount);
@@ -89,6 +188,7 @@ public class DefaultPartitionedSearchPhaseTest {
         Map<String, String> solutionPartitionerCustomProperties = new HashMap<>();
         solutionPartitionerCustomProperties.put("partSize", Integer.toString(partSize));
         partitionedSearchPhaseConfig.setSolutionPartitionerCustomProperties(solutionPartitionerCustomProperties);
+        partitionedSearchPhaseConfig.setRepartitionCount(repartitionCount);
         solverConfig.setPhaseConfigList(Arrays.asList(partitionedSearchPhaseConfig));
         ConstructionHeuristicPhaseConfig constructionHeuristicPhaseConfig = new ConstructionHeuristicPhaseConfig();
         LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
@@ -97,7 +197,7 @@ public class DefaultPartitionedSearchPhaseTest {
         }
         partitionedSearchPhaseConfig.setPhaseConfigList(
                 Arrays.asList(constructionHeuristicPhaseConfig, localSearchPhaseConfig));
-        return SolverFactory.create(solverConfig);
+        return solverConfig;
     }
 
     private static TestdataSolution createSolution(int entities, int values) {
@@ -16,6 +16,7 @@
 package org.optaplanner.core.impl.partitionedsearch;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
@@ -37,8 +38,16 @@ public class TestdataSolutionPartitioner implements SolutionPartitioner<Testdata
     @Override
     public List<TestdataSolution> splitWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector,
             Integer runnablePartThreadLimit) {
+        return splitWorkingSolution(scoreDirector, runnablePartThreadLimit, 0);
+    }
+
+    @Override
+    public List<TestdataSolution> splitWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector,
+            Integer runnablePartThreadLimit, int roundIndex) {
         TestdataSolution workingSolution = scoreDirector.getWorkingSolution();
-        List<TestdataEntity> allEntities = workingSolution.getEntityList();
+        // Shift the partition boundaries by 1 entity per round
+        List<TestdataEntity> allEntities = new ArrayList<>(workingSolution.getEntityList());
+        Collections.rotate(allEntities, -roundIndex);
         if (allEntities.size() % partSize > 0) {
             throw new IllegalStateException("This partitioner can only make equally sized partitions."
                     + " This is impossible because number of allEntities (" + allEntities.size()
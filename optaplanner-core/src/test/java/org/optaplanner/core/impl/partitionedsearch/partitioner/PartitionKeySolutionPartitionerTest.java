@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class PartitionKeySolutionPartitionerTest {
+
+    @Test
+    public void splitWorkingSolution() {
+        TestdataSolution solution = createSolution();
+        List<TestdataEntity> entityList = solution.getEntityList();
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mockScoreDirector(solution);
+
+        List<TestdataSolution> partList = new FirstLetterPartitioner().splitWorkingSolution(scoreDirector, null);
+        assertThat(partList).hasSize(3);
+        assertThat(partList.get(0).getEntityList()).extracting(TestdataEntity::getCode).containsExactly("a1", "a2", "a3");
+        assertThat(partList.get(1).getEntityList()).extracting(TestdataEntity::getCode).containsExactly("b1", "b2");
+        assertThat(partList.get(2).getEntityList()).extracting(TestdataEntity::getCode).containsExactly("c1");
+        for (TestdataSolution part : partList) {
+            assertThat(part).isNotSameAs(solution);
+            assertThat(part.getEntityList()).doesNotContainAnyElementsOf(solution.getEntityList());
+            assertThat(part.getValueList()).isSameAs(solution.getValueList());
+        }
+        // The working solution is untouched
+        assertThat(solution.getEntityList()).isSameAs(entityList).hasSize(6);
+    }
+
+    @Test
+    public void splitWorkingSolutionClonesOnlyThePartEntities() {
+        TestdataSolution solution = createSolution();
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = spy(TestdataSolution.buildSolutionDescriptor());
+        SolutionCloner<TestdataSolution> solutionCloner = solutionDescriptor.getSolutionCloner();
+        List<List<String>> clonedEntityCodeLists = new ArrayList<>();
+        when(solutionDescriptor.getSolutionCloner()).thenReturn(original -> {
+            clonedEntityCodeLists.add(original.getEntityList().stream()
+                    .map(TestdataEntity::getCode)
+                    .collect(Collectors.toList()));
+            return solutionCloner.cloneSolution(original);
+        });
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(solutionDescriptor);
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        AtomicInteger extractPartitionKeyCount = new AtomicInteger();
+        FirstLetterPartitioner partitioner = new FirstLetterPartitioner() {
+            @Override
+            protected Object extractPartitionKey(Object entity) {
+                extractPartitionKeyCount.incrementAndGet();
+                return super.extractPartitionKey(entity);
+            }
+        };
+
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(scoreDirector, null);
+        assertThat(partList).hasSize(3);
+        // The working solution is cloned once, then every partition but the last one clones its own entities
+        assertThat(clonedEntityCodeLists).containsExactly(
+                Arrays.asList("a1", "b1", "a2", "c1", "b2", "a3"),
+                Arrays.asList("a1", "a2", "a3"),
+                Arrays.asList("b1", "b2"));
+        assertThat(extractPartitionKeyCount).hasValue(6);
+        assertThat(solution.getEntityList()).extracting(TestdataEntity::getCode)
+                .containsExactly("a1", "b1", "a2", "c1", "b2", "a3");
+    }
+
+    @Test
+    public void splitWorkingSolutionWithoutEntities() {
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Collections.singletonList(new TestdataValue("v1")));
+        solution.setEntityList(Collections.emptyList());
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mockScoreDirector(solution);
+
+        List<TestdataSolution> partList = new FirstLetterPartitioner().splitWorkingSolution(scoreDirector, null);
+        assertThat(partList).hasSize(1);
+        assertThat(partList.get(0).getEntityList()).isEmpty();
+    }
+
+    @Test
+    public void nullPartitionKey() {
+        TestdataSolution solution = createSolution();
+        solution.getEntityList().get(2).setCode(null);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mockScoreDirector(solution);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new FirstLetterPartitioner().splitWorkingSolution(scoreDirector, null))
+                .withMessageContaining("null partitionKey");
+    }
+
+    @Test
+    public void solveConstructionHeuristicPerPartition() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig = new PartitionedSearchPhaseConfig();
+        partitionedSearchPhaseConfig.setSolutionPartitionerClass(FirstLetterPartitioner.class);
+        partitionedSearchPhaseConfig.setPhaseConfigList(
+                Collections.singletonList(new ConstructionHeuristicPhaseConfig()));
+        solverConfig.setPhaseConfigList(Collections.singletonList(partitionedSearchPhaseConfig));
+
+        TestdataSolution solution = createSolution();
+        TestdataSolution bestSolution = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver()
+                .solve(solution);
+        assertThat(bestSolution.getEntityList()).extracting(TestdataEntity::getCode)
+                .containsExactly("a1", "b1", "a2", "c1", "b2", "a3");
+        assertThat(bestSolution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
+
+    private static TestdataSolution createSolution() {
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.stream(new String[] { "a1", "b1", "a2", "c1", "b2", "a3" })
+                .map(TestdataEntity::new)
+                .collect(Collectors.toList()));
+        return solution;
+    }
+
+    private static InnerScoreDirector<TestdataSolution, SimpleScore> mockScoreDirector(TestdataSolution solution) {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        return scoreDirector;
+    }
+
+    public static class FirstLetterPartitioner extends PartitionKeySolutionPartitioner<TestdataSolution> {
+
+        @Override
+        protected Object extractPartitionKey(Object entity) {
+            String code = ((TestdataEntity) entity).getCode();
+            return code == null ? null : code.substring(0, 1);
+        }
+
+    }
+
+}
@@ -18,52 +18,64 @@ package org.optaplanner.core.impl.score.buildin.bendable;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.util.function.Consumer;
-
 import org.junit.jupiter.api.Test;
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 
 public class BendableScoreInlinerTest {
 
     @Test
     public void buildIntWeightedScoreImpacter() {
         boolean constraintMatchEnabled = false;
-        Consumer<Score<?>> scoreConsumer = null;
 
         BendableScoreInliner scoreInliner = new BendableScoreInliner(constraintMatchEnabled, 1, 2);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.zero(1, 2));
 
         IntWeightedScoreImpacter hardImpacter = scoreInliner.buildWeightedScoreImpacter(BendableScore.ofHard(1, 2, 0, -90));
-        UndoScoreImpacter hardUndo = hardImpacter.impactScore(1, scoreConsumer);
+        hardImpacter.impactScore(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -90 }, new int[] { 0, 0 }));
-        scoreInliner.buildWeightedScoreImpacter(BendableScore.ofHard(1, 2, 0, -800)).impactScore(1, scoreConsumer);
+        scoreInliner.buildWeightedScoreImpacter(BendableScore.ofHard(1, 2, 0, -800)).impactScore(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -890 }, new int[] { 0, 0 }));
-        hardUndo.undoScoreImpact();
+        hardImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, 0 }));
 
         IntWeightedScoreImpacter mediumImpacter = scoreInliner.buildWeightedScoreImpacter(BendableScore.ofSoft(1, 2, 0, -7));
-        UndoScoreImpacter mediumUndo = mediumImpacter.impactScore(1, scoreConsumer);
+        mediumImpacter.impactScore(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { -7, 0 }));
-        mediumUndo.undoScoreImpact();
+        mediumImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, 0 }));
 
         IntWeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(BendableScore.ofSoft(1, 2, 1, -1));
-        UndoScoreImpacter softUndo = softImpacter.impactScore(3, scoreConsumer);
+        softImpacter.impactScore(3);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, -3 }));
-        softImpacter.impactScore(10, scoreConsumer);
+        softImpacter.impactScore(10);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, -13 }));
-        softUndo.undoScoreImpact();
+        softImpacter.undoScoreImpact(3);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, -10 }));
 
         IntWeightedScoreImpacter allLevelsImpacter = scoreInliner
                 .buildWeightedScoreImpacter(BendableScore.of(new int[] { -1000 }, new int[] { -2000, -3000 }));
-        UndoScoreImpacter allLevelsUndo = allLevelsImpacter.impactScore(1, scoreConsumer);
+        allLevelsImpacter.impactScore(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -1800 }, new int[] { -2000, -3010 }));
-        allLevelsUndo.undoScoreImpact();
+        allLevelsImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -800 }, new int[] { 0, -10 }));
     }
 
+    @Test
+    public void buildMatchScore() {
+        BendableScoreInliner scoreInliner = new BendableScoreInliner(true, 1, 2);
+
+        IntWeightedScoreImpacter hardImpacter = scoreInliner.buildWeightedScoreImpacter(BendableScore.ofHard(1, 2, 0, -90));
+        assertThat(hardImpacter.buildMatchScore(2)).isEqualTo(BendableScore.ofHard(1, 2, 0, -180));
+        IntWeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(BendableScore.ofSoft(1, 2, 1, -1));
+        assertThat(softImpacter.buildMatchScore(3)).isEqualTo(BendableScore.ofSoft(1, 2, 1, -3));
+        IntWeightedScoreImpacter allLevelsImpacter = scoreInliner
+                .buildWeightedScoreImpacter(BendableScore.of(new int[] { -1000 }, new int[] { -2000, -3000 }));
+        assertThat(allLevelsImpacter.buildMatchScore(2))
+                .isEqualTo(BendableScore.of(new int[] { -2000 }, new int[] { -4000, -6000 }));
+        // Building a match score doesn't impact the score
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(BendableScore.zero(1, 2));
+    }
+
+
 }
@@ -18,45 +18,55 @@ package org.optaplanner.core.impl.score.buildin.hardsoft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.util.function.Consumer;
-
 import org.junit.jupiter.api.Test;
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 
 public class HardSoftScoreInlinerTest {
 
     @Test
     public void buildIntWeightedScoreImpacter() {
         boolean constraintMatchEnabled = false;
-        Consumer<Score<?>> scoreConsumer = null;
 
         HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(constraintMatchEnabled);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.ZERO);
 
         IntWeightedScoreImpacter hardImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.ofHard(-90));
-        UndoScoreImpacter hardUndo = hardImpacter.impactScore(1, scoreConsumer);
+        hardImpacter.impactScore(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-90, 0));
-        scoreInliner.buildWeightedScoreImpacter(HardSoftScore.ofHard(-800)).impactScore(1, scoreConsumer);
+        scoreInliner.buildWeightedScoreImpacter(HardSoftScore.ofHard(-800)).impactScore(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-890, 0));
-        hardUndo.undoScoreImpact();
+        hardImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, 0));
 
         IntWeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.ofSoft(-1));
-        UndoScoreImpacter softUndo = softImpacter.impactScore(3, scoreConsumer);
+        softImpacter.impactScore(3);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, -3));
-        softImpacter.impactScore(10, scoreConsumer);
+        softImpacter.impactScore(10);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, -13));
-        softUndo.undoScoreImpact();
+        softImpacter.undoScoreImpact(3);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, -10));
 
         IntWeightedScoreImpacter allLevelsImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.of(-1000, -3000));
-        UndoScoreImpacter allLevelsUndo = allLevelsImpacter.impactScore(1, scoreConsumer);
+        allLevelsImpacter.impactScore(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-1800, -3010));
-        allLevelsUndo.undoScoreImpact();
+        allLevelsImpacter.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, -10));
     }
 
+    @Test
+    public void buildMatchScore() {
+        HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(true);
+
+        IntWeightedScoreImpacter hardImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.ofHard(-90));
+        assertThat(hardImpacter.buildMatchScore(2)).isEqualTo(HardSoftScore.ofHard(-180));
+        IntWeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.ofSoft(-1));
+        assertThat(softImpacter.buildMatchScore(3)).isEqualTo(HardSoftScore.ofSoft(-3));
+        IntWeightedScoreImpacter allLevelsImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.of(-1000, -3000));
+        assertThat(allLevelsImpacter.buildMatchScore(2)).isEqualTo(HardSoftScore.of(-2000, -6000));
+        // Building a match score doesn't impact the score
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.ZERO);
+    }
+
+
 }
@@ -18,38 +18,33 @@ package org.optaplanner.core.impl.score.buildin.simple;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.util.function.Consumer;
-
 import org.junit.jupiter.api.Test;
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 
 public class SimpleScoreInlinerTest {
 
     @Test
     public void buildIntWeightedScoreImpacter() {
         boolean constraintMatchEnabled = false;
-        Consumer<Score<?>> scoreConsumer = null;
 
         SimpleScoreInliner scoreInliner = new SimpleScoreInliner(constraintMatchEnabled);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.ZERO);
 
         IntWeightedScoreImpacter impacter1 = scoreInliner.buildWeightedScoreImpacter(SimpleScore.of(-90));
-        UndoScoreImpacter undo1 = impacter1.impactScore(1, scoreConsumer);
+        impacter1.impactScore(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.of(-90));
-        scoreInliner.buildWeightedScoreImpacter(SimpleScore.of(-800)).impactScore(1, scoreConsumer);
+        scoreInliner.buildWeightedScoreImpacter(SimpleScore.of(-800)).impactScore(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.of(-890));
-        undo1.undoScoreImpact();
+        impacter1.undoScoreImpact(1);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.of(-800));
 
         IntWeightedScoreImpacter impacter2 = scoreInliner.buildWeightedScoreImpacter(SimpleScore.of(-1));
-        UndoScoreImpacter undo2 = impacter2.impactScore(3, scoreConsumer);
+        impacter2.impactScore(3);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.of(-803));
-        impacter2.impactScore(10, scoreConsumer);
+        impacter2.impactScore(10);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.of(-813));
-        undo2.undoScoreImpact();
+        impacter2.undoScoreImpact(3);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.of(-810));
     }
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+public class BavetComparisonIndexTest {
+
+    @Test
+    public void lessThan() {
+        BavetComparisonIndex<TestdataJoinBridgeTuple> index = new BavetComparisonIndex<>(JoinerType.LESS_THAN);
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        TestdataJoinBridgeTuple tuple2 = new TestdataJoinBridgeTuple("t2");
+        TestdataJoinBridgeTuple tuple3 = new TestdataJoinBridgeTuple("t3");
+        index.put(1, tuple1);
+        index.put(2, tuple2);
+        index.put(2, tuple3);
+        assertThat(index.get(1)).isEmpty();
+        assertThat(index.get(2)).containsExactly(tuple1);
+        assertThat(index.get(3)).containsExactly(tuple1, tuple2, tuple3);
+        assertThat(index.get(3)).hasSize(3);
+
+        index.remove(tuple2);
+        assertThat(index.get(3)).containsExactly(tuple1, tuple3);
+        index.remove(tuple1);
+        assertThat(index.get(3)).containsExactly(tuple3);
+    }
+
+    @Test
+    public void greaterThanOrEqual() {
+        BavetComparisonIndex<TestdataJoinBridgeTuple> index = new BavetComparisonIndex<>(JoinerType.GREATER_THAN_OR_EQUAL);
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        TestdataJoinBridgeTuple tuple2 = new TestdataJoinBridgeTuple("t2");
+        index.put(1, tuple1);
+        index.put(2, tuple2);
+        assertThat(index.get(0)).containsExactly(tuple1, tuple2);
+        assertThat(index.get(2)).containsExactly(tuple2);
+        assertThat(index.get(3)).isEmpty();
+    }
+
+    @Test
+    public void equalsAndLessThan() {
+        BavetEqualsAndComparisonIndex<TestdataJoinBridgeTuple> index =
+                new BavetEqualsAndComparisonIndex<>(JoinerType.LESS_THAN);
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        TestdataJoinBridgeTuple tuple2 = new TestdataJoinBridgeTuple("t2");
+        TestdataJoinBridgeTuple tuple3 = new TestdataJoinBridgeTuple("t3");
+        index.put(new Object[] { "a", 1 }, tuple1);
+        index.put(new Object[] { "a", 2 }, tuple2);
+        index.put(new Object[] { "b", 1 }, tuple3);
+        assertThat(index.get(new Object[] { "a", 3 })).containsExactly(tuple1, tuple2);
+        assertThat(index.get(new Object[] { "b", 3 })).containsExactly(tuple3);
+        assertThat(index.get(new Object[] { "c", 3 })).isEmpty();
+    }
+
+}
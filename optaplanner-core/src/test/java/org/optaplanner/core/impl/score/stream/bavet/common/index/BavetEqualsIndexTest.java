@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+public class BavetEqualsIndexTest {
+
+    @Test
+    public void singleEquals() {
+        // The index key of a single joiner is the index property itself
+        assertIndex(new BavetSingleEqualsIndex<>(), "a", "b", null);
+    }
+
+    @Test
+    public void doubleEquals() {
+        assertIndex(new BavetDoubleEqualsIndex<>(),
+                new Object[] { "a", 1 }, new Object[] { "a", 2 }, new Object[] { null, 1 });
+    }
+
+    @Test
+    public void equals() {
+        assertIndex(new BavetEqualsIndex<>(),
+                new Object[] { "a", 1, 'x' }, new Object[] { "a", 1, 'y' }, new Object[] { null, 1, 'x' });
+    }
+
+    private void assertIndex(BavetIndex<TestdataJoinBridgeTuple> index,
+            Object indexKey1, Object indexKey2, Object indexKey3) {
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        TestdataJoinBridgeTuple tuple2 = new TestdataJoinBridgeTuple("t2");
+        TestdataJoinBridgeTuple tuple3 = new TestdataJoinBridgeTuple("t3");
+        TestdataJoinBridgeTuple tuple4 = new TestdataJoinBridgeTuple("t4");
+        index.put(indexKey1, tuple1);
+        index.put(indexKey2, tuple2);
+        index.put(indexKey3, tuple3);
+        // A fresh array, to make sure the index doesn't rely on identity
+        index.put(copy(indexKey1), tuple4);
+        assertThat(index.get(copy(indexKey1))).containsExactly(tuple1, tuple4);
+        assertThat(index.get(copy(indexKey2))).containsExactly(tuple2);
+        assertThat(index.get(copy(indexKey3))).containsExactly(tuple3);
+        assertThatIllegalStateException().isThrownBy(() -> index.put(indexKey2, tuple2));
+
+        index.remove(tuple1);
+        assertThat(tuple1.getIndexKey()).isNull();
+        assertThat(index.get(indexKey1)).containsExactly(tuple4);
+        index.remove(tuple4);
+        assertThat(index.get(indexKey1)).isEmpty();
+        assertThat(index.get(indexKey2)).containsExactly(tuple2);
+        index.remove(tuple2);
+        index.remove(tuple3);
+        assertThat(index.get(indexKey2)).isEmpty();
+        assertThat(index.get(indexKey3)).isEmpty();
+
+        // The emptied tuple sets are reused for other keys
+        index.put(indexKey2, tuple1);
+        index.put(indexKey3, tuple2);
+        assertThat(index.get(indexKey1)).isEmpty();
+        assertThat(index.get(indexKey2)).containsExactly(tuple1);
+        assertThat(index.get(indexKey3)).containsExactly(tuple2);
+    }
+
+    private static Object copy(Object indexKey) {
+        return (indexKey instanceof Object[]) ? ((Object[]) indexKey).clone() : indexKey;
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ConcurrentModificationException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+public class BavetIntervalIndexTest {
+
+    @Test
+    public void overlappingLeftBridge() {
+        // Joiners.overlapping() is lessThan(leftStart, rightEnd) and greaterThan(leftEnd, rightStart)
+        BavetIntervalIndex<TestdataJoinBridgeTuple> index = new BavetIntervalIndex<>(0,
+                JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        TestdataJoinBridgeTuple tuple2 = new TestdataJoinBridgeTuple("t2");
+        TestdataJoinBridgeTuple tuple3 = new TestdataJoinBridgeTuple("t3");
+        // Left index properties are [start, end], queried with the right [end, start]
+        index.put(new Object[] { 0, 10 }, tuple1);
+        index.put(new Object[] { 5, 7 }, tuple2);
+        index.put(new Object[] { 20, 30 }, tuple3);
+        assertThat(index.get(new Object[] { 6, 4 })).containsExactlyInAnyOrder(tuple1, tuple2);
+        assertThat(index.get(new Object[] { 25, 8 })).containsExactlyInAnyOrder(tuple1, tuple3);
+        assertThat(index.get(new Object[] { 5, 0 })).containsExactly(tuple1);
+        assertThat(index.get(new Object[] { 20, 10 })).isEmpty();
+        assertThat(index.get(new Object[] { 40, -10 })).hasSize(3);
+
+        index.remove(tuple1);
+        assertThat(index.get(new Object[] { 6, 4 })).containsExactly(tuple2);
+        index.remove(tuple2);
+        assertThat(index.get(new Object[] { 6, 4 })).isEmpty();
+        assertThat(index.get(new Object[] { 40, -10 })).containsExactly(tuple3);
+    }
+
+    @Test
+    public void overlappingRightBridge() {
+        // The right bridge flips the joiner types: greaterThan(rightEnd, leftStart) and lessThan(rightStart, leftEnd)
+        BavetIntervalIndex<TestdataJoinBridgeTuple> index = new BavetIntervalIndex<>(0,
+                JoinerType.GREATER_THAN, JoinerType.LESS_THAN);
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        TestdataJoinBridgeTuple tuple2 = new TestdataJoinBridgeTuple("t2");
+        // Right index properties are [end, start], queried with the left [start, end]
+        index.put(new Object[] { 10, 0 }, tuple1);
+        index.put(new Object[] { 7, 5 }, tuple2);
+        assertThat(index.get(new Object[] { 4, 6 })).containsExactlyInAnyOrder(tuple1, tuple2);
+        assertThat(index.get(new Object[] { 7, 8 })).containsExactly(tuple1);
+        assertThat(index.get(new Object[] { 10, 20 })).isEmpty();
+    }
+
+    @Test
+    public void inclusiveBounds() {
+        BavetIntervalIndex<TestdataJoinBridgeTuple> index = new BavetIntervalIndex<>(0,
+                JoinerType.LESS_THAN_OR_EQUAL, JoinerType.GREATER_THAN_OR_EQUAL);
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        index.put(new Object[] { 0, 10 }, tuple1);
+        assertThat(index.get(new Object[] { 0, 10 })).containsExactly(tuple1);
+        assertThat(index.get(new Object[] { -1, 10 })).isEmpty();
+        assertThat(index.get(new Object[] { 0, 11 })).isEmpty();
+    }
+
+    @Test
+    public void equalsAndOverlapping() {
+        BavetIntervalIndex<TestdataJoinBridgeTuple> index = new BavetIntervalIndex<>(1,
+                JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        TestdataJoinBridgeTuple tuple2 = new TestdataJoinBridgeTuple("t2");
+        index.put(new Object[] { "a", 0, 10 }, tuple1);
+        index.put(new Object[] { "b", 0, 10 }, tuple2);
+        assertThat(index.get(new Object[] { "a", 6, 4 })).containsExactly(tuple1);
+        assertThat(index.get(new Object[] { "b", 6, 4 })).containsExactly(tuple2);
+        assertThat(index.get(new Object[] { "c", 6, 4 })).isEmpty();
+
+        index.remove(tuple1);
+        assertThat(index.get(new Object[] { "a", 6, 4 })).isEmpty();
+    }
+
+    @Test
+    public void manyIntervals() {
+        BavetIntervalIndex<TestdataJoinBridgeTuple> index = new BavetIntervalIndex<>(0,
+                JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        TestdataJoinBridgeTuple[] tuples = new TestdataJoinBridgeTuple[100];
+        for (int i = 0; i < tuples.length; i++) {
+            tuples[i] = new TestdataJoinBridgeTuple("t" + i);
+            // Intervals [i, i + 3)
+            index.put(new Object[] { i, i + 3 }, tuples[i]);
+        }
+        // Overlaps [50, 52)
+        assertThat(index.get(new Object[] { 52, 50 })).containsExactlyInAnyOrder(
+                tuples[48], tuples[49], tuples[50], tuples[51]);
+        for (int i = 0; i < tuples.length; i += 2) {
+            index.remove(tuples[i]);
+        }
+        assertThat(index.get(new Object[] { 52, 50 })).containsExactlyInAnyOrder(tuples[49], tuples[51]);
+    }
+
+    @Test
+    public void staleView() {
+        BavetIntervalIndex<TestdataJoinBridgeTuple> index = new BavetIntervalIndex<>(0,
+                JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        index.put(new Object[] { 0, 10 }, tuple1);
+        Set<TestdataJoinBridgeTuple> view = index.get(new Object[] { 6, 4 });
+        assertThat(view).hasSize(1);
+        index.put(new Object[] { 5, 7 }, new TestdataJoinBridgeTuple("t2"));
+        assertThatThrownBy(view::size).isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(view::iterator).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    public void staleViewAfterNextGet() {
+        BavetIntervalIndex<TestdataJoinBridgeTuple> index = new BavetIntervalIndex<>(1,
+                JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        TestdataJoinBridgeTuple tuple1 = new TestdataJoinBridgeTuple("t1");
+        TestdataJoinBridgeTuple tuple2 = new TestdataJoinBridgeTuple("t2");
+        index.put(new Object[] { "a", 0, 10 }, tuple1);
+        index.put(new Object[] { "b", 0, 10 }, tuple2);
+        // The lookup reuses its selection, so the previous view can't return the tuples of the next lookup
+        Set<TestdataJoinBridgeTuple> view = index.get(new Object[] { "a", 6, 4 });
+        assertThat(index.get(new Object[] { "b", 6, 4 })).containsExactly(tuple2);
+        assertThatThrownBy(view::iterator).isInstanceOf(ConcurrentModificationException.class);
+        // A lookup without a match doesn't touch the selection
+        Set<TestdataJoinBridgeTuple> otherView = index.get(new Object[] { "a", 6, 4 });
+        assertThat(index.get(new Object[] { "c", 6, 4 })).isEmpty();
+        assertThat(otherView).containsExactly(tuple1);
+    }
+
+}
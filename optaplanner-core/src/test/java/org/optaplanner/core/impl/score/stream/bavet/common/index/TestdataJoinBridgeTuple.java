@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+
+class TestdataJoinBridgeTuple implements BavetJoinBridgeTuple {
+
+    private final String code;
+    private Object indexKey;
+
+    public TestdataJoinBridgeTuple(String code) {
+        this.code = code;
+    }
+
+    @Override
+    public BavetNode getNode() {
+        return null;
+    }
+
+    @Override
+    public Object[] getFacts() {
+        return new Object[] { code };
+    }
+
+    @Override
+    public Set<BavetJoinTuple> getChildTupleSet() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getIndexKey() {
+        return indexKey;
+    }
+
+    @Override
+    public void setIndexKey(Object indexKey) {
+        this.indexKey = indexKey;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+
+}
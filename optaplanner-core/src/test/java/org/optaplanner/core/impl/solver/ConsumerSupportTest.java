@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ConsumerSupportTest {
+
+    @Test
+    public void firstBestSolutionIsNotSkippedBeforeTheConsumerThreadStarts() {
+        List<Runnable> taskList = new ArrayList<>();
+        List<String> consumedList = new ArrayList<>();
+        ConsumerSupport<String> consumerSupport = new ConsumerSupport<>(consumedList::add, null,
+                taskList::add, 0L, () -> {
+                });
+
+        consumerSupport.consumeIntermediateBestSolution("s1");
+        consumerSupport.consumeIntermediateBestSolution("s2");
+        // The consumer thread only starts now
+        assertThat(taskList).hasSize(1);
+        taskList.remove(0).run();
+        assertThat(consumedList).containsExactly("s1", "s2");
+
+        CompletableFuture<Void> consumptionEndedFuture = consumerSupport.consumeFinalBestSolution("s3");
+        assertThat(taskList).hasSize(1);
+        taskList.remove(0).run();
+        assertThat(consumptionEndedFuture).isCompleted();
+    }
+
+    @Test
+    public void rejectedExecution() {
+        AtomicInteger consumptionFailedCount = new AtomicInteger();
+        List<String> consumedList = new ArrayList<>();
+        ConsumerSupport<String> consumerSupport = new ConsumerSupport<>(consumedList::add, consumedList::add,
+                task -> {
+                    throw new RejectedExecutionException("The consumer thread pool is shut down.");
+                }, 0L, consumptionFailedCount::incrementAndGet);
+
+        consumerSupport.consumeIntermediateBestSolution("s1");
+        assertThat(consumptionFailedCount).hasValue(1);
+        CompletableFuture<Void> consumptionEndedFuture = consumerSupport.consumeFinalBestSolution("s2");
+        assertThat(consumptionEndedFuture).isCompletedExceptionally();
+        assertThat(consumptionEndedFuture.handle((ignored, throwable) -> throwable).join())
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(consumedList).isEmpty();
+        assertThat(consumptionFailedCount).hasValue(1);
+    }
+
+}
@@ -19,8 +19,20 @@ package org.optaplanner.core.impl.solver;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.DomainAccessType;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.domain.common.accessor.LambdaBeanPropertyMemberAccessor;
+import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+import org.optaplanner.core.impl.domain.solution.cloner.GeneratedSolutionCloner;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.reflect.accessmodifier.TestdataVisibilityModifierSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 class DefaultSolverFactoryTest {
 
@@ -67,4 +79,40 @@ class DefaultSolverFactoryTest {
                 new DefaultSolverFactory.MoveThreadCountResolver();
         return moveThreadCountResolver.resolveMoveThreadCount(moveThreadCountString);
     }
+
+    @Test
+    void domainAccessTypeDefaultsToReflection() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataVisibilityModifierSolution.class, TestdataEntity.class);
+        SolutionDescriptor<TestdataVisibilityModifierSolution> solutionDescriptor =
+                new DefaultSolverFactory<TestdataVisibilityModifierSolution>(solverConfig).buildSolutionDescriptor();
+        assertThat(solutionDescriptor.getSolutionCloner())
+                .isExactlyInstanceOf(FieldAccessingSolutionCloner.class);
+        assertThat(solutionDescriptor.getProblemFactMemberAccessorMap().get("privateProperty"))
+                .isNotInstanceOf(LambdaBeanPropertyMemberAccessor.class);
+    }
+
+    @Test
+    void domainAccessTypeGenerated() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataVisibilityModifierSolution.class, TestdataEntity.class)
+                .withDomainAccessType(DomainAccessType.GENERATED);
+        DefaultSolverFactory<TestdataVisibilityModifierSolution> solverFactory = new DefaultSolverFactory<>(solverConfig);
+        SolutionDescriptor<TestdataVisibilityModifierSolution> solutionDescriptor =
+                solverFactory.buildSolutionDescriptor();
+        assertThat(solutionDescriptor.getSolutionCloner()).isInstanceOf(GeneratedSolutionCloner.class);
+        assertThat(solutionDescriptor.getProblemFactMemberAccessorMap().get("privateProperty"))
+                .isInstanceOf(LambdaBeanPropertyMemberAccessor.class);
+
+        TestdataVisibilityModifierSolution problem = new TestdataVisibilityModifierSolution("s1",
+                "privateFieldValue", "publicFieldValue",
+                "privatePropertyValue", "friendlyPropertyValue", "protectedPropertyValue", "publicPropertyValue");
+        problem.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        problem.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+        Solver<TestdataVisibilityModifierSolution> solver = solverFactory.buildSolver();
+        TestdataVisibilityModifierSolution solution = solver.solve(problem);
+        assertThat(solution).isNotSameAs(problem);
+        assertThat(solution.publicField).isEqualTo("publicFieldValue");
+        assertThat(solution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
 }
@@ -59,4 +59,18 @@ public class BasicPlumbingTerminationTest {
         assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isFalse();
         assertThat(count).hasValue(21);
     }
+
+    @Test
+    public void clearProblemFactChanges() {
+        AtomicInteger count = new AtomicInteger(0);
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(false);
+        basicPlumbingTermination.addProblemFactChanges(Arrays.asList(
+                scoreDirector -> count.getAndIncrement(),
+                scoreDirector -> count.getAndAdd(20)));
+        assertThat(basicPlumbingTermination.clearProblemFactChanges()).isEqualTo(2);
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isFalse();
+        assertThat(basicPlumbingTermination.isEveryProblemFactChangeProcessed()).isTrue();
+        assertThat(basicPlumbingTermination.clearProblemFactChanges()).isEqualTo(0);
+        assertThat(count).hasValue(0);
+    }
 }
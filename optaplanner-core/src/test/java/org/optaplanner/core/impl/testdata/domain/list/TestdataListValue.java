@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.testdata.domain.list;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.IndexShadowVariable;
+import org.optaplanner.core.api.domain.variable.InverseRelationShadowVariable;
+import org.optaplanner.core.api.domain.variable.NextElementShadowVariable;
+import org.optaplanner.core.api.domain.variable.PreviousElementShadowVariable;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+
+@PlanningEntity
+public class TestdataListValue extends TestdataObject {
+
+    private TestdataListEntity entity;
+    private Integer index;
+    private TestdataListValue previousValue;
+    private TestdataListValue nextValue;
+
+    public TestdataListValue() {
+    }
+
+    public TestdataListValue(String code) {
+        super(code);
+    }
+
+    @InverseRelationShadowVariable(sourceVariableName = "valueList")
+    public TestdataListEntity getEntity() {
+        return entity;
+    }
+
+    public void setEntity(TestdataListEntity entity) {
+        this.entity = entity;
+    }
+
+    @IndexShadowVariable(sourceVariableName = "valueList")
+    public Integer getIndex() {
+        return index;
+    }
+
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+
+    @PreviousElementShadowVariable(sourceVariableName = "valueList")
+    public TestdataListValue getPreviousValue() {
+        return previousValue;
+    }
+
+    public void setPreviousValue(TestdataListValue previousValue) {
+        this.previousValue = previousValue;
+    }
+
+    @NextElementShadowVariable(sourceVariableName = "valueList")
+    public TestdataListValue getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(TestdataListValue nextValue) {
+        this.nextValue = nextValue;
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.testdata.domain.list.plain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+/**
+ * Unlike {@link org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity},
+ * the planning values are not planning entities, because they have no shadow variables.
+ */
+@PlanningEntity
+public class TestdataPlainListEntity extends TestdataObject {
+
+    private List<TestdataValue> valueList = new ArrayList<>();
+
+    public TestdataPlainListEntity() {
+    }
+
+    public TestdataPlainListEntity(String code, TestdataValue... values) {
+        super(code);
+        valueList.addAll(Arrays.asList(values));
+    }
+
+    @PlanningListVariable(valueRangeProviderRefs = "valueRange")
+    public List<TestdataValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<TestdataValue> valueList) {
+        this.valueList = valueList;
+    }
+
+}
@@ -130,6 +130,14 @@ public class TaskAssigningGenerator extends LoggingMain {
         outputDir = new File(CommonApp.determineDataDir(TaskAssigningApp.DATA_DIR_NAME), "unsolved");
     }
 
+    public TaskAssigningGenerator(boolean withoutDao) {
+        if (!withoutDao) {
+            throw new IllegalArgumentException("The parameter withoutDao (" + withoutDao + ") must be true.");
+        }
+        solutionFileIO = null;
+        outputDir = null;
+    }
+
     private void writeTaskAssigningSolution(int taskListSize, int employeeListSize) {
         int skillListSize = SKILL_SET_SIZE_MAXIMUM + (int) Math.log(employeeListSize);
         int taskTypeListSize = taskListSize / 5;